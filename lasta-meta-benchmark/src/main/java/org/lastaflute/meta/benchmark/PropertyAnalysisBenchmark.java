@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.lastaflute.meta.document.parts.action.FormFieldNameAdjuster;
+import org.lastaflute.meta.document.parts.annotation.MetaAnnotationArranger;
+import org.lastaflute.meta.document.parts.type.MetaTypeNameAdjuster;
+import org.lastaflute.meta.document.zone.properties.ActionPropertiesAnalyzer;
+import org.lastaflute.meta.infra.json.MetauseJsonEngineProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The benchmark of property analysis, for bean classes only and for whole actions.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyAnalysisBenchmark {
+
+    @Benchmark
+    public void analyzeProperties(SyntheticProjectState state, Blackhole blackhole) {
+        final MetaTypeNameAdjuster typeNameAdjuster = new MetaTypeNameAdjuster();
+        final ActionPropertiesAnalyzer analyzer = new ActionPropertiesAnalyzer(state.getSourceParserReflector(), Collections.emptyMap(),
+                new MetaAnnotationArranger(typeNameAdjuster), typeNameAdjuster, new FormFieldNameAdjuster(new MetauseJsonEngineProvider()));
+        for (Class<?> beanClass : state.getBeanClassList()) {
+            blackhole.consume(analyzer.analyzeProperties(beanClass, SyntheticProjectState.ANALYZER_DEPTH));
+        }
+    }
+
+    @Benchmark
+    public Object analyzeAction(SyntheticProjectState state) { // also includes discovery and source reflecting
+        return state.analyzeAction();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.dbflute.optional.OptionalThing;
+import org.lastaflute.core.json.control.JsonControlMeta;
+import org.lastaflute.core.json.engine.RealJsonEngine;
+import org.lastaflute.meta.SwaggerOption;
+import org.lastaflute.meta.benchmark.synthetic.SyntheticProject;
+import org.lastaflute.meta.benchmark.synthetic.SyntheticProjectGenerator;
+import org.lastaflute.meta.document.ActionDocumentAnalyzer;
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.parts.type.NativeDataTypeProvider;
+import org.lastaflute.meta.infra.json.MetauseJsonEngineProvider;
+import org.lastaflute.meta.sourceparser.SourceParserReflector;
+import org.lastaflute.meta.sourceparser.SourceParserReflectorFactory;
+import org.lastaflute.meta.swagger.spec.SwaggerSpecPathsMutableOutput;
+import org.lastaflute.meta.swagger.spec.SwaggerSpecPathsSetupper;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The state of synthetic project shared by benchmarks of each stage. <br>
+ * Inputs of each stage are prepared in setup so that benchmarks measure only the stage.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+@State(Scope.Benchmark)
+public class SyntheticProjectState {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    /** The same depth as default of DocumentGenerator. */
+    public static final int ANALYZER_DEPTH = 4;
+
+    // ===================================================================================
+    //                                                                           Parameter
+    //                                                                           =========
+    @Param({ "100", "1000", "10000" })
+    public int executeCount;
+
+    @Param({ "2" })
+    public int nestDepth;
+
+    @Param({ "20" })
+    public int cdefSize;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected Path baseDir; // temporary
+    protected SyntheticProject project;
+    protected OptionalThing<SourceParserReflector> sourceParserReflector;
+    protected RealJsonEngine jsonEngine;
+    protected List<Class<?>> beanClassList; // body, form, result
+    protected List<ActionDocMeta> actionDocMetaList; // input of spec building
+    protected Map<String, Object> swaggerMap; // input of serialization
+    protected String swaggerJson; // input of diff
+    protected String changedSwaggerJson; // input of diff, some paths are removed
+
+    // ===================================================================================
+    //                                                                         Setup/Clean
+    //                                                                         ===========
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        baseDir = Files.createTempDirectory("lastameta-benchmark");
+        project = new SyntheticProjectGenerator().generate(baseDir, op -> {
+            op.setExecuteCount(executeCount);
+            op.setNestDepth(nestDepth);
+            op.setCdefSize(cdefSize);
+        });
+        sourceParserReflector = new SourceParserReflectorFactory().reflector(getSrcDirList());
+        jsonEngine = new MetauseJsonEngineProvider().createJsonEngine();
+        beanClassList = new ArrayList<>();
+        for (String actionClassName : project.getActionClassNameList()) {
+            final String prefix = actionClassName.substring(0, actionClassName.length() - "Action".length());
+            Stream.of("Body", "Form", "Result").forEach(suffix -> beanClassList.add(project.loadClass(prefix + suffix)));
+        }
+        actionDocMetaList = analyzeAction();
+        swaggerMap = buildSwaggerMap(actionDocMetaList);
+        swaggerJson = jsonEngine.toJson(swaggerMap);
+        changedSwaggerJson = jsonEngine.toJson(buildChangedSwaggerMap(swaggerMap));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        project.close();
+        try (Stream<Path> stream = Files.walk(baseDir)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // ===================================================================================
+    //                                                                               Stage
+    //                                                                               =====
+    public List<ActionDocMeta> analyzeAction() { // without container
+        final ActionDocumentAnalyzer analyzer = new ActionDocumentAnalyzer(getSrcDirList(), ANALYZER_DEPTH, sourceParserReflector);
+        return project.withContextClassLoader(() -> {
+            return analyzer.analyzeActionWithoutContainer(Collections.singletonList(project.getClassesDir()));
+        });
+    }
+
+    public Map<String, Object> buildSwaggerMap(List<ActionDocMeta> metaList) { // without request and config
+        final Map<String, Map<String, Object>> pathsMap = new LinkedHashMap<>();
+        final Map<String, Map<String, Object>> definitionsMap = new LinkedHashMap<>();
+        final List<Map<String, Object>> tagsList = new ArrayList<>();
+        final SwaggerSpecPathsMutableOutput output = new SwaggerSpecPathsMutableOutput(pathsMap, definitionsMap, tagsList);
+        final JsonControlMeta appJsonControlMeta = new JsonControlMeta(OptionalThing.empty(), OptionalThing.empty());
+        final List<Class<?>> nativeDataTypeList = new NativeDataTypeProvider().provideNativeDataTypeList();
+        new SwaggerSpecPathsSetupper(output, new SwaggerOption(), jsonEngine, appJsonControlMeta, nativeDataTypeList) // setupper
+                .setupSwaggerPathsMap(metaList);
+        final Map<String, Object> swaggerMap = new LinkedHashMap<>();
+        swaggerMap.put("swagger", "2.0");
+        final Map<String, Object> infoMap = new LinkedHashMap<>();
+        infoMap.put("title", "synthetic");
+        infoMap.put("version", "1.0.0");
+        swaggerMap.put("info", infoMap);
+        swaggerMap.put("basePath", "/");
+        swaggerMap.put("paths", pathsMap);
+        swaggerMap.put("definitions", definitionsMap);
+        swaggerMap.put("tags", tagsList);
+        return swaggerMap;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> buildChangedSwaggerMap(Map<String, Object> originalMap) { // e.g. one percent paths removed
+        final Map<String, Object> changedMap = new LinkedHashMap<>(originalMap);
+        final Map<String, Object> changedPathsMap = new LinkedHashMap<>((Map<String, Object>) originalMap.get("paths"));
+        final List<String> pathList = new ArrayList<>(changedPathsMap.keySet());
+        for (int i = 0; i < pathList.size(); i += 100) {
+            changedPathsMap.remove(pathList.get(i));
+        }
+        changedMap.put("paths", changedPathsMap);
+        return changedMap;
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public List<String> getSrcDirList() {
+        return Collections.singletonList(project.getSrcDir().toString() + "/");
+    }
+
+    public SyntheticProject getProject() {
+        return project;
+    }
+
+    public OptionalThing<SourceParserReflector> getSourceParserReflector() {
+        return sourceParserReflector;
+    }
+
+    public RealJsonEngine getJsonEngine() {
+        return jsonEngine;
+    }
+
+    public List<Class<?>> getBeanClassList() {
+        return beanClassList;
+    }
+
+    public List<ActionDocMeta> getActionDocMetaList() {
+        return actionDocMetaList;
+    }
+
+    public Map<String, Object> getSwaggerMap() {
+        return swaggerMap;
+    }
+
+    public String getSwaggerJson() {
+        return swaggerJson;
+    }
+
+    public String getChangedSwaggerJson() {
+        return changedSwaggerJson;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.benchmark.synthetic;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The generated synthetic project, sources and compiled classes.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SyntheticProject implements Closeable {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final SyntheticProjectOption option; // not null
+    protected final Path srcDir; // not null, root of packages
+    protected final Path classesDir; // not null, root of packages
+    protected final List<Path> sourceFileList; // not null, all generated sources
+    protected final List<String> actionClassNameList; // not null, FQCN
+    protected URLClassLoader classLoader; // null allowed, lazy-loaded
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public SyntheticProject(SyntheticProjectOption option, Path srcDir, Path classesDir, List<Path> sourceFileList,
+            List<String> actionClassNameList) {
+        this.option = option;
+        this.srcDir = srcDir;
+        this.classesDir = classesDir;
+        this.sourceFileList = sourceFileList;
+        this.actionClassNameList = actionClassNameList;
+    }
+
+    // ===================================================================================
+    //                                                                        Class Loader
+    //                                                                        ============
+    /**
+     * Get the class loader of the compiled classes, same instance in the project.
+     * @return The class loader whose parent is loader of this library. (NotNull)
+     */
+    public synchronized ClassLoader getClassLoader() {
+        if (classLoader == null) {
+            try {
+                classLoader = new URLClassLoader(new URL[] { classesDir.toUri().toURL() }, SyntheticProject.class.getClassLoader());
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException("Failed to convert the classes directory to URL: " + classesDir, e);
+            }
+        }
+        return classLoader;
+    }
+
+    public Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Not found the synthetic class: " + className, e);
+        }
+    }
+
+    /**
+     * Execute the process with the project class loader as context class loader. <br>
+     * Container-free discovery loads classes parent-first from context, so classes are shared in iterations.
+     * @param <RESULT> The type of result.
+     * @param noArgLambda The callback of process. (NotNull)
+     * @return The result of the process. (NullAllowed)
+     */
+    public <RESULT> RESULT withContextClassLoader(Supplier<RESULT> noArgLambda) {
+        final Thread currentThread = Thread.currentThread();
+        final ClassLoader original = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(getClassLoader());
+        try {
+            return noArgLambda.get();
+        } finally {
+            currentThread.setContextClassLoader(original);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (classLoader != null) {
+            try {
+                classLoader.close();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to close the class loader: " + classesDir, e);
+            } finally {
+                classLoader = null;
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{" + option + ", sources=" + sourceFileList.size() + ", actions=" + actionClassNameList.size() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public SyntheticProjectOption getOption() {
+        return option;
+    }
+
+    public Path getSrcDir() {
+        return srcDir;
+    }
+
+    public Path getClassesDir() {
+        return classesDir;
+    }
+
+    public List<Path> getSourceFileList() {
+        return sourceFileList;
+    }
+
+    public List<String> getActionClassNameList() {
+        return actionClassNameList;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.benchmark.synthetic;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * The generator of synthetic LastaFlute project for benchmarks. <br>
+ * It writes Action/Body/Form/Result (with nested parts) and classification sources,
+ * and compiles them so that analyzers can reflect the classes.
+ * <pre>
+ * SyntheticProject project = new SyntheticProjectGenerator().generate(baseDir, op -&gt; {
+ *     op.setExecuteCount(1000);
+ *     op.setNestDepth(3);
+ * });
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SyntheticProjectGenerator {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    public static final String WEB_PACKAGE = "org.docksidestage.app.web";
+    public static final String CDEF_PACKAGE = "org.docksidestage.dbflute.allcommon";
+    public static final String CDEF_NAME = "SeaStatus";
+
+    /** The rotated types of scalar properties, e.g. CDef is classification. */
+    protected static final List<String> PROPERTY_TYPE_LIST = Arrays.asList("Integer", "String", "java.time.LocalDate", CDEF_NAME,
+            "Boolean", "Long", "List<String>", "java.time.LocalDateTime");
+
+    // ===================================================================================
+    //                                                                            Generate
+    //                                                                            ========
+    /**
+     * Generate the synthetic project under the base directory, sources and compiled classes.
+     * @param baseDir The base directory, src and classes are made under it. (NotNull)
+     * @param opLambda The callback for settings of scale option. (NotNull)
+     * @return The generated project. (NotNull)
+     */
+    public SyntheticProject generate(Path baseDir, Consumer<SyntheticProjectOption> opLambda) {
+        final SyntheticProjectOption option = new SyntheticProjectOption();
+        opLambda.accept(option);
+        final Path srcDir = baseDir.resolve("src");
+        final Path classesDir = baseDir.resolve("classes");
+        final List<Path> sourceFileList = new ArrayList<>();
+        final List<String> actionClassNameList = new ArrayList<>();
+        sourceFileList.add(writeSource(srcDir, CDEF_PACKAGE, CDEF_NAME, buildCDefSource(option)));
+        final int actionCount = option.getActionCount();
+        for (int actionIndex = 0; actionIndex < actionCount; actionIndex++) {
+            final String actionWord = buildActionWord(actionIndex, actionCount); // e.g. sea0001
+            final String packageName = WEB_PACKAGE + "." + actionWord;
+            final String prefix = Character.toUpperCase(actionWord.charAt(0)) + actionWord.substring(1); // e.g. Sea0001
+            final int executeSize = Math.min(option.getExecutePerAction(), option.getExecuteCount() - actionIndex * option.getExecutePerAction());
+            sourceFileList.add(writeSource(srcDir, packageName, prefix + "Action", buildActionSource(packageName, prefix, executeSize)));
+            sourceFileList.add(writeSource(srcDir, packageName, prefix + "Body", buildBeanSource(packageName, prefix + "Body", option)));
+            sourceFileList.add(writeSource(srcDir, packageName, prefix + "Form", buildBeanSource(packageName, prefix + "Form", option)));
+            sourceFileList.add(writeSource(srcDir, packageName, prefix + "Result", buildBeanSource(packageName, prefix + "Result", option)));
+            actionClassNameList.add(packageName + "." + prefix + "Action");
+        }
+        compile(sourceFileList, classesDir);
+        return new SyntheticProject(option, srcDir, classesDir, sourceFileList, actionClassNameList);
+    }
+
+    protected String buildActionWord(int actionIndex, int actionCount) { // e.g. sea0001 (one word for URL)
+        final int width = String.valueOf(actionCount).length();
+        return "sea" + String.format("%0" + width + "d", actionIndex + 1);
+    }
+
+    // ===================================================================================
+    //                                                                              Source
+    //                                                                              ======
+    protected String buildCDefSource(SyntheticProjectOption option) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(CDEF_PACKAGE).append(";\n\n");
+        sb.append("/**\n * The synthetic classification of sea status.\n */\n");
+        sb.append("public enum ").append(CDEF_NAME).append(" {\n\n");
+        for (int i = 1; i <= option.getCdefSize(); i++) {
+            sb.append("    /** Status").append(i).append(": the status number ").append(i).append(" of sea */\n");
+            sb.append("    Status").append(i).append(i < option.getCdefSize() ? ",\n" : ";\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    protected String buildActionSource(String packageName, String prefix, int executeSize) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(packageName).append(";\n\n");
+        sb.append("import java.util.List;\n\n");
+        sb.append("import org.lastaflute.web.Execute;\n");
+        sb.append("import org.lastaflute.web.response.JsonResponse;\n\n");
+        sb.append("/**\n * The synthetic action of ").append(prefix).append(".\n * @author benchmark\n */\n");
+        sb.append("public class ").append(prefix).append("Action {\n");
+        for (int executeIndex = 0; executeIndex < executeSize; executeIndex++) {
+            sb.append("\n");
+            if (executeIndex == 0) { // JSON body
+                sb.append("    /**\n     * Register the sea by JSON body.\n");
+                sb.append("     * @param body The request body of sea. (NotNull)\n");
+                sb.append("     * @return The JSON response of registered sea. (NotNull)\n     */\n");
+                sb.append("    @Execute\n");
+                sb.append("    public JsonResponse<").append(prefix).append("Result> index(").append(prefix).append("Body body) {\n");
+            } else { // path parameter and form
+                sb.append("    /**\n     * Search the land ").append(executeIndex).append(" by form.\n");
+                sb.append("     * @param landId The ID of land for path. (NotNull)\n");
+                sb.append("     * @param form The search condition of land. (NotNull)\n");
+                sb.append("     * @return The JSON response of found list. (NotNull)\n     */\n");
+                sb.append("    @Execute\n");
+                sb.append("    public JsonResponse<List<").append(prefix).append("Result>> land").append(executeIndex);
+                sb.append("(int landId, ").append(prefix).append("Form form) {\n");
+            }
+            sb.append("        return null; // not called\n");
+            sb.append("    }\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    protected String buildBeanSource(String packageName, String className, SyntheticProjectOption option) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(packageName).append(";\n\n");
+        sb.append("import java.util.List;\n\n");
+        sb.append("import ").append(CDEF_PACKAGE).append(".").append(CDEF_NAME).append(";\n");
+        sb.append("import org.lastaflute.web.validation.Required;\n\n");
+        sb.append("/**\n * The synthetic bean of ").append(className).append(".\n * @author benchmark\n */\n");
+        sb.append("public class ").append(className).append(" {\n");
+        appendBeanBody(sb, option, 1, "    ");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    protected void appendBeanBody(StringBuilder sb, SyntheticProjectOption option, int level, String indent) {
+        for (int i = 0; i < option.getPropertyCount(); i++) {
+            final String type = PROPERTY_TYPE_LIST.get(i % PROPERTY_TYPE_LIST.size());
+            sb.append("\n").append(indent).append("/** The property").append(i).append(" of level ").append(level).append(". */\n");
+            if (i % 3 == 0) {
+                sb.append(indent).append("@Required\n");
+            }
+            sb.append(indent).append("public ").append(type).append(" property").append(i).append(";\n");
+        }
+        if (level <= option.getNestDepth()) {
+            final String partName = "Level" + level + "Part";
+            sb.append("\n").append(indent).append("/** The nested part of level ").append(level).append(". */\n");
+            sb.append(indent).append("public ").append(partName).append(" part;\n");
+            sb.append("\n").append(indent).append("/** The list of nested part of level ").append(level).append(". */\n");
+            sb.append(indent).append("public List<").append(partName).append("> partList;\n");
+            sb.append("\n").append(indent).append("/**\n").append(indent).append(" * The part of level ").append(level).append(".\n");
+            sb.append(indent).append(" */\n");
+            sb.append(indent).append("public static class ").append(partName).append(" {\n");
+            appendBeanBody(sb, option, level + 1, indent + "    ");
+            sb.append(indent).append("}\n");
+        }
+    }
+
+    protected Path writeSource(Path srcDir, String packageName, String className, String source) {
+        final Path packageDir = srcDir.resolve(packageName.replace('.', '/'));
+        final Path sourceFile = packageDir.resolve(className + ".java");
+        try {
+            Files.createDirectories(packageDir);
+            Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write the synthetic source: " + sourceFile, e);
+        }
+        return sourceFile;
+    }
+
+    // ===================================================================================
+    //                                                                             Compile
+    //                                                                             =======
+    protected void compile(List<Path> sourceFileList, Path classesDir) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("Not found the java compiler, the benchmark needs JDK (not JRE).");
+        }
+        try {
+            Files.createDirectories(classesDir);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create the classes directory: " + classesDir, e);
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            final Iterable<? extends JavaFileObject> units =
+                    fileManager.getJavaFileObjectsFromFiles(sourceFileList.stream().map(Path::toFile).collect(Collectors.toList()));
+            final List<String> optionList = Arrays.asList("-d", classesDir.toString(), "-classpath", System.getProperty("java.class.path"),
+                    "-parameters", "-proc:none", "-nowarn", "-encoding", "UTF-8");
+            final Boolean success = compiler.getTask(null, fileManager, null, optionList, null, units).call();
+            if (!Boolean.TRUE.equals(success)) {
+                throw new IllegalStateException("Failed to compile the synthetic sources: " + classesDir);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to close the file manager: " + classesDir, e);
+        }
+    }
+}
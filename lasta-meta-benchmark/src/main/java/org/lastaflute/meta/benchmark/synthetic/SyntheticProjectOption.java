@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.benchmark.synthetic;
+
+/**
+ * The option of synthetic project, which determines scale of generated sources.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SyntheticProjectOption {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected int executeCount = 100; // total execute methods
+    protected int executePerAction = 5; // so action count is executeCount / executePerAction
+    protected int propertyCount = 8; // scalar properties per bean (and per nested part)
+    protected int nestDepth = 2; // nested parts e.g. SeaResult.LandPart.PiariPart
+    protected int cdefSize = 20; // elements of the classification (enum)
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{executes=" + executeCount + ", perAction=" + executePerAction + ", properties=" + propertyCount + ", nest=" + nestDepth
+                + ", cdef=" + cdefSize + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getActionCount() {
+        return (executeCount + executePerAction - 1) / executePerAction;
+    }
+
+    public int getExecuteCount() {
+        return executeCount;
+    }
+
+    public void setExecuteCount(int executeCount) {
+        assertPositive("executeCount", executeCount);
+        this.executeCount = executeCount;
+    }
+
+    public int getExecutePerAction() {
+        return executePerAction;
+    }
+
+    public void setExecutePerAction(int executePerAction) {
+        assertPositive("executePerAction", executePerAction);
+        this.executePerAction = executePerAction;
+    }
+
+    public int getPropertyCount() {
+        return propertyCount;
+    }
+
+    public void setPropertyCount(int propertyCount) {
+        assertPositive("propertyCount", propertyCount);
+        this.propertyCount = propertyCount;
+    }
+
+    public int getNestDepth() {
+        return nestDepth;
+    }
+
+    public void setNestDepth(int nestDepth) {
+        if (nestDepth < 0) {
+            throw new IllegalArgumentException("The argument 'nestDepth' should not be minus: " + nestDepth);
+        }
+        this.nestDepth = nestDepth;
+    }
+
+    public int getCdefSize() {
+        return cdefSize;
+    }
+
+    public void setCdefSize(int cdefSize) {
+        assertPositive("cdefSize", cdefSize);
+        this.cdefSize = cdefSize;
+    }
+
+    protected void assertPositive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("The argument '" + name + "' should be positive: " + value);
+        }
+    }
+}
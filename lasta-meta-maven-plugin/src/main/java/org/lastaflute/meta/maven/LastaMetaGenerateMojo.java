@@ -0,0 +1,376 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.dbflute.optional.OptionalThing;
+import org.lastaflute.core.json.control.JsonControlMeta;
+import org.lastaflute.meta.DocumentGenerator;
+import org.lastaflute.meta.SwaggerOption;
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.outputmeta.OutputMetaPhysical;
+import org.lastaflute.meta.document.outputmeta.OutputMetaSerializer;
+import org.lastaflute.meta.document.parts.session.MetaAnalysisSession;
+import org.lastaflute.meta.document.parts.type.NativeDataTypeProvider;
+import org.lastaflute.meta.infra.json.MetaOutputFormat;
+import org.lastaflute.meta.infra.json.MetauseJsonEngineProvider;
+import org.lastaflute.meta.maven.classloader.ProjectFirstClassLoader;
+import org.lastaflute.meta.maven.fingerprint.MetaInputFingerprint;
+import org.lastaflute.meta.swagger.spec.SwaggerSpecPathsMutableOutput;
+import org.lastaflute.meta.swagger.spec.SwaggerSpecPathsSetupper;
+import org.lastaflute.meta.swagger.web.LaActionSwaggerable;
+
+/**
+ * The goal to generate analyzed-lastadoc.json and swagger.json from compiled classes and sources, without booting application. <br>
+ * It is skipped when the fingerprint of inputs is same as the last run and the outputs exist. <br>
+ * swagger.json is built from the same analysis without HTTP request, so base path, host and schemes are plugin configuration.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution = ResolutionScope.COMPILE,
+        threadSafe = true)
+public class LastaMetaGenerateMojo extends AbstractMojo {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    // shared with plugin loader because lasta-meta handles application classes by the types
+    // (others are loaded from project first not to be shadowed by plugin dependencies)
+    protected static final List<String> PARENT_FIRST_PREFIX_LIST = Collections.unmodifiableList(Arrays.asList( //
+            "java.", "javax.", "sun.", "org.xml.", "org.w3c.", "jdk." // JDK (and servlet API for LastaFlute)
+            , "org.lastaflute.", "org.dbflute." // lasta-meta and its API e.g. Execute annotation, OptionalThing
+            , "org.hibernate.validator." // validator annotations handled by lasta-meta e.g. Length
+            , "org.slf4j." // logging API of lasta-meta
+    ));
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    protected MavenProject project;
+
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    protected String pluginVersion; // as input, output may be changed by version
+
+    /** Skip the generation, e.g. for quick build. */
+    @Parameter(property = "lastameta.skip", defaultValue = "false")
+    protected boolean skip;
+
+    /** Generate even if inputs are not changed since the last run. */
+    @Parameter(property = "lastameta.force", defaultValue = "false")
+    protected boolean force;
+
+    /** The source directories for javadoc comments. (default: compile source roots of the project) */
+    @Parameter
+    protected List<File> sourceDirectories; // null allowed
+
+    /** The directory of compiled classes to discover actions. */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    protected File classesDirectory;
+
+    /** Not generate job documents, e.g. if scheduler source cannot be read. */
+    @Parameter(defaultValue = "false")
+    protected boolean suppressJobDoc;
+
+    /** Save as compact JSON (no indentation) for machine consumers. */
+    @Parameter(defaultValue = "false")
+    protected boolean compactOutput;
+
+    /** Also save lastadoc-dependency.json for e.g. regeneration decision of other tools. */
+    @Parameter(defaultValue = "false")
+    protected boolean exportDependencyGraph;
+
+    /** Also save swagger.json from the same analysis, built without container and HTTP request. */
+    @Parameter(defaultValue = "true")
+    protected boolean generateSwagger;
+
+    /** The base path of swagger.json, e.g. context path of application: /harbor/ */
+    @Parameter(defaultValue = "/")
+    protected String basePath;
+
+    /** The host of swagger.json, e.g. localhost:8090 (default: not output, same as the host serving swagger.json) */
+    @Parameter
+    protected String host; // null allowed
+
+    /** The schemes of swagger.json, e.g. https (default: not output, same as the scheme serving swagger.json) */
+    @Parameter
+    protected List<String> schemes; // null allowed
+
+    /** The file to keep the fingerprint of the last generation. */
+    @Parameter(defaultValue = "${project.build.directory}/lasta-meta-maven-plugin/input.fingerprint", required = true)
+    protected File fingerprintFile;
+
+    // ===================================================================================
+    //                                                                             Execute
+    //                                                                             =======
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("...Skipping lasta-meta generation by the option.");
+            return;
+        }
+        if (!classesDirectory.isDirectory()) {
+            getLog().info("...Skipping lasta-meta generation because of no classes: " + classesDirectory);
+            return;
+        }
+        final Path projectRootPath = project.getBasedir().toPath();
+        final List<String> srcDirList = prepareSrcDirList();
+        final MetaInputFingerprint inputFingerprint = prepareInputFingerprint(srcDirList);
+        final String fingerprint = inputFingerprint.toHex();
+        final Path outputPath = new OutputMetaPhysical().baseOnProjectRoot(projectRootPath).getLastaDocJsonPath();
+        if (!force && existsOutputMeta(projectRootPath) && fingerprint.equals(readLastFingerprint())) {
+            getLog().info("...Skipping lasta-meta generation because inputs are up to date: files=" + inputFingerprint.getFileCount());
+            return;
+        }
+        final long before = System.currentTimeMillis();
+        final boolean changed = generateLastaMeta(projectRootPath, srcDirList);
+        writeFingerprint(fingerprint); // after success so that failure is retried by next build
+        final long cost = System.currentTimeMillis() - before;
+        final String resultExp = changed ? "Generated" : "Generated (but no change)"; // not written if no change
+        getLog().info("..." + resultExp + " lasta-meta: " + outputPath + " (" + cost + "ms)");
+    }
+
+    // -----------------------------------------------------
+    //                                      Source Directory
+    //                                      ----------------
+    protected List<String> prepareSrcDirList() {
+        final List<String> srcDirList = new ArrayList<>();
+        if (sourceDirectories != null) {
+            for (File dir : sourceDirectories) {
+                srcDirList.add(dir.getAbsolutePath());
+            }
+        } else {
+            srcDirList.addAll(project.getCompileSourceRoots()); // absolute paths
+        }
+        return srcDirList.stream().filter(dir -> new File(dir).isDirectory()).collect(Collectors.toList());
+    }
+
+    // -----------------------------------------------------
+    //                                           Output Meta
+    //                                           -----------
+    protected boolean existsOutputMeta(Path projectRootPath) {
+        final OutputMetaPhysical physical = new OutputMetaPhysical().baseOnProjectRoot(projectRootPath);
+        if (!Files.exists(physical.getLastaDocJsonPath())) {
+            return false;
+        }
+        return !generateSwagger || Files.exists(physical.getSwaggerJsonPath());
+    }
+
+    // ===================================================================================
+    //                                                                         Fingerprint
+    //                                                                         ===========
+    protected MetaInputFingerprint prepareInputFingerprint(List<String> srcDirList) throws MojoExecutionException {
+        final MetaInputFingerprint fingerprint = newMetaInputFingerprint();
+        fingerprint.addConfig("pluginVersion", pluginVersion);
+        fingerprint.addConfig("suppressJobDoc", suppressJobDoc);
+        fingerprint.addConfig("compactOutput", compactOutput);
+        fingerprint.addConfig("exportDependencyGraph", exportDependencyGraph);
+        fingerprint.addConfig("generateSwagger", generateSwagger);
+        fingerprint.addConfig("basePath", basePath);
+        fingerprint.addConfig("host", host);
+        fingerprint.addConfig("schemes", schemes);
+        fingerprint.addConfig("classpath", prepareClasspathElementList()); // e.g. upgraded libraries
+        try {
+            for (String srcDir : srcDirList) {
+                fingerprint.addDirectory(new File(srcDir).toPath(), ".java"); // for comments
+            }
+            fingerprint.addDirectory(classesDirectory.toPath(), ".class"); // for structures
+        } catch (RuntimeException e) {
+            throw new MojoExecutionException("Failed to calculate the fingerprint of inputs.", e);
+        }
+        return fingerprint;
+    }
+
+    protected MetaInputFingerprint newMetaInputFingerprint() {
+        return new MetaInputFingerprint();
+    }
+
+    protected String readLastFingerprint() { // null allowed: no last generation
+        if (!fingerprintFile.isFile()) {
+            return null;
+        }
+        try {
+            return new String(Files.readAllBytes(fingerprintFile.toPath()), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) { // treated as changed
+            getLog().debug("Failed to read the fingerprint file: " + fingerprintFile, e);
+            return null;
+        }
+    }
+
+    protected void writeFingerprint(String fingerprint) throws MojoExecutionException {
+        final Path fingerprintPath = fingerprintFile.toPath();
+        final Path tempPath = fingerprintPath.resolveSibling(fingerprintPath.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(fingerprintPath.getParent());
+            Files.write(tempPath, fingerprint.getBytes(StandardCharsets.UTF_8));
+            Files.move(tempPath, fingerprintPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to write the fingerprint file: " + fingerprintFile, e);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Generate
+    //                                                                            ========
+    protected boolean generateLastaMeta(Path projectRootPath, List<String> srcDirList) throws MojoExecutionException {
+        final DocumentGenerator generator = createDocumentGenerator(projectRootPath, srcDirList);
+        if (generateSwagger) { // swagger.json is built from the same analysis
+            generator.useAnalysisSession(new MetaAnalysisSession());
+        }
+        final Thread currentThread = Thread.currentThread();
+        final ClassLoader originalLoader = currentThread.getContextClassLoader();
+        // application classes and libraries are visible from discovery (project first, lasta-meta from plugin loader)
+        try (URLClassLoader projectLoader = createProjectClassLoader()) {
+            currentThread.setContextClassLoader(projectLoader);
+            boolean changed = generator.saveLastaDocMetaIfChanged(); // saved atomically by serializer, true if changed
+            if (generateSwagger) {
+                changed |= saveSwaggerMetaIfChanged(projectRootPath, generator.analyzeActionDocMetaList());
+            }
+            return changed;
+        } catch (IOException e) { // when closing
+            getLog().debug("Failed to close the project class loader.", e);
+            return true; // generated before closing, treated as changed
+        } catch (RuntimeException e) {
+            throw new MojoExecutionException("Failed to generate lasta-meta: " + project.getArtifactId(), e);
+        } finally {
+            currentThread.setContextClassLoader(originalLoader);
+        }
+    }
+
+    protected DocumentGenerator createDocumentGenerator(Path projectRootPath, List<String> srcDirList) {
+        final DocumentGenerator generator = new DocumentGenerator(new ArrayList<>(srcDirList));
+        generator.discoverActionWithoutContainer(Collections.singletonList(classesDirectory.toPath()));
+        if (suppressJobDoc) {
+            generator.suppressJobDoc();
+        } else {
+            generator.skipJobScheduling(); // scheduling needs container
+        }
+        if (compactOutput) {
+            generator.asCompactOutput();
+        }
+        if (exportDependencyGraph) {
+            generator.exportDependencyGraph();
+        }
+        generator.baseOutputOnProjectRoot(projectRootPath); // current directory may be parent in reactor build
+        return generator;
+    }
+
+    protected URLClassLoader createProjectClassLoader() throws MojoExecutionException {
+        final List<URL> urlList = new ArrayList<>();
+        for (String element : prepareClasspathElementList()) {
+            try {
+                urlList.add(new File(element).toURI().toURL());
+            } catch (MalformedURLException e) {
+                throw new MojoExecutionException("Failed to convert the classpath element to URL: " + element, e);
+            }
+        }
+        return new ProjectFirstClassLoader(urlList.toArray(new URL[0]), getClass().getClassLoader(), PARENT_FIRST_PREFIX_LIST);
+    }
+
+    // ===================================================================================
+    //                                                                             Swagger
+    //                                                                             =======
+    protected boolean saveSwaggerMetaIfChanged(Path projectRootPath, List<ActionDocMeta> actionDocMetaList) {
+        final MetaOutputFormat outputFormat = compactOutput ? MetaOutputFormat.COMPACT : MetaOutputFormat.PRETTY;
+        final Map<String, Object> swaggerMap = buildSwaggerMap(filterActionDocMetaList(actionDocMetaList));
+        final String json = new MetauseJsonEngineProvider().createJsonEngine(outputFormat).toJson(swaggerMap);
+        final OutputMetaSerializer serializer = new OutputMetaSerializer().formatOutput(outputFormat).baseOnProjectRoot(projectRootPath);
+        return serializer.saveSwaggerMetaIfChanged(json); // saved atomically, true if changed
+    }
+
+    protected List<ActionDocMeta> filterActionDocMetaList(List<ActionDocMeta> actionDocMetaList) {
+        // the SwaggerAction is unneeded in swagger.json same as SwaggerGenerator
+        return actionDocMetaList.stream().filter(meta -> {
+            return !LaActionSwaggerable.class.isAssignableFrom(meta.getType());
+        }).collect(Collectors.toList());
+    }
+
+    protected Map<String, Object> buildSwaggerMap(List<ActionDocMeta> actionDocMetaList) { // without container and request
+        // same order as SwaggerSpecCreator, host and schemes are output only if configured
+        final Map<String, Object> swaggerMap = new LinkedHashMap<>();
+        swaggerMap.put("swagger", "2.0");
+        swaggerMap.put("info", buildSwaggerInfoMap());
+        if (host != null && !host.trim().isEmpty()) {
+            swaggerMap.put("host", host.trim());
+        }
+        if (schemes != null && !schemes.isEmpty()) {
+            swaggerMap.put("schemes", new ArrayList<>(schemes));
+        }
+        swaggerMap.put("basePath", basePath != null ? basePath : "/");
+        final List<Map<String, Object>> tagsList = new ArrayList<>();
+        swaggerMap.put("tags", tagsList);
+        final Map<String, Map<String, Object>> pathsMap = new LinkedHashMap<>();
+        swaggerMap.put("paths", pathsMap);
+        final Map<String, Map<String, Object>> definitionsMap = new LinkedHashMap<>();
+        swaggerMap.put("definitions", definitionsMap);
+        createSwaggerSpecPathsSetupper(new SwaggerSpecPathsMutableOutput(pathsMap, definitionsMap, tagsList))
+                .setupSwaggerPathsMap(actionDocMetaList);
+        return swaggerMap;
+    }
+
+    protected Map<String, Object> buildSwaggerInfoMap() {
+        final Map<String, Object> infoMap = new LinkedHashMap<>();
+        final String title = project.getName() != null ? project.getName() : project.getArtifactId();
+        infoMap.put("title", title);
+        final String versionExp = pluginVersion != null ? "-" + pluginVersion : "";
+        infoMap.put("description", title + ". generated by lasta-meta-maven-plugin" + versionExp + ".");
+        infoMap.put("version", "1.0.0"); // same as SwaggerSpecCreator
+        return infoMap;
+    }
+
+    protected SwaggerSpecPathsSetupper createSwaggerSpecPathsSetupper(SwaggerSpecPathsMutableOutput output) {
+        // application JSON settings are in container so default control is used
+        final JsonControlMeta appJsonControlMeta = new JsonControlMeta(OptionalThing.empty(), OptionalThing.empty());
+        final List<Class<?>> nativeDataTypeList = new NativeDataTypeProvider().provideNativeDataTypeList();
+        return new SwaggerSpecPathsSetupper(output, new SwaggerOption(), new MetauseJsonEngineProvider().createJsonEngine(),
+                appJsonControlMeta, nativeDataTypeList);
+    }
+
+    // ===================================================================================
+    //                                                                           Classpath
+    //                                                                           =========
+    protected List<String> prepareClasspathElementList() throws MojoExecutionException {
+        try {
+            return project.getCompileClasspathElements(); // includes output directory
+        } catch (DependencyResolutionRequiredException e) {
+            throw new MojoExecutionException("Failed to get the compile classpath: " + project.getArtifactId(), e);
+        }
+    }
+}
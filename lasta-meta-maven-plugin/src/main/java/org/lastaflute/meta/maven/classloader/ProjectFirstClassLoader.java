@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.maven.classloader;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * The class loader of project classpath, which loads classes from the project first (child-first). <br>
+ * So plugin dependencies (e.g. gson, javaparser) do not shadow the project's libraries of other versions.
+ * Only shared packages (e.g. JDK, LastaFlute) are loaded from plugin loader (parent-first)
+ * because lasta-meta handles application classes by their types, e.g. Execute annotation.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class ProjectFirstClassLoader extends URLClassLoader {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<String> parentFirstPrefixList; // not null, e.g. org.lastaflute.
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param urls The URLs of project classpath. (NotNull)
+     * @param parent The plugin class loader that has lasta-meta classes. (NotNull)
+     * @param parentFirstPrefixList The list of name prefix loaded from parent first, e.g. org.lastaflute. (NotNull)
+     */
+    public ProjectFirstClassLoader(URL[] urls, ClassLoader parent, List<String> parentFirstPrefixList) {
+        super(urls, parent);
+        if (parentFirstPrefixList == null) {
+            throw new IllegalArgumentException("The argument 'parentFirstPrefixList' should not be null.");
+        }
+        this.parentFirstPrefixList = new ArrayList<>(parentFirstPrefixList);
+    }
+
+    // ===================================================================================
+    //                                                                          Load Class
+    //                                                                          ==========
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (isParentFirst(name)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loadedClass = findLoadedClass(name);
+            if (loadedClass == null) {
+                try {
+                    loadedClass = findClass(name); // from project
+                } catch (ClassNotFoundException ignored) { // e.g. plugin only classes
+                    loadedClass = getParent().loadClass(name);
+                }
+            }
+            if (resolve) {
+                resolveClass(loadedClass);
+            }
+            return loadedClass;
+        }
+    }
+
+    protected boolean isParentFirst(String name) { // also resource name
+        final String className = name.replace('/', '.');
+        return parentFirstPrefixList.stream().anyMatch(prefix -> className.startsWith(prefix));
+    }
+
+    // ===================================================================================
+    //                                                                            Resource
+    //                                                                            ========
+    @Override
+    public URL getResource(String name) {
+        if (isParentFirst(name)) {
+            return super.getResource(name);
+        }
+        final URL projectUrl = findResource(name);
+        return projectUrl != null ? projectUrl : getParent().getResource(name);
+    }
+
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+        if (isParentFirst(name)) {
+            return super.getResources(name);
+        }
+        final List<URL> urlList = Collections.list(findResources(name)); // project first
+        urlList.addAll(Collections.list(getParent().getResources(name)));
+        return Collections.enumeration(urlList);
+    }
+}
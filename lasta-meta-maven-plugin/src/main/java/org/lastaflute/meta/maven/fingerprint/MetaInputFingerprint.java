@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.maven.fingerprint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The fingerprint of meta generation inputs, digest of contents (not timestamps). <br>
+ * So re-compiled classes with same contents keep the fingerprint, e.g. by clean build of other modules.
+ * <pre>
+ * String fingerprint = new MetaInputFingerprint()
+ *         .addConfig("depth", 4)
+ *         .addDirectory(srcDir, ".java")
+ *         .addDirectory(classesDir, ".class")
+ *         .toHex();
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaInputFingerprint {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String DIGEST_ALGORITHM = "SHA-256";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final MessageDigest digest = newMessageDigest();
+
+    protected MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) { // no way, SHA-256 is always supported
+            throw new IllegalStateException("Not found the digest algorithm: " + DIGEST_ALGORITHM, e);
+        }
+    }
+
+    protected int fileCount; // for logging
+
+    // ===================================================================================
+    //                                                                           Add Input
+    //                                                                           =========
+    /**
+     * @param key The key of configuration that changes output, e.g. depth. (NotNull)
+     * @param value The value of the configuration. (NullAllowed)
+     * @return this. (NotNull)
+     */
+    public MetaInputFingerprint addConfig(String key, Object value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The argument 'key' should not be null.");
+        }
+        updateText("config:" + key + "=" + value);
+        return this;
+    }
+
+    /**
+     * Add files of the extension in the directory, ordered by relative path for stable digest. <br>
+     * Relative path is also digested so that moved or deleted files change the fingerprint.
+     * @param dir The path of directory, not-existing directory is treated as empty. (NotNull)
+     * @param extension The extension of files to be added, e.g. .java (NotNull)
+     * @return this. (NotNull)
+     */
+    public MetaInputFingerprint addDirectory(Path dir, String extension) {
+        if (dir == null) {
+            throw new IllegalArgumentException("The argument 'dir' should not be null.");
+        }
+        if (extension == null) {
+            throw new IllegalArgumentException("The argument 'extension' should not be null.");
+        }
+        updateText("dir:" + dir.toAbsolutePath().normalize());
+        if (!Files.isDirectory(dir)) {
+            return this;
+        }
+        final List<Path> fileList;
+        try (Stream<Path> stream = Files.walk(dir)) {
+            fileList = stream.filter(path -> Files.isRegularFile(path) && path.getFileName().toString().endsWith(extension))
+                    .sorted((path1, path2) -> toRelativeExp(dir, path1).compareTo(toRelativeExp(dir, path2)))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to walk the directory: " + dir, e);
+        }
+        for (Path file : fileList) {
+            updateText("file:" + toRelativeExp(dir, file));
+            try {
+                digest.update(Files.readAllBytes(file));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read the file: " + file, e);
+            }
+            ++fileCount;
+        }
+        return this;
+    }
+
+    protected String toRelativeExp(Path dir, Path file) { // same expression on any OS
+        return dir.relativize(file).toString().replace('\\', '/');
+    }
+
+    protected void updateText(String text) {
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0); // as separator
+    }
+
+    // ===================================================================================
+    //                                                                         Fingerprint
+    //                                                                         ===========
+    /**
+     * @return The hex string of digest, the fingerprint cannot be added after this. (NotNull)
+     */
+    public String toHex() {
+        final byte[] bytes = digest.digest();
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte by : bytes) {
+            sb.append(Character.forDigit((by >> 4) & 0xF, 16)).append(Character.forDigit(by & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getFileCount() {
+        return fileCount;
+    }
+}
@@ -0,0 +1,328 @@
+package org.lastaflute.meta.maven;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.outputmeta.OutputMetaPhysical;
+import org.lastaflute.meta.swagger.web.LaActionSwaggerable;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class LastaMetaGenerateMojoTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                         Up to Date
+    //                                                                         ==========
+    public void test_execute_skippedIfUpToDate() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.execute();
+        assertEquals(1, mojo.generatedCount);
+        assertTrue(mojo.fingerprintFile.isFile());
+
+        // ## Act ##
+        mojo.execute();
+
+        // ## Assert ##
+        assertEquals(1, mojo.generatedCount); // inputs are not changed
+    }
+
+    public void test_execute_sourceChanged() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.execute();
+
+        // ## Act ##
+        writeFile(mojo.sourceDirectories.get(0).toPath(), "sea/SeaAction.java", "class SeaAction { /** mystic */ }");
+        mojo.execute();
+
+        // ## Assert ##
+        assertEquals(2, mojo.generatedCount);
+    }
+
+    public void test_execute_classChanged() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.execute();
+
+        // ## Act ##
+        writeFile(mojo.classesDirectory.toPath(), "sea/SeaForm.class", "compiled form");
+        mojo.execute();
+
+        // ## Assert ##
+        assertEquals(2, mojo.generatedCount);
+    }
+
+    public void test_execute_configChanged() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.execute();
+
+        // ## Act ##
+        mojo.compactOutput = true;
+        mojo.execute();
+        mojo.pluginVersion = "0.6.4";
+        mojo.execute();
+
+        // ## Assert ##
+        assertEquals(3, mojo.generatedCount);
+    }
+
+    public void test_execute_outputDeleted() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.execute();
+
+        // ## Act ##
+        Files.delete(mojo.getOutputPath());
+        mojo.execute();
+
+        // ## Assert ##
+        assertEquals(2, mojo.generatedCount);
+    }
+
+    public void test_execute_failureRetried() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.execute();
+        writeFile(mojo.sourceDirectories.get(0).toPath(), "sea/SeaAction.java", "class SeaAction { /** mystic */ }");
+        mojo.failing = true;
+        try {
+            mojo.execute();
+            fail();
+        } catch (MojoExecutionException e) {
+            log(e.getMessage());
+        }
+
+        // ## Act ##
+        mojo.failing = false;
+        mojo.execute();
+
+        // ## Assert ##
+        assertEquals(3, mojo.generatedCount); // fingerprint is not written by failure
+    }
+
+    public void test_execute_swaggerDeleted() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.execute();
+
+        // ## Act ##
+        Files.delete(mojo.getSwaggerPath());
+        mojo.execute();
+
+        // ## Assert ##
+        assertEquals(2, mojo.generatedCount);
+    }
+
+    public void test_execute_swaggerConfigChanged() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.execute();
+
+        // ## Act ##
+        mojo.basePath = "/harbor/";
+        mojo.execute();
+        mojo.host = "localhost:8090";
+        mojo.execute();
+        mojo.schemes = Arrays.asList("https");
+        mojo.execute();
+        mojo.generateSwagger = false;
+        mojo.execute();
+
+        // ## Assert ##
+        assertEquals(5, mojo.generatedCount);
+    }
+
+    public void test_execute_swaggerNotGenerated() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.generateSwagger = false;
+        mojo.execute();
+
+        // ## Act ##
+        mojo.execute();
+
+        // ## Assert ##
+        assertEquals(1, mojo.generatedCount); // swagger.json is not needed
+        assertFalse(Files.exists(mojo.getSwaggerPath()));
+    }
+
+    // ===================================================================================
+    //                                                                             Swagger
+    //                                                                             =======
+    public void test_buildSwaggerMap_configured() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.project.setName("Harbor");
+        mojo.basePath = "/harbor/";
+        mojo.host = "localhost:8090";
+        mojo.schemes = Arrays.asList("https");
+
+        // ## Act ##
+        Map<String, Object> swaggerMap = mojo.buildSwaggerMap(Collections.emptyList());
+
+        // ## Assert ##
+        log("swaggerMap: {}", swaggerMap);
+        assertEquals(Arrays.asList("swagger", "info", "host", "schemes", "basePath", "tags", "paths", "definitions"),
+                new ArrayList<>(swaggerMap.keySet()));
+        assertEquals("2.0", swaggerMap.get("swagger"));
+        Map<?, ?> infoMap = (Map<?, ?>) swaggerMap.get("info");
+        assertEquals("Harbor", infoMap.get("title"));
+        assertEquals("Harbor. generated by lasta-meta-maven-plugin-0.6.3.", infoMap.get("description"));
+        assertEquals("localhost:8090", swaggerMap.get("host"));
+        assertEquals(Arrays.asList("https"), swaggerMap.get("schemes"));
+        assertEquals("/harbor/", swaggerMap.get("basePath"));
+        assertTrue(((Map<?, ?>) swaggerMap.get("paths")).isEmpty());
+    }
+
+    public void test_buildSwaggerMap_default() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+
+        // ## Act ##
+        Map<String, Object> swaggerMap = mojo.buildSwaggerMap(Collections.emptyList());
+
+        // ## Assert ##
+        log("swaggerMap: {}", swaggerMap);
+        assertFalse(swaggerMap.containsKey("host")); // same as the host serving swagger.json
+        assertFalse(swaggerMap.containsKey("schemes"));
+        assertEquals("/", swaggerMap.get("basePath"));
+        assertEquals("sea", ((Map<?, ?>) swaggerMap.get("info")).get("title")); // artifact ID if no name
+    }
+
+    public void test_filterActionDocMetaList_swaggerAction() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        ActionDocMeta swaggerMeta = new ActionDocMeta();
+        swaggerMeta.setType(LaActionSwaggerable.class);
+        ActionDocMeta seaMeta = new ActionDocMeta();
+        seaMeta.setType(String.class);
+
+        // ## Act ##
+        List<ActionDocMeta> filteredList = mojo.filterActionDocMetaList(Arrays.asList(swaggerMeta, seaMeta));
+
+        // ## Assert ##
+        assertEquals(Arrays.asList(seaMeta), filteredList); // unneeded in swagger.json
+    }
+
+    // ===================================================================================
+    //                                                                         Skip Option
+    //                                                                         ===========
+    public void test_execute_force() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.execute();
+
+        // ## Act ##
+        mojo.force = true;
+        mojo.execute();
+
+        // ## Assert ##
+        assertEquals(2, mojo.generatedCount);
+    }
+
+    public void test_execute_skip() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.skip = true;
+
+        // ## Act ##
+        mojo.execute();
+
+        // ## Assert ##
+        assertEquals(0, mojo.generatedCount);
+        assertFalse(mojo.fingerprintFile.exists());
+    }
+
+    public void test_execute_noClasses() throws Exception {
+        // ## Arrange ##
+        MockGenerateMojo mojo = createMojo();
+        mojo.classesDirectory = new File(mojo.classesDirectory, "none"); // e.g. pom packaging
+
+        // ## Act ##
+        mojo.execute();
+
+        // ## Assert ##
+        assertEquals(0, mojo.generatedCount);
+        assertFalse(mojo.fingerprintFile.exists());
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    private MockGenerateMojo createMojo() throws Exception {
+        Path projectRoot = Files.createTempDirectory("lastameta-mojo");
+        writeFile(projectRoot, "pom.xml", "<project/>");
+        Path srcDir = projectRoot.resolve("src/main/java");
+        writeFile(srcDir, "sea/SeaAction.java", "class SeaAction {}");
+        Path classesDir = projectRoot.resolve("target/classes");
+        writeFile(classesDir, "sea/SeaAction.class", "compiled action");
+        MockGenerateMojo mojo = new MockGenerateMojo();
+        mojo.project = new MavenProject();
+        mojo.project.setFile(projectRoot.resolve("pom.xml").toFile()); // basedir is parent of the file
+        mojo.pluginVersion = "0.6.3";
+        mojo.sourceDirectories = Collections.singletonList(srcDir.toFile());
+        mojo.classesDirectory = classesDir.toFile();
+        mojo.generateSwagger = true; // same as default value
+        mojo.basePath = "/";
+        mojo.fingerprintFile = projectRoot.resolve("target/lasta-meta-maven-plugin/input.fingerprint").toFile();
+        return mojo;
+    }
+
+    private void writeFile(Path dir, String relativePath, String content) throws Exception {
+        Path file = dir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes("UTF-8"));
+    }
+
+    private static class MockGenerateMojo extends LastaMetaGenerateMojo {
+
+        private int generatedCount;
+        private boolean failing;
+
+        @Override
+        protected boolean generateLastaMeta(Path projectRootPath, List<String> srcDirList) throws MojoExecutionException {
+            ++generatedCount;
+            if (failing) {
+                throw new MojoExecutionException("Failed to generate by the test");
+            }
+            try {
+                Path outputPath = getOutputPath();
+                Files.createDirectories(outputPath.getParent());
+                Files.write(outputPath, "{}".getBytes("UTF-8"));
+                if (generateSwagger) {
+                    Files.write(getSwaggerPath(), "{}".getBytes("UTF-8"));
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to write the output: " + projectRootPath, e);
+            }
+            return true;
+        }
+
+        @Override
+        protected List<String> prepareClasspathElementList() { // no dependency resolution in the test
+            return Collections.singletonList(classesDirectory.getAbsolutePath());
+        }
+
+        public Path getOutputPath() {
+            return new OutputMetaPhysical().baseOnProjectRoot(project.getBasedir().toPath()).getLastaDocJsonPath();
+        }
+
+        public Path getSwaggerPath() {
+            return new OutputMetaPhysical().baseOnProjectRoot(project.getBasedir().toPath()).getSwaggerJsonPath();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.lastaflute.meta.maven.classloader;
+
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.DocumentGenerator;
+
+import com.google.gson.Gson;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class ProjectFirstClassLoaderTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                          Load Class
+    //                                                                          ==========
+    public void test_loadClass_projectFirst() throws Exception {
+        // ## Arrange ##
+        URL[] urls = new URL[] { toLocation(Gson.class), toLocation(DocumentGenerator.class) }; // as project classpath
+        ClassLoader pluginLoader = getClass().getClassLoader(); // also has them
+        try (ProjectFirstClassLoader loader = new ProjectFirstClassLoader(urls, pluginLoader, Arrays.asList("org.lastaflute."))) {
+            // ## Act ##
+            Class<?> gsonType = loader.loadClass(Gson.class.getName());
+            Class<?> generatorType = loader.loadClass(DocumentGenerator.class.getName());
+
+            // ## Assert ##
+            assertNotSame(Gson.class, gsonType); // project's library, not plugin's one
+            assertSame(loader, gsonType.getClassLoader());
+            assertSame(gsonType, loader.loadClass(Gson.class.getName())); // loaded once
+            assertSame(DocumentGenerator.class, generatorType); // shared with plugin
+            assertSame(String.class, loader.loadClass(String.class.getName()));
+        }
+    }
+
+    public void test_loadClass_notInProject() throws Exception {
+        // ## Arrange ##
+        ClassLoader pluginLoader = getClass().getClassLoader();
+        try (ProjectFirstClassLoader loader = new ProjectFirstClassLoader(new URL[0], pluginLoader, Collections.emptyList())) {
+            // ## Act ##
+            // ## Assert ##
+            assertSame(Gson.class, loader.loadClass(Gson.class.getName())); // e.g. plugin only library
+            try {
+                loader.loadClass("org.docksidestage.app.web.sea.SeaAction");
+                fail();
+            } catch (ClassNotFoundException e) {
+                log(e.getMessage());
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Resource
+    //                                                                            ========
+    public void test_getResource_projectFirst() throws Exception {
+        // ## Arrange ##
+        URL[] urls = new URL[] { toLocation(Gson.class) };
+        ClassLoader pluginLoader = getClass().getClassLoader();
+        String gsonResource = Gson.class.getName().replace('.', '/') + ".class";
+        String generatorResource = DocumentGenerator.class.getName().replace('.', '/') + ".class";
+        try (ProjectFirstClassLoader loader = new ProjectFirstClassLoader(urls, pluginLoader, Arrays.asList("org.lastaflute."))) {
+            // ## Act ##
+            URL gsonUrl = loader.getResource(gsonResource);
+            URL generatorUrl = loader.getResource(generatorResource);
+
+            // ## Assert ##
+            log("gsonUrl: {}", gsonUrl);
+            assertEquals(loader.findResource(gsonResource), gsonUrl);
+            assertEquals(pluginLoader.getResource(generatorResource), generatorUrl);
+            assertEquals(loader.findResource(gsonResource), loader.getResources(gsonResource).nextElement());
+        }
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    private URL toLocation(Class<?> type) {
+        return type.getProtectionDomain().getCodeSource().getLocation(); // jar or classes directory
+    }
+}
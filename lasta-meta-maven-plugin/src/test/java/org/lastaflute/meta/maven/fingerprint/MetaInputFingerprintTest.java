@@ -0,0 +1,140 @@
+package org.lastaflute.meta.maven.fingerprint;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaInputFingerprintTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                           Directory
+    //                                                                           =========
+    public void test_addDirectory_stableOrder() throws Exception {
+        // ## Arrange ##
+        Path dir = Files.createTempDirectory("lastameta-fingerprint");
+        writeFile(dir, "sea/SeaAction.java", "class SeaAction {}");
+        writeFile(dir, "land/LandAction.java", "class LandAction {}");
+        writeFile(dir, "land/LandForm.java", "class LandForm {}");
+        String first = hashOf(dir);
+        deleteFile(dir, "sea/SeaAction.java", "land/LandAction.java", "land/LandForm.java");
+
+        // ## Act ##
+        writeFile(dir, "land/LandForm.java", "class LandForm {}"); // created in other order
+        writeFile(dir, "land/LandAction.java", "class LandAction {}");
+        writeFile(dir, "sea/SeaAction.java", "class SeaAction {}");
+
+        // ## Assert ##
+        log("first: {}", first);
+        assertEquals(64, first.length()); // SHA-256
+        assertEquals(first, hashOf(dir)); // ordered by relative path
+        assertEquals(first, hashOf(dir)); // repeatable
+    }
+
+    public void test_addDirectory_contentChanged() throws Exception {
+        // ## Arrange ##
+        Path dir = Files.createTempDirectory("lastameta-fingerprint");
+        writeFile(dir, "sea/SeaAction.java", "class SeaAction {}");
+        String before = hashOf(dir);
+
+        // ## Act ##
+        writeFile(dir, "sea/SeaAction.java", "class SeaAction { int mystic; }");
+
+        // ## Assert ##
+        assertFalse(before.equals(hashOf(dir)));
+    }
+
+    public void test_addDirectory_renamed() throws Exception {
+        // ## Arrange ##
+        Path dir = Files.createTempDirectory("lastameta-fingerprint");
+        writeFile(dir, "sea/SeaAction.java", "class Action {}");
+        String before = hashOf(dir);
+
+        // ## Act ##
+        Files.move(dir.resolve("sea/SeaAction.java"), dir.resolve("sea/LandAction.java")); // same content
+
+        // ## Assert ##
+        assertFalse(before.equals(hashOf(dir)));
+    }
+
+    public void test_addDirectory_deleted() throws Exception {
+        // ## Arrange ##
+        Path dir = Files.createTempDirectory("lastameta-fingerprint");
+        writeFile(dir, "sea/SeaAction.java", "class SeaAction {}");
+        writeFile(dir, "sea/SeaForm.java", "class SeaForm {}");
+        MetaInputFingerprint beforeFingerprint = new MetaInputFingerprint().addDirectory(dir, ".java");
+        assertEquals(2, beforeFingerprint.getFileCount());
+        String before = beforeFingerprint.toHex();
+
+        // ## Act ##
+        Files.delete(dir.resolve("sea/SeaForm.java"));
+
+        // ## Assert ##
+        MetaInputFingerprint afterFingerprint = new MetaInputFingerprint().addDirectory(dir, ".java");
+        assertEquals(1, afterFingerprint.getFileCount());
+        assertFalse(before.equals(afterFingerprint.toHex()));
+    }
+
+    public void test_addDirectory_otherExtension() throws Exception {
+        // ## Arrange ##
+        Path dir = Files.createTempDirectory("lastameta-fingerprint");
+        writeFile(dir, "sea/SeaAction.java", "class SeaAction {}");
+        String before = hashOf(dir);
+
+        // ## Act ##
+        writeFile(dir, "sea/memo.txt", "not input");
+
+        // ## Assert ##
+        assertEquals(before, hashOf(dir));
+    }
+
+    public void test_addDirectory_notExisting() throws Exception {
+        Path dir = Files.createTempDirectory("lastameta-fingerprint").resolve("none");
+        MetaInputFingerprint fingerprint = new MetaInputFingerprint().addDirectory(dir, ".java");
+        assertEquals(0, fingerprint.getFileCount());
+        assertEquals(64, fingerprint.toHex().length());
+    }
+
+    // ===================================================================================
+    //                                                                              Config
+    //                                                                              ======
+    public void test_addConfig_changed() {
+        // ## Arrange ##
+        String basic = new MetaInputFingerprint().addConfig("compactOutput", false).addConfig("depth", 4).toHex();
+
+        // ## Act ##
+        String same = new MetaInputFingerprint().addConfig("compactOutput", false).addConfig("depth", 4).toHex();
+        String valueChanged = new MetaInputFingerprint().addConfig("compactOutput", true).addConfig("depth", 4).toHex();
+        String keyChanged = new MetaInputFingerprint().addConfig("exportDependencyGraph", false).addConfig("depth", 4).toHex();
+        String nullValue = new MetaInputFingerprint().addConfig("compactOutput", null).addConfig("depth", 4).toHex();
+
+        // ## Assert ##
+        assertEquals(basic, same);
+        assertFalse(basic.equals(valueChanged));
+        assertFalse(basic.equals(keyChanged));
+        assertFalse(basic.equals(nullValue));
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    private void writeFile(Path dir, String relativePath, String content) throws Exception {
+        Path file = dir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes("UTF-8"));
+    }
+
+    private void deleteFile(Path dir, String... relativePaths) throws Exception {
+        for (String relativePath : relativePaths) {
+            Files.delete(dir.resolve(relativePath));
+        }
+    }
+
+    private String hashOf(Path dir) {
+        return new MetaInputFingerprint().addDirectory(dir, ".java").toHex();
+    }
+}
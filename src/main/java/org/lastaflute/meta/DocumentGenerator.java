@@ -16,6 +16,8 @@
 package org.lastaflute.meta;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
 
@@ -27,8 +29,18 @@ import org.lastaflute.meta.document.ActionDocumentAnalyzer;
 import org.lastaflute.meta.document.DocumentAnalyzerFactory;
 import org.lastaflute.meta.document.JobDocumentAnalyzer;
 import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.docmeta.JobDocMeta;
 import org.lastaflute.meta.document.outputmeta.OutputMetaSerializer;
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyGraph;
+import org.lastaflute.meta.document.parts.intern.TypeDocMetaInterner;
+import org.lastaflute.meta.document.parts.intern.TypeDocMetaTableBuilder;
+import org.lastaflute.meta.document.parts.session.MetaAnalysisResult;
+import org.lastaflute.meta.document.parts.session.MetaAnalysisSession;
+import org.lastaflute.meta.infra.json.MetaOutputFormat;
 import org.lastaflute.meta.infra.json.MetauseJsonEngineProvider;
+import org.lastaflute.meta.infra.metrics.MetaGenerationListener;
+import org.lastaflute.meta.infra.metrics.MetaGenerationMetrics;
+import org.lastaflute.meta.infra.metrics.MetaGenerationPhase;
 import org.lastaflute.meta.sourceparser.SourceParserReflector;
 import org.lastaflute.meta.sourceparser.SourceParserReflectorFactory;
 
@@ -49,6 +61,9 @@ public class DocumentGenerator {
     /** The default depth to search nest world. */
     protected static final int DEFAULT_DEPTH = 4;
 
+    /** The default class directory to discover actions without DI container. */
+    protected static final String DEFAULT_CLASSES_DIR = "target/classes/";
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
@@ -70,6 +85,27 @@ public class DocumentGenerator {
     /** Does it suppress job document generation? */
     protected boolean jobDocSuppressed; // for e.g. heavy scheduling (using e.g. DB) like Fess
 
+    /** Does it read job document from scheduler source without job scheduling? */
+    protected boolean jobSchedulingSkipped; // for e.g. heavy scheduling, and also container-free generation
+
+    /** Does it save analyzed-lastadoc.json as type-table layout? (types are emitted once and referred by ID) */
+    protected boolean typeTableLayout; // for e.g. huge application, needs templates for the layout
+
+    /** The list of class directories or jar files to discover actions without DI container. (NullAllowed: means container) */
+    protected List<Path> containerFreeClasspathList; // for e.g. build-time generation, job doc needs skipJobScheduling()
+
+    /** The graph of dependencies recorded in action analysis, saved with lastadoc. (NullAllowed: not exported) */
+    protected MetaDependencyGraph dependencyGraph; // for e.g. build tools to decide regeneration
+
+    /** The list of listeners notified phase times and counters of generation. (NotNull, EmptyAllowed) */
+    protected final List<MetaGenerationListener> generationListenerList = DfCollectionUtil.newArrayList();
+
+    /** The session to share analysis with other generators. (NullAllowed: active session in thread or no sharing) */
+    protected MetaAnalysisSession analysisSession; // for e.g. LastaDoc and Swagger in the same test
+
+    /** The marker of analysis customization not to share the analysis with others. (NullAllowed: not customized) */
+    protected String analysisCustomizationMarker; // for e.g. customized generator in swagger
+
     // -----------------------------------------------------
     //                                                 Parts
     //                                                 -----
@@ -149,6 +185,113 @@ public class DocumentGenerator {
         return this;
     }
 
+    /**
+     * Read job registrations from scheduler source (implementing LaJobScheduler) without rebooting JobManager. <br>
+     * It is lightweight and also works with container-free discovery, but only literal values are read.
+     * @return this. (NotNull)
+     */
+    public DocumentGenerator skipJobScheduling() {
+        jobSchedulingSkipped = true;
+        return this;
+    }
+
+    public DocumentGenerator asTypeTableLayout() {
+        typeTableLayout = true;
+        return this;
+    }
+
+    /**
+     * Save meta files as compact JSON (no indentation) for machine consumers. (default is pretty for committed files)
+     * @return this. (NotNull)
+     */
+    public DocumentGenerator asCompactOutput() {
+        return formatOutput(MetaOutputFormat.COMPACT);
+    }
+
+    public DocumentGenerator formatOutput(MetaOutputFormat outputFormat) {
+        outputMetaSerializer.formatOutput(outputFormat);
+        return this;
+    }
+
+    /**
+     * Save meta files under the project root instead of current directory, e.g. for build tool in reactor build.
+     * @param projectRootPath The path of project root that has pom.xml or build.gradle. (NotNull)
+     * @return this. (NotNull)
+     */
+    public DocumentGenerator baseOutputOnProjectRoot(Path projectRootPath) {
+        outputMetaSerializer.baseOnProjectRoot(projectRootPath);
+        return this;
+    }
+
+    public DocumentGenerator discoverActionWithoutContainer() { // from default class directory
+        return discoverActionWithoutContainer(DfCollectionUtil.newArrayList(Paths.get(DEFAULT_CLASSES_DIR)));
+    }
+
+    public DocumentGenerator discoverActionWithoutContainer(List<Path> classpathEntryList) {
+        if (classpathEntryList == null || classpathEntryList.isEmpty()) {
+            throw new IllegalArgumentException("The argument 'classpathEntryList' should not be null or empty.");
+        }
+        containerFreeClasspathList = classpathEntryList;
+        return this;
+    }
+
+    public DocumentGenerator exportDependencyGraph() { // saved as lastadoc-dependency.json
+        dependencyGraph = newMetaDependencyGraph();
+        return this;
+    }
+
+    protected MetaDependencyGraph newMetaDependencyGraph() {
+        return new MetaDependencyGraph();
+    }
+
+    /**
+     * Listen phases and counters of generation, e.g. for slow generation investigation.
+     * <pre>
+     * new DocumentGenerator().listenGeneration(new LoggingMetaGenerationListener()).saveLastaDocMeta();
+     * </pre>
+     * @param listener The listener of generation. (NotNull)
+     * @return this. (NotNull)
+     */
+    public DocumentGenerator listenGeneration(MetaGenerationListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("The argument 'listener' should not be null.");
+        }
+        generationListenerList.add(listener);
+        return this;
+    }
+
+    /**
+     * Use the analysis session to share analyzed action meta with other generators.
+     * <pre>
+     * MetaAnalysisSession session = new MetaAnalysisSession();
+     * new DocumentGenerator().useAnalysisSession(session).saveLastaDocMeta();
+     * new SwaggerGenerator().useAnalysisSession(session).saveSwaggerMeta(new SwaggerAction());
+     * </pre>
+     * @param analysisSession The session of analysis. (NotNull)
+     * @return this. (NotNull)
+     */
+    public DocumentGenerator useAnalysisSession(MetaAnalysisSession analysisSession) {
+        if (analysisSession == null) {
+            throw new IllegalArgumentException("The argument 'analysisSession' should not be null.");
+        }
+        this.analysisSession = analysisSession;
+        return this;
+    }
+
+    /**
+     * Mark the analysis as customized so that the analysis session does not share it with non-customized generators. <br>
+     * e.g. when options that change action meta are set after the generator creation.
+     * @param customizationMarker The marker to identify the customization, e.g. class name of customizer. (NotNull)
+     * @return this. (NotNull)
+     */
+    public DocumentGenerator markAnalysisCustomized(String customizationMarker) {
+        if (customizationMarker == null) {
+            throw new IllegalArgumentException("The argument 'customizationMarker' should not be null.");
+        }
+        this.analysisCustomizationMarker = customizationMarker;
+        return this;
+    }
+
     // ===================================================================================
     //                                                                         Action Meta
     //                                                                         ===========
@@ -161,22 +304,122 @@ public class DocumentGenerator {
     //  |-MetauseJsonEngineProvider            // for json parser
     //  |-OutputMetaSerializer                 // makes swagger.json
     // _/_/_/_/_/_/_/_/_/_/
+    /**
+     * Save LastaDoc meta of action and job information to analyzed-lastadoc.json. <br>
+     * The file is not written if the content is same as existing file. (timestamp is not touched)
+     */
     public void saveLastaDocMeta() {
-        final Map<String, Object> lastaMetaDetailMap = generateLastaDetailMap();
-        final String json = createJsonEngine().toJson(lastaMetaDetailMap);
-        outputMetaSerializer.saveLastaDocMeta(json);
+        saveLastaDocMetaIfChanged();
+    }
+
+    /**
+     * Save LastaDoc meta same as saveLastaDocMeta(), returning whether the meta is changed, e.g. for build tools.
+     * @return true if some meta file is written (changed), false if all are same as existing files.
+     */
+    public boolean saveLastaDocMetaIfChanged() {
+        return MetaGenerationMetrics.measureWithin(generationListenerList, () -> {
+            final Map<String, Object> lastaMetaDetailMap = generateLastaDetailMap();
+            final String json = renderJson(lastaMetaDetailMap);
+            boolean changed = outputMetaSerializer.saveLastaDocMetaIfChanged(json);
+            if (dependencyGraph != null) { // recorded by the generation
+                changed |= outputMetaSerializer.saveDependencyGraphMetaIfChanged(renderJson(dependencyGraph.toExportMap()));
+            }
+            return changed;
+        });
+    }
+
+    protected String renderJson(Map<String, Object> outputMap) {
+        return MetaGenerationMetrics.measurePhase(MetaGenerationPhase.JSON_RENDERING, () -> {
+            return createJsonEngine().toJson(outputMap);
+        });
     }
 
     protected Map<String, Object> generateLastaDetailMap() {
-        final List<ActionDocMeta> actionDocMetaList = createActionDocumentAnalyzer().analyzeAction();
+        // same type subtrees are shared to reduce memory, output is not changed by this
+        // (except action meta shared by analysis session, which is read by other generators as it is)
+        // interned type meta is frozen so sharing cannot be broken by later changes e.g. in customization
+        final TypeDocMetaInterner typeDocMetaInterner = newTypeDocMetaInterner();
+        final List<ActionDocMeta> actionDocMetaList = analyzeActionDocMetaList(typeDocMetaInterner);
         final Map<String, Object> lastaMetaDetailMap = DfCollectionUtil.newLinkedHashMap();
-        lastaMetaDetailMap.put("actionDocMetaList", actionDocMetaList);
+        if (typeTableLayout) {
+            lastaMetaDetailMap.putAll(newTypeDocMetaTableBuilder().buildTableLayoutMap(actionDocMetaList));
+        } else {
+            lastaMetaDetailMap.put("actionDocMetaList", actionDocMetaList);
+        }
         createJobDocumentAnalyzer().ifPresent(jobDocumentGenerator -> {
-            lastaMetaDetailMap.put("jobDocMetaList", jobDocumentGenerator.analyzeJobDocMetaList());
+            final List<JobDocMeta> jobDocMetaList;
+            if (jobSchedulingSkipped) { // from scheduler source
+                jobDocMetaList = jobDocumentGenerator.analyzeJobDocMetaListWithoutScheduling();
+            } else {
+                jobDocMetaList = jobDocumentGenerator.analyzeJobDocMetaList();
+            }
+            // job meta is analyzed per generation (not shared) so interned in place
+            jobDocMetaList.forEach(jobDocMeta -> typeDocMetaInterner.internJobDocMeta(jobDocMeta));
+            lastaMetaDetailMap.put("jobDocMetaList", jobDocMetaList); // job is not table layout (small)
         });
         return lastaMetaDetailMap;
     }
 
+    // -----------------------------------------------------
+    //                                        Analyze Action
+    //                                        --------------
+    /**
+     * Analyze action meta list, reused if analysis session has the same analysis. (no interning) <br>
+     * The analysis is shared only with generators of the same class, analyzer factory and customization.
+     * @return The read-only list of action meta per execute method. (NotNull)
+     */
+    public List<ActionDocMeta> analyzeActionDocMetaList() { // also called by e.g. swagger
+        return analyzeActionDocMetaList(null);
+    }
+
+    protected List<ActionDocMeta> analyzeActionDocMetaList(TypeDocMetaInterner typeDocMetaInterner) { // null allowed
+        final MetaAnalysisSession session = findAnalysisSession();
+        if (session == null) {
+            return doAnalyzeActionDocMetaList(typeDocMetaInterner, dependencyGraph);
+        }
+        // shared meta is not interned because other generators (e.g. swagger) read the same instances
+        final MetaAnalysisResult analysisResult = session.prepareAnalysisResult(buildAnalysisKey(), dependencyGraph != null, graph -> {
+            return doAnalyzeActionDocMetaList(/*typeDocMetaInterner*/null, graph);
+        });
+        if (dependencyGraph != null) { // recorded in the session (may be by other generator)
+            dependencyGraph = analysisResult.getDependencyGraph();
+        }
+        return analysisResult.getActionDocMetaList();
+    }
+
+    protected MetaAnalysisSession findAnalysisSession() { // null allowed
+        return analysisSession != null ? analysisSession : MetaAnalysisSession.findActiveSession();
+    }
+
+    protected String buildAnalysisKey() { // conditions that change analyzed meta, also overridden analyzers
+        return "generator=" + getClass().getName() + ", factory=" + documentAnalyzerFactory.getClass().getName() // e.g. sub-class
+                + ", customization=" + analysisCustomizationMarker // e.g. customized in swagger
+                + ", srcDirList=" + srcDirList + ", depth=" + depth + ", classpath=" + containerFreeClasspathList;
+    }
+
+    protected List<ActionDocMeta> doAnalyzeActionDocMetaList(TypeDocMetaInterner typeDocMetaInterner, MetaDependencyGraph graph) {
+        final ActionDocumentAnalyzer actionDocumentAnalyzer = createActionDocumentAnalyzer();
+        if (typeDocMetaInterner != null) {
+            actionDocumentAnalyzer.internTypeDocMeta(typeDocMetaInterner);
+        }
+        if (graph != null) {
+            actionDocumentAnalyzer.recordDependency(graph);
+        }
+        if (containerFreeClasspathList != null) { // no boot, from compiled classes
+            return actionDocumentAnalyzer.analyzeActionWithoutContainer(containerFreeClasspathList);
+        } else {
+            return actionDocumentAnalyzer.analyzeAction();
+        }
+    }
+
+    protected TypeDocMetaInterner newTypeDocMetaInterner() {
+        return new TypeDocMetaInterner();
+    }
+
+    protected TypeDocMetaTableBuilder newTypeDocMetaTableBuilder() {
+        return new TypeDocMetaTableBuilder();
+    }
+
     // ===================================================================================
     //                                                                   Document Analyzer
     //                                                                   =================
@@ -185,7 +428,7 @@ public class DocumentGenerator {
     }
 
     protected OptionalThing<JobDocumentAnalyzer> createJobDocumentAnalyzer() {
-        if (jobDocSuppressed) {
+        if (jobDocSuppressed || (containerFreeClasspathList != null && !jobSchedulingSkipped)) { // scheduling needs container
             return OptionalThing.empty();
         }
         return documentAnalyzerFactory.createJobDocumentAnalyzer(srcDirList, depth, sourceParserReflector);
@@ -194,11 +437,18 @@ public class DocumentGenerator {
     // ===================================================================================
     //                                                                        Small Helper
     //                                                                        ============
-    protected RealJsonEngine createJsonEngine() {
-        return metauseJsonEngineProvider.createJsonEngine();
+    protected RealJsonEngine createJsonEngine() { // for output meta
+        return metauseJsonEngineProvider.createJsonEngine(outputMetaSerializer.getOutputFormat());
     }
 
     protected JsonControlMeta getAppJsonControlMeta() {
         return metauseJsonEngineProvider.getAppJsonControlMeta();
     }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public List<String> getSrcDirList() { // e.g. for source watching
+        return srcDirList;
+    }
 }
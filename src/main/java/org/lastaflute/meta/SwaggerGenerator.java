@@ -17,8 +17,10 @@ package org.lastaflute.meta;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -29,17 +31,30 @@ import org.lastaflute.core.direction.AccessibleConfig;
 import org.lastaflute.core.json.control.JsonControlMeta;
 import org.lastaflute.core.json.engine.RealJsonEngine;
 import org.lastaflute.core.util.ContainerUtil;
+import org.lastaflute.meta.document.ActionDocumentAnalyzer;
 import org.lastaflute.meta.document.docmeta.ActionDocMeta;
 import org.lastaflute.meta.document.outputmeta.OutputMetaSerializer;
+import org.lastaflute.meta.document.parts.incremental.IncrementalActionDocMetaHolder;
+import org.lastaflute.meta.document.parts.session.MetaAnalysisSession;
 import org.lastaflute.meta.document.parts.type.NativeDataTypeProvider;
+import org.lastaflute.meta.infra.json.MetaOutputFormat;
 import org.lastaflute.meta.infra.json.MetauseJsonEngineProvider;
+import org.lastaflute.meta.infra.metrics.MetaGenerationListener;
+import org.lastaflute.meta.infra.metrics.MetaGenerationMetrics;
+import org.lastaflute.meta.infra.metrics.MetaGenerationPhase;
+import org.lastaflute.meta.infra.watch.SourceChangeWatcher;
 import org.lastaflute.meta.swagger.json.SwaggerJsonReader;
 import org.lastaflute.meta.swagger.spec.SwaggerSpecCreator;
 import org.lastaflute.meta.swagger.spec.SwaggerSpecPathsMutableOutput;
 import org.lastaflute.meta.swagger.spec.SwaggerSpecPathsSetupper;
+import org.lastaflute.meta.swagger.spec.parts.shard.SwaggerSpecTagSharder;
+import org.lastaflute.meta.swagger.spec.parts.tag.SwaggerSpecTagHandler;
 import org.lastaflute.meta.swagger.web.LaActionSwaggerable;
 import org.lastaflute.web.response.JsonResponse;
+import org.lastaflute.web.ruts.config.ActionExecute;
 import org.lastaflute.web.util.LaRequestUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author p1us2er0
@@ -47,6 +62,11 @@ import org.lastaflute.web.util.LaRequestUtil;
  */
 public class SwaggerGenerator {
 
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(SwaggerGenerator.class);
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
@@ -64,10 +84,128 @@ public class SwaggerGenerator {
 
     protected final NativeDataTypeProvider dataNativeTypeProvider = newDataNativeTypeProvider();
 
+    // -----------------------------------------------------
+    //                                           Incremental
+    //                                           -----------
+    // shared between requests because generator is created per request (basically by SwaggerAction)
+    // keyed by analysis condition e.g. source directories, lazy-loaded if source watched, closed by closeSharedIncrementalHolder()
+    protected static final Map<String, IncrementalActionDocMetaHolder> sharedIncrementalHolderMap = new HashMap<>();
+
+    protected IncrementalActionDocMetaHolder incrementalHolder; // null allowed: shared holder is used
+
+    // -----------------------------------------------------
+    //                                               Warm-up
+    //                                               -------
+    // session analyzed in background at boot, used by requests until first whole generation is finished (value is null allowed)
+    protected static final AtomicReference<MetaAnalysisSession> warmUpSessionRef = new AtomicReference<>();
+
     protected NativeDataTypeProvider newDataNativeTypeProvider() {
         return new NativeDataTypeProvider();
     }
 
+    // -----------------------------------------------------
+    //                                   Generation Listener
+    //                                   -------------------
+    protected final List<MetaGenerationListener> generationListenerList = new ArrayList<>(); // not null, empty allowed
+
+    // -----------------------------------------------------
+    //                                      Analysis Session
+    //                                      ----------------
+    protected MetaAnalysisSession analysisSession; // null allowed, shared with e.g. LastaDoc generation
+
+    // -----------------------------------------------------
+    //                                          Shard Output
+    //                                          ------------
+    protected boolean shardOutputByTag; // also saves shard per tag and its index when saving
+
+    // ===================================================================================
+    //                                                                              Option
+    //                                                                              ======
+    /**
+     * Listen phases and counters of generation, e.g. for slow generation investigation. <br>
+     * The swagger generation in the swaggerable action (when saving) is also measured.
+     * <pre>
+     * new SwaggerGenerator().listenGeneration(new LoggingMetaGenerationListener()).saveSwaggerMeta(new SwaggerAction());
+     * </pre>
+     * @param listener The listener of generation. (NotNull)
+     * @return this. (NotNull)
+     */
+    public SwaggerGenerator listenGeneration(MetaGenerationListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("The argument 'listener' should not be null.");
+        }
+        generationListenerList.add(listener);
+        return this;
+    }
+
+    /**
+     * Use the analysis session to reuse action meta analyzed by other generators, e.g. LastaDoc. <br>
+     * The swagger generation in the swaggerable action (when saving) also uses the session.
+     * <pre>
+     * MetaAnalysisSession session = new MetaAnalysisSession();
+     * new DocumentGenerator().useAnalysisSession(session).saveLastaDocMeta();
+     * new SwaggerGenerator().useAnalysisSession(session).saveSwaggerMeta(new SwaggerAction());
+     * </pre>
+     * @param analysisSession The session of analysis. (NotNull)
+     * @return this. (NotNull)
+     */
+    public SwaggerGenerator useAnalysisSession(MetaAnalysisSession analysisSession) {
+        if (analysisSession == null) {
+            throw new IllegalArgumentException("The argument 'analysisSession' should not be null.");
+        }
+        this.analysisSession = analysisSession;
+        return this;
+    }
+
+    /**
+     * Use the incremental holder owned by application instead of shared one, e.g. to close it by yourself. <br>
+     * It is used only when source change is watched by the swagger option.
+     * <pre>
+     * // e.g. your application keeps it and closes it at shutdown
+     * holder = new IncrementalActionDocMetaHolder(new SourceChangeWatcher(srcDirList).start());
+     * new SwaggerGenerator().useIncrementalHolder(holder).generateSwaggerMap(op -&gt; op.watchSourceChange());
+     * </pre>
+     * @param incrementalHolder The holder of action meta for incremental analysis. (NotNull)
+     * @return this. (NotNull)
+     */
+    public SwaggerGenerator useIncrementalHolder(IncrementalActionDocMetaHolder incrementalHolder) {
+        if (incrementalHolder == null) {
+            throw new IllegalArgumentException("The argument 'incrementalHolder' should not be null.");
+        }
+        this.incrementalHolder = incrementalHolder;
+        return this;
+    }
+
+    /**
+     * Save swagger.json as compact JSON (no indentation) for machine consumers. (default is pretty for committed files)
+     * @return this. (NotNull)
+     */
+    public SwaggerGenerator asCompactOutput() {
+        return formatOutput(MetaOutputFormat.COMPACT);
+    }
+
+    public SwaggerGenerator formatOutput(MetaOutputFormat outputFormat) {
+        outputMetaSerializer.formatOutput(outputFormat);
+        return this;
+    }
+
+    /**
+     * Also save self-contained spec per tag (with only reached definitions) and its index when saving. <br>
+     * The whole swagger.json is saved as before, shards are for consumers that need only some tags.
+     * <pre>
+     * e.g. target/lastadoc/
+     *  swagger.json
+     *  swagger-index.json
+     *  swagger-shard/product.json
+     *  swagger-shard/member.json
+     * </pre>
+     * @return this. (NotNull)
+     */
+    public SwaggerGenerator shardOutputByTag() {
+        shardOutputByTag = true;
+        return this;
+    }
+
     // ===================================================================================
     //                                                                            Generate
     //                                                                            ========
@@ -105,6 +243,12 @@ public class SwaggerGenerator {
      *     op.deriveBasePath(basePath -&gt; basePath + "api/");
      * });
      * </pre>
+     * You can generate only one API group on demand by selection, only the actions are analyzed.
+     * <pre>
+     * new SwaggerGenerator().generateSwaggerMap(op -&gt; {
+     *     op.selectTag("product"); // or op.selectUrlPrefix("/product/")
+     * });
+     * </pre>
      * @param opLambda The callback for settings of option. (NotNull)
      * @return The map of swagger information. (NotNull)
      */
@@ -113,9 +257,61 @@ public class SwaggerGenerator {
         if (swaggerJson.isPresent()) { // e.g. war world
             final Map<String, Object> swaggerMap = swaggerJson.get();
             swaggerMap.put("schemes", prepareSwaggerMapSchemes()); // #thinking jflute why? (2021/06/21)
+            return filterSelectedSwaggerMap(swaggerMap, createSwaggerOption(opLambda));
+        }
+        final SwaggerOption swaggerOption = createSwaggerOption(opLambda);
+        return MetaGenerationMetrics.measureWithin(prepareGenerationListenerList(swaggerOption), () -> {
+            return createSwaggerSpecMap(swaggerOption); // basically here if local development
+        });
+    }
+
+    /**
+     * Generate swagger JSON with option, rendered in the format, e.g. compact response for machine consumers.
+     * @param opLambda The callback for settings of option. (NotNull)
+     * @param outputFormat The format of JSON to be rendered. (NotNull)
+     * @return The JSON string of swagger information. (NotNull)
+     */
+    public String generateSwaggerJson(Consumer<SwaggerOption> opLambda, MetaOutputFormat outputFormat) {
+        final Map<String, Object> swaggerMap = generateSwaggerMap(opLambda);
+        return jsonEngineProvider.createJsonEngine(outputFormat).toJson(swaggerMap);
+    }
+
+    /**
+     * Generate swagger map of only the tag, which is self-contained with only reached definitions. <br>
+     * e.g. for swagger UI per tag (serving shard on demand) when whole spec is too large.
+     * <pre>
+     * new SwaggerGenerator().generateSwaggerShardMap("product", op -&gt; {}).alwaysPresent(shardMap -&gt; {
+     *     ...
+     * });
+     * </pre>
+     * @param tag The tag of the shard, which is first segment of action URL e.g. product. (NotNull)
+     * @param opLambda The callback for settings of option. (NotNull)
+     * @return The optional map of the shard. (NotNull, EmptyAllowed: no path of the tag)
+     */
+    public OptionalThing<Map<String, Object>> generateSwaggerShardMap(String tag, Consumer<SwaggerOption> opLambda) {
+        if (tag == null) {
+            throw new IllegalArgumentException("The argument 'tag' should not be null.");
+        }
+        final Map<String, Object> swaggerMap = generateSwaggerMap(op -> {
+            opLambda.accept(op);
+            op.selectTag(tag); // only the actions are analyzed
+        });
+        return newSwaggerSpecTagSharder().extractTagShard(swaggerMap, tag);
+    }
+
+    protected Map<String, Object> filterSelectedSwaggerMap(Map<String, Object> swaggerMap, SwaggerOption swaggerOption) {
+        if (!swaggerOption.isActionSelected()) {
             return swaggerMap;
         }
-        return createSwaggerSpecMap(createSwaggerOption(opLambda)); // basically here if local development
+        return newSwaggerSpecTagSharder().extractSelectedShard(swaggerMap, (path, tag) -> {
+            return determineSelectedAction(path, tag, swaggerOption);
+        });
+    }
+
+    protected List<MetaGenerationListener> prepareGenerationListenerList(SwaggerOption swaggerOption) {
+        final List<MetaGenerationListener> listenerList = new ArrayList<>(generationListenerList);
+        listenerList.addAll(swaggerOption.getGenerationListenerList());
+        return listenerList;
     }
 
     // -----------------------------------------------------
@@ -170,8 +366,12 @@ public class SwaggerGenerator {
     protected void setupSwaggerPathsMap(Map<String, Map<String, Object>> pathsMap // map of top-level paths
             , Map<String, Map<String, Object>> definitionsMap // map of top-level definitions
             , List<Map<String, Object>> tagsList, SwaggerOption swaggerOption) { // top-level tags
-        final SwaggerSpecPathsSetupper pathsSetupper = createSwaggerSpecPathsSetupper(pathsMap, definitionsMap, tagsList, swaggerOption);
-        pathsSetupper.setupSwaggerPathsMap(filterActionDocMetaList(generateActionDocMetaList(swaggerOption)));
+        final List<ActionDocMeta> actionDocMetaList = filterActionDocMetaList(generateActionDocMetaList(swaggerOption));
+        MetaGenerationMetrics.measurePhase(MetaGenerationPhase.SPEC_BUILDING, () -> {
+            final SwaggerSpecPathsSetupper pathsSetupper = createSwaggerSpecPathsSetupper(pathsMap, definitionsMap, tagsList, swaggerOption);
+            pathsSetupper.setupSwaggerPathsMap(actionDocMetaList);
+            return null; // no result
+        });
     }
 
     // -----------------------------------------------------
@@ -208,8 +408,79 @@ public class SwaggerGenerator {
                 documentGenerator.addSrcDir(dir);
             }
         });
+        final MetaAnalysisSession warmUpSession;
+        if (analysisSession != null) { // otherwise active session in thread is used if it exists
+            documentGenerator.useAnalysisSession(analysisSession);
+            warmUpSession = null;
+        } else if (MetaAnalysisSession.findActiveSession() == null) {
+            warmUpSession = findWarmUpSession(); // null allowed, waits for in-flight analysis in the session
+            if (warmUpSession != null) {
+                documentGenerator.useAnalysisSession(warmUpSession);
+            }
+        } else { // e.g. warm-up itself, saving swagger meta with session
+            warmUpSession = null;
+        }
         customizeActionDocumentGenerator(documentGenerator);
-        return documentGenerator.createActionDocumentAnalyzer().analyzeAction();
+        if (isActionDocumentGeneratorCustomized()) { // the analysis may differ from LastaDoc's one
+            documentGenerator.markAnalysisCustomized(getClass().getName());
+        }
+        // selected and watched generations do not read the whole analysis from the session
+        final boolean wholeGeneration = !swaggerOption.isActionSelected() && !swaggerOption.isSourceChangeWatched();
+        try {
+            return doGenerateActionDocMetaList(documentGenerator, swaggerOption);
+        } finally { // also failure of whole generation
+            if (warmUpSession != null && wholeGeneration) {
+                releaseWarmUpSession(warmUpSession); // later requests analyze latest sources
+            }
+        }
+    }
+
+    protected List<ActionDocMeta> doGenerateActionDocMetaList(DocumentGenerator documentGenerator, SwaggerOption swaggerOption) {
+        if (swaggerOption.isActionSelected()) { // on demand, not shared with session and incremental (they are whole)
+            final ActionDocumentAnalyzer analyzer = documentGenerator.createActionDocumentAnalyzer();
+            return analyzer.analyzeSelectedExecute(execute -> isSelectedExecute(analyzer, execute, swaggerOption));
+        }
+        if (swaggerOption.isSourceChangeWatched()) { // only affected actions are analyzed after first time
+            return prepareIncrementalHolder(documentGenerator).prepareActionDocMetaList(() -> {
+                return documentGenerator.createActionDocumentAnalyzer();
+            });
+        }
+        return documentGenerator.analyzeActionDocMetaList(); // reused if session has it
+    }
+
+    protected IncrementalActionDocMetaHolder prepareIncrementalHolder(DocumentGenerator documentGenerator) {
+        if (incrementalHolder != null) { // owned by application
+            return incrementalHolder;
+        }
+        final String analysisKey = documentGenerator.buildAnalysisKey(); // e.g. other source directories, other holder
+        synchronized (sharedIncrementalHolderMap) {
+            IncrementalActionDocMetaHolder holder = sharedIncrementalHolderMap.get(analysisKey);
+            if (holder == null) {
+                final SourceChangeWatcher watcher = newSourceChangeWatcher(documentGenerator.getSrcDirList()).start();
+                holder = newIncrementalActionDocMetaHolder(watcher);
+                sharedIncrementalHolderMap.put(analysisKey, holder);
+            }
+            return holder;
+        }
+    }
+
+    protected SourceChangeWatcher newSourceChangeWatcher(List<String> srcDirList) {
+        return new SourceChangeWatcher(srcDirList);
+    }
+
+    protected IncrementalActionDocMetaHolder newIncrementalActionDocMetaHolder(SourceChangeWatcher watcher) {
+        return new IncrementalActionDocMetaHolder(watcher);
+    }
+
+    /**
+     * Close the incremental holders shared between requests, stopping their source watchers. <br>
+     * e.g. at application shutdown (or redeploy), and next generation with source watching creates new one.
+     */
+    public static void closeSharedIncrementalHolder() {
+        synchronized (sharedIncrementalHolderMap) {
+            sharedIncrementalHolderMap.values().forEach(holder -> holder.close());
+            sharedIncrementalHolderMap.clear();
+        }
     }
 
     protected DocumentGenerator newDocumentGenerator() {
@@ -220,6 +491,17 @@ public class SwaggerGenerator {
         // do nothing as default
     }
 
+    protected boolean isActionDocumentGeneratorCustomized() { // overridden customize method in sub-class
+        for (Class<?> type = getClass(); !SwaggerGenerator.class.equals(type); type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod("customizeActionDocumentGenerator", DocumentGenerator.class);
+                return true;
+            } catch (NoSuchMethodException ignored) { // not overridden in the class
+            }
+        }
+        return false;
+    }
+
     protected List<ActionDocMeta> filterActionDocMetaList(List<ActionDocMeta> actionDocMetaList) {
         // the SwaggerAction is unneeded in swagger.json (avoid noise of SwaggerDiff, RemoteApiGen)
         return actionDocMetaList.stream().filter(meta -> !isSwaggerAction(meta)).collect(Collectors.toList());
@@ -229,6 +511,105 @@ public class SwaggerGenerator {
         return LaActionSwaggerable.class.isAssignableFrom(meta.getType());
     }
 
+    // -----------------------------------------------------
+    //                                      Action Selection
+    //                                      ----------------
+    protected boolean isSelectedExecute(ActionDocumentAnalyzer analyzer, ActionExecute execute, SwaggerOption swaggerOption) {
+        final String actionUrl = analyzer.deriveActionUrl(execute); // light, before analysis
+        final Class<?> actionType = execute.getExecuteMethod().getDeclaringClass(); // same as type of ActionDocMeta
+        return isSelectedAction(actionType, actionUrl, swaggerOption);
+    }
+
+    protected boolean isSelectedAction(Class<?> actionType, String actionUrl, SwaggerOption swaggerOption) {
+        final String tag = newSwaggerSpecTagHandler().deriveActionTag(actionType, actionUrl); // same as paths setup
+        return determineSelectedAction(actionUrl, tag, swaggerOption);
+    }
+
+    protected boolean determineSelectedAction(String actionUrl, String tag, SwaggerOption swaggerOption) {
+        final OptionalThing<String> selectedTag = swaggerOption.getSelectedTag();
+        if (selectedTag.isPresent() && !selectedTag.get().equals(tag)) {
+            return false;
+        }
+        final OptionalThing<String> selectedUrlPrefix = swaggerOption.getSelectedUrlPrefix();
+        if (selectedUrlPrefix.isPresent() && !actionUrl.startsWith(selectedUrlPrefix.get())) {
+            return false;
+        }
+        return true;
+    }
+
+    protected SwaggerSpecTagHandler newSwaggerSpecTagHandler() {
+        return new SwaggerSpecTagHandler();
+    }
+
+    // ===================================================================================
+    //                                                                             Warm-up
+    //                                                                             =======
+    /**
+     * Warm up swagger generation in background thread, e.g. at container startup for local development. <br>
+     * Source parsing and action analysis (heavy part) are executed, and requests wait for it instead of analyzing again.
+     * (spec building needs HTTP request so it is executed by request as always)
+     * <pre>
+     * // e.g. in your CurtainBeforeHook, only when development.here
+     * new SwaggerGenerator().warmUpInBackground(op -&gt; {
+     *     op.watchSourceChange(); // same option as your SwaggerAction
+     * });
+     * </pre>
+     * Without source watching, the warmed-up analysis is used until first whole generation is finished,
+     * so later requests analyze latest sources as before. (with source watching, the incremental holder keeps it)
+     * @param opLambda The callback for settings of option, should be same as option in your SwaggerAction. (NotNull)
+     */
+    public void warmUpInBackground(Consumer<SwaggerOption> opLambda) {
+        if (opLambda == null) {
+            throw new IllegalArgumentException("The argument 'opLambda' should not be null.");
+        }
+        final SwaggerOption swaggerOption = createSwaggerOption(opLambda); // in caller thread for option errors
+        final MetaAnalysisSession warmUpSession;
+        if (swaggerOption.isSourceChangeWatched()) { // incremental holder is shared between requests
+            warmUpSession = null;
+        } else {
+            warmUpSession = newWarmUpAnalysisSession();
+            warmUpSessionRef.set(warmUpSession); // before thread start so that early requests wait for it
+        }
+        final Thread warmUpThread = new Thread(() -> doWarmUp(swaggerOption, warmUpSession), "lasta-meta-swagger-warmup");
+        warmUpThread.setDaemon(true); // not to block application shutdown
+        warmUpThread.start();
+    }
+
+    protected MetaAnalysisSession newWarmUpAnalysisSession() {
+        return new MetaAnalysisSession();
+    }
+
+    protected void doWarmUp(SwaggerOption swaggerOption, MetaAnalysisSession warmUpSession) { // null allowed: session
+        final long before = System.currentTimeMillis();
+        try {
+            final List<MetaGenerationListener> listenerList = prepareGenerationListenerList(swaggerOption);
+            final List<ActionDocMeta> actionDocMetaList = MetaGenerationMetrics.measureWithin(listenerList, () -> {
+                if (warmUpSession != null) { // published to the session atomically after analysis
+                    return warmUpSession.shareWithin(() -> generateActionDocMetaList(swaggerOption));
+                } else { // to incremental holder
+                    return generateActionDocMetaList(swaggerOption);
+                }
+            });
+            final long cost = System.currentTimeMillis() - before;
+            logger.info("...Warming up swagger analysis finished: actions={}, cost={}ms", actionDocMetaList.size(), cost);
+        } catch (RuntimeException e) { // requests analyze by themselves
+            if (warmUpSession != null) {
+                warmUpSessionRef.compareAndSet(warmUpSession, null);
+            }
+            logger.warn("Failed to warm up swagger analysis, requests analyze by themselves.", e);
+        }
+    }
+
+    protected MetaAnalysisSession findWarmUpSession() { // null allowed
+        return warmUpSessionRef.get();
+    }
+
+    protected void releaseWarmUpSession(MetaAnalysisSession warmUpSession) { // after first whole generation
+        if (warmUpSessionRef.compareAndSet(warmUpSession, null)) {
+            logger.debug("...Releasing warmed-up analysis session: {}", warmUpSession);
+        }
+    }
+
     // ===================================================================================
     //                                                                               Save
     //                                                                              ======
@@ -240,19 +621,73 @@ public class SwaggerGenerator {
     //  |    ^-(SwaggerAction)                 // in your application
     //  |-RealJsonEngine                       // make JSON string
     //  |-OutputMetaSerializer                 // serialiize swagger.json
+    //  |-SwaggerSpecTagSharder                // shard per tag (if shard output)
     // _/_/_/_/_/_/_/_/_/_/
     /**
-     * Save swagger meta of action information to swagger.json.
+     * Save swagger meta of action information to swagger.json. <br>
+     * The file is not written if the content is same as existing file. (timestamp is not touched)
      * @param swaggerable The action instance that can handle swagger. (NotNull)
      */
     public void saveSwaggerMeta(LaActionSwaggerable swaggerable) { // basically called by unit test
-        final String json = extractActionJson(swaggerable);
-        outputMetaSerializer.saveSwaggerMeta(json);
+        saveSwaggerMetaIfChanged(swaggerable);
+    }
+
+    /**
+     * Save swagger meta same as saveSwaggerMeta(), returning whether the meta is changed, e.g. for build tools.
+     * @param swaggerable The action instance that can handle swagger. (NotNull)
+     * @return true if some meta file is written (changed), false if all are same as existing files.
+     */
+    public boolean saveSwaggerMetaIfChanged(LaActionSwaggerable swaggerable) {
+        return MetaGenerationMetrics.measureWithin(generationListenerList, () -> { // generation in the action joins it
+            final Map<String, Object> swaggerMap;
+            if (analysisSession != null) { // shared with generator in the action
+                swaggerMap = analysisSession.shareWithin(() -> extractActionSwaggerMap(swaggerable));
+            } else {
+                swaggerMap = extractActionSwaggerMap(swaggerable);
+            }
+            boolean changed = outputMetaSerializer.saveSwaggerMetaIfChanged(renderSwaggerJson(swaggerMap));
+            if (shardOutputByTag) {
+                changed |= saveSwaggerShardMeta(swaggerMap);
+            }
+            return changed;
+        });
     }
 
     protected String extractActionJson(LaActionSwaggerable swaggerable) {
+        return renderSwaggerJson(extractActionSwaggerMap(swaggerable));
+    }
+
+    protected Map<String, Object> extractActionSwaggerMap(LaActionSwaggerable swaggerable) {
         final JsonResponse<Map<String, Object>> jsonResponse = swaggerable.json();
-        return createJsonEngine().toJson(jsonResponse.getJsonResult());
+        return jsonResponse.getJsonResult();
+    }
+
+    protected String renderSwaggerJson(Map<String, Object> swaggerMap) {
+        return MetaGenerationMetrics.measurePhase(MetaGenerationPhase.JSON_RENDERING, () -> {
+            return createOutputJsonEngine().toJson(swaggerMap);
+        });
+    }
+
+    // -----------------------------------------------------
+    //                                           Shard Meta
+    //                                           ----------
+    protected boolean saveSwaggerShardMeta(Map<String, Object> swaggerMap) { // true if changed
+        final SwaggerSpecTagSharder sharder = newSwaggerSpecTagSharder();
+        final Map<String, Map<String, Object>> shardMap = sharder.shardByTag(swaggerMap);
+        boolean changed = false;
+        for (Map.Entry<String, Map<String, Object>> entry : shardMap.entrySet()) { // unchanged shards are not written
+            changed |= outputMetaSerializer.saveSwaggerShardMetaIfChanged(entry.getKey(), renderSwaggerJson(entry.getValue()));
+        }
+        final Map<String, Object> indexMap = sharder.buildIndexMap(swaggerMap, shardMap, tag -> {
+            return outputMetaSerializer.getSwaggerShardLocation(tag);
+        });
+        changed |= outputMetaSerializer.saveSwaggerIndexMetaIfChanged(renderSwaggerJson(indexMap));
+        changed |= outputMetaSerializer.deleteStaleSwaggerShardMeta(shardMap.keySet()); // e.g. removed tag
+        return changed;
+    }
+
+    protected SwaggerSpecTagSharder newSwaggerSpecTagSharder() {
+        return new SwaggerSpecTagSharder();
     }
 
     // ===================================================================================
@@ -270,6 +705,10 @@ public class SwaggerGenerator {
         return jsonEngineProvider.createJsonEngine();
     }
 
+    protected RealJsonEngine createOutputJsonEngine() { // for swagger.json
+        return jsonEngineProvider.createJsonEngine(outputMetaSerializer.getOutputFormat());
+    }
+
     protected JsonControlMeta getAppJsonControlMeta() {
         return jsonEngineProvider.getAppJsonControlMeta();
     }
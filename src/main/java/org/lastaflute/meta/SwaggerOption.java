@@ -28,6 +28,7 @@ import org.dbflute.util.DfCollectionUtil;
 import org.lastaflute.core.util.Lato;
 import org.lastaflute.meta.document.docmeta.ActionDocMeta;
 import org.lastaflute.meta.document.docmeta.reference.ActionDocReference;
+import org.lastaflute.meta.infra.metrics.MetaGenerationListener;
 import org.lastaflute.web.api.BusinessFailureMapping;
 
 /**
@@ -55,11 +56,15 @@ public class SwaggerOption {
     //                                            Meta Infra
     //                                            ----------
     protected Consumer<List<String>> additionalSourceDirectoriesLambda; // null allowed
+    protected boolean sourceChangeWatched; // for local development
+    protected List<MetaGenerationListener> generationListenerList; // null allowed, lazy-loaded
 
     // -----------------------------------------------------
     //                                       Action Handling
     //                                       ---------------
     protected Predicate<ActionDocMeta> targetActionDocMetaLambda; // null allowed
+    protected String selectedTag; // null allowed, selected before analysis
+    protected String selectedUrlPrefix; // null allowed, selected before analysis
 
     // -----------------------------------------------------
     //                                         HTTP Handling
@@ -128,6 +133,40 @@ public class SwaggerOption {
         this.additionalSourceDirectoriesLambda = oneArgLambda;
     }
 
+    // -----------------------------------------------------
+    //                                         Source Change
+    //                                         -------------
+    /**
+     * Watch source directories and re-analyze only actions affected by changes. (for local development) <br>
+     * The first request analyzes all actions, and next requests reuse the analyzed meta except changed ones.
+     * <pre>
+     * op.watchSourceChange(); // e.g. only when development.here
+     * </pre>
+     */
+    public void watchSourceChange() {
+        this.sourceChangeWatched = true;
+    }
+
+    // -----------------------------------------------------
+    //                                   Generation Listener
+    //                                   -------------------
+    /**
+     * Listen phases and counters of swagger generation, e.g. for slow generation investigation.
+     * <pre>
+     * op.listenGeneration(new LoggingMetaGenerationListener());
+     * </pre>
+     * @param listener The listener of generation. (NotNull)
+     */
+    public void listenGeneration(MetaGenerationListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("The argument 'listener' should not be null.");
+        }
+        if (generationListenerList == null) {
+            generationListenerList = DfCollectionUtil.newArrayList();
+        }
+        generationListenerList.add(listener);
+    }
+
     // ===================================================================================
     //                                                                     Action Handling
     //                                                                     ===============
@@ -147,6 +186,39 @@ public class SwaggerOption {
         this.targetActionDocMetaLambda = oneArgLambda;
     }
 
+    // -----------------------------------------------------
+    //                                      Action Selection
+    //                                      ----------------
+    /**
+     * Select actions of the tag (first element of URL) before analysis, for on-demand generation. <br>
+     * Only the selected actions are analyzed so it is much lighter than whole generation.
+     * <pre>
+     * op.selectTag("product"); // e.g. one API group in swagger UI
+     * </pre>
+     * @param tag The tag of actions to be generated, e.g. product, root. (NotNull)
+     */
+    public void selectTag(String tag) {
+        if (tag == null) {
+            throw new IllegalArgumentException("The argument 'tag' should not be null.");
+        }
+        this.selectedTag = tag;
+    }
+
+    /**
+     * Select actions of the URL prefix before analysis, for on-demand generation. <br>
+     * If also tag is selected, actions that match both are generated.
+     * <pre>
+     * op.selectUrlPrefix("/product/purchase/");
+     * </pre>
+     * @param urlPrefix The prefix of action URL to be generated, e.g. /product/ (NotNull)
+     */
+    public void selectUrlPrefix(String urlPrefix) {
+        if (urlPrefix == null) {
+            throw new IllegalArgumentException("The argument 'urlPrefix' should not be null.");
+        }
+        this.selectedUrlPrefix = urlPrefix.startsWith("/") ? urlPrefix : "/" + urlPrefix;
+    }
+
     // ===================================================================================
     //                                                                       HTTP Handling
     //                                                                       =============
@@ -440,6 +512,14 @@ public class SwaggerOption {
         });
     }
 
+    public boolean isSourceChangeWatched() {
+        return sourceChangeWatched;
+    }
+
+    public List<MetaGenerationListener> getGenerationListenerList() {
+        return generationListenerList != null ? generationListenerList : Collections.emptyList();
+    }
+
     // -----------------------------------------------------
     //                                       Action Handling
     //                                       ---------------
@@ -450,6 +530,22 @@ public class SwaggerOption {
         return targetActionDocMetaLambda;
     }
 
+    public OptionalThing<String> getSelectedTag() {
+        return OptionalThing.ofNullable(selectedTag, () -> {
+            throw new IllegalStateException("Not set selectedTag.");
+        });
+    }
+
+    public OptionalThing<String> getSelectedUrlPrefix() {
+        return OptionalThing.ofNullable(selectedUrlPrefix, () -> {
+            throw new IllegalStateException("Not set selectedUrlPrefix.");
+        });
+    }
+
+    public boolean isActionSelected() {
+        return selectedTag != null || selectedUrlPrefix != null;
+    }
+
     // -----------------------------------------------------
     //                                         HTTP Handling
     //                                         -------------
@@ -18,8 +18,11 @@ package org.lastaflute.meta.document;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.dbflute.optional.OptionalThing;
@@ -27,13 +30,24 @@ import org.dbflute.util.DfCollectionUtil;
 import org.lastaflute.core.util.ContainerUtil;
 import org.lastaflute.meta.document.docmeta.ActionDocMeta;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+import org.lastaflute.meta.document.parts.action.ActionDiscoveryStats;
 import org.lastaflute.meta.document.parts.action.ExecuteMethodCollector;
 import org.lastaflute.meta.document.parts.action.FormFieldNameAdjuster;
+import org.lastaflute.meta.document.parts.action.ScannedActionExecute;
+import org.lastaflute.meta.document.parts.action.ScannedExecuteMethodCollector;
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyGraph;
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyRecorder;
+import org.lastaflute.meta.document.parts.intern.TypeDocMetaInterner;
+import org.lastaflute.meta.document.parts.reflection.MetaFieldReflection;
+import org.lastaflute.meta.document.parts.type.MetaGenericTypeResolver;
 import org.lastaflute.meta.document.parts.type.NativeDataTypeProvider;
 import org.lastaflute.meta.document.zone.formtype.ExecuteFormTypeAnalyzer;
 import org.lastaflute.meta.document.zone.parameter.ExecuteParameterAnalyzer;
 import org.lastaflute.meta.document.zone.returntype.ExecuteReturnTypeAnalyzer;
 import org.lastaflute.meta.infra.json.MetauseJsonEngineProvider;
+import org.lastaflute.meta.infra.metrics.MetaGenerationCounter;
+import org.lastaflute.meta.infra.metrics.MetaGenerationMetrics;
+import org.lastaflute.meta.infra.metrics.MetaGenerationPhase;
 import org.lastaflute.meta.sourceparser.SourceParserReflector;
 import org.lastaflute.web.UrlChain;
 import org.lastaflute.web.path.ActionPathResolver;
@@ -65,6 +79,22 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
     protected final MetauseJsonEngineProvider metauseJsonEngineProvider;
     protected final NativeDataTypeProvider nativeDataTypeProvider;
     protected final FormFieldNameAdjuster formFieldNameAdjuster;
+    protected final MetaGenericTypeResolver metaGenericTypeResolver; // caches bindings in this analysis
+
+    // -----------------------------------------------------
+    //                                                Option
+    //                                                ------
+    /** The interner of type meta to share same subtrees per action. (NullAllowed: no interning) */
+    protected TypeDocMetaInterner typeDocMetaInterner;
+
+    /** The graph to register dependencies recorded per action execute. (NullAllowed: no recording) */
+    protected MetaDependencyGraph dependencyGraph;
+
+    // -----------------------------------------------------
+    //                                                Result
+    //                                                ------
+    /** The statistics of the latest action discovery with container. (NullAllowed: before analysis) */
+    protected ActionDiscoveryStats latestDiscoveryStats;
 
     // ===================================================================================
     //                                                                         Constructor
@@ -78,6 +108,7 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
         this.metauseJsonEngineProvider = newMetauseJsonEngineProvider();
         this.nativeDataTypeProvider = newDataNativeTypeProvider();
         this.formFieldNameAdjuster = newFormFieldNameAdjuster(metauseJsonEngineProvider);
+        this.metaGenericTypeResolver = newMetaGenericTypeResolver();
     }
 
     protected MetauseJsonEngineProvider newMetauseJsonEngineProvider() {
@@ -92,6 +123,40 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
         return new FormFieldNameAdjuster(metauseJsonEngineProvider);
     }
 
+    protected MetaGenericTypeResolver newMetaGenericTypeResolver() {
+        return new MetaGenericTypeResolver();
+    }
+
+    // ===================================================================================
+    //                                                                              Option
+    //                                                                              ======
+    /**
+     * Intern type meta per analyzed action so that duplicate subtrees are released early. <br>
+     * The interned meta is shared so it should be read-only after analyzing.
+     * @param typeDocMetaInterner The interner of type meta. (NotNull)
+     * @return this. (NotNull)
+     */
+    public ActionDocumentAnalyzer internTypeDocMeta(TypeDocMetaInterner typeDocMetaInterner) {
+        if (typeDocMetaInterner == null) {
+            throw new IllegalArgumentException("The argument 'typeDocMetaInterner' should not be null.");
+        }
+        this.typeDocMetaInterner = typeDocMetaInterner;
+        return this;
+    }
+
+    /**
+     * Record classes, source files and global inputs consulted in analysis of each action execute.
+     * @param dependencyGraph The graph to register the dependencies. (NotNull)
+     * @return this. (NotNull)
+     */
+    public ActionDocumentAnalyzer recordDependency(MetaDependencyGraph dependencyGraph) {
+        if (dependencyGraph == null) {
+            throw new IllegalArgumentException("The argument 'dependencyGraph' should not be null.");
+        }
+        this.dependencyGraph = dependencyGraph;
+        return this;
+    }
+
     // ===================================================================================
     //                                                                             Analyze
     //                                                                             =======
@@ -107,11 +172,62 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
     //  |-SourceParserReflector                // to use source code information
     // _/_/_/_/_/_/_/_/_/_/
     public List<ActionDocMeta> analyzeAction() { // the list is per execute method
-        return createExecuteMethodCollector().collectActionExecuteList().stream().map(execute -> {
-            return createActionDocMeta(execute);
+        return analyzeAction(actionType -> true);
+    }
+
+    /**
+     * Analyze only the determined actions, e.g. affected by source changes. <br>
+     * The other actions are collected but not analyzed so it is lighter than all analysis.
+     * @param actionTypeDeterminer The determiner of action type to be analyzed. (NotNull)
+     * @return The list of action meta per execute method of the determined actions. (NotNull)
+     */
+    public List<ActionDocMeta> analyzeAction(Predicate<Class<?>> actionTypeDeterminer) {
+        return analyzeSelectedExecute(execute -> actionTypeDeterminer.test(execute.getActionType()));
+    }
+
+    /**
+     * Analyze only the selected execute methods, e.g. by URL prefix for on-demand swagger. <br>
+     * The selection is before analysis so the other execute methods cost only discovery.
+     * @param executeSelector The selector of action execute to be analyzed, can use deriveActionUrl(). (NotNull)
+     * @return The list of action meta per selected execute method. (NotNull)
+     */
+    public List<ActionDocMeta> analyzeSelectedExecute(Predicate<ActionExecute> executeSelector) {
+        final List<ActionExecute> executeList = MetaGenerationMetrics.measurePhase(MetaGenerationPhase.ACTION_DISCOVERY, () -> {
+            final ExecuteMethodCollector collector = createExecuteMethodCollector();
+            final List<ActionExecute> collectedList = collector.collectActionExecuteList();
+            latestDiscoveryStats = collector.getDiscoveryStats();
+            return collectedList;
+        });
+        MetaGenerationMetrics.countUp(MetaGenerationCounter.DISCOVERED_ACTION, latestDiscoveryStats.getActionCount());
+        return executeList.stream().filter(execute -> {
+            return executeSelector.test(execute);
+        }).map(execute -> {
+            return analyzeExecute(() -> createActionDocMeta(execute));
         }).collect(Collectors.toList());
     }
 
+    protected ActionDocMeta analyzeExecute(Supplier<ActionDocMeta> metaCreator) {
+        final ActionDocMeta actionDocMeta = MetaGenerationMetrics.measurePhase(MetaGenerationPhase.ACTION_ANALYSIS, () -> {
+            if (dependencyGraph != null) {
+                final MetaDependencyRecorder recorder = newMetaDependencyRecorder();
+                final ActionDocMeta recordedMeta = recorder.recordWithin(metaCreator);
+                dependencyGraph.register(recordedMeta, recorder);
+                return recordedMeta;
+            } else {
+                return metaCreator.get();
+            }
+        });
+        MetaGenerationMetrics.countUp(MetaGenerationCounter.ACTION_EXECUTE, 1L);
+        if (typeDocMetaInterner != null) { // per action to keep peak memory small
+            typeDocMetaInterner.internActionDocMeta(actionDocMeta);
+        }
+        return actionDocMeta;
+    }
+
+    protected MetaDependencyRecorder newMetaDependencyRecorder() {
+        return new MetaDependencyRecorder();
+    }
+
     protected ExecuteMethodCollector createExecuteMethodCollector() {
         return new ExecuteMethodCollector(srcDirList, sourceParserReflector, execute -> {
             return exceptsActionExecute(execute);
@@ -122,6 +238,48 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
         return false;
     }
 
+    /**
+     * Get the statistics of the latest action discovery with container, e.g. to find slow stage. <br>
+     * The discovered action count is also counted in generation metrics as DISCOVERED_ACTION.
+     * @return The optional statistics of action discovery. (NotNull, EmptyAllowed: before analysis with container)
+     */
+    public OptionalThing<ActionDiscoveryStats> getLatestDiscoveryStats() {
+        return OptionalThing.ofNullable(latestDiscoveryStats, () -> {
+            throw new IllegalStateException("Not found the discovery stats, action is not analyzed with container yet.");
+        });
+    }
+
+    // -----------------------------------------------------
+    //                                        Container-free
+    //                                        --------------
+    /**
+     * Analyze actions discovered by compiled classes without DI container, so application is not booted. <br>
+     * URL is derived by naming convention and it cannot use ActionExecute so e.g. swagger is not supported.
+     * @param classpathEntryList The list of class directories or jar files containing actions. (NotNull)
+     * @return The list of action meta per execute method. (NotNull)
+     */
+    public List<ActionDocMeta> analyzeActionWithoutContainer(List<Path> classpathEntryList) {
+        // closed after analysis because classes may be loaded lazily in analysis e.g. nested part class
+        try (ScannedExecuteMethodCollector collector = createScannedExecuteMethodCollector(classpathEntryList)) {
+            final List<ScannedActionExecute> executeList = MetaGenerationMetrics.measurePhase(MetaGenerationPhase.ACTION_DISCOVERY, () -> {
+                return collector.collectScannedExecuteList();
+            });
+            return executeList.stream().map(execute -> {
+                return analyzeExecute(() -> createActionDocMeta(execute));
+            }).collect(Collectors.toList());
+        }
+    }
+
+    protected ScannedExecuteMethodCollector createScannedExecuteMethodCollector(List<Path> classpathEntryList) {
+        return new ScannedExecuteMethodCollector(classpathEntryList, sourceParserReflector, execute -> {
+            return exceptsScannedActionExecute(execute);
+        });
+    }
+
+    protected boolean exceptsScannedActionExecute(ScannedActionExecute scannedExecute) { // may be overridden
+        return false;
+    }
+
     // ===================================================================================
     //                                                                      Action DocMeta
     //                                                                      ==============
@@ -134,6 +292,7 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
 
         final Method executeMethod = execute.getExecuteMethod();
         final Class<?> methodDeclaringClass = executeMethod.getDeclaringClass(); // basically same as componentClass
+        MetaDependencyRecorder.recordType(execute.getActionType()); // with super classes
 
         setupClassItem(actionDocMeta, methodDeclaringClass);
         setupFieldItem(actionDocMeta, methodDeclaringClass);
@@ -149,6 +308,28 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
         return actionDocMeta;
     }
 
+    protected ActionDocMeta createActionDocMeta(ScannedActionExecute execute) { // without container
+        final ActionDocMeta actionDocMeta = new ActionDocMeta(); // per execute method
+        actionDocMeta.setUrl(execute.getActionUrl()); // derived by naming convention
+
+        final Method executeMethod = execute.getExecuteMethod();
+        final Class<?> methodDeclaringClass = executeMethod.getDeclaringClass();
+        MetaDependencyRecorder.recordType(execute.getActionClass()); // with super classes
+
+        setupClassItem(actionDocMeta, methodDeclaringClass);
+        setupFieldItem(actionDocMeta, methodDeclaringClass);
+        actionDocMeta.setMethodName(executeMethod.getName()); // no ActionExecute
+        setupAnnotationItem(actionDocMeta, executeMethod, methodDeclaringClass);
+        setupInOutItem(actionDocMeta, execute, executeMethod);
+
+        // extension item (url, return, comment...)
+        sourceParserReflector.ifPresent(sourceParserReflector -> {
+            sourceParserReflector.reflect(actionDocMeta, executeMethod);
+        });
+
+        return actionDocMeta;
+    }
+
     protected UrlChain prepareUrlChain(ActionExecute execute, Class<?> actionClass) {
         final UrlChain urlChain = new UrlChain(actionClass);
         final String urlPattern = execute.getPreparedUrlPattern().getResolvedUrlPattern();
@@ -162,8 +343,21 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
     //                                          Action/Class
     //                                          ------------
     protected void setupActionItem(ActionDocMeta actionDocMeta, Class<?> actionClass, UrlChain urlChain) {
+        actionDocMeta.setUrl(toActionUrl(actionClass, urlChain));
+    }
+
+    /**
+     * @param execute The action execute that has URL pattern. (NotNull)
+     * @return The URL of the execute method same as action meta, e.g. /product/list/{pageNumber} (NotNull)
+     */
+    public String deriveActionUrl(ActionExecute execute) { // light, without analysis
+        final Class<?> actionClass = execute.getActionMapping().getActionDef().getComponentClass();
+        return toActionUrl(actionClass, prepareUrlChain(execute, actionClass));
+    }
+
+    protected String toActionUrl(Class<?> actionClass, UrlChain urlChain) {
         final ActionPathResolver actionPathResolver = ContainerUtil.getComponent(ActionPathResolver.class);
-        actionDocMeta.setUrl(actionPathResolver.toActionUrl(actionClass, urlChain));
+        return actionPathResolver.toActionUrl(actionClass, urlChain);
     }
 
     protected void setupClassItem(ActionDocMeta actionDocMeta, Class<?> methodDeclaringClass) {
@@ -177,17 +371,18 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
     //                                          ------------
     protected void setupFieldItem(ActionDocMeta actionDocMeta, Class<?> methodDeclaringClass) {
         // #thinking jflute does it contain private DI fields? needed? (2021/06/26)
-        actionDocMeta.setFieldTypeDocMetaList(Arrays.stream(methodDeclaringClass.getDeclaredFields()).map(field -> {
+        actionDocMeta.setFieldTypeDocMetaList(metaReflectionCache.findDeclaredFieldList(methodDeclaringClass).stream().map(field -> {
             final TypeDocMeta typeDocMeta = new TypeDocMeta();
 
             // #thinking jflute maybe this is for sastruts style, already unneeded? (2021/06/26)
             typeDocMeta.setName(formFieldNameAdjuster.adjustFieldName(methodDeclaringClass, field));
             typeDocMeta.setPublicName(formFieldNameAdjuster.adjustPublicFieldName(/*clazz*/null, field)); // why null?
 
+            final MetaFieldReflection fieldReflection = metaReflectionCache.findFieldReflection(field);
             typeDocMeta.setType(field.getType());
-            typeDocMeta.setTypeName(adjustTypeName(field.getGenericType()));
-            typeDocMeta.setSimpleTypeName(adjustSimpleTypeName((field.getGenericType())));
-            typeDocMeta.setAnnotationTypeList(Arrays.asList(field.getAnnotations()));
+            typeDocMeta.setTypeName(adjustTypeName(fieldReflection.getGenericType()));
+            typeDocMeta.setSimpleTypeName(adjustSimpleTypeName((fieldReflection.getGenericType())));
+            typeDocMeta.setAnnotationTypeList(fieldReflection.getAnnotationList());
             typeDocMeta.setAnnotationList(arrangeAnnotationList(typeDocMeta.getAnnotationTypeList()));
 
             sourceParserReflector.ifPresent(sourceParserReflector -> {
@@ -207,7 +402,7 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
     //                                            ----------
     protected void setupAnnotationItem(ActionDocMeta actionDocMeta, Method executeMethod, Class<?> methodDeclaringClass) {
         final List<Annotation> annotationList = DfCollectionUtil.newArrayList();
-        annotationList.addAll(Arrays.asList(methodDeclaringClass.getAnnotations()));
+        annotationList.addAll(metaReflectionCache.findAnnotationList(methodDeclaringClass));
         annotationList.addAll(Arrays.asList(executeMethod.getAnnotations()));
         actionDocMeta.setAnnotationTypeList(annotationList); // contains both action and execute method
         actionDocMeta.setAnnotationList(arrangeAnnotationList(annotationList));
@@ -231,6 +426,24 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
         actionDocMeta.setReturnTypeDocMeta(analyzeReturnClass(executeMethod));
     }
 
+    protected void setupInOutItem(ActionDocMeta actionDocMeta, ScannedActionExecute execute, Method executeMethod) {
+        final List<TypeDocMeta> parameterTypeDocMetaList = DfCollectionUtil.newArrayList();
+        Arrays.stream(executeMethod.getParameters()).filter(parameter -> {
+            return !execute.isFormParameter(parameter);
+        }).forEach(parameter -> { // except form parameter here
+            actionDocMeta.setUrl(buildNewActionUrl(actionDocMeta, parameter));
+            parameterTypeDocMetaList.add(analyzeMethodParameter(parameter));
+        });
+        actionDocMeta.setParameterTypeDocMetaList(parameterTypeDocMetaList);
+        execute.getSymbolFormType().ifPresent(symbolFormType -> {
+            final Class<?> formType = execute.getFormType().get();
+            final TypeDocMeta formTypeDocMeta =
+                    createExecuteFormTypeAnalyzer().analyzeFormType(symbolFormType, execute.getListFormParameterizedType(), formType);
+            actionDocMeta.setFormTypeDocMeta(formTypeDocMeta);
+        });
+        actionDocMeta.setReturnTypeDocMeta(analyzeReturnClass(executeMethod));
+    }
+
     protected String buildNewActionUrl(ActionDocMeta actionDocMeta, Parameter parameter) {
         final StringBuilder builder = new StringBuilder();
         builder.append("{").append(parameter.getName()).append("}");
@@ -257,7 +470,7 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
 
     protected ExecuteFormTypeAnalyzer createExecuteFormTypeAnalyzer() {
         return new ExecuteFormTypeAnalyzer(depth, sourceParserReflector, metaAnnotationArranger, metaTypeNameAdjuster,
-                formFieldNameAdjuster);
+                formFieldNameAdjuster, metaGenericTypeResolver);
     }
 
     // -----------------------------------------------------
@@ -269,7 +482,7 @@ public class ActionDocumentAnalyzer extends BaseDocumentAnalyzer {
 
     protected ExecuteReturnTypeAnalyzer createExecuteReturnTypeAnalyzer() {
         return new ExecuteReturnTypeAnalyzer(depth, sourceParserReflector, metaAnnotationArranger, metaTypeNameAdjuster,
-                nativeDataTypeProvider, formFieldNameAdjuster);
+                nativeDataTypeProvider, formFieldNameAdjuster, metaGenericTypeResolver);
     }
 
     // ===================================================================================
@@ -20,6 +20,7 @@ import java.lang.reflect.Type;
 import java.util.List;
 
 import org.lastaflute.meta.document.parts.annotation.MetaAnnotationArranger;
+import org.lastaflute.meta.document.parts.reflection.MetaReflectionCache;
 import org.lastaflute.meta.document.parts.type.MetaTypeNameAdjuster;
 
 /**
@@ -44,6 +45,12 @@ public class BaseDocumentAnalyzer {
         return new MetaAnnotationArranger(metaTypeNameAdjuster);
     }
 
+    protected final MetaReflectionCache metaReflectionCache = newMetaReflectionCache(); // shared by ClassValue
+
+    protected MetaReflectionCache newMetaReflectionCache() {
+        return new MetaReflectionCache();
+    }
+
     // ===================================================================================
     //                                                                     Adjust TypeName
     //                                                                     ===============
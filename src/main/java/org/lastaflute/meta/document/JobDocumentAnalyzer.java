@@ -15,13 +15,16 @@
  */
 package org.lastaflute.meta.document;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.dbflute.helper.message.ExceptionMessageBuilder;
 import org.dbflute.optional.OptionalThing;
+import org.dbflute.util.Srl;
 import org.lastaflute.core.util.ContainerUtil;
 import org.lastaflute.di.core.exception.ComponentNotFoundException;
 import org.lastaflute.job.JobManager;
@@ -29,7 +32,10 @@ import org.lastaflute.job.LaJob;
 import org.lastaflute.job.LaScheduledJob;
 import org.lastaflute.meta.document.docmeta.JobDocMeta;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+import org.lastaflute.meta.document.parts.job.ScannedJobRegistration;
+import org.lastaflute.meta.document.parts.reflection.MetaFieldReflection;
 import org.lastaflute.meta.sourceparser.SourceParserReflector;
+import org.lastaflute.meta.sourceparser.javaparser.scheduling.JavaparserJobSchedulingScanner;
 
 /**
  * @author p1us2er0
@@ -72,6 +78,40 @@ public class JobDocumentAnalyzer extends BaseDocumentAnalyzer {
         }
     }
 
+    /**
+     * Analyze job meta list from scheduler source without job scheduling. (lightweight) <br>
+     * JobManager is not rebooted so e.g. DB-backed scheduling is not executed. <br>
+     * Only literal values in the source are read, and job key is unique code or simple name of job type.
+     * @return The list of job meta in source order. (NotNull, EmptyAllowed: no scheduler source)
+     */
+    public List<JobDocMeta> analyzeJobDocMetaListWithoutScheduling() {
+        final List<ScannedJobRegistration> registrationList = createJobSchedulingScanner().scanJobRegistrationList();
+        final Map<ScannedJobRegistration, String> jobKeyMap = deriveScannedJobKeyMap(registrationList);
+        return registrationList.stream().map(registration -> {
+            return createJobDocMeta(registration, jobKeyMap);
+        }).collect(Collectors.toList());
+    }
+
+    protected JavaparserJobSchedulingScanner createJobSchedulingScanner() {
+        return new JavaparserJobSchedulingScanner(srcDirList);
+    }
+
+    protected Map<ScannedJobRegistration, String> deriveScannedJobKeyMap(List<ScannedJobRegistration> registrationList) {
+        final Map<ScannedJobRegistration, String> jobKeyMap = new IdentityHashMap<>();
+        final Map<String, Integer> countMap = new HashMap<>();
+        for (ScannedJobRegistration registration : registrationList) {
+            final String baseKey;
+            if (registration.getJobUnique() != null) {
+                baseKey = registration.getJobUnique();
+            } else {
+                baseKey = Srl.substringLastRear(registration.getJobTypeName(), ".", "$");
+            }
+            final int count = countMap.merge(baseKey, 1, Integer::sum);
+            jobKeyMap.put(registration, count > 1 ? baseKey + "_" + count : baseKey); // e.g. SeaJob, SeaJob_2
+        }
+        return jobKeyMap;
+    }
+
     // -----------------------------------------------------
     //                                 JobManager Management
     //                                 ---------------------
@@ -138,25 +178,7 @@ public class JobDocumentAnalyzer extends BaseDocumentAnalyzer {
 
         final Class<? extends LaJob> jobClass = getNoException(() -> job.getJobType());
         if (jobClass != null) {
-            jobDocMeta.setTypeName(jobClass.getName());
-            jobDocMeta.setSimpleTypeName(jobClass.getSimpleName());
-            jobDocMeta.setFieldTypeDocMetaList(Arrays.stream(jobClass.getDeclaredFields()).map(field -> {
-                final TypeDocMeta typeDocMeta = new TypeDocMeta();
-                typeDocMeta.setName(field.getName());
-                typeDocMeta.setType(field.getType());
-                typeDocMeta.setTypeName(adjustTypeName(field.getGenericType()));
-                typeDocMeta.setSimpleTypeName(adjustSimpleTypeName((field.getGenericType())));
-                typeDocMeta.setAnnotationTypeList(Arrays.asList(field.getAnnotations()));
-                typeDocMeta.setAnnotationList(arrangeAnnotationList(typeDocMeta.getAnnotationTypeList()));
-                sourceParserReflector.ifPresent(sourceParserReflector -> {
-                    sourceParserReflector.reflect(typeDocMeta, field.getType());
-                });
-                return typeDocMeta;
-            }).collect(Collectors.toList()));
-            jobDocMeta.setMethodName("run"); // fixedly
-            sourceParserReflector.ifPresent(sourceParserReflector -> {
-                sourceParserReflector.reflect(jobDocMeta, jobClass);
-            });
+            setupJobTypeItem(jobDocMeta, jobClass);
         }
 
         jobDocMeta.setParams(getNoException(() -> {
@@ -171,6 +193,69 @@ public class JobDocumentAnalyzer extends BaseDocumentAnalyzer {
         return jobDocMeta;
     }
 
+    protected JobDocMeta createJobDocMeta(ScannedJobRegistration registration, Map<ScannedJobRegistration, String> jobKeyMap) {
+        final JobDocMeta jobDocMeta = new JobDocMeta();
+
+        jobDocMeta.setJobKey(jobKeyMap.get(registration));
+        jobDocMeta.setJobUnique(registration.getJobUnique());
+        jobDocMeta.setJobTitle(registration.getJobTitle());
+        jobDocMeta.setJobDescription(registration.getJobDescription());
+        jobDocMeta.setCronExp(registration.getCronExp());
+
+        final Class<?> jobClass = findJobClass(registration.getJobTypeName());
+        if (jobClass != null) {
+            setupJobTypeItem(jobDocMeta, jobClass);
+        } else { // e.g. not compiled yet, class items are from source only
+            jobDocMeta.setTypeName(registration.getJobTypeName());
+            jobDocMeta.setSimpleTypeName(Srl.substringLastRear(registration.getJobTypeName(), ".", "$"));
+            jobDocMeta.setMethodName("run"); // fixedly
+        }
+
+        jobDocMeta.setParams(registration.getParams());
+        jobDocMeta.setNoticeLogLevel(registration.getNoticeLogLevel());
+        jobDocMeta.setConcurrentExec(registration.getConcurrentExec());
+        jobDocMeta.setTriggeredJobKeyList(registration.getTriggeredRegistrationList().stream().map(triggered -> {
+            return jobKeyMap.get(triggered);
+        }).collect(Collectors.toList()));
+
+        return jobDocMeta;
+    }
+
+    protected Class<?> findJobClass(String jobTypeName) { // null allowed: not found
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            return Class.forName(jobTypeName, false, classLoader); // without initialization
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            return null;
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                              Job Type
+    //                                              --------
+    protected void setupJobTypeItem(JobDocMeta jobDocMeta, Class<?> jobClass) {
+        jobDocMeta.setTypeName(jobClass.getName());
+        jobDocMeta.setSimpleTypeName(jobClass.getSimpleName());
+        jobDocMeta.setFieldTypeDocMetaList(metaReflectionCache.findDeclaredFieldList(jobClass).stream().map(field -> {
+            final MetaFieldReflection fieldReflection = metaReflectionCache.findFieldReflection(field);
+            final TypeDocMeta typeDocMeta = new TypeDocMeta();
+            typeDocMeta.setName(field.getName());
+            typeDocMeta.setType(field.getType());
+            typeDocMeta.setTypeName(adjustTypeName(fieldReflection.getGenericType()));
+            typeDocMeta.setSimpleTypeName(adjustSimpleTypeName((fieldReflection.getGenericType())));
+            typeDocMeta.setAnnotationTypeList(fieldReflection.getAnnotationList());
+            typeDocMeta.setAnnotationList(arrangeAnnotationList(typeDocMeta.getAnnotationTypeList()));
+            sourceParserReflector.ifPresent(sourceParserReflector -> {
+                sourceParserReflector.reflect(typeDocMeta, field.getType());
+            });
+            return typeDocMeta;
+        }).collect(Collectors.toList()));
+        jobDocMeta.setMethodName("run"); // fixedly
+        sourceParserReflector.ifPresent(sourceParserReflector -> {
+            sourceParserReflector.reflect(jobDocMeta, jobClass);
+        });
+    }
+
     protected <T extends Object> T getNoException(Supplier<T> supplier) {
         try {
             return supplier.get();
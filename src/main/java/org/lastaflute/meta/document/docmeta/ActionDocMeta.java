@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.lastaflute.core.util.Lato;
 import org.lastaflute.meta.document.docmeta.reference.ActionDocReference;
+import org.lastaflute.meta.document.parts.javadoc.MetaJavadoc;
 import org.lastaflute.web.ruts.config.ActionExecute;
 
 /**
@@ -67,6 +68,9 @@ public class ActionDocMeta implements ActionDocReference {
     /** The javadoc of Action class. (NullAllowed: depends on java parser) */
     private String typeComment; // basically extracted by java parser
 
+    /** The parsed model of type comment. (NullAllowed: before loaded) */
+    private transient volatile MetaJavadoc typeCommentJavadoc; // exclude with gson serialize, lazy-loaded
+
     // -----------------------------------------------------
     //                                            Field Item
     //                                            ----------
@@ -85,6 +89,9 @@ public class ActionDocMeta implements ActionDocReference {
     /** The method comment of action execute. e.g. "Let's go to land" (NullAllowed: depends on java parser) */
     private String methodComment; // basically extracted by java parser
 
+    /** The parsed model of method comment. (NullAllowed: before loaded) */
+    private transient volatile MetaJavadoc methodCommentJavadoc; // exclude with gson serialize, lazy-loaded
+
     // -----------------------------------------------------
     //                                       Annotation Item
     //                                       ---------------
@@ -178,6 +185,16 @@ public class ActionDocMeta implements ActionDocReference {
 
     public void setTypeComment(String typeComment) {
         this.typeComment = typeComment;
+        this.typeCommentJavadoc = null; // parsed again by new comment
+    }
+
+    public MetaJavadoc getTypeCommentJavadoc() { // not null, parsed once per comment
+        MetaJavadoc javadoc = typeCommentJavadoc;
+        if (javadoc == null) { // no lock, parsed as the same model even if duplicate
+            javadoc = MetaJavadoc.parse(typeComment);
+            typeCommentJavadoc = javadoc;
+        }
+        return javadoc;
     }
 
     // -----------------------------------------------------
@@ -216,6 +233,16 @@ public class ActionDocMeta implements ActionDocReference {
 
     public void setMethodComment(String methodComment) {
         this.methodComment = methodComment;
+        this.methodCommentJavadoc = null; // parsed again by new comment
+    }
+
+    public MetaJavadoc getMethodCommentJavadoc() { // not null, parsed once per comment
+        MetaJavadoc javadoc = methodCommentJavadoc;
+        if (javadoc == null) { // no lock, parsed as the same model even if duplicate
+            javadoc = MetaJavadoc.parse(methodComment);
+            methodCommentJavadoc = javadoc;
+        }
+        return javadoc;
     }
 
     // -----------------------------------------------------
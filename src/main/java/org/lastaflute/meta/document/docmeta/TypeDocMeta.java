@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.dbflute.util.DfCollectionUtil;
 import org.lastaflute.core.util.Lato;
+import org.lastaflute.meta.document.parts.javadoc.MetaJavadoc;
 import org.lastaflute.meta.document.docmeta.reference.TypeDocReference;
 
 // #hope jflute split this to ParameterTypeDocMeta, ReturnTypeDocMeta for also debug (2022/04/19)
@@ -50,6 +51,9 @@ import org.lastaflute.meta.document.docmeta.reference.TypeDocReference;
  *     |-nest: target field type's fields (and more nestable...)
  *     |-nest: target generic type's fields (and more nestable...)
  * </pre>
+ * The meta may be shared after analysis, e.g. interned same subtree, analysis session, swagger warm-up.
+ * So treat it as read-only after analysis, and use {@link #copyWithType(Class)} to handle it as other type.
+ * (interned meta is frozen, setters throw the exception and lists are unmodifiable)
  * @author p1us2er0
  * @author jflute
  * @since 0.5.0-sp9 (2015/09/18 Friday)
@@ -127,6 +131,12 @@ public class TypeDocMeta implements TypeDocReference {
      */
     private String comment;
 
+    /**
+     * The parsed model of {@link #comment}, lazy-loaded and reset when the comment is changed. (NullAllowed: before loaded)<br>
+     * To transient to exclude with serialize in json.
+     */
+    private transient volatile MetaJavadoc commentJavadoc;
+
     // -----------------------------------------------------
     //                                          Generic Item
     //                                          ------------
@@ -163,6 +173,68 @@ public class TypeDocMeta implements TypeDocReference {
      */
     private List<TypeDocMeta> nestTypeDocMetaList = DfCollectionUtil.newArrayList(); // as default
 
+    // -----------------------------------------------------
+    //                                           Frozen Mark
+    //                                           -----------
+    /**
+     * Is this meta frozen as read-only? e.g. interned meta shared by several parents.<br>
+     * To transient to exclude with serialize in json.
+     */
+    private transient boolean frozen;
+
+    // ===================================================================================
+    //                                                                           Copy Meta
+    //                                                                           =========
+    /**
+     * Copy this meta shallowly with the other type, e.g. generic type of OptionalThing as the type. <br>
+     * The nested meta list and annotations are shared with this meta.
+     * @param type The java class(type) of the copied meta. (NotNull)
+     * @return The new-created meta that has the type. (NotNull)
+     */
+    public TypeDocMeta copyWithType(Class<?> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("The argument 'type' should not be null.");
+        }
+        final TypeDocMeta copied = new TypeDocMeta();
+        copied.name = name;
+        copied.publicName = publicName;
+        copied.type = type;
+        copied.typeName = typeName;
+        copied.simpleTypeName = simpleTypeName;
+        copied.value = value;
+        copied.description = description;
+        copied.comment = comment;
+        copied.commentJavadoc = commentJavadoc; // same comment so reuse parsed one
+        copied.genericType = genericType;
+        copied.annotationTypeList = annotationTypeList;
+        copied.annotationList = annotationList;
+        copied.nestTypeDocMetaList = nestTypeDocMetaList;
+        return copied;
+    }
+
+    // ===================================================================================
+    //                                                                         Freeze Meta
+    //                                                                         ===========
+    /**
+     * Freeze this meta as read-only, e.g. interned meta shared by several parents. <br>
+     * The setters throw the exception after freezing, so lists should be unmodifiable before it.
+     * (the copied meta by {@link #copyWithType(Class)} is not frozen)
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    protected void assertNotFrozen(String propertyName) {
+        if (frozen) {
+            String msg = "Cannot change the frozen meta (shared by several parents): property=" + propertyName + ", type=" + typeName;
+            throw new IllegalStateException(msg);
+        }
+    }
+
     // ===================================================================================
     //                                                                      Basic Override
     //                                                                      ==============
@@ -182,6 +254,7 @@ public class TypeDocMeta implements TypeDocReference {
     }
 
     public void setName(String name) {
+        assertNotFrozen("name");
         this.name = name;
     }
 
@@ -190,6 +263,7 @@ public class TypeDocMeta implements TypeDocReference {
     }
 
     public void setPublicName(String publicName) {
+        assertNotFrozen("publicName");
         this.publicName = publicName;
     }
 
@@ -198,6 +272,7 @@ public class TypeDocMeta implements TypeDocReference {
     }
 
     public void setType(Class<?> type) {
+        assertNotFrozen("type");
         this.type = type;
     }
 
@@ -206,6 +281,7 @@ public class TypeDocMeta implements TypeDocReference {
     }
 
     public void setTypeName(String typeName) {
+        assertNotFrozen("typeName");
         this.typeName = typeName;
     }
 
@@ -214,6 +290,7 @@ public class TypeDocMeta implements TypeDocReference {
     }
 
     public void setSimpleTypeName(String simpleTypeName) {
+        assertNotFrozen("simpleTypeName");
         this.simpleTypeName = simpleTypeName;
     }
 
@@ -225,6 +302,7 @@ public class TypeDocMeta implements TypeDocReference {
     }
 
     public void setValue(String value) {
+        assertNotFrozen("value");
         this.value = value;
     }
 
@@ -233,6 +311,7 @@ public class TypeDocMeta implements TypeDocReference {
     }
 
     public void setDescription(String description) {
+        assertNotFrozen("description");
         this.description = description;
     }
 
@@ -241,7 +320,18 @@ public class TypeDocMeta implements TypeDocReference {
     }
 
     public void setComment(String comment) {
+        assertNotFrozen("comment");
         this.comment = comment;
+        this.commentJavadoc = null; // parsed again by new comment
+    }
+
+    public MetaJavadoc getCommentJavadoc() { // not null, parsed once per comment
+        MetaJavadoc javadoc = commentJavadoc;
+        if (javadoc == null) { // no lock, parsed as the same model even if duplicate
+            javadoc = MetaJavadoc.parse(comment);
+            commentJavadoc = javadoc;
+        }
+        return javadoc;
     }
 
     // -----------------------------------------------------
@@ -252,6 +342,7 @@ public class TypeDocMeta implements TypeDocReference {
     }
 
     public void setGenericType(Class<?> genericType) {
+        assertNotFrozen("genericType");
         this.genericType = genericType;
     }
 
@@ -263,6 +354,7 @@ public class TypeDocMeta implements TypeDocReference {
     }
 
     public void setAnnotationTypeList(List<Annotation> annotationTypeList) {
+        assertNotFrozen("annotationTypeList");
         this.annotationTypeList = annotationTypeList;
     }
 
@@ -271,6 +363,7 @@ public class TypeDocMeta implements TypeDocReference {
     }
 
     public void setAnnotationList(List<String> annotationList) {
+        assertNotFrozen("annotationList");
         this.annotationList = annotationList;
     }
 
@@ -282,6 +375,7 @@ public class TypeDocMeta implements TypeDocReference {
     }
 
     public void setNestTypeDocMetaList(List<TypeDocMeta> nestTypeDocMetaList) {
+        assertNotFrozen("nestTypeDocMetaList");
         this.nestTypeDocMetaList = nestTypeDocMetaList;
     }
 }
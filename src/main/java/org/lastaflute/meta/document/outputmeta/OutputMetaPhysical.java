@@ -23,7 +23,23 @@ import java.nio.file.Paths;
  * @author jflute
  * @since 0.5.1 (2021/05/30 Sunday)
  */
-public class OutputMetaPhysical { // precondition: current directory is project root
+public class OutputMetaPhysical { // precondition: current directory is project root (if no base)
+
+    /** The path of project root as base of output, e.g. for build tool. (NullAllowed: current directory) */
+    protected Path projectRootPath;
+
+    /**
+     * Base output paths on the project root instead of current directory, e.g. for module build in reactor.
+     * @param projectRootPath The path of project root that has pom.xml or build.gradle. (NotNull)
+     * @return this. (NotNull)
+     */
+    public OutputMetaPhysical baseOnProjectRoot(Path projectRootPath) {
+        if (projectRootPath == null) {
+            throw new IllegalArgumentException("The argument 'projectRootPath' should not be null.");
+        }
+        this.projectRootPath = projectRootPath;
+        return this;
+    }
 
     public Path getLastaDocJsonPath() { // relative from project root
         return Paths.get(getOutputMetaDir(), "analyzed-lastadoc.json");
@@ -33,10 +49,42 @@ public class OutputMetaPhysical { // precondition: current directory is project
         return Paths.get(getOutputMetaDir(), "swagger.json");
     }
 
-    public String getOutputMetaDir() { // precondition: current directory is project root
-        if (new File("./pom.xml").exists()) {
-            return "./target/lastadoc/";
+    public Path getSwaggerIndexJsonPath() { // relative from project root
+        return Paths.get(getOutputMetaDir(), "swagger-index.json");
+    }
+
+    public Path getSwaggerShardJsonPath(String tag) { // relative from project root
+        return Paths.get(getOutputMetaDir(), getSwaggerShardLocation(tag));
+    }
+
+    public String getSwaggerShardLocation(String tag) { // relative from output meta directory, e.g. for index
+        return getSwaggerShardDirName() + "/" + toSwaggerShardFileName(tag);
+    }
+
+    public Path getSwaggerShardDir() { // relative from project root
+        return Paths.get(getOutputMetaDir(), getSwaggerShardDirName());
+    }
+
+    protected String getSwaggerShardDirName() {
+        return "swagger-shard";
+    }
+
+    public String toSwaggerShardFileName(String tag) { // tag is from URL segment but filtered just in case
+        if (tag == null) {
+            throw new IllegalArgumentException("The argument 'tag' should not be null.");
+        }
+        return tag.replaceAll("[^A-Za-z0-9_.\\-]", "_") + ".json";
+    }
+
+    public Path getDependencyGraphJsonPath() { // relative from project root
+        return Paths.get(getOutputMetaDir(), "lastadoc-dependency.json");
+    }
+
+    public String getOutputMetaDir() { // precondition: current directory is project root (if no base)
+        final String rootPrefix = projectRootPath != null ? projectRootPath.toString() + "/" : "./";
+        if (new File(rootPrefix + "pom.xml").exists()) {
+            return rootPrefix + "target/lastadoc/";
         }
-        return "./build/lastadoc/"; // for e.g. Gradle
+        return rootPrefix + "build/lastadoc/"; // for e.g. Gradle
     }
 }
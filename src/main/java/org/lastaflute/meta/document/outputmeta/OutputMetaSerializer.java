@@ -15,11 +15,27 @@
  */
 package org.lastaflute.meta.document.outputmeta;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.nio.charset.Charset;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.lastaflute.meta.infra.json.MetaOutputFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author jflute
@@ -27,6 +43,13 @@ import java.nio.file.Path;
  */
 public class OutputMetaSerializer { // precondition: current directory is project root
 
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(OutputMetaSerializer.class);
+
+    protected static final String CONTENT_DIGEST_ALGORITHM = "SHA-256";
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
@@ -36,21 +59,112 @@ public class OutputMetaSerializer { // precondition: current directory is projec
         return new OutputMetaPhysical();
     }
 
+    /** The format of JSON saved by this, pretty for committed files as default. (NotNull) */
+    protected MetaOutputFormat outputFormat = MetaOutputFormat.PRETTY;
+
+    // ===================================================================================
+    //                                                                              Option
+    //                                                                              ======
+    /**
+     * @param outputFormat The format of JSON to be saved, which generators render by. (NotNull)
+     * @return this. (NotNull)
+     */
+    public OutputMetaSerializer formatOutput(MetaOutputFormat outputFormat) {
+        if (outputFormat == null) {
+            throw new IllegalArgumentException("The argument 'outputFormat' should not be null.");
+        }
+        this.outputFormat = outputFormat;
+        return this;
+    }
+
+    /**
+     * @param projectRootPath The path of project root as base of output, e.g. for build tool. (NotNull)
+     * @return this. (NotNull)
+     */
+    public OutputMetaSerializer baseOnProjectRoot(Path projectRootPath) {
+        analyzedMetaPhysical.baseOnProjectRoot(projectRootPath);
+        return this;
+    }
+
     // ===================================================================================
     //                                                                           Save Meta
     //                                                                           =========
     public void saveLastaDocMeta(String json) {
-        doSaveOutputMeta(json, analyzedMetaPhysical.getLastaDocJsonPath());
+        saveLastaDocMetaIfChanged(json);
     }
 
     public void saveSwaggerMeta(String json) {
-        doSaveOutputMeta(json, analyzedMetaPhysical.getSwaggerJsonPath());
+        saveSwaggerMetaIfChanged(json);
+    }
+
+    // saving methods "IfChanged" return true if the file is written (changed),
+    // false if skipped because the content is same as existing file (timestamp is not touched)
+    public boolean saveLastaDocMetaIfChanged(String json) {
+        return doSaveOutputMeta(json, analyzedMetaPhysical.getLastaDocJsonPath());
+    }
+
+    public boolean saveSwaggerMetaIfChanged(String json) {
+        return doSaveOutputMeta(json, analyzedMetaPhysical.getSwaggerJsonPath());
+    }
+
+    public boolean saveSwaggerShardMetaIfChanged(String tag, String json) {
+        return doSaveOutputMeta(json, analyzedMetaPhysical.getSwaggerShardJsonPath(tag));
     }
 
-    protected void doSaveOutputMeta(String json, Path path) {
+    public boolean saveSwaggerIndexMetaIfChanged(String json) {
+        return doSaveOutputMeta(json, analyzedMetaPhysical.getSwaggerIndexJsonPath());
+    }
+
+    /**
+     * Delete shard files of tags that no longer exist, the other shard files are kept (overwritten by saving).
+     * @param aliveTags The collection of tags whose shard files are alive. (NotNull)
+     * @return true if some files are deleted.
+     */
+    public boolean deleteStaleSwaggerShardMeta(Collection<String> aliveTags) {
+        if (aliveTags == null) {
+            throw new IllegalArgumentException("The argument 'aliveTags' should not be null.");
+        }
+        final Path shardDir = analyzedMetaPhysical.getSwaggerShardDir();
+        if (!Files.isDirectory(shardDir)) {
+            return false;
+        }
+        final Set<String> aliveFileNameSet = new HashSet<>();
+        for (String tag : aliveTags) {
+            aliveFileNameSet.add(analyzedMetaPhysical.toSwaggerShardFileName(tag));
+        }
+        final List<Path> staleList;
+        try (Stream<Path> stream = Files.list(shardDir)) {
+            staleList = stream.filter(path -> path.getFileName().toString().endsWith(".json"))
+                    .filter(path -> !aliveFileNameSet.contains(path.getFileName().toString()))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to list the shard directory: " + shardDir, e);
+        }
+        staleList.forEach(path -> doDeleteOutputMeta(path));
+        return !staleList.isEmpty();
+    }
+
+    protected void doDeleteOutputMeta(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to delete the file: " + path, e);
+        }
+    }
+
+    public boolean saveDependencyGraphMetaIfChanged(String json) {
+        return doSaveOutputMeta(json, analyzedMetaPhysical.getDependencyGraphJsonPath());
+    }
+
+    protected boolean doSaveOutputMeta(String json, Path path) {
         if (json == null) {
             throw new IllegalArgumentException("The argument 'json' should not be null.");
         }
+        final byte[] contentBytes = json.getBytes(StandardCharsets.UTF_8);
+        if (isSameAsExistingMeta(contentBytes, path)) { // not to re-trigger watchers e.g. client code generation
+            logger.debug("...Skipping the unchanged output meta: {}", path);
+            return false;
+        }
         final Path parentPath = path.getParent();
         if (!Files.exists(parentPath)) {
             try {
@@ -60,10 +174,99 @@ public class OutputMetaSerializer { // precondition: current directory is projec
             }
         }
 
-        try (BufferedWriter bw = Files.newBufferedWriter(path, Charset.forName("UTF-8"))) {
-            bw.write(json);
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to write the json to the file: " + path, e);
+        // written to temporary file and moved so that readers (e.g. build tools) never see half-written file
+        // (unique temporary file per saving so that concurrent generations do not write the same file)
+        final Path tempPath = resolveTempOutputMeta(path);
+        try {
+            try { // default attributes (umask) as plain writing, createTempFile() makes owner-only file
+                Files.write(tempPath, contentBytes, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to write the json to the file: " + tempPath, e);
+            }
+            moveOutputMeta(tempPath, path);
+        } finally {
+            deleteTempOutputMeta(tempPath); // remains if failed
+        }
+        return true;
+    }
+
+    protected Path resolveTempOutputMeta(Path path) { // same directory for atomic move
+        return path.resolveSibling(path.getFileName() + "." + UUID.randomUUID() + ".tmp");
+    }
+
+    protected void deleteTempOutputMeta(Path tempPath) {
+        try {
+            Files.deleteIfExists(tempPath);
+        } catch (IOException e) { // not fatal, only garbage
+            logger.debug("Failed to delete the temporary file: {}", tempPath, e);
+        }
+    }
+
+    protected void moveOutputMeta(Path tempPath, Path path) {
+        try {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) { // e.g. atomic move is not supported by the file system
+            try {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException continued) {
+                continued.addSuppressed(e);
+                throw new IllegalStateException("Failed to move the json to the file: " + path, continued);
+            }
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                        Content Digest
+    //                                        --------------
+    protected boolean isSameAsExistingMeta(byte[] contentBytes, Path path) {
+        if (!Files.isRegularFile(path)) {
+            return false;
         }
+        try {
+            if (Files.size(path) != contentBytes.length) { // quick check without reading
+                return false;
+            }
+            return Arrays.equals(digestContent(contentBytes), digestExistingMeta(path));
+        } catch (IOException e) { // treated as changed so rewritten
+            logger.debug("Failed to read the existing output meta: {}", path, e);
+            return false;
+        }
+    }
+
+    protected byte[] digestContent(byte[] contentBytes) {
+        final MessageDigest digest = newContentDigest();
+        digest.update(contentBytes);
+        return digest.digest();
+    }
+
+    protected byte[] digestExistingMeta(Path path) throws IOException {
+        final MessageDigest digest = newContentDigest();
+        try (InputStream ins = Files.newInputStream(path)) {
+            final byte[] buffer = new byte[8192];
+            int length;
+            while ((length = ins.read(buffer)) >= 0) {
+                digest.update(buffer, 0, length);
+            }
+        }
+        return digest.digest();
+    }
+
+    protected MessageDigest newContentDigest() {
+        try {
+            return MessageDigest.getInstance(CONTENT_DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) { // no way, SHA-256 is always supported
+            throw new IllegalStateException("Not found the digest algorithm: " + CONTENT_DIGEST_ALGORITHM, e);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public MetaOutputFormat getOutputFormat() {
+        return outputFormat;
+    }
+
+    public String getSwaggerShardLocation(String tag) { // relative from output meta directory
+        return analyzedMetaPhysical.getSwaggerShardLocation(tag);
     }
 }
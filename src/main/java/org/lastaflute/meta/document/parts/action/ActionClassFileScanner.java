@@ -0,0 +1,214 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.action;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.dbflute.helper.message.ExceptionMessageBuilder;
+
+/**
+ * The scanner of compiled action classes (class files or jars) without DI container. <br>
+ * It reads constant pool of class file to find concrete action classes that refer @Execute,
+ * so classes are not loaded (initialized) for the determination.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class ActionClassFileScanner {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String ACTION_CLASS_SUFFIX = "Action.class";
+    protected static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+    protected static final int ACC_INTERFACE = 0x0200;
+    protected static final int ACC_ABSTRACT = 0x0400;
+
+    /** The descriptor of @Execute in constant pool. */
+    protected static final byte[] EXECUTE_DESCRIPTOR = "Lorg/lastaflute/web/Execute;".getBytes(StandardCharsets.UTF_8);
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<Path> classpathEntryList; // not null, directory or jar file
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public ActionClassFileScanner(List<Path> classpathEntryList) {
+        this.classpathEntryList = classpathEntryList;
+    }
+
+    // ===================================================================================
+    //                                                                                Scan
+    //                                                                                ====
+    /**
+     * @return The sorted list of FQCN of concrete action classes that have execute methods. (NotNull)
+     */
+    public List<String> scanActionClassNameList() {
+        final TreeSet<String> classNameSet = new TreeSet<>(); // sorted for stable order
+        for (Path entry : classpathEntryList) {
+            if (Files.isDirectory(entry)) {
+                scanDirectory(entry, classNameSet);
+            } else if (Files.isRegularFile(entry) && entry.toString().endsWith(".jar")) {
+                scanJarFile(entry, classNameSet);
+            } // e.g. not found, ignored as classpath does
+        }
+        return new ArrayList<>(classNameSet);
+    }
+
+    protected void scanDirectory(Path rootDir, TreeSet<String> classNameSet) {
+        try (Stream<Path> stream = Files.walk(rootDir)) {
+            stream.filter(path -> isActionClassFileName(path.getFileName().toString())).forEach(path -> {
+                try (InputStream ins = Files.newInputStream(path)) {
+                    if (isConcreteExecuteClass(ins)) {
+                        classNameSet.add(toClassName(rootDir.relativize(path).toString().replace('\\', '/')));
+                    }
+                } catch (IOException e) {
+                    throwClassFileScanFailureException(path.toString(), e);
+                }
+            });
+        } catch (IOException e) {
+            throwClassFileScanFailureException(rootDir.toString(), e);
+        }
+    }
+
+    protected void scanJarFile(Path jarPath, TreeSet<String> classNameSet) {
+        try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+            final Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                final String entryName = entry.getName(); // e.g. org/docksidestage/app/web/SeaAction.class
+                if (entry.isDirectory() || !isActionClassFileName(entryName.substring(entryName.lastIndexOf('/') + 1))) {
+                    continue;
+                }
+                try (InputStream ins = jarFile.getInputStream(entry)) {
+                    if (isConcreteExecuteClass(ins)) {
+                        classNameSet.add(toClassName(entryName));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throwClassFileScanFailureException(jarPath.toString(), e);
+        }
+    }
+
+    protected boolean isActionClassFileName(String fileName) { // e.g. SeaAction.class, not inner class
+        return fileName.endsWith(ACTION_CLASS_SUFFIX) && !fileName.contains("$");
+    }
+
+    protected String toClassName(String classFilePath) { // e.g. org/docksidestage/SeaAction.class
+        return classFilePath.substring(0, classFilePath.length() - ".class".length()).replace('/', '.');
+    }
+
+    protected void throwClassFileScanFailureException(String location, IOException cause) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("Failed to scan the class files for actions.");
+        br.addItem("Location");
+        br.addElement(location);
+        final String msg = br.buildExceptionMessage();
+        throw new IllegalStateException(msg, cause);
+    }
+
+    // ===================================================================================
+    //                                                                      Constant Pool
+    //                                                                      =============
+    /**
+     * Determine the class file is concrete class that refers @Execute by constant pool.
+     * @param ins The input stream of class file, not closed here. (NotNull)
+     * @return true if concrete class referring @Execute.
+     * @throws IOException When it fails to read the stream.
+     */
+    public boolean isConcreteExecuteClass(InputStream ins) throws IOException {
+        final DataInputStream dis = new DataInputStream(ins);
+        if (dis.readInt() != CLASS_FILE_MAGIC) {
+            return false; // not class file
+        }
+        dis.readUnsignedShort(); // minor version
+        dis.readUnsignedShort(); // major version
+        final int constantPoolCount = dis.readUnsignedShort();
+        boolean executeFound = false;
+        for (int i = 1; i < constantPoolCount; i++) {
+            final int tag = dis.readUnsignedByte();
+            switch (tag) {
+            case 1: // Utf8
+                final int length = dis.readUnsignedShort();
+                if (!executeFound && length == EXECUTE_DESCRIPTOR.length) {
+                    final byte[] bytes = new byte[length];
+                    dis.readFully(bytes);
+                    executeFound = Arrays.equals(bytes, EXECUTE_DESCRIPTOR);
+                } else {
+                    skipFully(dis, length);
+                }
+                break;
+            case 3: // Integer
+            case 4: // Float
+            case 9: // Fieldref
+            case 10: // Methodref
+            case 11: // InterfaceMethodref
+            case 12: // NameAndType
+            case 17: // Dynamic
+            case 18: // InvokeDynamic
+                skipFully(dis, 4);
+                break;
+            case 5: // Long
+            case 6: // Double
+                skipFully(dis, 8);
+                ++i; // takes two entries
+                break;
+            case 7: // Class
+            case 8: // String
+            case 16: // MethodType
+            case 19: // Module
+            case 20: // Package
+                skipFully(dis, 2);
+                break;
+            case 15: // MethodHandle
+                skipFully(dis, 3);
+                break;
+            default: // unknown future tag
+                return false; // cannot continue
+            }
+        }
+        final int accessFlags = dis.readUnsignedShort(); // next to constant pool
+        return executeFound && (accessFlags & (ACC_INTERFACE | ACC_ABSTRACT)) == 0;
+    }
+
+    protected void skipFully(DataInputStream dis, int length) throws IOException { // skipBytes() may skip less
+        int remaining = length;
+        while (remaining > 0) {
+            final int skipped = dis.skipBytes(remaining);
+            if (skipped <= 0) {
+                dis.readByte(); // throws EOFException if end
+                --remaining;
+            } else {
+                remaining -= skipped;
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.action;
+
+/**
+ * The statistics of action discovery, counts and elapsed time per stage.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class ActionDiscoveryStats {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected int sourceActionCount; // found by source walk
+    protected int containerOnlyActionCount; // found by only container scan (e.g. in jar)
+    protected int executeCount; // after excepting
+
+    protected long sourceWalkMillis; // finding *Action.java
+    protected long classLoadingMillis; // loading classes of source actions
+    protected long containerScanMillis; // resolving component names from container
+    protected long executeMappingMillis; // collecting executes from action mappings
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final int actionCount = getActionCount();
+        return "{actions=" + actionCount + "(source=" + sourceActionCount + ", containerOnly=" + containerOnlyActionCount + ")" // count
+                + ", executes=" + executeCount // count
+                + ", sourceWalk=" + sourceWalkMillis + "ms, classLoading=" + classLoadingMillis + "ms" // stage
+                + ", containerScan=" + containerScanMillis + "ms, executeMapping=" + executeMappingMillis + "ms}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getActionCount() {
+        return sourceActionCount + containerOnlyActionCount;
+    }
+
+    public int getSourceActionCount() {
+        return sourceActionCount;
+    }
+
+    public void setSourceActionCount(int sourceActionCount) {
+        this.sourceActionCount = sourceActionCount;
+    }
+
+    public int getContainerOnlyActionCount() {
+        return containerOnlyActionCount;
+    }
+
+    public void setContainerOnlyActionCount(int containerOnlyActionCount) {
+        this.containerOnlyActionCount = containerOnlyActionCount;
+    }
+
+    public int getExecuteCount() {
+        return executeCount;
+    }
+
+    public void setExecuteCount(int executeCount) {
+        this.executeCount = executeCount;
+    }
+
+    public long getSourceWalkMillis() {
+        return sourceWalkMillis;
+    }
+
+    public void setSourceWalkMillis(long sourceWalkMillis) {
+        this.sourceWalkMillis = sourceWalkMillis;
+    }
+
+    public long getClassLoadingMillis() {
+        return classLoadingMillis;
+    }
+
+    public void setClassLoadingMillis(long classLoadingMillis) {
+        this.classLoadingMillis = classLoadingMillis;
+    }
+
+    public long getContainerScanMillis() {
+        return containerScanMillis;
+    }
+
+    public void setContainerScanMillis(long containerScanMillis) {
+        this.containerScanMillis = containerScanMillis;
+    }
+
+    public long getExecuteMappingMillis() {
+        return executeMappingMillis;
+    }
+
+    public void setExecuteMappingMillis(long executeMappingMillis) {
+        this.executeMappingMillis = executeMappingMillis;
+    }
+}
@@ -23,17 +23,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.IntStream;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.util.DfCollectionUtil;
 import org.dbflute.util.DfCollectionUtil.AccordingToOrderResource;
-import org.dbflute.util.DfReflectionUtil;
 import org.dbflute.util.DfStringUtil;
-import org.lastaflute.di.core.ComponentDef;
 import org.lastaflute.di.core.LaContainer;
 import org.lastaflute.di.core.factory.SingletonLaContainerFactory;
 import org.lastaflute.meta.sourceparser.SourceParserReflector;
@@ -42,6 +42,8 @@ import org.lastaflute.web.ruts.config.ActionExecute;
 import org.lastaflute.web.ruts.config.ActionMapping;
 import org.lastaflute.web.ruts.config.ModuleConfig;
 import org.lastaflute.web.util.LaModuleConfigUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author jflute
@@ -49,12 +51,22 @@ import org.lastaflute.web.util.LaModuleConfigUtil;
  */
 public class ExecuteMethodCollector {
 
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(ExecuteMethodCollector.class);
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
     protected final List<String> srcDirList; // not null
     protected final OptionalThing<SourceParserReflector> sourceParserReflector; // not null
     protected final Predicate<ActionExecute> exceptingPredicate; // not null, application selection option
+    protected final ActionDiscoveryStats discoveryStats = newActionDiscoveryStats(); // not null, updated by collecting
+
+    protected ActionDiscoveryStats newActionDiscoveryStats() {
+        return new ActionDiscoveryStats();
+    }
 
     // ===================================================================================
     //                                                                         Constructor
@@ -70,9 +82,11 @@ public class ExecuteMethodCollector {
     //                                                                        Execute List
     //                                                                        ============
     public List<ActionExecute> collectActionExecuteList() { // the list is per execute method
+        final List<String> componentNameList = findActionComponentNameList();
+        final long mappingBefore = System.currentTimeMillis();
         final List<ActionExecute> actionExecuteList = new ArrayList<>();
         final ModuleConfig moduleConfig = LaModuleConfigUtil.getModuleConfig(); // to find action mapping
-        findActionComponentNameList().forEach(componentName -> { // per action class
+        componentNameList.forEach(componentName -> { // per action class
             moduleConfig.findActionMapping(componentName).alwaysPresent(actionMapping -> {
                 final List<ActionExecute> candidateExecuteList = new ArrayList<>(actionMapping.getExecuteList());
                 orderBySourceIfPossible(candidateExecuteList, actionMapping);
@@ -81,6 +95,9 @@ public class ExecuteMethodCollector {
                 });
             });
         });
+        discoveryStats.setExecuteMappingMillis(System.currentTimeMillis() - mappingBefore);
+        discoveryStats.setExecuteCount(actionExecuteList.size());
+        logger.debug("...Collecting action executes for document: {}", discoveryStats);
         return actionExecuteList;
     }
 
@@ -88,33 +105,66 @@ public class ExecuteMethodCollector {
     //                                                                      Component Name
     //                                                                      ==============
     protected List<String> findActionComponentNameList() {
-        final List<String> componentNameList = DfCollectionUtil.newArrayList();
+        // insertion-ordered set for O(1) de-duplication, source actions first
+        final Set<String> componentNameSet = new LinkedHashSet<>();
         final LaContainer container = getRootContainer();
+        for (Class<?> actionClass : findSourceActionClassList()) {
+            final String componentName = container.getComponentDef(actionClass).getComponentName();
+            if (componentName != null) {
+                componentNameSet.add(componentName);
+            }
+        }
+        discoveryStats.setSourceActionCount(componentNameSet.size());
+
+        final long scanBefore = System.currentTimeMillis();
+        final int componentDefSize = container.getComponentDefSize();
+        for (int index = 0; index < componentDefSize; index++) { // e.g. actions in jar files
+            final String componentName = container.getComponentDef(index).getComponentName();
+            if (componentName != null && componentName.endsWith("Action")) {
+                componentNameSet.add(componentName);
+            }
+        }
+        discoveryStats.setContainerScanMillis(System.currentTimeMillis() - scanBefore);
+        discoveryStats.setContainerOnlyActionCount(componentNameSet.size() - discoveryStats.getSourceActionCount());
+        return new ArrayList<>(componentNameSet);
+    }
+
+    // -----------------------------------------------------
+    //                                         Source Action
+    //                                         -------------
+    protected List<Class<?>> findSourceActionClassList() { // concrete only, ordered by class name per source directory
+        final long walkBefore = System.currentTimeMillis();
+        final List<String> classNameList = new ArrayList<>();
         srcDirList.stream().filter(srcDir -> Paths.get(srcDir).toFile().exists()).forEach(srcDir -> {
             try (Stream<Path> stream = Files.find(Paths.get(srcDir), Integer.MAX_VALUE, (path, attr) -> {
                 return path.toString().endsWith("Action.java");
             })) {
-                stream.sorted().map(path -> {
-                    final String className = extractActionClassName(path, srcDir);
-                    return DfReflectionUtil.forName(className);
-                }).filter(clazz -> !clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers())).forEach(clazz -> {
-                    final String componentName = container.getComponentDef(clazz).getComponentName();
-                    if (componentName != null && !componentNameList.contains(componentName)) {
-                        componentNameList.add(componentName);
-                    }
-                });
+                // sorting names is enough for stable order, and cheaper than sorting paths
+                stream.map(path -> extractActionClassName(path, srcDir)).sorted().forEach(classNameList::add);
             } catch (IOException e) {
                 throw new IllegalStateException("Failed to find the components: " + srcDir, e);
             }
         });
-        IntStream.range(0, container.getComponentDefSize()).forEach(index -> {
-            final ComponentDef componentDef = container.getComponentDef(index);
-            final String componentName = componentDef.getComponentName();
-            if (componentName.endsWith("Action") && !componentNameList.contains(componentName)) {
-                componentNameList.add(componentDef.getComponentName());
-            }
-        });
-        return componentNameList;
+        discoveryStats.setSourceWalkMillis(System.currentTimeMillis() - walkBefore);
+
+        final long loadingBefore = System.currentTimeMillis();
+        // class loader of current thread because worker threads of parallel stream may have other one
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final List<Class<?>> actionClassList = classNameList.parallelStream().map(className -> { // keeps order
+            return loadActionClass(className, classLoader);
+        }).filter(clazz -> !clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers())).collect(Collectors.toList());
+        discoveryStats.setClassLoadingMillis(System.currentTimeMillis() - loadingBefore);
+        return actionClassList;
+    }
+
+    protected Class<?> loadActionClass(String className, ClassLoader classLoader) {
+        try {
+            // without initialization so safe in parallel (static initializers may lock each other)
+            // and the container initializes them later when it creates the components
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Not found the action class: " + className, e);
+        }
     }
 
     protected LaContainer getRootContainer() {
@@ -155,4 +205,11 @@ public class ExecuteMethodCollector {
         });
         return sourceOrderList;
     }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public ActionDiscoveryStats getDiscoveryStats() { // after collecting
+        return discoveryStats;
+    }
 }
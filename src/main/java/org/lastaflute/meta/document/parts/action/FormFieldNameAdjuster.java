@@ -16,12 +16,17 @@
 package org.lastaflute.meta.document.parts.action;
 
 import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.lastaflute.core.json.JsonMappingOption.JsonFieldNaming;
 import org.lastaflute.core.json.control.JsonControlMeta;
+import org.lastaflute.di.core.factory.SingletonLaContainerFactory;
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyRecorder;
 import org.lastaflute.meta.infra.json.MetauseJsonEngineProvider;
 
 import com.google.gson.FieldNamingPolicy;
+import com.google.gson.FieldNamingStrategy;
 
 /**
  * @author p1us2er0
@@ -31,10 +36,19 @@ import com.google.gson.FieldNamingPolicy;
 public class FormFieldNameAdjuster {
 
     // ===================================================================================
-    //                                                                         Constructor
-    //                                                                         ===========
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final FieldNamingStrategy FIELD_NAME_AS_IS = field -> field.getName();
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
     protected final MetauseJsonEngineProvider metauseJsonEngineProvider;
 
+    // resolved once per adjuster (per generation) to avoid container lookup per property
+    protected volatile FieldNamingStrategy appFieldNamingStrategy; // null allowed: lazy-loaded
+    protected final Map<Field, String> publicFieldNameMap = new ConcurrentHashMap<>(); // translated by app naming
+
     // ===================================================================================
     //                                                                         Constructor
     //                                                                         ===========
@@ -56,17 +70,12 @@ public class FormFieldNameAdjuster {
         }
         // basically JsonBody or JsonResult here
         // (Thymeleaf beans cannot be analyzed as framework so not here)
-        return getAppJsonControlMeta().getMappingControlMeta().flatMap(meta -> {
-            return meta.getFieldNaming().map(naming -> {
-                if (naming == JsonFieldNaming.IDENTITY) {
-                    return FieldNamingPolicy.IDENTITY.translateName(field);
-                } else if (naming == JsonFieldNaming.CAMEL_TO_LOWER_SNAKE) {
-                    return FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES.translateName(field);
-                } else {
-                    return field.getName();
-                }
-            });
-        }).orElse(field.getName());
+        // default naming if no container (e.g. container-free discovery) because the control meta is unknown
+        final FieldNamingStrategy namingStrategy = prepareAppFieldNamingStrategy();
+        if (namingStrategy == null) {
+            return field.getName();
+        }
+        return publicFieldNameMap.computeIfAbsent(field, namingStrategy::translateName);
     }
 
     protected boolean isActionFormComponentType(Class<?> clazz) { // and not JSON body
@@ -81,4 +90,34 @@ public class FormFieldNameAdjuster {
     protected JsonControlMeta getAppJsonControlMeta() {
         return metauseJsonEngineProvider.getAppJsonControlMeta();
     }
+
+    protected FieldNamingStrategy prepareAppFieldNamingStrategy() { // null allowed: no container
+        if (!SingletonLaContainerFactory.hasContainer()) { // e.g. container-free discovery
+            return null;
+        }
+        // recorder is per action so record it every time even if resolved
+        MetaDependencyRecorder.recordGlobalInput(JsonControlMeta.class.getSimpleName()); // field naming depends on it
+        FieldNamingStrategy namingStrategy = appFieldNamingStrategy;
+        if (namingStrategy == null) { // no lock, resolved as the same strategy even if duplicate
+            namingStrategy = resolveAppFieldNamingStrategy(getAppJsonControlMeta());
+            appFieldNamingStrategy = namingStrategy;
+        }
+        return namingStrategy;
+    }
+
+    protected FieldNamingStrategy resolveAppFieldNamingStrategy(JsonControlMeta controlMeta) {
+        return controlMeta.getMappingControlMeta().flatMap(meta -> meta.getFieldNaming()).map(naming -> {
+            return toFieldNamingStrategy(naming);
+        }).orElse(FIELD_NAME_AS_IS);
+    }
+
+    protected FieldNamingStrategy toFieldNamingStrategy(JsonFieldNaming naming) {
+        if (naming == JsonFieldNaming.IDENTITY) {
+            return FieldNamingPolicy.IDENTITY;
+        } else if (naming == JsonFieldNaming.CAMEL_TO_LOWER_SNAKE) {
+            return FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES;
+        } else {
+            return FIELD_NAME_AS_IS;
+        }
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.action;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.dbflute.optional.OptionalThing;
+
+/**
+ * The execute method discovered by class files without DI container. <br>
+ * It has only information derivable from compiled classes, instead of ActionExecute of LastaFlute.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class ScannedActionExecute {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Class<?> actionClass; // not null
+    protected final Method executeMethod; // not null
+    protected final OptionalThing<Parameter> formParameter; // not null, empty allowed
+    protected final String resolvedUrlPattern; // not null, empty allowed e.g. "", "sea/{}"
+    protected final String actionUrl; // not null, e.g. /sea/land/{}
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public ScannedActionExecute(Class<?> actionClass, Method executeMethod, OptionalThing<Parameter> formParameter,
+            String resolvedUrlPattern, String actionUrl) {
+        this.actionClass = actionClass;
+        this.executeMethod = executeMethod;
+        this.formParameter = formParameter;
+        this.resolvedUrlPattern = resolvedUrlPattern;
+        this.actionUrl = actionUrl;
+    }
+
+    // ===================================================================================
+    //                                                                           Form Type
+    //                                                                           =========
+    public boolean isFormParameter(Parameter parameter) {
+        return formParameter.filter(formParam -> formParam.equals(parameter)).isPresent();
+    }
+
+    /**
+     * @return The optional symbol type of form e.g. SeaForm, List (if list body). (NotNull, EmptyAllowed)
+     */
+    public OptionalThing<Class<?>> getSymbolFormType() {
+        return formParameter.map(param -> param.getType());
+    }
+
+    /**
+     * @return The optional parameterized type if list body e.g. List&lt;SeaBody&gt;. (NotNull, EmptyAllowed)
+     */
+    public OptionalThing<Type> getListFormParameterizedType() {
+        return formParameter.filter(param -> isListFormParameter(param)).map(param -> param.getParameterizedType());
+    }
+
+    /**
+     * @return The optional type of form properties e.g. SeaForm, SeaBody (if list body). (NotNull, EmptyAllowed)
+     */
+    public OptionalThing<Class<?>> getFormType() {
+        return formParameter.map(param -> {
+            if (isListFormParameter(param)) {
+                return extractListElementClass(param.getParameterizedType()); // e.g. SeaBody
+            }
+            return param.getType();
+        });
+    }
+
+    protected boolean isListFormParameter(Parameter param) {
+        return List.class.isAssignableFrom(param.getType());
+    }
+
+    protected Class<?> extractListElementClass(Type listType) {
+        if (listType instanceof ParameterizedType) {
+            final Type elementType = ((ParameterizedType) listType).getActualTypeArguments()[0];
+            if (elementType instanceof Class<?>) {
+                return (Class<?>) elementType;
+            }
+        }
+        return Object.class; // basically no way (checked when collected)
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "scanned:{" + actionUrl + ", " + actionClass.getSimpleName() + "@" + executeMethod.getName() + "()}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public Class<?> getActionClass() {
+        return actionClass;
+    }
+
+    public Method getExecuteMethod() {
+        return executeMethod;
+    }
+
+    public OptionalThing<Parameter> getFormParameter() {
+        return formParameter;
+    }
+
+    public String getResolvedUrlPattern() {
+        return resolvedUrlPattern;
+    }
+
+    public String getActionUrl() {
+        return actionUrl;
+    }
+}
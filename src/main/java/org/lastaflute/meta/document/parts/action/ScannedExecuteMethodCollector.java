@@ -0,0 +1,287 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.action;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.util.DfCollectionUtil;
+import org.dbflute.util.DfCollectionUtil.AccordingToOrderResource;
+import org.dbflute.util.Srl;
+import org.lastaflute.meta.sourceparser.SourceParserReflector;
+import org.lastaflute.web.Execute;
+import org.lastaflute.web.ruts.config.analyzer.MethodNameAnalyzer;
+import org.lastaflute.web.ruts.config.analyzer.UrlPatternAnalyzer;
+import org.lastaflute.web.ruts.config.analyzer.UrlPatternAnalyzer.UrlPatternChosenBox;
+import org.lastaflute.web.ruts.config.specifed.SpecifiedUrlPattern;
+
+/**
+ * The collector of execute methods by class files without DI container (so without booting application). <br>
+ * URL is derived by naming convention of LastaFlute, e.g. app.web.sea.SeaLandAction@mystic(int) to /sea/land/mystic/{}. <br>
+ * URL pattern is resolved by analyzers of LastaFlute so it is same as container, but action path is derived here
+ * so it may differ from real URL if the application customizes action adjustment. <br>
+ * Close this after using the collected classes because it opens the class loader for the classpath entries.
+ * (classes not loaded yet cannot be loaded by the closed loader, so basically close it after analysis)
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class ScannedExecuteMethodCollector implements Closeable {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String WEB_PACKAGE_MARK = ".web.";
+    protected static final String ACTION_SUFFIX = "Action";
+    protected static final String ROOT_ACTION_NAME = "Root";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<Path> classpathEntryList; // not null, directory or jar file
+    protected final OptionalThing<SourceParserReflector> sourceParserReflector; // not null
+    protected final Predicate<ScannedActionExecute> exceptingPredicate; // not null, application selection option
+    protected URLClassLoader scanningClassLoader; // null allowed: before collecting or closed
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public ScannedExecuteMethodCollector(List<Path> classpathEntryList, OptionalThing<SourceParserReflector> sourceParserReflector,
+            Predicate<ScannedActionExecute> exceptingPredicate) {
+        this.classpathEntryList = classpathEntryList;
+        this.sourceParserReflector = sourceParserReflector;
+        this.exceptingPredicate = exceptingPredicate;
+    }
+
+    // ===================================================================================
+    //                                                                        Execute List
+    //                                                                        ============
+    public List<ScannedActionExecute> collectScannedExecuteList() { // the list is per execute method
+        final ClassLoader classLoader = prepareClassLoader();
+        final List<ScannedActionExecute> executeList = new ArrayList<>();
+        createActionClassFileScanner().scanActionClassNameList().forEach(className -> { // per action class
+            final Class<?> actionClass = loadActionClass(classLoader, className);
+            final List<Method> executeMethodList = findExecuteMethodList(actionClass);
+            executeMethodList.stream().map(method -> {
+                return createScannedActionExecute(actionClass, method);
+            }).filter(execute -> !exceptingPredicate.test(execute)).forEach(execute -> {
+                executeList.add(execute);
+            });
+        });
+        return executeList;
+    }
+
+    protected ActionClassFileScanner createActionClassFileScanner() {
+        return new ActionClassFileScanner(classpathEntryList);
+    }
+
+    // -----------------------------------------------------
+    //                                          Class Loader
+    //                                          ------------
+    protected ClassLoader prepareClassLoader() { // parent-first so classes on classpath are same instances
+        if (scanningClassLoader == null) { // closed by close() because the classes are used after collecting
+            scanningClassLoader = newScanningClassLoader();
+        }
+        return scanningClassLoader;
+    }
+
+    protected URLClassLoader newScanningClassLoader() {
+        final URL[] urls = classpathEntryList.stream().map(entry -> {
+            try {
+                return entry.toUri().toURL();
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException("Failed to convert the classpath entry to URL: " + entry, e);
+            }
+        }).toArray(URL[]::new);
+        return new URLClassLoader(urls, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Close the class loader for the classpath entries, e.g. to release opened jar files. <br>
+     * The collected classes are still available but their classes not loaded yet cannot be loaded.
+     */
+    @Override
+    public void close() {
+        if (scanningClassLoader != null) {
+            try {
+                scanningClassLoader.close();
+            } catch (IOException ignored) { // only resources are not released, no problem for analysis
+            } finally {
+                scanningClassLoader = null;
+            }
+        }
+    }
+
+    protected Class<?> loadActionClass(ClassLoader classLoader, String className) {
+        try {
+            return Class.forName(className, /*initialize*/false, classLoader); // without static initializer
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new IllegalStateException("Failed to load the action class: " + className, e);
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                        Execute Method
+    //                                        --------------
+    protected List<Method> findExecuteMethodList(Class<?> actionClass) {
+        final List<Method> methodList = Arrays.stream(actionClass.getDeclaredMethods()).filter(method -> {
+            return Modifier.isPublic(method.getModifiers()) && !method.isSynthetic() && method.getAnnotation(Execute.class) != null;
+        }).sorted(Comparator.comparing((Method method) -> method.getName()).thenComparingInt(method -> method.getParameterCount()))
+                .collect(Collectors.toList()); // sorted for stable order (reflection order is random)
+        orderBySourceIfPossible(actionClass, methodList);
+        return methodList;
+    }
+
+    protected void orderBySourceIfPossible(Class<?> actionClass, List<Method> methodList) {
+        sourceParserReflector.ifPresent(reflector -> {
+            final List<Method> sourceOrderList = reflector.getMethodListOrderByDefinition(actionClass).stream().filter(mt -> {
+                return mt.getAnnotation(Execute.class) != null;
+            }).collect(Collectors.toList());
+            if (!sourceOrderList.isEmpty()) {
+                final AccordingToOrderResource<Method, Method> resource = new AccordingToOrderResource<>();
+                resource.setupResource(sourceOrderList, mt -> mt);
+                DfCollectionUtil.orderAccordingTo(methodList, resource); // as source order
+            }
+        });
+    }
+
+    // ===================================================================================
+    //                                                                      Scanned Execute
+    //                                                                      ===============
+    protected ScannedActionExecute createScannedActionExecute(Class<?> actionClass, Method executeMethod) {
+        final OptionalThing<Parameter> formParameter = findFormParameter(executeMethod);
+        final List<Class<?>> pathParamTypeList = Arrays.stream(executeMethod.getParameters()).filter(param -> {
+            return !formParameter.filter(formParam -> formParam.equals(param)).isPresent();
+        }).map(param -> param.getType()).collect(Collectors.toList());
+        final String resolvedUrlPattern = deriveResolvedUrlPattern(executeMethod, pathParamTypeList);
+        final String actionUrl = buildActionUrl(deriveActionPath(actionClass), resolvedUrlPattern);
+        return new ScannedActionExecute(actionClass, executeMethod, formParameter, resolvedUrlPattern, actionUrl);
+    }
+
+    // -----------------------------------------------------
+    //                                        Form Parameter
+    //                                        --------------
+    protected OptionalThing<Parameter> findFormParameter(Method executeMethod) { // same rule as LastaFlute
+        final Parameter found = Arrays.stream(executeMethod.getParameters()).filter(param -> {
+            return isFormType(param.getType()) || isListBodyType(param.getParameterizedType());
+        }).findFirst().orElse(null);
+        return OptionalThing.ofNullable(found, () -> {
+            throw new IllegalStateException("Not found the form parameter: " + executeMethod);
+        });
+    }
+
+    protected boolean isFormType(Class<?> paramType) { // e.g. SeaForm, SeaBody
+        final String simpleName = paramType.getSimpleName();
+        return simpleName.endsWith("Form") || simpleName.endsWith("Body");
+    }
+
+    protected boolean isListBodyType(Type paramType) { // e.g. List<SeaBody>
+        if (!(paramType instanceof ParameterizedType) || !List.class.equals(((ParameterizedType) paramType).getRawType())) {
+            return false;
+        }
+        final Type elementType = ((ParameterizedType) paramType).getActualTypeArguments()[0];
+        return elementType instanceof Class<?> && ((Class<?>) elementType).getSimpleName().endsWith("Body");
+    }
+
+    // -----------------------------------------------------
+    //                                           URL Pattern
+    //                                           -----------
+    // same as ActionExecute of LastaFlute, e.g.
+    //  index() => ""
+    //  index(int) => "{}"
+    //  mystic(int, String) => "mystic/{}/{}"
+    //  get$index(int) => "{}" (RESTful style)
+    //  @Execute(urlPattern = "{}/dockside") dockside(int) => "dockside/{}/dockside"
+    protected String deriveResolvedUrlPattern(Method executeMethod, List<Class<?>> pathParamTypeList) {
+        final String mappingMethodName = newMethodNameAnalyzer().analyzeMappingMethodName(executeMethod); // e.g. get$index => index
+        final String specifiedPattern = executeMethod.getAnnotation(Execute.class).urlPattern();
+        final OptionalThing<SpecifiedUrlPattern> specifiedUrlPattern = SpecifiedUrlPattern.create(specifiedPattern);
+        final UrlPatternChosenBox chosenBox =
+                newUrlPatternAnalyzer().choose(executeMethod, mappingMethodName, specifiedUrlPattern, pathParamTypeList);
+        return chosenBox.getResolvedUrlPattern();
+    }
+
+    protected MethodNameAnalyzer newMethodNameAnalyzer() {
+        return new MethodNameAnalyzer();
+    }
+
+    protected UrlPatternAnalyzer newUrlPatternAnalyzer() {
+        return new UrlPatternAnalyzer();
+    }
+
+    // -----------------------------------------------------
+    //                                           Action Path
+    //                                           -----------
+    // same as reverse URL of LastaFlute (class words only), e.g.
+    //  app.web.RootAction => ""
+    //  app.web.sea.SeaAction => "sea"
+    //  app.web.sea.SeaLandAction => "sea/land"
+    //  app.web.sea.land.SeaLandPiariAction => "sea/land/piari"
+    protected String deriveActionPath(Class<?> actionClass) {
+        final String actionName = Srl.substringLastFront(actionClass.getSimpleName(), ACTION_SUFFIX); // e.g. SeaLand
+        if (ROOT_ACTION_NAME.equals(actionName) && isWebRootPackage(actionClass)) {
+            return "";
+        }
+        return String.join("/", splitCamelWord(actionName)); // e.g. sea/land
+    }
+
+    protected boolean isWebRootPackage(Class<?> actionClass) { // e.g. app.web.RootAction
+        final String fqcn = actionClass.getName();
+        final int webIndex = fqcn.indexOf(WEB_PACKAGE_MARK);
+        return webIndex >= 0 && !fqcn.substring(webIndex + WEB_PACKAGE_MARK.length()).contains(".");
+    }
+
+    protected List<String> splitCamelWord(String camelName) { // e.g. SeaLand => [sea, land]
+        final List<String> wordList = new ArrayList<>();
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < camelName.length(); i++) {
+            final char ch = camelName.charAt(i);
+            if (Character.isUpperCase(ch) && sb.length() > 0) {
+                wordList.add(sb.toString());
+                sb.setLength(0);
+            }
+            sb.append(Character.toLowerCase(ch));
+        }
+        if (sb.length() > 0) {
+            wordList.add(sb.toString());
+        }
+        return wordList;
+    }
+
+    protected String buildActionUrl(String actionPath, String resolvedUrlPattern) { // e.g. /sea/land/mystic/{}
+        final StringBuilder sb = new StringBuilder("/");
+        if (!actionPath.isEmpty()) {
+            sb.append(actionPath).append("/");
+        }
+        sb.append(resolvedUrlPattern); // no trailing slash if pattern exists, same as UrlChain
+        return sb.toString();
+    }
+}
@@ -19,14 +19,15 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
-import java.util.stream.Collector;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
-import org.dbflute.util.DfReflectionUtil;
 import org.lastaflute.meta.document.parts.type.MetaTypeNameAdjuster;
 
 /**
@@ -36,11 +37,29 @@ import org.lastaflute.meta.document.parts.type.MetaTypeNameAdjuster;
  */
 public class MetaAnnotationArranger {
 
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    /** The cache of attribute list per annotation type, ordered by name. (resolved once per type) */
+    protected static final ClassValue<List<MetaAnnotationAttribute>> attributeListValue = new ClassValue<List<MetaAnnotationAttribute>>() {
+        @Override
+        protected List<MetaAnnotationAttribute> computeValue(Class<?> annotationType) {
+            // you can get method of concrete annotation by getDeclaredMethods()
+            return Collections.unmodifiableList(Arrays.stream(annotationType.getDeclaredMethods())
+                    .sorted(Comparator.comparing(method -> method.getName())) // to suppress differences between executions
+                    .map(method -> new MetaAnnotationAttribute(method))
+                    .collect(Collectors.toList()));
+        }
+    };
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
     private final MetaTypeNameAdjuster metaTypeNameAdjuster;
 
+    /** The cache of rendered expression by annotation equality, e.g. same @Required on many fields. */
+    protected final Map<Annotation, String> renderedAnnotationMap = new ConcurrentHashMap<>();
+
     // ===================================================================================
     //                                                                         Constructor
     //                                                                         ===========
@@ -65,26 +84,42 @@ public class MetaAnnotationArranger {
 
         // no re-order for specifed annotation list, order responsibility are on extractor as Lasta Meta policy 
         return annotationList.stream().map(annotation -> {
-            // annotation attributes are treated as methods in reflection world 
-            final Map<String, Object> methodMap = extractAnnotationMethodMap(annotation); // means attributes
-            final String typeName = adjustSimpleTypeName(annotation.annotationType()); // e.g. SeaPark
-            if (methodMap.isEmpty()) { // no attribute
-                return typeName; // e.g. SeaPark
-            }
-            return connectTypeAndAttribute(typeName, methodMap); // e.g. "SeaPark{dockside=over, hangar=mystic}"
+            return renderedAnnotationMap.computeIfAbsent(annotation, key -> renderAnnotation(key));
         }).collect(Collectors.toList());
     }
 
+    protected String renderAnnotation(Annotation annotation) {
+        // annotation attributes are treated as methods in reflection world 
+        final Map<String, Object> methodMap = extractAnnotationMethodMap(annotation); // means attributes
+        final String typeName = adjustSimpleTypeName(annotation.annotationType()); // e.g. SeaPark
+        if (methodMap.isEmpty()) { // no attribute
+            return typeName; // e.g. SeaPark
+        }
+        return connectTypeAndAttribute(typeName, methodMap); // e.g. "SeaPark{dockside=over, hangar=mystic}"
+    }
+
     protected Map<String, Object> extractAnnotationMethodMap(Annotation annotation) {
-        // you can get method of concrete annotation by getDeclaredMethods()
-        return Arrays.stream(annotation.annotationType().getDeclaredMethods())
-                .filter(method -> isValueSpecifiedAttribute(annotation, method))
-                .collect(toMap(annotation));
+        final Map<String, Object> methodMap = new TreeMap<>(); // should be ordered to suppress differences between executions
+        for (MetaAnnotationAttribute attribute : findAttributeList(annotation.annotationType())) {
+            final Object value = attribute.invoke(annotation); // only once per attribute, e.g. shadow (of hangar)
+            if (isValueSpecifiedAttribute(attribute.getMethod(), value, attribute.getDefaultValue())) {
+                methodMap.put(attribute.getName(), convertAttributeValue(value));
+            }
+        }
+        return methodMap;
+    }
+
+    protected List<MetaAnnotationAttribute> findAttributeList(Class<? extends Annotation> annotationType) {
+        return attributeListValue.get(annotationType);
+    }
+
+    protected boolean isValueSpecifiedAttribute(Annotation annotation, Method method) { // for compatible
+        final MetaAnnotationAttribute attribute = findAttribute(annotation, method);
+        return isValueSpecifiedAttribute(method, attribute.invoke(annotation), attribute.getDefaultValue());
     }
 
-    protected boolean isValueSpecifiedAttribute(Annotation annotation, Method method) {
-        final Object value = DfReflectionUtil.invoke(method, annotation, (Object[]) null); // e.g. shadow (of hangar)
-        final Object defaultValue = method.getDefaultValue(); // e.g. mystic (of hangar)
+    protected boolean isValueSpecifiedAttribute(Method method, Object value, Object defaultValue) {
+        // e.g. value is shadow, defaultValue is mystic (of hangar)
         if (isAttributeValueSimpleDefault(value, defaultValue)) { // means non-specified attribute
             return false;
         }
@@ -102,14 +137,11 @@ public class MetaAnnotationArranger {
         return method.getReturnType().isArray() && Arrays.equals((Object[]) value, (Object[]) defaultValue);
     }
 
-    protected Collector<Method, ?, TreeMap<String, Object>> toMap(Annotation annotation) {
-        return Collectors.toMap(method -> method.getName(), method -> {
-            return extractAttributeValue(annotation, method);
-        }, (u, v) -> v, TreeMap::new); // should be ordered to suppress differences between executions
+    protected Object extractAttributeValue(Annotation annotation, Method method) { // for compatible
+        return convertAttributeValue(findAttribute(annotation, method).invoke(annotation));
     }
 
-    protected Object extractAttributeValue(Annotation annotation, Method method) {
-        Object data = DfReflectionUtil.invoke(method, annotation, (Object[]) null); // e.g. shadow (of hangar)
+    protected Object convertAttributeValue(Object data) { // e.g. shadow (of hangar)
         if (data != null && data.getClass().isArray()) {
             // convert array to list and treat classes as simple names
             final List<?> dataList = Arrays.asList((Object[]) data);
@@ -123,6 +155,15 @@ public class MetaAnnotationArranger {
         return data;
     }
 
+    protected MetaAnnotationAttribute findAttribute(Annotation annotation, Method method) {
+        for (MetaAnnotationAttribute attribute : findAttributeList(annotation.annotationType())) {
+            if (attribute.getMethod().equals(method)) {
+                return attribute;
+            }
+        }
+        return new MetaAnnotationAttribute(method); // basically no way
+    }
+
     protected String connectTypeAndAttribute(String typeName, Map<String, Object> methodMap) {
         return typeName + methodMap; // e.g. "SeaPark{dockside=over, hangar=mystic}"
     }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import org.dbflute.helper.message.ExceptionMessageBuilder;
+
+/**
+ * The attribute of annotation type, whose accessor is resolved once as method handle.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaAnnotationAttribute {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Annotation.class);
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Method method; // not null, e.g. hangar() of @SeaPark
+    protected final MethodHandle accessor; // not null, (Annotation)Object
+    protected final Object defaultValue; // null allowed: no default
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public MetaAnnotationAttribute(Method method) {
+        this.method = method;
+        this.accessor = resolveAccessor(method);
+        this.defaultValue = method.getDefaultValue();
+    }
+
+    protected MethodHandle resolveAccessor(Method method) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) { // e.g. non-public annotation type
+            try {
+                method.setAccessible(true);
+                handle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException | RuntimeException continued) {
+                final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+                br.addNotice("Cannot access the annotation attribute.");
+                br.addItem("Attribute Method");
+                br.addElement(method);
+                final String msg = br.buildExceptionMessage();
+                throw new IllegalStateException(msg, continued);
+            }
+        }
+        return handle.asType(ACCESSOR_TYPE);
+    }
+
+    // ===================================================================================
+    //                                                                              Invoke
+    //                                                                              ======
+    public Object invoke(Annotation annotation) { // null allowed
+        try {
+            return (Object) accessor.invokeExact(annotation);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) { // basically no way because attribute method cannot throw
+            throw new IllegalStateException("Failed to invoke the annotation attribute: " + method, e);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "attribute:{" + method.getDeclaringClass().getSimpleName() + "." + method.getName() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public Method getMethod() {
+        return method;
+    }
+
+    public String getName() {
+        return method.getName();
+    }
+
+    public Object getDefaultValue() {
+        return defaultValue;
+    }
+}
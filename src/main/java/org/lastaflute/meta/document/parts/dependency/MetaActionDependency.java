@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.dependency;
+
+import java.util.Set;
+
+/**
+ * The dependency of one action execute, as node of dependency graph.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaActionDependency {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String executeKey; // not null, e.g. org.docksidestage.app.web.SeaAction@index()
+    protected final String actionClassName; // not null, e.g. org.docksidestage.app.web.SeaAction
+    protected final String url; // null allowed (basically not null)
+    protected final Set<String> typeNameSet; // not null, read-only, top-level class names
+    protected final Set<String> sourceFileSet; // not null, read-only
+    protected final Set<String> globalInputSet; // not null, read-only
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public MetaActionDependency(String executeKey, String actionClassName, String url, Set<String> typeNameSet, Set<String> sourceFileSet,
+            Set<String> globalInputSet) {
+        this.executeKey = executeKey;
+        this.actionClassName = actionClassName;
+        this.url = url;
+        this.typeNameSet = typeNameSet;
+        this.sourceFileSet = sourceFileSet;
+        this.globalInputSet = globalInputSet;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{" + executeKey + ", types=" + typeNameSet.size() + ", sources=" + sourceFileSet.size() + ", inputs=" + globalInputSet
+                + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public String getExecuteKey() {
+        return executeKey;
+    }
+
+    public String getActionClassName() {
+        return actionClassName;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Set<String> getTypeNameSet() {
+        return typeNameSet;
+    }
+
+    public Set<String> getSourceFileSet() {
+        return sourceFileSet;
+    }
+
+    public Set<String> getGlobalInputSet() {
+        return globalInputSet;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.dependency;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.dbflute.util.DfCollectionUtil;
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+
+/**
+ * The dependency graph from action executes to classes, source files and global inputs consulted in analysis. <br>
+ * Caches and incremental generation can invalidate exactly affected actions by this,
+ * and build tools can decide whether regeneration is needed by the exported map.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaDependencyGraph {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    public static final String ACTION_DEPENDENCY_LIST_KEY = "actionDependencyList";
+    public static final String SOURCE_FILE_MAP_KEY = "sourceFileMap";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    /** The map of execute key to dependency, keeps registration order. (NotNull) */
+    protected final Map<String, MetaActionDependency> dependencyMap = new LinkedHashMap<>();
+
+    // ===================================================================================
+    //                                                                            Register
+    //                                                                            ========
+    /**
+     * Register the dependency recorded in analysis of the action execute. (overrides existing same execute)
+     * @param actionDocMeta The analyzed meta of action execute. (NotNull)
+     * @param recorder The recorder used in the analysis. (NotNull)
+     */
+    public synchronized void register(ActionDocMeta actionDocMeta, MetaDependencyRecorder recorder) {
+        final String executeKey = buildExecuteKey(actionDocMeta);
+        final String actionClassName = actionDocMeta.getType().getName();
+        dependencyMap.put(executeKey, new MetaActionDependency(executeKey, actionClassName, actionDocMeta.getUrl(), // basic
+                recorder.getTypeNameSet(), recorder.getSourceFileSet(), recorder.getGlobalInputSet()));
+    }
+
+    public static String buildExecuteKey(ActionDocMeta actionDocMeta) { // execute method is not overloaded in LastaFlute
+        return actionDocMeta.getType().getName() + "@" + actionDocMeta.getMethodName() + "()";
+    }
+
+    /**
+     * Remove all dependencies of the action class. (e.g. before re-analysis)
+     * @param actionClassName The FQCN of action class. (NotNull)
+     */
+    public synchronized void removeAction(String actionClassName) {
+        dependencyMap.values().removeIf(dependency -> dependency.getActionClassName().equals(actionClassName));
+    }
+
+    // ===================================================================================
+    //                                                                            Affected
+    //                                                                            ========
+    /**
+     * Find execute keys affected by the changed classes.
+     * @param changedTypeNameSet The set of FQCN of changed top-level classes. (NotNull)
+     * @return The set of affected execute keys. (NotNull, EmptyAllowed)
+     */
+    public synchronized Set<String> findAffectedExecuteKeySet(Set<String> changedTypeNameSet) {
+        final Set<String> affectedSet = new LinkedHashSet<>();
+        for (MetaActionDependency dependency : dependencyMap.values()) {
+            if (dependency.getTypeNameSet().stream().anyMatch(typeName -> changedTypeNameSet.contains(typeName))) {
+                affectedSet.add(dependency.getExecuteKey());
+            }
+        }
+        return affectedSet;
+    }
+
+    /**
+     * Find action classes affected by the changed classes.
+     * @param changedTypeNameSet The set of FQCN of changed top-level classes. (NotNull)
+     * @return The set of FQCN of affected action classes. (NotNull, EmptyAllowed)
+     */
+    public synchronized Set<String> findAffectedActionClassNameSet(Set<String> changedTypeNameSet) {
+        final Set<String> affectedSet = new LinkedHashSet<>();
+        for (MetaActionDependency dependency : dependencyMap.values()) {
+            if (dependency.getTypeNameSet().stream().anyMatch(typeName -> changedTypeNameSet.contains(typeName))) {
+                affectedSet.add(dependency.getActionClassName());
+            }
+        }
+        return affectedSet;
+    }
+
+    /**
+     * Find execute keys depending on the global input.
+     * @param inputName The name of global input, e.g. JsonControlMeta. (NotNull)
+     * @return The set of affected execute keys. (NotNull, EmptyAllowed)
+     */
+    public synchronized Set<String> findGlobalInputDependentExecuteKeySet(String inputName) {
+        final Set<String> affectedSet = new LinkedHashSet<>();
+        for (MetaActionDependency dependency : dependencyMap.values()) {
+            if (dependency.getGlobalInputSet().contains(inputName)) {
+                affectedSet.add(dependency.getExecuteKey());
+            }
+        }
+        return affectedSet;
+    }
+
+    // ===================================================================================
+    //                                                                              Export
+    //                                                                              ======
+    /**
+     * Build the map to export the graph as e.g. JSON. <br>
+     * The source file map has last modified time so that build tools can compare them with current files.
+     * @return The map of graph, which has action dependency list and source file map. (NotNull)
+     */
+    public synchronized Map<String, Object> toExportMap() {
+        final List<Map<String, Object>> actionDependencyList = new ArrayList<>();
+        final Map<String, Object> sourceFileMap = new TreeMap<>(); // sorted for stable output
+        for (MetaActionDependency dependency : dependencyMap.values()) {
+            final Map<String, Object> nodeMap = DfCollectionUtil.newLinkedHashMap();
+            nodeMap.put("executeKey", dependency.getExecuteKey());
+            nodeMap.put("url", dependency.getUrl());
+            nodeMap.put("typeNameList", new ArrayList<>(dependency.getTypeNameSet()));
+            nodeMap.put("sourceFileList", new ArrayList<>(dependency.getSourceFileSet()));
+            nodeMap.put("globalInputList", new ArrayList<>(dependency.getGlobalInputSet()));
+            actionDependencyList.add(nodeMap);
+            for (String sourceFile : dependency.getSourceFileSet()) {
+                sourceFileMap.computeIfAbsent(sourceFile, key -> new File(key).lastModified()); // zero if not found
+            }
+        }
+        final Map<String, Object> exportMap = DfCollectionUtil.newLinkedHashMap();
+        exportMap.put(ACTION_DEPENDENCY_LIST_KEY, actionDependencyList);
+        exportMap.put(SOURCE_FILE_MAP_KEY, sourceFileMap);
+        return exportMap;
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public synchronized List<MetaActionDependency> getDependencyList() {
+        return new ArrayList<>(dependencyMap.values());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.dependency;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The recorder of classes, source files and global inputs consulted during analysis of one action execute. <br>
+ * Analyzers call the static record methods, which do nothing if no recorder is active in the current thread.
+ * <pre>
+ * MetaDependencyRecorder recorder = new MetaDependencyRecorder();
+ * ActionDocMeta meta = recorder.recordWithin(() -&gt; createActionDocMeta(execute));
+ * recorder.getTypeNameSet(); // e.g. SeaAction, SeaBody, SeaResult, CDef
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaDependencyRecorder {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    /** The active recorder in current thread. (value is null allowed: no recording) */
+    protected static final ThreadLocal<MetaDependencyRecorder> activeRecorder = new ThreadLocal<>();
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Set<String> typeNameSet = new LinkedHashSet<>(); // top-level class names (source units)
+    protected final Set<String> sourceFileSet = new LinkedHashSet<>(); // paths of parsed source files
+    protected final Set<String> globalInputSet = new LinkedHashSet<>(); // e.g. JsonControlMeta
+
+    // ===================================================================================
+    //                                                                       Record Within
+    //                                                                       =============
+    /**
+     * Record dependencies consulted in the analysis. (nested recording is restored after it)
+     * @param <RESULT> The type of analysis result.
+     * @param analysis The callback of analysis in current thread. (NotNull)
+     * @return The result of the analysis. (NullAllowed: when the analysis returns null)
+     */
+    public <RESULT> RESULT recordWithin(Supplier<RESULT> analysis) {
+        final MetaDependencyRecorder previous = activeRecorder.get();
+        activeRecorder.set(this);
+        try {
+            return analysis.get();
+        } finally {
+            if (previous != null) {
+                activeRecorder.set(previous);
+            } else {
+                activeRecorder.remove(); // not to leak in thread pool
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                       Static Record
+    //                                                                       =============
+    /**
+     * Record the type and its super classes as dependency if recording.
+     * @param type The consulted type, e.g. form, result, nested bean, enum. (NullAllowed: ignored)
+     */
+    public static void recordType(Class<?> type) {
+        final MetaDependencyRecorder recorder = activeRecorder.get();
+        if (recorder != null) {
+            recorder.addType(type);
+        }
+    }
+
+    /**
+     * Record the source file as dependency if recording.
+     * @param sourceFile The parsed source file. (NotNull)
+     */
+    public static void recordSourceFile(File sourceFile) {
+        final MetaDependencyRecorder recorder = activeRecorder.get();
+        if (recorder != null) {
+            recorder.sourceFileSet.add(sourceFile.getPath().replace('\\', '/'));
+        }
+    }
+
+    /**
+     * Record the global input (not class) as dependency if recording.
+     * @param inputName The name of global input, e.g. JsonControlMeta. (NotNull)
+     */
+    public static void recordGlobalInput(String inputName) {
+        final MetaDependencyRecorder recorder = activeRecorder.get();
+        if (recorder != null) {
+            recorder.globalInputSet.add(inputName);
+        }
+    }
+
+    protected void addType(Class<?> type) { // also super classes
+        Class<?> current = type;
+        while (current != null && !current.isPrimitive() && current != Object.class) {
+            if (current.isArray()) {
+                current = current.getComponentType();
+                continue;
+            }
+            if (isSourceDependency(current)) {
+                typeNameSet.add(toTopLevelClassName(current));
+            }
+            current = current.getSuperclass();
+        }
+    }
+
+    protected boolean isSourceDependency(Class<?> type) { // e.g. not JDK classes
+        final String name = type.getName();
+        return !name.startsWith("java.") && !name.startsWith("javax.");
+    }
+
+    protected String toTopLevelClassName(Class<?> type) { // source file unit, e.g. SeaResult$LandPart => SeaResult
+        Class<?> current = type;
+        while (current.getEnclosingClass() != null) {
+            current = current.getEnclosingClass();
+        }
+        return current.getName();
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public Set<String> getTypeNameSet() {
+        return Collections.unmodifiableSet(typeNameSet);
+    }
+
+    public Set<String> getSourceFileSet() {
+        return Collections.unmodifiableSet(sourceFileSet);
+    }
+
+    public Set<String> getGlobalInputSet() {
+        return Collections.unmodifiableSet(globalInputSet);
+    }
+}
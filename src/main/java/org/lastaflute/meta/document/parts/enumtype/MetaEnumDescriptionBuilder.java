@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.enumtype;
+
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.util.DfStringUtil;
+import org.dbflute.util.DfTypeUtil;
+
+/**
+ * The builder of enum description used by both shared enum metadata and customized enum map list.
+ * <pre>
+ * e.g. "Product Status: * `ONS` - OnSale, On Sale. * `HLD` - Holding. :: fromCls(AppCDef$ProductStatus)"
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaEnumDescriptionBuilder {
+
+    // ===================================================================================
+    //                                                                         Description
+    //                                                                         ===========
+    /**
+     * @param description The description of the property. (NullAllowed: then only enum list)
+     * @param markdownListExp The expression of markdown list built by {@link #buildMarkdownListExp(List)}. (NotNull)
+     * @param enumType The type of enum for server reference. (NotNull)
+     * @return The whole description of the enum property. (NotNull)
+     */
+    public String buildEnumDescription(String description, String markdownListExp, Class<?> enumType) {
+        final StringBuilder sb = new StringBuilder();
+        if (DfStringUtil.is_NotNull_and_NotTrimmedEmpty(description)) {
+            sb.append(description).append(":");
+        }
+        sb.append(markdownListExp);
+        sb.append(" :: fromCls(").append(buildEnumTitle(enumType)).append(")"); // for server reference
+        return sb.toString();
+    }
+
+    /**
+     * @param enumMapList The list of enum map that has name, code, alias. (NotNull)
+     * @return The expression of markdown list e.g. " * `FML` - Formalized, ...". (NotNull, EmptyAllowed)
+     */
+    public String buildMarkdownListExp(List<Map<String, String>> enumMapList) {
+        final StringBuilder sb = new StringBuilder();
+        for (Map<String, String> enumMap : enumMapList) {
+            final String code = enumMap.get("code");
+            final String name = enumMap.get("name");
+            final String alias = enumMap.get("alias");
+            sb.append(" * `").append(code).append("` - ").append(name);
+            if (name == null || alias == null || !name.equals(alias)) {
+                sb.append(", ").append(alias);
+            }
+            sb.append(".");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param enumType The type of enum. (NotNull)
+     * @return The title of the enum class e.g. AppCDef$PublicProductStatus. (NotNull)
+     */
+    public String buildEnumTitle(Class<?> enumType) {
+        return DfTypeUtil.toClassTitle(enumType);
+    }
+}
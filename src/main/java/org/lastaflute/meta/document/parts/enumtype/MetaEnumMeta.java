@@ -0,0 +1,153 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.enumtype;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.jdbc.Classification;
+
+/**
+ * The immutable metadata of enum (or classification) type, computed once per enum class.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaEnumMeta {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Class<?> enumType; // not null
+    protected final boolean classification; // true if CDef
+    protected final List<String> codeList; // not null, read-only, same order as constants
+    protected final List<String> nameList; // not null, read-only
+    protected final List<String> aliasList; // not null, read-only, empty string if non-classification
+    protected final List<Map<String, String>> enumMapList; // not null, read-only, for swagger
+    protected final String valuesExp; // not null, for LastaDoc e.g. {FML = Formalized, PRV = Provisinal}
+    protected final String markdownListExp; // not null, for swagger e.g. " * `FML` - Formalized, ..."
+    protected final String enumTitle; // not null, e.g. AppCDef$PublicProductStatus
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public MetaEnumMeta(Class<?> enumType) {
+        if (enumType == null || !enumType.isEnum()) {
+            throw new IllegalArgumentException("The argument 'enumType' should be enum: " + enumType);
+        }
+        this.enumType = enumType;
+        this.classification = Classification.class.isAssignableFrom(enumType);
+        final Object[] constants = enumType.getEnumConstants();
+        final List<String> codeList = new ArrayList<>(constants.length);
+        final List<String> nameList = new ArrayList<>(constants.length);
+        final List<String> aliasList = new ArrayList<>(constants.length);
+        final List<Map<String, String>> enumMapList = new ArrayList<>(constants.length);
+        for (Object constant : constants) {
+            final String name = ((Enum<?>) constant).name();
+            final String code;
+            final String alias;
+            if (constant instanceof Classification) {
+                code = ((Classification) constant).code();
+                alias = ((Classification) constant).alias();
+            } else {
+                code = name;
+                alias = "";
+            }
+            codeList.add(code);
+            nameList.add(name);
+            aliasList.add(alias);
+            final Map<String, String> enumMap = new LinkedHashMap<>(4);
+            enumMap.put("name", name);
+            enumMap.put("code", code);
+            enumMap.put("alias", alias);
+            enumMapList.add(Collections.unmodifiableMap(enumMap));
+        }
+        this.codeList = Collections.unmodifiableList(codeList);
+        this.nameList = Collections.unmodifiableList(nameList);
+        this.aliasList = Collections.unmodifiableList(aliasList);
+        this.enumMapList = Collections.unmodifiableList(enumMapList);
+        final MetaEnumDescriptionBuilder descriptionBuilder = newMetaEnumDescriptionBuilder();
+        this.valuesExp = buildValuesExp(constants);
+        this.markdownListExp = descriptionBuilder.buildMarkdownListExp(this.enumMapList);
+        this.enumTitle = descriptionBuilder.buildEnumTitle(enumType);
+    }
+
+    protected MetaEnumDescriptionBuilder newMetaEnumDescriptionBuilder() {
+        return new MetaEnumDescriptionBuilder();
+    }
+
+    protected String buildValuesExp(Object[] constants) {
+        if (classification) { // same as toString() of code-alias map (last alias wins if duplicate code)
+            final Map<String, String> codeAliasMap = new LinkedHashMap<>();
+            for (int i = 0; i < codeList.size(); i++) {
+                codeAliasMap.put(codeList.get(i), aliasList.get(i));
+            }
+            return codeAliasMap.toString(); // e.g. {FML = Formalized, PRV = Provisinal, ...}
+        } else {
+            return Arrays.asList(constants).toString(); // e.g. [SEA, LAND, PIARI]
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "enumMeta:{" + enumTitle + ", " + codeList + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public Class<?> getEnumType() {
+        return enumType;
+    }
+
+    public boolean isClassification() {
+        return classification;
+    }
+
+    public List<String> getCodeList() {
+        return codeList;
+    }
+
+    public List<String> getNameList() {
+        return nameList;
+    }
+
+    public List<String> getAliasList() {
+        return aliasList;
+    }
+
+    public List<Map<String, String>> getEnumMapList() {
+        return enumMapList;
+    }
+
+    public String getValuesExp() {
+        return valuesExp;
+    }
+
+    public String getMarkdownListExp() {
+        return markdownListExp;
+    }
+
+    public String getEnumTitle() {
+        return enumTitle;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.enumtype;
+
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyRecorder;
+
+/**
+ * The registry of enum metadata shared by LastaDoc and Swagger. <br>
+ * It is backed by ClassValue (static) so the metadata is computed once per enum class,
+ * and large CDef used in many forms is not walked again.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaEnumRegistry {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final ClassValue<MetaEnumMeta> enumMetaValue = new ClassValue<MetaEnumMeta>() {
+        @Override
+        protected MetaEnumMeta computeValue(Class<?> type) {
+            return new MetaEnumMeta(type);
+        }
+    };
+
+    // ===================================================================================
+    //                                                                           Enum Meta
+    //                                                                           =========
+    /**
+     * @param enumType The type of enum, e.g. CDef.MemberStatus. (NotNull)
+     * @return The cached metadata of the enum. (NotNull)
+     */
+    public MetaEnumMeta findEnumMeta(Class<?> enumType) {
+        if (enumType == null) {
+            throw new IllegalArgumentException("The argument 'enumType' should not be null.");
+        }
+        MetaDependencyRecorder.recordType(enumType); // consulted even if cached
+        return enumMetaValue.get(enumType);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.incremental;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.lastaflute.meta.document.ActionDocumentAnalyzer;
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyGraph;
+import org.lastaflute.meta.infra.watch.SourceChangeWatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The holder of analyzed action meta that re-analyzes only actions affected by source changes. <br>
+ * The first preparation analyzes all actions, and next ones re-analyze actions depending on changed classes.
+ * (comments are always latest, and class structures are latest if the classes are reloaded e.g. by hot deploy)
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class IncrementalActionDocMetaHolder implements Closeable {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(IncrementalActionDocMetaHolder.class);
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final SourceChangeWatcher sourceChangeWatcher; // not null, started
+    protected final MetaDependencyGraph dependencyGraph = newMetaDependencyGraph(); // recorded in analysis
+
+    protected MetaDependencyGraph newMetaDependencyGraph() {
+        return new MetaDependencyGraph();
+    }
+
+    /** The map of action class name to action meta per execute method, keeps first analysis order. (NotNull) */
+    protected final Map<String, List<ActionDocMeta>> actionDocMetaMap = new LinkedHashMap<>();
+
+    /** The set of changed class names not reflected yet, e.g. because of broken source. (NotNull) */
+    protected final Set<String> pendingClassNameSet = new LinkedHashSet<>();
+
+    protected boolean prepared; // true after first analysis
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public IncrementalActionDocMetaHolder(SourceChangeWatcher sourceChangeWatcher) {
+        this.sourceChangeWatcher = sourceChangeWatcher;
+    }
+
+    // ===================================================================================
+    //                                                                             Prepare
+    //                                                                             =======
+    /**
+     * Prepare the list of action meta, analyzing all at first time, or only affected actions after that.
+     * @param analyzerSupplier The supplier of action analyzer, called only when analysis is needed. (NotNull)
+     * @return The list of latest action meta. (NotNull)
+     */
+    public synchronized List<ActionDocMeta> prepareActionDocMetaList(Supplier<ActionDocumentAnalyzer> analyzerSupplier) {
+        if (!prepared) {
+            sourceChangeWatcher.drainChangedClassNameSet(); // already reflected by full analysis
+            final List<ActionDocMeta> actionDocMetaList = analyzerSupplier.get().recordDependency(dependencyGraph).analyzeAction();
+            actionDocMetaList.forEach(meta -> {
+                actionDocMetaMap.computeIfAbsent(meta.getType().getName(), key -> new ArrayList<>()).add(meta);
+            });
+            prepared = true;
+        } else {
+            pendingClassNameSet.addAll(sourceChangeWatcher.drainChangedClassNameSet());
+            if (!pendingClassNameSet.isEmpty()) {
+                refreshAffectedAction(analyzerSupplier.get().recordDependency(dependencyGraph));
+                pendingClassNameSet.clear(); // after success
+            }
+        }
+        return actionDocMetaMap.values().stream().flatMap(metaList -> metaList.stream()).collect(Collectors.toList());
+    }
+
+    // ===================================================================================
+    //                                                                             Refresh
+    //                                                                             =======
+    protected void refreshAffectedAction(ActionDocumentAnalyzer analyzer) {
+        final Set<String> affectedSet = dependencyGraph.findAffectedActionClassNameSet(pendingClassNameSet);
+        pendingClassNameSet.stream().filter(className -> isActionClassName(className)).forEach(affectedSet::add); // new or deleted
+        logger.debug("...Refreshing the affected actions: changed={}, affected={}", pendingClassNameSet, affectedSet);
+        if (affectedSet.isEmpty()) {
+            return;
+        }
+        affectedSet.forEach(actionClassName -> dependencyGraph.removeAction(actionClassName)); // re-recorded in analysis
+        final List<ActionDocMeta> refreshedList = analyzer.analyzeAction(actionType -> affectedSet.contains(actionType.getName()));
+        final Map<String, List<ActionDocMeta>> refreshedMap = new LinkedHashMap<>();
+        refreshedList.forEach(meta -> refreshedMap.computeIfAbsent(meta.getType().getName(), key -> new ArrayList<>()).add(meta));
+        for (String actionClassName : affectedSet) {
+            final List<ActionDocMeta> metaList = refreshedMap.get(actionClassName);
+            if (metaList != null) {
+                actionDocMetaMap.put(actionClassName, metaList); // existing key keeps its order
+            } else { // e.g. deleted action
+                actionDocMetaMap.remove(actionClassName);
+            }
+        }
+    }
+
+    protected boolean isActionClassName(String className) { // same rule as action discovery
+        return className.endsWith("Action");
+    }
+
+    // ===================================================================================
+    //                                                                               Close
+    //                                                                               =====
+    @Override
+    public void close() {
+        sourceChangeWatcher.close();
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public MetaDependencyGraph getDependencyGraph() {
+        return dependencyGraph;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.intern;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.docmeta.JobDocMeta;
+import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+
+/**
+ * The interner of type meta, canonicalizing structurally identical subtrees into shared instances.
+ * <pre>
+ * e.g. ItemPart used in many results
+ *  (before) SeaResult.items -> [name, price] (copy1)
+ *           LandResult.items -> [name, price] (copy2)
+ *  (after)  SeaResult.items -> [name, price] (shared)
+ *           LandResult.items -> (same instance)
+ * </pre>
+ * Interned meta is shared by several parents so it is frozen as read-only after interning. <br>
+ * (setters of the canonical meta throw the exception, and its lists are unmodifiable)
+ * This is not thread-safe, use it in single thread (per generation).
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class TypeDocMetaInterner {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Map<TypeDocMetaKey, TypeDocMeta> canonicalMetaMap = new HashMap<>();
+    protected final Set<TypeDocMeta> canonicalMetaSet = Collections.newSetFromMap(new IdentityHashMap<>());
+    protected final Map<IdentityListKey, List<TypeDocMeta>> canonicalMetaListMap = new HashMap<>();
+    protected final Map<List<String>, List<String>> canonicalStringListMap = new HashMap<>();
+    protected final Map<List<Annotation>, List<Annotation>> canonicalAnnotationListMap = new HashMap<>();
+    protected int visitedCount; // count of visited (non-canonical-yet) meta
+
+    // ===================================================================================
+    //                                                                              Intern
+    //                                                                              ======
+    public void internActionDocMeta(ActionDocMeta actionDocMeta) {
+        actionDocMeta.setFieldTypeDocMetaList(internList(actionDocMeta.getFieldTypeDocMetaList()));
+        actionDocMeta.setParameterTypeDocMetaList(internList(actionDocMeta.getParameterTypeDocMetaList()));
+        actionDocMeta.setFormTypeDocMeta(intern(actionDocMeta.getFormTypeDocMeta()));
+        actionDocMeta.setReturnTypeDocMeta(intern(actionDocMeta.getReturnTypeDocMeta()));
+    }
+
+    public void internJobDocMeta(JobDocMeta jobDocMeta) {
+        jobDocMeta.setFieldTypeDocMetaList(internList(jobDocMeta.getFieldTypeDocMetaList()));
+    }
+
+    /**
+     * @param meta The type meta to be interned, nested meta are also interned. (NullAllowed)
+     * @return The canonical instance structurally same as the meta. (NullAllowed: when null meta)
+     */
+    public TypeDocMeta intern(TypeDocMeta meta) {
+        if (meta == null) {
+            return null;
+        }
+        if (canonicalMetaSet.contains(meta)) { // already canonical
+            return meta;
+        }
+        ++visitedCount;
+        // bottom-up so that nested lists can be compared by identity
+        meta.setNestTypeDocMetaList(internList(meta.getNestTypeDocMetaList()));
+        meta.setAnnotationList(internStringList(meta.getAnnotationList()));
+        meta.setAnnotationTypeList(internAnnotationList(meta.getAnnotationTypeList()));
+        final TypeDocMeta existing = canonicalMetaMap.putIfAbsent(new TypeDocMetaKey(meta), meta);
+        if (existing != null) {
+            return existing;
+        }
+        canonicalMetaSet.add(meta);
+        meta.freeze(); // shared by several parents from now
+        return meta;
+    }
+
+    /**
+     * @param metaList The list of type meta to be interned. (NullAllowed)
+     * @return The canonical unmodifiable list whose elements are also canonical. (NullAllowed: when null list)
+     */
+    public List<TypeDocMeta> internList(List<TypeDocMeta> metaList) {
+        if (metaList == null) {
+            return null;
+        }
+        final List<TypeDocMeta> internedList = new ArrayList<>(metaList.size());
+        for (TypeDocMeta meta : metaList) {
+            internedList.add(intern(meta));
+        }
+        final List<TypeDocMeta> frozenList = Collections.unmodifiableList(internedList);
+        final List<TypeDocMeta> existing = canonicalMetaListMap.putIfAbsent(new IdentityListKey(frozenList), frozenList);
+        return existing != null ? existing : frozenList;
+    }
+
+    protected List<String> internStringList(List<String> stringList) {
+        if (stringList == null) {
+            return null;
+        }
+        final List<String> existing = canonicalStringListMap.get(stringList);
+        if (existing != null) {
+            return existing;
+        }
+        final List<String> frozenList = Collections.unmodifiableList(new ArrayList<>(stringList)); // not to be changed via original
+        canonicalStringListMap.put(frozenList, frozenList);
+        return frozenList;
+    }
+
+    protected List<Annotation> internAnnotationList(List<Annotation> annotationList) {
+        if (annotationList == null) {
+            return null;
+        }
+        final List<Annotation> existing = canonicalAnnotationListMap.get(annotationList);
+        if (existing != null) {
+            return existing;
+        }
+        final List<Annotation> frozenList = Collections.unmodifiableList(new ArrayList<>(annotationList));
+        canonicalAnnotationListMap.put(frozenList, frozenList);
+        return frozenList;
+    }
+
+    // ===================================================================================
+    //                                                                         Interned Key
+    //                                                                         ============
+    protected static class TypeDocMetaKey {
+
+        protected final String name;
+        protected final String publicName;
+        protected final Class<?> type;
+        protected final String typeName;
+        protected final String simpleTypeName;
+        protected final String value;
+        protected final String description;
+        protected final String comment;
+        protected final Class<?> genericType;
+        protected final List<Annotation> annotationTypeList;
+        protected final List<String> annotationList;
+        protected final List<TypeDocMeta> nestTypeDocMetaList; // canonical so compared by identity
+        protected final int hashCode;
+
+        public TypeDocMetaKey(TypeDocMeta meta) {
+            this.name = meta.getName();
+            this.publicName = meta.getPublicName();
+            this.type = meta.getType();
+            this.typeName = meta.getTypeName();
+            this.simpleTypeName = meta.getSimpleTypeName();
+            this.value = meta.getValue();
+            this.description = meta.getDescription();
+            this.comment = meta.getComment();
+            this.genericType = meta.getGenericType();
+            this.annotationTypeList = meta.getAnnotationTypeList();
+            this.annotationList = meta.getAnnotationList();
+            this.nestTypeDocMetaList = meta.getNestTypeDocMetaList();
+            this.hashCode = Objects.hash(name, publicName, type, typeName, simpleTypeName, value, description, comment, genericType,
+                    annotationTypeList, annotationList, System.identityHashCode(nestTypeDocMetaList));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TypeDocMetaKey)) {
+                return false;
+            }
+            final TypeDocMetaKey that = (TypeDocMetaKey) obj;
+            return hashCode == that.hashCode && nestTypeDocMetaList == that.nestTypeDocMetaList // quick check first
+                    && Objects.equals(name, that.name) && Objects.equals(publicName, that.publicName) && type == that.type
+                    && Objects.equals(typeName, that.typeName) && Objects.equals(simpleTypeName, that.simpleTypeName)
+                    && Objects.equals(value, that.value) && Objects.equals(description, that.description)
+                    && Objects.equals(comment, that.comment) && genericType == that.genericType
+                    && Objects.equals(annotationTypeList, that.annotationTypeList) && Objects.equals(annotationList, that.annotationList);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    protected static class IdentityListKey { // elements are compared by identity
+
+        protected final List<TypeDocMeta> metaList;
+        protected final int hashCode;
+
+        public IdentityListKey(List<TypeDocMeta> metaList) {
+            this.metaList = metaList;
+            int hash = 1;
+            for (TypeDocMeta meta : metaList) {
+                hash = 31 * hash + System.identityHashCode(meta);
+            }
+            this.hashCode = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof IdentityListKey)) {
+                return false;
+            }
+            final List<TypeDocMeta> thatList = ((IdentityListKey) obj).metaList;
+            if (hashCode != ((IdentityListKey) obj).hashCode || metaList.size() != thatList.size()) {
+                return false;
+            }
+            for (int i = 0; i < metaList.size(); i++) {
+                if (metaList.get(i) != thatList.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getVisitedCount() {
+        return visitedCount;
+    }
+
+    public int getCanonicalCount() {
+        return canonicalMetaSet.size();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.intern;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+
+/**
+ * The builder of type-table layout for analyzed-lastadoc.json, types are emitted once and referred by ID.
+ * <pre>
+ * {
+ *   "typeDocMetaTable": [ // index is ID
+ *     { "name": "name", ..., "nestTypeDocMetaIdList": [] }, // ID: 0
+ *     { "name": "items", ..., "nestTypeDocMetaIdList": [0] }, // ID: 1
+ *   ],
+ *   "actionDocMetaList": [
+ *     { "url": "/sea/", ..., "returnTypeDocMetaId": 2 }
+ *   ]
+ * }
+ * </pre>
+ * Interned meta (by {@link TypeDocMetaInterner}) is emitted once, the same instance gets the same ID.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class TypeDocMetaTableBuilder {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    public static final String TABLE_KEY = "typeDocMetaTable";
+    public static final String ACTION_LIST_KEY = "actionDocMetaList";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Map<TypeDocMeta, Integer> typeIdMap = new IdentityHashMap<>();
+    protected final List<Map<String, Object>> typeTableList = new ArrayList<>();
+
+    // ===================================================================================
+    //                                                                               Build
+    //                                                                               =====
+    /**
+     * @param actionDocMetaList The list of action meta, basically interned. (NotNull)
+     * @return The map of type table and action list referring the table. (NotNull)
+     */
+    public Map<String, Object> buildTableLayoutMap(List<ActionDocMeta> actionDocMetaList) {
+        final List<Map<String, Object>> actionMapList = new ArrayList<>(actionDocMetaList.size());
+        for (ActionDocMeta actionDocMeta : actionDocMetaList) {
+            actionMapList.add(toActionMap(actionDocMeta));
+        }
+        final Map<String, Object> layoutMap = new LinkedHashMap<>();
+        layoutMap.put(TABLE_KEY, typeTableList);
+        layoutMap.put(ACTION_LIST_KEY, actionMapList);
+        return layoutMap;
+    }
+
+    // same keys as fields of ActionDocMeta (serialized by Gson) except type references
+    protected Map<String, Object> toActionMap(ActionDocMeta actionDocMeta) {
+        final Map<String, Object> actionMap = new LinkedHashMap<>();
+        actionMap.put("url", actionDocMeta.getUrl());
+        actionMap.put("typeName", actionDocMeta.getTypeName());
+        actionMap.put("simpleTypeName", actionDocMeta.getSimpleTypeName());
+        actionMap.put("description", actionDocMeta.getDescription());
+        actionMap.put("typeComment", actionDocMeta.getTypeComment());
+        actionMap.put("fieldTypeDocMetaIdList", registerTypeList(actionDocMeta.getFieldTypeDocMetaList()));
+        actionMap.put("methodName", actionDocMeta.getMethodName());
+        actionMap.put("methodComment", actionDocMeta.getMethodComment());
+        actionMap.put("annotationList", actionDocMeta.getAnnotationList());
+        actionMap.put("parameterTypeDocMetaIdList", registerTypeList(actionDocMeta.getParameterTypeDocMetaList()));
+        actionMap.put("formTypeDocMetaId", registerType(actionDocMeta.getFormTypeDocMeta()));
+        actionMap.put("returnTypeDocMetaId", registerType(actionDocMeta.getReturnTypeDocMeta()));
+        actionMap.put("fileLineCount", actionDocMeta.getFileLineCount());
+        actionMap.put("methodLineCount", actionDocMeta.getMethodLineCount());
+        return actionMap;
+    }
+
+    // ===================================================================================
+    //                                                                       Register Type
+    //                                                                       =============
+    protected Integer registerType(TypeDocMeta meta) { // null allowed
+        if (meta == null) {
+            return null;
+        }
+        final Integer existingId = typeIdMap.get(meta);
+        if (existingId != null) {
+            return existingId;
+        }
+        // nested types first so that IDs of the children are smaller than the parent
+        final List<Integer> nestIdList = registerTypeList(meta.getNestTypeDocMetaList());
+        final Integer typeId = typeTableList.size();
+        typeIdMap.put(meta, typeId);
+        typeTableList.add(toTypeMap(meta, nestIdList));
+        return typeId;
+    }
+
+    protected List<Integer> registerTypeList(List<TypeDocMeta> metaList) { // null allowed
+        if (metaList == null) {
+            return null;
+        }
+        final List<Integer> idList = new ArrayList<>(metaList.size());
+        for (TypeDocMeta meta : metaList) {
+            idList.add(registerType(meta));
+        }
+        return idList;
+    }
+
+    // same keys as fields of TypeDocMeta (serialized by Gson) except nested list
+    protected Map<String, Object> toTypeMap(TypeDocMeta meta, List<Integer> nestIdList) {
+        final Map<String, Object> typeMap = new LinkedHashMap<>();
+        typeMap.put("name", meta.getName());
+        typeMap.put("publicName", meta.getPublicName());
+        typeMap.put("typeName", meta.getTypeName());
+        typeMap.put("simpleTypeName", meta.getSimpleTypeName());
+        typeMap.put("value", meta.getValue());
+        typeMap.put("description", meta.getDescription());
+        typeMap.put("comment", meta.getComment());
+        typeMap.put("annotationList", meta.getAnnotationList());
+        typeMap.put("nestTypeDocMetaIdList", nestIdList);
+        return typeMap;
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getTypeCount() {
+        return typeTableList.size();
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.javadoc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.dbflute.util.Srl;
+
+/**
+ * The parsed model of javadoc comment, summary line, body, tags and example value, immutable. <br>
+ * Parsed once per comment and attached to the meta, instead of regular expressions per consumer.
+ * <pre>
+ * e.g. method comment
+ *  Sea List (first line is summary)          // summary line
+ *  with land and piari.                       // body until first tag
+ *  &#064;param pageNumber The number of page. (NotNull)  // param tag
+ *  &#064;throws EntityAlreadyDeletedException When the resource is not found (404)  // throws tag with status
+ *
+ * e.g. property comment
+ *  The name of sea. (NotNull) e.g. "dockside"  // first statement and example value
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaJavadoc {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    public static final MetaJavadoc EMPTY = new MetaJavadoc(null);
+
+    /** to pick up first line from javadoc comment of class and method. (NotNull) */
+    protected static final Pattern SUMMARY_LINE_PATTERN = Pattern.compile("(.+)[.。]?.*(\r?\n)?");
+
+    /** to pick up first statement (line) from javadoc comment of field. (NotNull) */
+    protected static final Pattern FIRST_STATEMENT_PATTERN = Pattern.compile("([^.。\\*]+).* ?\\*?");
+
+    protected static final Pattern LINE_SEPARATOR_PATTERN = Pattern.compile("\r?\n");
+    protected static final Pattern EXAMPLE_VALUE_PATTERN = Pattern.compile("e\\.g\\.([^ ]+)");
+    protected static final String EXAMPLE_MARK = "e.g.";
+    protected static final String PARAM_TAG = "@param";
+    protected static final String THROWS_TAG = "@throws";
+    protected static final String[] TAG_DELIMITERS = new String[] { " ", "\t", "\u3000" };
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String plainComment; // null allowed: no comment
+    protected final String summaryLine; // null allowed: no comment
+    protected final String firstStatement; // null allowed: no comment
+    protected final String bodyText; // null allowed: no comment, means lines before tags
+    protected final Map<String, String> paramCommentMap; // not null, empty allowed, read-only, key is parameter name
+    protected final List<ThrowsTag> throwsTagList; // not null, empty allowed, read-only
+    protected final Object exampleValue; // null allowed: no e.g. or e.g.null, String or List of String
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    protected MetaJavadoc(String plainComment) {
+        this.plainComment = plainComment;
+        if (plainComment == null || plainComment.isEmpty()) {
+            this.summaryLine = null;
+            this.firstStatement = null;
+            this.bodyText = null;
+            this.paramCommentMap = Collections.emptyMap();
+            this.throwsTagList = Collections.emptyList();
+            this.exampleValue = null;
+            return;
+        }
+        this.summaryLine = extractSummaryLine(plainComment);
+        this.firstStatement = extractFirstStatement(plainComment);
+        final StringBuilder bodySb = new StringBuilder();
+        final Map<String, String> paramCommentMap = new LinkedHashMap<>();
+        final List<ThrowsTag> throwsTagList = new ArrayList<>();
+        boolean tagFound = false;
+        for (String line : plainComment.split("\n")) { // single pass for body and tags
+            final String trimmedLine = line.trim(); // also removes carriage return
+            if (trimmedLine.startsWith("@")) {
+                tagFound = true;
+                if (trimmedLine.startsWith(PARAM_TAG)) {
+                    parseParamTag(trimmedLine, paramCommentMap);
+                } else if (trimmedLine.startsWith(THROWS_TAG)) {
+                    parseThrowsTag(trimmedLine, throwsTagList);
+                }
+            } else if (!tagFound) {
+                bodySb.append(bodySb.length() > 0 ? "\n" : "").append(trimmedLine);
+            }
+        }
+        this.bodyText = bodySb.toString().trim();
+        this.paramCommentMap = Collections.unmodifiableMap(paramCommentMap);
+        this.throwsTagList = Collections.unmodifiableList(throwsTagList);
+        this.exampleValue = extractExampleValue(plainComment);
+    }
+
+    // ===================================================================================
+    //                                                                               Parse
+    //                                                                               =====
+    /**
+     * @param comment The plain comment of javadoc, e.g. adjusted by source parser. (NullAllowed: returns empty)
+     * @return The parsed javadoc model. (NotNull)
+     */
+    public static MetaJavadoc parse(String comment) {
+        if (comment == null || comment.isEmpty()) {
+            return EMPTY;
+        }
+        return new MetaJavadoc(comment);
+    }
+
+    // ===================================================================================
+    //                                                                             Summary
+    //                                                                             =======
+    protected static String extractSummaryLine(String comment) { // null allowed
+        final Matcher matcher = SUMMARY_LINE_PATTERN.matcher(comment);
+        return matcher.find() ? matcher.group(1) : null; // first line
+    }
+
+    protected static String extractFirstStatement(String comment) { // null allowed
+        // e.g. is not statement end so saved while matching
+        final Matcher matcher = FIRST_STATEMENT_PATTERN.matcher(comment.replace(EXAMPLE_MARK, "$$edotgdot$$"));
+        return matcher.find() ? matcher.group(1).trim().replace("$$edotgdot$$", EXAMPLE_MARK) : null;
+    }
+
+    // ===================================================================================
+    //                                                                                 Tag
+    //                                                                                 ===
+    protected static void parseParamTag(String line, Map<String, String> paramCommentMap) {
+        // e.g. @param pageNumber The number of page. (NotNull)
+        final String paramRear = Srl.substringFirstRear(line, PARAM_TAG);
+        if (!Srl.startsWith(paramRear, TAG_DELIMITERS)) { // e.g. @paramWhen...
+            return;
+        }
+        final String nameRear = paramRear.trim();
+        if (nameRear.isEmpty()) { // e.g. @param only
+            return;
+        }
+        final String name = Srl.substringFirstFront(nameRear, TAG_DELIMITERS);
+        final String paramComment = name.length() < nameRear.length() ? nameRear.substring(name.length() + 1) : "";
+        paramCommentMap.put(name, paramComment); // last wins if duplicate
+    }
+
+    protected static void parseThrowsTag(String line, List<ThrowsTag> throwsTagList) {
+        // e.g. @throws EntityAlreadyDeletedException When the resource is not found (404)
+        final String throwsRear = Srl.substringFirstRear(line, THROWS_TAG);
+        if (!Srl.startsWith(throwsRear, TAG_DELIMITERS)) {
+            return; // throws mock line e.g. @throwWhen...
+        }
+        final String exceptionRear = throwsRear.trim();
+        if (!Srl.containsAny(exceptionRear, TAG_DELIMITERS)) { // e.g. ...ExceptionWhen...(400)
+            return; // broken throws?
+        }
+        final String exception = Srl.substringFirstFront(exceptionRear, TAG_DELIMITERS).trim();
+        final String descriptionRear = Srl.substringFirstRear(exceptionRear, TAG_DELIMITERS).trim();
+        final String statusExp = extractThrowsStatusExp(line); // null allowed
+        final String description;
+        if (statusExp != null) { // having rear (status) e.g. ... (404)
+            description = trimAlsoFullWidthSpace(Srl.substringLastFront(descriptionRear, "("));
+        } else {
+            description = trimAlsoFullWidthSpace(descriptionRear);
+        }
+        throwsTagList.add(new ThrowsTag(exception, description, statusExp));
+    }
+
+    protected static String extractThrowsStatusExp(String line) { // null allowed: no status
+        if (!line.contains("(") || !line.endsWith(")")) {
+            return null; // not having () line
+        }
+        // cannot use scope last for the case e.g. ...When the (^^sea is not found (400)
+        final String statusExp = Srl.substringLastFront(Srl.substringLastRear(line, "("), ")").trim();
+        if (!Srl.isNumberHarfAll(statusExp)) { // strict for now
+            return null; // e.g. (A04)
+        }
+        return statusExp;
+    }
+
+    protected static String trimAlsoFullWidthSpace(String targetStr) {
+        // #for_now jflute not perfect, nested spaces cannot be trimmed, but almost no problem (2024/02/23)
+        return Srl.removeSuffix(Srl.removePrefix(targetStr.trim(), "\u3000"), "\u3000").trim();
+    }
+
+    // ===================================================================================
+    //                                                                       Example Value
+    //                                                                       =============
+    protected static Object extractExampleValue(String comment) { // null allowed
+        if (!comment.contains(EXAMPLE_MARK)) { // quick check, most comments are here
+            return null;
+        }
+        String parsedComment = LINE_SEPARATOR_PATTERN.matcher(comment).replaceAll(" ").trim();
+
+        // adjust mark rear space (but simple support)
+        parsedComment = Srl.replace(parsedComment, "e.g.  ", "e.g.").trim(); // allowed e.g.  "sea"
+        parsedComment = Srl.replace(parsedComment, "e.g. ", "e.g.").trim(); // allowed e.g."sea"
+
+        if (parsedComment.contains("e.g.\"")) {
+            return Srl.substringFirstFront(Srl.substringFirstRear(parsedComment, "e.g.\""), "\"").trim();
+        }
+        if (parsedComment.contains("e.g.[")) {
+            final String exampleValue = Srl.substringFirstFront(Srl.substringFirstRear(parsedComment, "e.g.["), "]").trim();
+            return Collections.unmodifiableList(Arrays.stream(exampleValue.split(", *")).map(value -> value.trim()).map(value -> {
+                if (value.startsWith("\"") && value.endsWith("\"")) {
+                    return value.substring(1, value.length() - 1);
+                }
+                return "null".equals(value) ? null : value;
+            }).collect(Collectors.toList()));
+        }
+        final Matcher matcher = EXAMPLE_VALUE_PATTERN.matcher(parsedComment);
+        if (matcher.find()) {
+            final String value = matcher.group(1);
+            return "null".equals(value) ? null : value;
+        }
+        return null;
+    }
+
+    // ===================================================================================
+    //                                                                          Throws Tag
+    //                                                                          ==========
+    public static class ThrowsTag {
+
+        protected final String exception; // not null, e.g. EntityAlreadyDeletedException
+        protected final String description; // not null, empty allowed, without status
+        protected final String statusExp; // null allowed: no status, e.g. 404
+
+        public ThrowsTag(String exception, String description, String statusExp) {
+            this.exception = exception;
+            this.description = description;
+            this.statusExp = statusExp;
+        }
+
+        @Override
+        public String toString() {
+            return "throws:{" + exception + ", " + description + ", " + statusExp + "}";
+        }
+
+        public String getException() {
+            return exception;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public String getStatusExp() {
+            return statusExp;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "javadoc:{" + summaryLine + ", params=" + paramCommentMap.keySet() + ", throws=" + throwsTagList.size() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public boolean isEmpty() {
+        return plainComment == null;
+    }
+
+    public String getPlainComment() {
+        return plainComment;
+    }
+
+    public String getSummaryLine() {
+        return summaryLine;
+    }
+
+    public String getFirstStatement() {
+        return firstStatement;
+    }
+
+    public String getBodyText() {
+        return bodyText;
+    }
+
+    public Map<String, String> getParamCommentMap() {
+        return paramCommentMap;
+    }
+
+    public String findParamComment(String name) { // null allowed: not found
+        return paramCommentMap.get(name);
+    }
+
+    public List<ThrowsTag> getThrowsTagList() {
+        return throwsTagList;
+    }
+
+    public Object getExampleValue() {
+        return exampleValue;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The job registration read from scheduler source without starting job scheduling. <br>
+ * It has only information written as literal in the source, e.g. cron expression, unique code.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class ScannedJobRegistration {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String schedulerClassName; // not null, e.g. ...AllJobScheduler
+    protected final String jobTypeName; // not null, e.g. ...SeaJob (resolved by imports)
+    protected String cronExp; // null allowed: non-cron or not literal
+    protected String concurrentExec; // null allowed: unknown, e.g. WAIT
+    protected String jobUnique; // null allowed
+    protected String jobTitle; // null allowed
+    protected String jobDescription; // null allowed
+    protected Map<String, Object> params; // null allowed, values are source text
+    protected String noticeLogLevel; // null allowed, e.g. INFO, DEBUG
+    protected String variableName; // null allowed: not assigned
+    protected final List<ScannedJobRegistration> triggeredRegistrationList = new ArrayList<>(); // e.g. registerNext()
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public ScannedJobRegistration(String schedulerClassName, String jobTypeName) {
+        this.schedulerClassName = schedulerClassName;
+        this.jobTypeName = jobTypeName;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "scannedJob:{" + jobTypeName + ", cron=" + cronExp + ", unique=" + jobUnique + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public String getSchedulerClassName() {
+        return schedulerClassName;
+    }
+
+    public String getJobTypeName() {
+        return jobTypeName;
+    }
+
+    public String getCronExp() {
+        return cronExp;
+    }
+
+    public void setCronExp(String cronExp) {
+        this.cronExp = cronExp;
+    }
+
+    public String getConcurrentExec() {
+        return concurrentExec;
+    }
+
+    public void setConcurrentExec(String concurrentExec) {
+        this.concurrentExec = concurrentExec;
+    }
+
+    public String getJobUnique() {
+        return jobUnique;
+    }
+
+    public void setJobUnique(String jobUnique) {
+        this.jobUnique = jobUnique;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public String getJobDescription() {
+        return jobDescription;
+    }
+
+    public void setJobDescription(String jobDescription) {
+        this.jobDescription = jobDescription;
+    }
+
+    public Map<String, Object> getParams() {
+        return params;
+    }
+
+    public void setParams(Map<String, Object> params) {
+        this.params = params;
+    }
+
+    public String getNoticeLogLevel() {
+        return noticeLogLevel;
+    }
+
+    public void setNoticeLogLevel(String noticeLogLevel) {
+        this.noticeLogLevel = noticeLogLevel;
+    }
+
+    public String getVariableName() {
+        return variableName;
+    }
+
+    public void setVariableName(String variableName) {
+        this.variableName = variableName;
+    }
+
+    public List<ScannedJobRegistration> getTriggeredRegistrationList() {
+        return triggeredRegistrationList;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.reflection;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The reflection metadata of one class, immutable after creation.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaClassReflection {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Class<?> reflectedClass; // not null
+    protected final List<Annotation> annotationList; // not null, read-only
+    protected final List<Field> declaredFieldList; // not null, read-only, as getDeclaredFields()
+    protected final List<Field> wholeFieldList; // not null, read-only, declared fields and super's until Object
+    protected final List<Field> propertyFieldList; // not null, read-only, whole fields without static/synthetic
+    protected final Map<Field, MetaFieldReflection> fieldReflectionMap; // not null, read-only, of declared fields
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public MetaClassReflection(Class<?> reflectedClass, List<Annotation> annotationList, List<Field> declaredFieldList,
+            List<Field> wholeFieldList, List<Field> propertyFieldList, Map<Field, MetaFieldReflection> fieldReflectionMap) {
+        this.reflectedClass = reflectedClass;
+        this.annotationList = Collections.unmodifiableList(annotationList);
+        this.declaredFieldList = Collections.unmodifiableList(declaredFieldList);
+        this.wholeFieldList = Collections.unmodifiableList(wholeFieldList);
+        this.propertyFieldList = Collections.unmodifiableList(propertyFieldList);
+        this.fieldReflectionMap = Collections.unmodifiableMap(fieldReflectionMap);
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "classReflection:{" + reflectedClass.getName() + ", fields=" + declaredFieldList.size() + "/" + wholeFieldList.size() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public Class<?> getReflectedClass() {
+        return reflectedClass;
+    }
+
+    public List<Annotation> getAnnotationList() {
+        return annotationList;
+    }
+
+    public List<Field> getDeclaredFieldList() {
+        return declaredFieldList;
+    }
+
+    public List<Field> getWholeFieldList() {
+        return wholeFieldList;
+    }
+
+    public List<Field> getPropertyFieldList() {
+        return propertyFieldList;
+    }
+
+    public MetaFieldReflection getFieldReflection(Field field) { // null allowed: not declared field
+        return fieldReflectionMap.get(field);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.reflection;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The reflection metadata of one field, immutable after creation.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaFieldReflection {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Field field; // not null
+    protected final Type genericType; // not null, returning e.g. Integer if Integer
+    protected final List<Annotation> annotationList; // not null, read-only
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public MetaFieldReflection(Field field, Type genericType, List<Annotation> annotationList) {
+        this.field = field;
+        this.genericType = genericType;
+        this.annotationList = Collections.unmodifiableList(annotationList);
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "fieldReflection:{" + field.getName() + ", " + genericType.getTypeName() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public Field getField() {
+        return field;
+    }
+
+    public Type getGenericType() {
+        return genericType;
+    }
+
+    public List<Annotation> getAnnotationList() {
+        return annotationList;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.reflection;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The cache of reflection metadata shared by document analyzers. <br>
+ * It is backed by ClassValue (static) so every instance shares the same cache,
+ * and class unloading still works because the value is held by the class itself.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaReflectionCache {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final ClassValue<MetaClassReflection> classReflectionValue = new ClassValue<MetaClassReflection>() {
+        @Override
+        protected MetaClassReflection computeValue(Class<?> type) {
+            return createClassReflection(type);
+        }
+    };
+
+    // ===================================================================================
+    //                                                                               Class
+    //                                                                               =====
+    /**
+     * @param clazz The class to be reflected. (NotNull)
+     * @return The cached reflection of the class. (NotNull)
+     */
+    public MetaClassReflection findClassReflection(Class<?> clazz) {
+        if (clazz == null) {
+            throw new IllegalArgumentException("The argument 'clazz' should not be null.");
+        }
+        return classReflectionValue.get(clazz);
+    }
+
+    public List<Annotation> findAnnotationList(Class<?> clazz) { // read-only
+        return findClassReflection(clazz).getAnnotationList();
+    }
+
+    public List<Field> findDeclaredFieldList(Class<?> clazz) { // read-only
+        return findClassReflection(clazz).getDeclaredFieldList();
+    }
+
+    public List<Field> findWholeFieldList(Class<?> clazz) { // read-only
+        return findClassReflection(clazz).getWholeFieldList();
+    }
+
+    public List<Field> findPropertyFieldList(Class<?> clazz) { // read-only
+        return findClassReflection(clazz).getPropertyFieldList();
+    }
+
+    // ===================================================================================
+    //                                                                               Field
+    //                                                                               =====
+    /**
+     * @param field The field to be reflected. (NotNull)
+     * @return The cached reflection of the field. (NotNull)
+     */
+    public MetaFieldReflection findFieldReflection(Field field) {
+        if (field == null) {
+            throw new IllegalArgumentException("The argument 'field' should not be null.");
+        }
+        final MetaFieldReflection reflection = findClassReflection(field.getDeclaringClass()).getFieldReflection(field);
+        if (reflection != null) {
+            return reflection;
+        }
+        return createFieldReflection(field); // basically no way, but just in case
+    }
+
+    public Type findFieldGenericType(Field field) {
+        return findFieldReflection(field).getGenericType();
+    }
+
+    public List<Annotation> findFieldAnnotationList(Field field) { // read-only
+        return findFieldReflection(field).getAnnotationList();
+    }
+
+    // ===================================================================================
+    //                                                                       Create Cached
+    //                                                                       =============
+    protected static MetaClassReflection createClassReflection(Class<?> type) {
+        final List<Annotation> annotationList = Arrays.asList(type.getAnnotations());
+        final List<Field> declaredFieldList = Arrays.asList(type.getDeclaredFields());
+        final List<Field> wholeFieldList = new ArrayList<>(declaredFieldList);
+        final Class<?> superclass = type.getSuperclass();
+        if (type != Object.class && superclass != null && superclass != Object.class) { // null if e.g. interface
+            wholeFieldList.addAll(classReflectionValue.get(superclass).getWholeFieldList()); // uses super's cache
+        }
+        if (type == Object.class) { // same as old loop that stops at Object
+            wholeFieldList.clear();
+        }
+        final List<Field> propertyFieldList = new ArrayList<>(wholeFieldList.size());
+        for (Field field : wholeFieldList) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                propertyFieldList.add(field);
+            }
+        }
+        final Map<Field, MetaFieldReflection> fieldReflectionMap = new LinkedHashMap<>(declaredFieldList.size());
+        for (Field field : declaredFieldList) {
+            fieldReflectionMap.put(field, createFieldReflection(field));
+        }
+        return new MetaClassReflection(type, annotationList, declaredFieldList, wholeFieldList, propertyFieldList, fieldReflectionMap);
+    }
+
+    protected static MetaFieldReflection createFieldReflection(Field field) {
+        return new MetaFieldReflection(field, field.getGenericType(), Arrays.asList(field.getAnnotations()));
+    }
+}
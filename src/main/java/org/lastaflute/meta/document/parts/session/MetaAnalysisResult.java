@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.session;
+
+import java.util.List;
+
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyGraph;
+
+/**
+ * The result of action analysis shared in analysis session.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaAnalysisResult {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<ActionDocMeta> actionDocMetaList; // not null, read-only
+    protected final MetaDependencyGraph dependencyGraph; // null allowed: not recorded
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public MetaAnalysisResult(List<ActionDocMeta> actionDocMetaList, MetaDependencyGraph dependencyGraph) {
+        this.actionDocMetaList = actionDocMetaList;
+        this.dependencyGraph = dependencyGraph;
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public List<ActionDocMeta> getActionDocMetaList() {
+        return actionDocMetaList;
+    }
+
+    public MetaDependencyGraph getDependencyGraph() {
+        return dependencyGraph;
+    }
+}
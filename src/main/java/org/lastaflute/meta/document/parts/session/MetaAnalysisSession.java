@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.session;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The session of meta analysis shared by generators, e.g. LastaDoc and Swagger in the same test. <br>
+ * Action collection, action meta analysis and source parsing are executed once per analysis condition.
+ * <pre>
+ * MetaAnalysisSession session = new MetaAnalysisSession();
+ * new DocumentGenerator().useAnalysisSession(session).saveLastaDocMeta();
+ * new SwaggerGenerator().useAnalysisSession(session).saveSwaggerMeta(new SwaggerAction()); // reuses the analysis
+ * </pre>
+ * The shared action meta should be read-only after analysis, and it is not interned (plain instances). <br>
+ * Generators of other class, analyzer factory or customization (marker) have each analysis.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaAnalysisSession {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(MetaAnalysisSession.class);
+
+    /** The active session in current thread. (value is null allowed: no session) */
+    protected static final ThreadLocal<MetaAnalysisSession> activeSession = new ThreadLocal<>();
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    // key is analysis condition e.g. source directories, depth
+    protected final Map<String, MetaAnalysisResult> analysisResultMap = new ConcurrentHashMap<>();
+
+    // ===================================================================================
+    //                                                                        Share Within
+    //                                                                        ============
+    /**
+     * Share this session with generators created in the process, e.g. swagger generator in swaggerable action.
+     * @param <RESULT> The type of process result.
+     * @param process The callback of process in current thread. (NotNull)
+     * @return The result of the process. (NullAllowed: when the process returns null)
+     */
+    public <RESULT> RESULT shareWithin(Supplier<RESULT> process) {
+        final MetaAnalysisSession previous = activeSession.get();
+        activeSession.set(this);
+        try {
+            return process.get();
+        } finally {
+            if (previous != null) {
+                activeSession.set(previous);
+            } else {
+                activeSession.remove(); // not to leak in thread pool
+            }
+        }
+    }
+
+    /**
+     * Find the session shared in current thread.
+     * @return The active session. (NullAllowed: no shared session)
+     */
+    public static MetaAnalysisSession findActiveSession() {
+        return activeSession.get();
+    }
+
+    // ===================================================================================
+    //                                                                     Analysis Result
+    //                                                                     ===============
+    /**
+     * Prepare analysis result of the condition, analyzed only if not yet. <br>
+     * If dependency graph is required but the existing result has no graph, it is analyzed again with recording.
+     * @param analysisKey The key of analysis condition, e.g. source directories and depth. (NotNull)
+     * @param dependencyRequired Is dependency graph required in the result?
+     * @param analyzer The callback of action analysis, the argument is graph to record. (NotNull, ArgumentNullAllowed)
+     * @return The result of the analysis, shared in this session. (NotNull)
+     */
+    public synchronized MetaAnalysisResult prepareAnalysisResult(String analysisKey, boolean dependencyRequired,
+            Function<MetaDependencyGraph, List<ActionDocMeta>> analyzer) {
+        final MetaAnalysisResult existingResult = analysisResultMap.get(analysisKey);
+        if (existingResult != null && (!dependencyRequired || existingResult.getDependencyGraph() != null)) {
+            logger.debug("...Reusing analyzed action meta in session: {}", analysisKey);
+            return existingResult;
+        }
+        final MetaDependencyGraph dependencyGraph = dependencyRequired ? newMetaDependencyGraph() : null;
+        final List<ActionDocMeta> actionDocMetaList = Collections.unmodifiableList(analyzer.apply(dependencyGraph));
+        final MetaAnalysisResult analysisResult = newMetaAnalysisResult(actionDocMetaList, dependencyGraph);
+        analysisResultMap.put(analysisKey, analysisResult);
+        return analysisResult;
+    }
+
+    protected MetaDependencyGraph newMetaDependencyGraph() {
+        return new MetaDependencyGraph();
+    }
+
+    protected MetaAnalysisResult newMetaAnalysisResult(List<ActionDocMeta> actionDocMetaList, MetaDependencyGraph dependencyGraph) {
+        return new MetaAnalysisResult(actionDocMetaList, dependencyGraph);
+    }
+
+    /**
+     * Clear analysis results, e.g. to analyze again after source changes.
+     */
+    public void clear() {
+        analysisResultMap.clear();
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "session:{" + analysisResultMap.keySet() + "}";
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.type;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The resolver of generic types, binding type variables through any depth of class hierarchy and nested generics.
+ * <pre>
+ * e.g. JsonResponse&lt;ApiResult&lt;PagingResult&lt;List&lt;ItemPart&gt;&gt;&gt;&gt;
+ *  ApiResult&lt;T&gt; extends BaseResult&lt;T&gt;
+ *   => T of ApiResult: PagingResult&lt;List&lt;ItemPart&gt;&gt;
+ *   => T of BaseResult: PagingResult&lt;List&lt;ItemPart&gt;&gt;
+ *  PagingResult&lt;E&gt; (when nested analysis)
+ *   => E of PagingResult: List&lt;ItemPart&gt;
+ * </pre>
+ * Bindings are cached per distinct owner type, means (class, bindings), in the resolver instance. <br>
+ * The cache is not static not to pin analyzed classes (e.g. hot-deploy class loader),
+ * so the resolver is owned by action document analyzer per generation and shared by its zone analyzers.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaGenericTypeResolver {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    /** The cache of bindings by owner type e.g. ApiResult&lt;SeaBean&gt;, plain class is also OK. */
+    protected final Map<Type, MetaTypeBindings> bindingsMap = new ConcurrentHashMap<>();
+
+    // ===================================================================================
+    //                                                                            Bindings
+    //                                                                            ========
+    /**
+     * Resolve the bindings of the owner type and its super classes.
+     * @param ownerType The owner type of properties whose type arguments are already resolved. (NotNull)
+     * @return The cached bindings. (NotNull, EmptyAllowed: e.g. non-generic class)
+     */
+    public MetaTypeBindings resolveBindings(Type ownerType) {
+        if (ownerType == null) {
+            throw new IllegalArgumentException("The argument 'ownerType' should not be null.");
+        }
+        final MetaTypeBindings cached = bindingsMap.get(ownerType);
+        if (cached != null) {
+            return cached;
+        }
+        final MetaTypeBindings bindings = doResolveBindings(ownerType);
+        bindingsMap.putIfAbsent(ownerType, bindings);
+        return bindings;
+    }
+
+    protected MetaTypeBindings doResolveBindings(Type ownerType) {
+        final Class<?> rawClass = eraseType(ownerType);
+        final Map<TypeVariable<?>, Type> variableMap = new LinkedHashMap<>();
+        if (ownerType instanceof ParameterizedType) {
+            bindTypeArguments(variableMap, rawClass, ((ParameterizedType) ownerType).getActualTypeArguments());
+        }
+        // class hierarchy, e.g. ApiResult<T> extends BaseResult<T>
+        Class<?> currentClass = rawClass;
+        while (currentClass != null && currentClass != Object.class) {
+            final Type superType = currentClass.getGenericSuperclass(); // null if e.g. interface
+            if (superType instanceof ParameterizedType) {
+                final MetaTypeBindings currentBindings = new MetaTypeBindings(variableMap);
+                final Type resolvedSuperType = resolveType(superType, currentBindings);
+                final Class<?> superClass = eraseType(superType);
+                bindTypeArguments(variableMap, superClass, ((ParameterizedType) resolvedSuperType).getActualTypeArguments());
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        return variableMap.isEmpty() ? MetaTypeBindings.empty() : new MetaTypeBindings(variableMap);
+    }
+
+    protected void bindTypeArguments(Map<TypeVariable<?>, Type> variableMap, Class<?> rawClass, Type[] typeArguments) {
+        final TypeVariable<?>[] typeParameters = rawClass.getTypeParameters();
+        final int size = Math.min(typeParameters.length, typeArguments.length); // basically same
+        for (int i = 0; i < size; i++) {
+            final Type typeArgument = typeArguments[i];
+            if (typeArgument != typeParameters[i]) { // not bound if raw use
+                variableMap.putIfAbsent(typeParameters[i], typeArgument);
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Resolve Type
+    //                                                                        ============
+    /**
+     * Resolve type variables in the type by the bindings, at any depth of nested generics.
+     * @param type The type that may contain type variables, e.g. List&lt;T&gt;. (NotNull)
+     * @param bindings The bindings of type variables. (NotNull)
+     * @return The resolved type, or the same instance if nothing to resolve. (NotNull)
+     */
+    public Type resolveType(Type type, MetaTypeBindings bindings) {
+        if (type instanceof Class<?> || bindings.isEmpty()) {
+            return type;
+        }
+        final Type cached = bindings.findResolvedType(type);
+        if (cached != null) {
+            return cached;
+        }
+        final Type resolved = doResolveType(type, bindings);
+        bindings.registerResolvedType(type, resolved);
+        return resolved;
+    }
+
+    protected Type doResolveType(Type type, MetaTypeBindings bindings) {
+        if (type instanceof TypeVariable<?>) {
+            final Type boundType = bindings.findBoundType((TypeVariable<?>) type);
+            return boundType != null ? boundType : type; // e.g. unbound generic variable
+        } else if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            final Type[] typeArguments = parameterizedType.getActualTypeArguments();
+            boolean changed = false;
+            for (int i = 0; i < typeArguments.length; i++) {
+                final Type resolvedArgument = resolveType(typeArguments[i], bindings); // recursive
+                if (resolvedArgument != typeArguments[i]) {
+                    typeArguments[i] = resolvedArgument;
+                    changed = true;
+                }
+            }
+            final Type ownerType = parameterizedType.getOwnerType();
+            final Type resolvedOwnerType = ownerType != null ? resolveType(ownerType, bindings) : null;
+            if (!changed && resolvedOwnerType == ownerType) {
+                return type;
+            }
+            final Class<?> rawType = (Class<?>) parameterizedType.getRawType();
+            return new MetaResolvedParameterizedType(rawType, typeArguments, resolvedOwnerType);
+        } else if (type instanceof GenericArrayType) {
+            final Type componentType = ((GenericArrayType) type).getGenericComponentType();
+            final Type resolvedComponentType = resolveType(componentType, bindings);
+            if (resolvedComponentType instanceof Class<?>) { // e.g. T[] to String[]
+                return Array.newInstance((Class<?>) resolvedComponentType, 0).getClass();
+            }
+            return type; // #for_now jflute generic array of parameterized type is rare so as it is (2026/10/18)
+        } else { // e.g. WildcardType
+            return type; // #for_now jflute wildcard is unused as property type (2026/10/18)
+        }
+    }
+
+    // ===================================================================================
+    //                                                                          Erase Type
+    //                                                                          ==========
+    /**
+     * @param type The type to be erased. (NotNull)
+     * @return The erased class, e.g. List of List&lt;String&gt;, Object of unbound T. (NotNull)
+     */
+    public Class<?> eraseType(Type type) {
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        } else if (type instanceof GenericArrayType) {
+            final Class<?> componentClass = eraseType(((GenericArrayType) type).getGenericComponentType());
+            return Array.newInstance(componentClass, 0).getClass();
+        } else if (type instanceof TypeVariable<?>) {
+            final Type[] bounds = ((TypeVariable<?>) type).getBounds();
+            return bounds.length > 0 ? eraseType(bounds[0]) : Object.class;
+        } else if (type instanceof WildcardType) {
+            final Type[] upperBounds = ((WildcardType) type).getUpperBounds();
+            return upperBounds.length > 0 ? eraseType(upperBounds[0]) : Object.class;
+        }
+        return Object.class; // basically no way
+    }
+
+    /**
+     * Find the first type argument, e.g. String of List&lt;String&gt;.
+     * @param type The type that may be parameterized. (NotNull)
+     * @return The first type argument. (NullAllowed: when non-parameterized)
+     */
+    public Type findFirstTypeArgument(Type type) {
+        if (type instanceof ParameterizedType) {
+            final Type[] typeArguments = ((ParameterizedType) type).getActualTypeArguments();
+            return typeArguments.length > 0 ? typeArguments[0] : null;
+        }
+        return null;
+    }
+
+    /**
+     * Find the element type of nested iterable types, e.g. ItemPart of List&lt;List&lt;ItemPart&gt;&gt;.
+     * @param type The type that may be iterable. (NotNull)
+     * @return The innermost element type, or the type itself if non-iterable. (NotNull)
+     */
+    public Type findInnermostElementType(Type type) {
+        Type current = type;
+        while (Iterable.class.isAssignableFrom(eraseType(current))) {
+            final Type elementType = findFirstTypeArgument(current);
+            if (elementType == null) { // e.g. raw List
+                break;
+            }
+            current = elementType;
+        }
+        return current;
+    }
+}
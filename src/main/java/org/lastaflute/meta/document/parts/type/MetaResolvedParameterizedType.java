@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.type;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The parameterized type whose type variables are resolved by bindings. <br>
+ * The equality and type name are compatible with JDK implementation.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaResolvedParameterizedType implements ParameterizedType {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Class<?> rawType; // not null
+    protected final Type[] actualTypeArguments; // not null
+    protected final Type ownerType; // null allowed: top-level class
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public MetaResolvedParameterizedType(Class<?> rawType, Type[] actualTypeArguments, Type ownerType) {
+        this.rawType = rawType;
+        this.actualTypeArguments = actualTypeArguments.clone();
+        this.ownerType = ownerType;
+    }
+
+    // ===================================================================================
+    //                                                                  Parameterized Type
+    //                                                                  ==================
+    @Override
+    public Type[] getActualTypeArguments() {
+        return actualTypeArguments.clone();
+    }
+
+    @Override
+    public Type getRawType() {
+        return rawType;
+    }
+
+    @Override
+    public Type getOwnerType() {
+        return ownerType;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public boolean equals(Object obj) { // same as JDK implementation
+        if (!(obj instanceof ParameterizedType)) {
+            return false;
+        }
+        if (this == obj) {
+            return true;
+        }
+        final ParameterizedType that = (ParameterizedType) obj;
+        return Objects.equals(rawType, that.getRawType()) && Objects.equals(ownerType, that.getOwnerType())
+                && Arrays.equals(actualTypeArguments, that.getActualTypeArguments());
+    }
+
+    @Override
+    public int hashCode() { // same as JDK implementation
+        return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
+    }
+
+    @Override
+    public String toString() { // same format as JDK implementation
+        final StringBuilder sb = new StringBuilder();
+        if (ownerType != null) {
+            sb.append(ownerType.getTypeName()).append("$");
+            if (ownerType instanceof ParameterizedType) {
+                final String ownerRawName = ((Class<?>) ((ParameterizedType) ownerType).getRawType()).getName();
+                sb.append(rawType.getName().replace(ownerRawName + "$", ""));
+            } else {
+                sb.append(rawType.getSimpleName());
+            }
+        } else {
+            sb.append(rawType.getName());
+        }
+        if (actualTypeArguments.length > 0) {
+            sb.append("<");
+            for (int i = 0; i < actualTypeArguments.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(actualTypeArguments[i].getTypeName());
+            }
+            sb.append(">");
+        }
+        return sb.toString();
+    }
+}
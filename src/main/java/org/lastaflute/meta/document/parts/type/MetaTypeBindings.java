@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.type;
+
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The immutable bindings of type variables, e.g. T of ApiResult&lt;T&gt; to PagingResult&lt;ItemPart&gt;. <br>
+ * Bindings are keyed by type variable (not name), so same names in class hierarchy are not confused.
+ * And resolved types are cached in the bindings, which is shared per distinct (class, bindings).
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaTypeBindings {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final MetaTypeBindings EMPTY = new MetaTypeBindings(Collections.emptyMap());
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Map<TypeVariable<?>, Type> variableMap; // not null, read-only, ordered by registration
+    protected final Map<Type, Type> resolvedTypeMap = new ConcurrentHashMap<>(); // cache of resolved types
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public MetaTypeBindings(Map<TypeVariable<?>, Type> variableMap) {
+        this.variableMap = Collections.unmodifiableMap(new LinkedHashMap<>(variableMap));
+    }
+
+    public static MetaTypeBindings empty() {
+        return EMPTY;
+    }
+
+    // ===================================================================================
+    //                                                                          Bound Type
+    //                                                                          ==========
+    /**
+     * @param variable The type variable to find. (NotNull)
+     * @return The bound type, already resolved. (NullAllowed: not bound)
+     */
+    public Type findBoundType(TypeVariable<?> variable) {
+        return variableMap.get(variable);
+    }
+
+    /**
+     * @param outerBindings The bindings of outer (caller) scope, used when not bound here. (NotNull)
+     * @return The new merged bindings, or this if nothing to merge. (NotNull)
+     */
+    public MetaTypeBindings mergeOuter(MetaTypeBindings outerBindings) {
+        if (outerBindings.isEmpty() || outerBindings == this) {
+            return this;
+        }
+        if (isEmpty()) {
+            return outerBindings;
+        }
+        final Map<TypeVariable<?>, Type> mergedMap = new LinkedHashMap<>(variableMap);
+        outerBindings.variableMap.forEach((variable, type) -> mergedMap.putIfAbsent(variable, type));
+        return new MetaTypeBindings(mergedMap);
+    }
+
+    /**
+     * Convert to the map keyed by variable name, for compatible with generic parameter types map. <br>
+     * The first registered variable wins if the same names exist, e.g. T of sub-class over T of super-class.
+     * @return The new map of variable name and bound type. (NotNull)
+     */
+    public Map<String, Type> toNameMap() {
+        final Map<String, Type> nameMap = new LinkedHashMap<>();
+        variableMap.forEach((variable, type) -> nameMap.putIfAbsent(variable.getName(), type));
+        return nameMap;
+    }
+
+    // ===================================================================================
+    //                                                                       Resolved Type
+    //                                                                       =============
+    Type findResolvedType(Type type) { // null allowed, for resolver
+        return resolvedTypeMap.get(type);
+    }
+
+    void registerResolvedType(Type type, Type resolvedType) { // for resolver
+        resolvedTypeMap.put(type, resolvedType);
+    }
+
+    // ===================================================================================
+    //                                                                           Determine
+    //                                                                           =========
+    public boolean isEmpty() {
+        return variableMap.isEmpty();
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "bindings:" + variableMap;
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public Map<TypeVariable<?>, Type> getVariableMap() {
+        return variableMap;
+    }
+}
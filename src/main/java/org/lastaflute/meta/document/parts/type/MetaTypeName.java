@@ -0,0 +1,252 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.document.parts.type;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The parsed model of type name, raw name and tree of type arguments, immutable. <br>
+ * Parsed once per type name and cached, instead of regular expressions per property.
+ * <pre>
+ * e.g. java.util.Map&lt;java.lang.String, java.util.List&lt;org.docksidestage.SeaBean&gt;&gt;
+ *  raw: java.util.Map
+ *   |-raw: java.lang.String
+ *   |-raw: java.util.List
+ *      |-raw: org.docksidestage.SeaBean
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaTypeName {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final ClassValue<MetaTypeName> classTypeNameValue = new ClassValue<MetaTypeName>() {
+        @Override
+        protected MetaTypeName computeValue(Class<?> type) {
+            return parse(type.getTypeName());
+        }
+    };
+    protected static final Map<String, MetaTypeName> parsedTypeNameMap = new ConcurrentHashMap<>(); // by type name
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String rawName; // not null, e.g. java.util.List, ? extends java.lang.Number
+    protected final List<MetaTypeName> typeArgumentList; // not null, empty allowed, read-only
+    protected final String suffix; // not null, empty allowed, e.g. [] of List<String>[]
+    protected final String fullName; // not null, rendered as Type.getTypeName() format
+    protected final String simpleName; // not null, package names removed e.g. List<Sea>
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    protected MetaTypeName(String rawName, List<MetaTypeName> typeArgumentList, String suffix) {
+        this.rawName = rawName;
+        this.typeArgumentList = Collections.unmodifiableList(typeArgumentList);
+        this.suffix = suffix;
+        this.fullName = render(false);
+        this.simpleName = render(true);
+    }
+
+    // ===================================================================================
+    //                                                                               Parse
+    //                                                                               =====
+    /**
+     * @param type The type to be parsed. (NotNull)
+     * @return The cached type name model. (NotNull)
+     */
+    public static MetaTypeName of(Type type) {
+        if (type == null) {
+            throw new IllegalArgumentException("The argument 'type' should not be null.");
+        }
+        if (type instanceof Class<?>) { // ClassValue not to hold classes by static map
+            return classTypeNameValue.get((Class<?>) type);
+        }
+        return parse(type.getTypeName()); // e.g. ParameterizedType, cached by the name
+    }
+
+    /**
+     * @param typeName The type name to be parsed, e.g. java.util.List&lt;java.lang.String&gt;. (NotNull)
+     * @return The cached type name model. (NotNull)
+     */
+    public static MetaTypeName parse(String typeName) {
+        if (typeName == null) {
+            throw new IllegalArgumentException("The argument 'typeName' should not be null.");
+        }
+        return parsedTypeNameMap.computeIfAbsent(typeName, key -> doParse(key));
+    }
+
+    protected static MetaTypeName doParse(String typeName) {
+        final int[] index = new int[] { 0 };
+        final MetaTypeName parsed = parseElement(typeName, index);
+        if (parsed == null || index[0] != typeName.length()) { // e.g. unbalanced brackets
+            return new MetaTypeName(typeName.trim(), Collections.emptyList(), ""); // as plain name
+        }
+        return parsed;
+    }
+
+    protected static MetaTypeName parseElement(String typeName, int[] index) { // null if broken
+        final int length = typeName.length();
+        final int rawBegin = index[0];
+        while (index[0] < length && "<>,".indexOf(typeName.charAt(index[0])) < 0) {
+            ++index[0];
+        }
+        final String rawName = typeName.substring(rawBegin, index[0]).trim();
+        final List<MetaTypeName> typeArgumentList = new ArrayList<>(2);
+        String suffix = "";
+        if (index[0] < length && typeName.charAt(index[0]) == '<') {
+            ++index[0]; // skip '<'
+            while (true) {
+                final MetaTypeName typeArgument = parseElement(typeName, index); // recursive
+                if (typeArgument == null || index[0] >= length) {
+                    return null;
+                }
+                typeArgumentList.add(typeArgument);
+                final char delimiter = typeName.charAt(index[0]);
+                ++index[0]; // skip ',' or '>'
+                if (delimiter == '>') {
+                    break;
+                }
+                if (delimiter != ',') {
+                    return null;
+                }
+            }
+            final int suffixBegin = index[0];
+            while (index[0] < length && "<>,".indexOf(typeName.charAt(index[0])) < 0) {
+                ++index[0];
+            }
+            suffix = typeName.substring(suffixBegin, index[0]).trim(); // e.g. []
+        }
+        return new MetaTypeName(rawName, typeArgumentList, suffix);
+    }
+
+    // ===================================================================================
+    //                                                                              Render
+    //                                                                              ======
+    protected String render(boolean simple) {
+        final String rawExp = simple ? toSimpleName(rawName) : rawName;
+        if (typeArgumentList.isEmpty()) {
+            return rawExp + suffix;
+        }
+        final StringBuilder sb = new StringBuilder();
+        sb.append(rawExp).append("<");
+        for (int i = 0; i < typeArgumentList.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            final MetaTypeName typeArgument = typeArgumentList.get(i);
+            sb.append(simple ? typeArgument.getSimpleName() : typeArgument.getFullName());
+        }
+        sb.append(">").append(suffix);
+        return sb.toString();
+    }
+
+    /**
+     * Remove package names from the type name expression, same as old regular expression "[a-z0-9]+\\.".
+     * @param typeName The type name expression. (NotNull)
+     * @return The simple name, e.g. org.docksidestage.Sea to Sea. (NotNull)
+     */
+    public static String toSimpleName(String typeName) {
+        final int length = typeName.length();
+        final StringBuilder sb = new StringBuilder(length);
+        int runBegin = -1; // begin index of lower-case/digit run
+        for (int i = 0; i < length; i++) {
+            final char ch = typeName.charAt(i);
+            if ((ch >= 'a' && ch <= 'z') || (ch >= '0' && ch <= '9')) {
+                if (runBegin < 0) {
+                    runBegin = i;
+                }
+                continue;
+            }
+            if (runBegin >= 0) {
+                if (ch == '.') { // run with dot is removed
+                    runBegin = -1;
+                    continue;
+                }
+                sb.append(typeName, runBegin, i);
+                runBegin = -1;
+            }
+            sb.append(ch);
+        }
+        if (runBegin >= 0) {
+            sb.append(typeName, runBegin, length);
+        }
+        return sb.toString();
+    }
+
+    // ===================================================================================
+    //                                                                           Determine
+    //                                                                           =========
+    public boolean hasTypeArgument() {
+        return !typeArgumentList.isEmpty();
+    }
+
+    /**
+     * @return The joined full names of type arguments, e.g. "java.lang.String, java.lang.Integer". (NotNull, EmptyAllowed)
+     */
+    public String buildTypeArgumentsFullName() {
+        return buildTypeArgumentsName(", ", false);
+    }
+
+    public String buildTypeArgumentsName(String delimiter, boolean simple) {
+        final StringBuilder sb = new StringBuilder();
+        for (MetaTypeName typeArgument : typeArgumentList) {
+            if (sb.length() > 0) {
+                sb.append(delimiter);
+            }
+            sb.append(simple ? typeArgument.getSimpleName() : typeArgument.getFullName());
+        }
+        return sb.toString();
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return fullName;
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public String getRawName() {
+        return rawName;
+    }
+
+    public List<MetaTypeName> getTypeArgumentList() {
+        return typeArgumentList;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getSimpleName() {
+        return simpleName;
+    }
+}
@@ -55,6 +55,6 @@ public class MetaTypeNameAdjuster {
     }
 
     public String adjustSimpleTypeName(String typeName) {
-        return typeName.replaceAll("[a-z0-9]+\\.", ""); // e.g. org.docksidestage.Sea => Sea
+        return MetaTypeName.toSimpleName(typeName); // e.g. org.docksidestage.Sea => Sea
     }
 }
@@ -24,6 +24,8 @@ import org.dbflute.util.DfCollectionUtil;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
 import org.lastaflute.meta.document.parts.action.FormFieldNameAdjuster;
 import org.lastaflute.meta.document.parts.annotation.MetaAnnotationArranger;
+import org.lastaflute.meta.document.parts.type.MetaGenericTypeResolver;
+import org.lastaflute.meta.document.parts.type.MetaTypeBindings;
 import org.lastaflute.meta.document.parts.type.MetaTypeNameAdjuster;
 import org.lastaflute.meta.document.zone.properties.ActionPropertiesAnalyzer;
 import org.lastaflute.meta.sourceparser.SourceParserReflector;
@@ -49,6 +51,7 @@ public class ExecuteFormTypeAnalyzer {
     protected final MetaAnnotationArranger metaAnnotationArranger;
     protected final MetaTypeNameAdjuster metaTypeNameAdjuster;
     protected final FormFieldNameAdjuster formFieldNameAdjuster;
+    protected final MetaGenericTypeResolver metaGenericTypeResolver; // shared in analysis
 
     // ===================================================================================
     //                                                                         Constructor
@@ -56,12 +59,20 @@ public class ExecuteFormTypeAnalyzer {
     public ExecuteFormTypeAnalyzer(int depth, OptionalThing<SourceParserReflector> sourceParserReflector,
             MetaAnnotationArranger metaAnnotationArranger, MetaTypeNameAdjuster metaTypeNameAdjuster,
             FormFieldNameAdjuster formFieldNameAdjuster) {
+        this(depth, sourceParserReflector, metaAnnotationArranger, metaTypeNameAdjuster, formFieldNameAdjuster,
+                new MetaGenericTypeResolver());
+    }
+
+    public ExecuteFormTypeAnalyzer(int depth, OptionalThing<SourceParserReflector> sourceParserReflector,
+            MetaAnnotationArranger metaAnnotationArranger, MetaTypeNameAdjuster metaTypeNameAdjuster,
+            FormFieldNameAdjuster formFieldNameAdjuster, MetaGenericTypeResolver metaGenericTypeResolver) {
         this.depth = depth;
         this.sourceParserReflector = sourceParserReflector;
 
         this.metaAnnotationArranger = metaAnnotationArranger;
         this.metaTypeNameAdjuster = metaTypeNameAdjuster;
         this.formFieldNameAdjuster = formFieldNameAdjuster;
+        this.metaGenericTypeResolver = metaGenericTypeResolver;
     }
 
     // ===================================================================================
@@ -69,26 +80,39 @@ public class ExecuteFormTypeAnalyzer {
     //                                                                        ============
     public OptionalThing<TypeDocMeta> analyzeFormClass(ActionExecute execute) {
         return execute.getFormMeta().map(lastafluteFormMeta -> {
-            final TypeDocMeta formDocMeta = new TypeDocMeta();
-            lastafluteFormMeta.getListFormParameterParameterizedType().ifPresent(type -> {
-                formDocMeta.setType(lastafluteFormMeta.getSymbolFormType());
-                formDocMeta.setTypeName(adjustTypeName(type));
-                formDocMeta.setSimpleTypeName(adjustSimpleTypeName(type));
-            }).orElse(() -> {
-                formDocMeta.setType(lastafluteFormMeta.getSymbolFormType());
-                formDocMeta.setTypeName(adjustTypeName(lastafluteFormMeta.getSymbolFormType()));
-                formDocMeta.setSimpleTypeName(adjustSimpleTypeName(lastafluteFormMeta.getSymbolFormType()));
-            });
-            final Class<?> formType = lastafluteFormMeta.getListFormParameterGenericType().orElse(lastafluteFormMeta.getSymbolFormType());
-            // #thinking jflute form does not have nest as generic? (2021/06/26)
-            final Map<String, Type> genericParameterTypesMap = DfCollectionUtil.emptyMap();
-            final List<TypeDocMeta> propertyDocMetaList = analyzeProperties(genericParameterTypesMap, formType);
-            formDocMeta.setNestTypeDocMetaList(propertyDocMetaList);
-            sourceParserReflector.ifPresent(sourceParserReflector -> {
-                sourceParserReflector.reflect(formDocMeta, formType);
-            });
-            return formDocMeta;
+            final Class<?> symbolFormType = lastafluteFormMeta.getSymbolFormType();
+            final OptionalThing<Type> listFormParameterizedType = lastafluteFormMeta.getListFormParameterParameterizedType().map(tp -> tp);
+            final Class<?> formType = lastafluteFormMeta.getListFormParameterGenericType().orElse(symbolFormType);
+            return analyzeFormType(symbolFormType, listFormParameterizedType, formType);
+        });
+    }
+
+    /**
+     * Analyze the form type without action execute of LastaFlute, e.g. for container-free discovery.
+     * @param symbolFormType The symbol type of form e.g. SeaForm, List (if list body). (NotNull)
+     * @param listFormParameterizedType The optional parameterized type if list body e.g. List&lt;SeaBody&gt;. (NotNull, EmptyAllowed)
+     * @param formType The type of form properties e.g. SeaForm, SeaBody (if list body). (NotNull)
+     * @return The type meta of the form. (NotNull)
+     */
+    public TypeDocMeta analyzeFormType(Class<?> symbolFormType, OptionalThing<Type> listFormParameterizedType, Class<?> formType) {
+        final TypeDocMeta formDocMeta = new TypeDocMeta();
+        listFormParameterizedType.ifPresent(type -> {
+            formDocMeta.setType(symbolFormType);
+            formDocMeta.setTypeName(adjustTypeName(type));
+            formDocMeta.setSimpleTypeName(adjustSimpleTypeName(type));
+        }).orElse(() -> {
+            formDocMeta.setType(symbolFormType);
+            formDocMeta.setTypeName(adjustTypeName(symbolFormType));
+            formDocMeta.setSimpleTypeName(adjustSimpleTypeName(symbolFormType));
+        });
+        // #thinking jflute form does not have nest as generic? (2021/06/26)
+        final Map<String, Type> genericParameterTypesMap = DfCollectionUtil.emptyMap();
+        final List<TypeDocMeta> propertyDocMetaList = analyzeProperties(genericParameterTypesMap, formType);
+        formDocMeta.setNestTypeDocMetaList(propertyDocMetaList);
+        sourceParserReflector.ifPresent(sourceParserReflector -> {
+            sourceParserReflector.reflect(formDocMeta, formType);
         });
+        return formDocMeta;
     }
 
     // -----------------------------------------------------
@@ -100,8 +124,8 @@ public class ExecuteFormTypeAnalyzer {
     }
 
     protected ActionPropertiesAnalyzer createActionPropertiesAnalyzer(Map<String, Type> genericParameterTypesMap) {
-        return new ActionPropertiesAnalyzer(sourceParserReflector, genericParameterTypesMap // basic
-                , metaAnnotationArranger, metaTypeNameAdjuster, formFieldNameAdjuster); // parts
+        return new ActionPropertiesAnalyzer(sourceParserReflector, genericParameterTypesMap, MetaTypeBindings.empty() // basic
+                , metaAnnotationArranger, metaTypeNameAdjuster, formFieldNameAdjuster, metaGenericTypeResolver); // parts
     }
 
     // ===================================================================================
@@ -23,6 +23,7 @@ import java.util.Collections;
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.util.DfReflectionUtil;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyRecorder;
 import org.lastaflute.meta.document.parts.annotation.MetaAnnotationArranger;
 import org.lastaflute.meta.document.parts.type.MetaTypeNameAdjuster;
 import org.lastaflute.meta.sourceparser.SourceParserReflector;
@@ -63,10 +64,12 @@ public class ExecuteParameterAnalyzer {
         parameterDocMeta.setName(parameter.getName());
         parameterDocMeta.setPublicName(parameter.getName());
         parameterDocMeta.setType(parameter.getType());
+        MetaDependencyRecorder.recordType(parameter.getType()); // e.g. classification
         parameterDocMeta.setTypeName(adjustTypeName(parameter.getParameterizedType()));
         parameterDocMeta.setSimpleTypeName(adjustSimpleTypeName(parameter.getParameterizedType()));
         if (OptionalThing.class.isAssignableFrom(parameter.getType())) {
             parameterDocMeta.setGenericType(DfReflectionUtil.getGenericFirstClass(parameter.getParameterizedType()));
+            MetaDependencyRecorder.recordType(parameterDocMeta.getGenericType());
         }
         parameterDocMeta.setAnnotationTypeList(Arrays.asList(parameter.getAnnotatedType().getAnnotations()));
         parameterDocMeta.setAnnotationList(metaAnnotationArranger.arrangeAnnotationList(parameterDocMeta.getAnnotationTypeList()));
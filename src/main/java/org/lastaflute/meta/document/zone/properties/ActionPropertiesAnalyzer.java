@@ -18,7 +18,7 @@ package org.lastaflute.meta.document.zone.properties;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
-import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,8 +28,14 @@ import org.dbflute.optional.OptionalThing;
 import org.dbflute.util.DfCollectionUtil;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
 import org.lastaflute.meta.document.parts.action.FormFieldNameAdjuster;
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyRecorder;
 import org.lastaflute.meta.document.parts.annotation.MetaAnnotationArranger;
+import org.lastaflute.meta.document.parts.reflection.MetaReflectionCache;
+import org.lastaflute.meta.document.parts.type.MetaGenericTypeResolver;
+import org.lastaflute.meta.document.parts.type.MetaTypeBindings;
 import org.lastaflute.meta.document.parts.type.MetaTypeNameAdjuster;
+import org.lastaflute.meta.infra.metrics.MetaGenerationCounter;
+import org.lastaflute.meta.infra.metrics.MetaGenerationMetrics;
 import org.lastaflute.meta.sourceparser.SourceParserReflector;
 
 // package of this class should be under lastaflute but no fix for compatible
@@ -57,11 +63,19 @@ public class ActionPropertiesAnalyzer {
 
     // properties fixed attribute(s)
     protected final Map<String, Type> genericParameterTypesMap; // read-only
+    protected final MetaTypeBindings typeBindings; // not null, empty allowed
 
     // parts
     protected final MetaAnnotationArranger metaAnnotationArranger;
     protected final MetaTypeNameAdjuster metaTypeNameAdjuster;
     protected final FormFieldNameAdjuster formFieldNameAdjuster;
+    protected final MetaReflectionCache metaReflectionCache = newMetaReflectionCache(); // shared by ClassValue
+
+    protected MetaReflectionCache newMetaReflectionCache() {
+        return new MetaReflectionCache();
+    }
+
+    protected final MetaGenericTypeResolver metaGenericTypeResolver; // shared in analysis
 
     // ===================================================================================
     //                                                                         Constructor
@@ -69,13 +83,29 @@ public class ActionPropertiesAnalyzer {
     public ActionPropertiesAnalyzer(OptionalThing<SourceParserReflector> sourceParserReflector, Map<String, Type> genericParameterTypesMap,
             MetaAnnotationArranger metaAnnotationArranger, MetaTypeNameAdjuster metaTypeNameAdjuster,
             FormFieldNameAdjuster formFieldNameAdjuster) {
+        this(sourceParserReflector, genericParameterTypesMap, MetaTypeBindings.empty(), metaAnnotationArranger, metaTypeNameAdjuster,
+                formFieldNameAdjuster);
+    }
+
+    public ActionPropertiesAnalyzer(OptionalThing<SourceParserReflector> sourceParserReflector, Map<String, Type> genericParameterTypesMap,
+            MetaTypeBindings typeBindings, MetaAnnotationArranger metaAnnotationArranger, MetaTypeNameAdjuster metaTypeNameAdjuster,
+            FormFieldNameAdjuster formFieldNameAdjuster) {
+        this(sourceParserReflector, genericParameterTypesMap, typeBindings, metaAnnotationArranger, metaTypeNameAdjuster,
+                formFieldNameAdjuster, new MetaGenericTypeResolver());
+    }
+
+    public ActionPropertiesAnalyzer(OptionalThing<SourceParserReflector> sourceParserReflector, Map<String, Type> genericParameterTypesMap,
+            MetaTypeBindings typeBindings, MetaAnnotationArranger metaAnnotationArranger, MetaTypeNameAdjuster metaTypeNameAdjuster,
+            FormFieldNameAdjuster formFieldNameAdjuster, MetaGenericTypeResolver metaGenericTypeResolver) {
         this.sourceParserReflector = sourceParserReflector;
 
         this.genericParameterTypesMap = genericParameterTypesMap;
+        this.typeBindings = typeBindings;
 
         this.metaAnnotationArranger = metaAnnotationArranger;
         this.metaTypeNameAdjuster = metaTypeNameAdjuster;
         this.formFieldNameAdjuster = formFieldNameAdjuster;
+        this.metaGenericTypeResolver = metaGenericTypeResolver;
     }
 
     // ===================================================================================
@@ -87,23 +117,44 @@ public class ActionPropertiesAnalyzer {
         if (depth < 0) {
             return DfCollectionUtil.newArrayList();
         }
+        MetaDependencyRecorder.recordType(propertyOwner); // fields of the owner and super classes are consulted
         final Set<Field> fieldSet = extractWholeFieldSet(propertyOwner);
-        return fieldSet.stream().filter(field -> { // also contains private fields and super's fields
+        final List<TypeDocMeta> propertyList = fieldSet.stream().filter(field -> { // also contains private fields and super's fields
             return !exceptsField(field);
         }).map(field -> { // #question can private fields be treated as property? by jflute
             return analyzePropertyField(propertyOwner, depth, field);
         }).collect(Collectors.toList());
+        MetaGenerationMetrics.countUp(MetaGenerationCounter.PROPERTY, propertyList.size());
+        return propertyList;
     }
 
-    protected Set<Field> extractWholeFieldSet(Class<?> propertyOwner) {
-        final Set<Field> fieldSet = DfCollectionUtil.newLinkedHashSet();
-        for (Class<?> targetClazz = propertyOwner; targetClazz != Object.class; targetClazz = targetClazz.getSuperclass()) {
-            if (targetClazz == null) { // e.g. interface: MultipartFormFile
-                break;
-            }
-            fieldSet.addAll(Arrays.asList(targetClazz.getDeclaredFields()));
+    /**
+     * Analyze properties of the nested owner with its own type bindings, e.g. PagingResult&lt;E&gt; in ApiResult&lt;T&gt;.
+     * @param propertyOwner The erased class of the nested owner. (NotNull)
+     * @param propertyOwnerType The resolved type of the nested owner, e.g. PagingResult&lt;ItemPart&gt;. (NotNull)
+     * @param depth The depth of analyzed target, to avoid cyclic analyzing.
+     * @return The list of property meta. (NotNull)
+     */
+    public List<TypeDocMeta> analyzeNestProperties(Class<?> propertyOwner, Type propertyOwnerType, int depth) {
+        final MetaTypeBindings nestBindings = metaGenericTypeResolver.resolveBindings(propertyOwnerType).mergeOuter(typeBindings);
+        if (nestBindings == typeBindings) { // no new binding e.g. non-generic nested class
+            return analyzeProperties(propertyOwner, depth);
         }
-        return fieldSet;
+        final Map<String, Type> nestTypesMap = new LinkedHashMap<>(nestBindings.toNameMap());
+        genericParameterTypesMap.forEach((name, type) -> nestTypesMap.putIfAbsent(name, type));
+        final ActionPropertiesAnalyzer nestAnalyzer = createNestActionPropertiesAnalyzer(nestTypesMap, nestBindings);
+        return nestAnalyzer.analyzeProperties(propertyOwner, depth);
+    }
+
+    protected ActionPropertiesAnalyzer createNestActionPropertiesAnalyzer(Map<String, Type> nestTypesMap, MetaTypeBindings nestBindings) {
+        return new ActionPropertiesAnalyzer(sourceParserReflector, nestTypesMap, nestBindings // basic
+                , metaAnnotationArranger, metaTypeNameAdjuster, formFieldNameAdjuster, metaGenericTypeResolver); // parts
+    }
+
+    protected Set<Field> extractWholeFieldSet(Class<?> propertyOwner) {
+        // cached per class with super's fields (stops at Object or null e.g. interface: MultipartFormFile)
+        // static and synthetic fields are already filtered there
+        return DfCollectionUtil.newLinkedHashSet(metaReflectionCache.findPropertyFieldList(propertyOwner));
     }
 
     protected boolean exceptsField(Field field) { // e.g. special field and static field
@@ -119,8 +170,8 @@ public class ActionPropertiesAnalyzer {
     }
 
     protected ActionPropertyFieldAnalyzer createActionPropertyFieldAnalyzer() {
-        return new ActionPropertyFieldAnalyzer(sourceParserReflector, genericParameterTypesMap // basic
-                , metaAnnotationArranger, metaTypeNameAdjuster, formFieldNameAdjuster // parts
+        return new ActionPropertyFieldAnalyzer(sourceParserReflector, genericParameterTypesMap, typeBindings // basic
+                , metaAnnotationArranger, metaTypeNameAdjuster, formFieldNameAdjuster, metaGenericTypeResolver // parts
                 , this); // for recursive
     }
 }
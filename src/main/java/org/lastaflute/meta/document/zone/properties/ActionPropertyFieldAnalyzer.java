@@ -18,13 +18,11 @@ package org.lastaflute.meta.document.zone.properties;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
 import java.util.Arrays;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-import org.dbflute.jdbc.Classification;
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.util.DfReflectionUtil;
 import org.dbflute.util.DfReflectionUtil.ReflectionFailureException;
@@ -32,6 +30,11 @@ import org.lastaflute.di.util.tiger.LdiGenericUtil;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
 import org.lastaflute.meta.document.parts.action.FormFieldNameAdjuster;
 import org.lastaflute.meta.document.parts.annotation.MetaAnnotationArranger;
+import org.lastaflute.meta.document.parts.enumtype.MetaEnumRegistry;
+import org.lastaflute.meta.document.parts.reflection.MetaReflectionCache;
+import org.lastaflute.meta.document.parts.type.MetaGenericTypeResolver;
+import org.lastaflute.meta.document.parts.type.MetaTypeBindings;
+import org.lastaflute.meta.document.parts.type.MetaTypeName;
 import org.lastaflute.meta.document.parts.type.MetaTypeNameAdjuster;
 import org.lastaflute.meta.sourceparser.SourceParserReflector;
 
@@ -61,11 +64,25 @@ public class ActionPropertyFieldAnalyzer {
 
     // properties fixed attribute(s)
     protected final Map<String, Type> genericParameterTypesMap; // read-only
+    protected final MetaTypeBindings typeBindings; // not null, empty allowed
 
     // parts
     protected final MetaAnnotationArranger metaAnnotationArranger;
     protected final MetaTypeNameAdjuster metaTypeNameAdjuster;
     protected final FormFieldNameAdjuster formFieldNameAdjuster;
+    protected final MetaReflectionCache metaReflectionCache = newMetaReflectionCache(); // shared by ClassValue
+
+    protected MetaReflectionCache newMetaReflectionCache() {
+        return new MetaReflectionCache();
+    }
+
+    protected final MetaGenericTypeResolver metaGenericTypeResolver; // shared in analysis
+
+    protected final MetaEnumRegistry metaEnumRegistry = newMetaEnumRegistry(); // shared by ClassValue
+
+    protected MetaEnumRegistry newMetaEnumRegistry() {
+        return new MetaEnumRegistry();
+    }
 
     // zone
     protected final ActionPropertiesAnalyzer actionPropertiesAnalyzer; // recursive call
@@ -77,13 +94,31 @@ public class ActionPropertyFieldAnalyzer {
             Map<String, Type> genericParameterTypesMap, MetaAnnotationArranger metaAnnotationArranger,
             MetaTypeNameAdjuster metaTypeNameAdjuster, FormFieldNameAdjuster formFieldNameAdjuster,
             ActionPropertiesAnalyzer actionPropertiesAnalyzer) {
+        this(sourceParserReflector, genericParameterTypesMap, MetaTypeBindings.empty(), metaAnnotationArranger, metaTypeNameAdjuster,
+                formFieldNameAdjuster, actionPropertiesAnalyzer);
+    }
+
+    public ActionPropertyFieldAnalyzer(OptionalThing<SourceParserReflector> sourceParserReflector,
+            Map<String, Type> genericParameterTypesMap, MetaTypeBindings typeBindings, MetaAnnotationArranger metaAnnotationArranger,
+            MetaTypeNameAdjuster metaTypeNameAdjuster, FormFieldNameAdjuster formFieldNameAdjuster,
+            ActionPropertiesAnalyzer actionPropertiesAnalyzer) {
+        this(sourceParserReflector, genericParameterTypesMap, typeBindings, metaAnnotationArranger, metaTypeNameAdjuster,
+                formFieldNameAdjuster, new MetaGenericTypeResolver(), actionPropertiesAnalyzer);
+    }
+
+    public ActionPropertyFieldAnalyzer(OptionalThing<SourceParserReflector> sourceParserReflector,
+            Map<String, Type> genericParameterTypesMap, MetaTypeBindings typeBindings, MetaAnnotationArranger metaAnnotationArranger,
+            MetaTypeNameAdjuster metaTypeNameAdjuster, FormFieldNameAdjuster formFieldNameAdjuster,
+            MetaGenericTypeResolver metaGenericTypeResolver, ActionPropertiesAnalyzer actionPropertiesAnalyzer) {
         this.sourceParserReflector = sourceParserReflector;
 
         this.genericParameterTypesMap = genericParameterTypesMap;
+        this.typeBindings = typeBindings;
 
         this.metaAnnotationArranger = metaAnnotationArranger;
         this.metaTypeNameAdjuster = metaTypeNameAdjuster;
         this.formFieldNameAdjuster = formFieldNameAdjuster;
+        this.metaGenericTypeResolver = metaGenericTypeResolver;
 
         this.actionPropertiesAnalyzer = actionPropertiesAnalyzer;
     }
@@ -114,11 +149,7 @@ public class ActionPropertyFieldAnalyzer {
     protected Class<?> reflectBasicAnalysisToMeta(Field field, TypeDocMeta meta) {
         final Class<?> resolvedClass;
         {
-            final Type resolvedType;
-            {
-                final Type genericClass = genericParameterTypesMap.get(field.getGenericType().getTypeName());
-                resolvedType = genericClass != null ? genericClass : field.getType();
-            }
+            final Type resolvedType = resolveFieldType(field); // e.g. PagingResult<ItemPart> if T field
 
             // basic item
             meta.setName(field.getName()); // also property name #question but overridden later, needed? by jflute
@@ -129,15 +160,11 @@ public class ActionPropertyFieldAnalyzer {
             meta.setSimpleTypeName(adjustSimpleTypeName(resolvedType));
 
             // annotation item
-            meta.setAnnotationTypeList(Arrays.asList(field.getAnnotations()));
+            meta.setAnnotationTypeList(metaReflectionCache.findFieldAnnotationList(field));
             meta.setAnnotationList(metaAnnotationArranger.arrangeAnnotationList(meta.getAnnotationTypeList()));
 
             // comment item (value expression)
-            if (resolvedType instanceof Class) {
-                resolvedClass = (Class<?>) resolvedType;
-            } else {
-                resolvedClass = (Class<?>) DfReflectionUtil.getGenericParameterTypes(resolvedType)[0];
-            }
+            resolvedClass = extractResolvedClass(resolvedType);
             if (resolvedClass.isEnum()) {
                 // e.g. public AppCDef.PublicProductStatus productStatus;
                 // #for_now jflute only for field comment of LastaDoc (swagger extracts from type directly) (2021/08/05)
@@ -147,6 +174,30 @@ public class ActionPropertyFieldAnalyzer {
         return resolvedClass;
     }
 
+    protected Type resolveFieldType(Field field) { // not null
+        final Type fieldGenericType = metaReflectionCache.findFieldGenericType(field);
+        if (fieldGenericType instanceof TypeVariable<?>) { // e.g. T data
+            final Type boundType = typeBindings.findBoundType((TypeVariable<?>) fieldGenericType); // resolved at any depth
+            if (boundType != null) {
+                return boundType;
+            }
+        }
+        final Type genericClass = genericParameterTypesMap.get(fieldGenericType.getTypeName()); // by name for compatible
+        return genericClass != null ? genericClass : field.getType();
+    }
+
+    protected Class<?> extractResolvedClass(Type resolvedType) {
+        if (resolvedType instanceof Class) {
+            return (Class<?>) resolvedType;
+        }
+        // e.g. List<ItemPart> => ItemPart, List<List<ItemPart>> => ItemPart, PagingResult<ItemPart> => PagingResult
+        return metaGenericTypeResolver.eraseType(extractNestOwnerType(resolvedType));
+    }
+
+    protected Type extractNestOwnerType(Type resolvedType) { // not null
+        return metaGenericTypeResolver.findInnermostElementType(resolvedType); // itself if non-iterable
+    }
+
     // -----------------------------------------------------
     //                                         Nest Analysis
     //                                         -------------
@@ -166,7 +217,8 @@ public class ActionPropertyFieldAnalyzer {
             //      }
             //  }
             // _/_/_/_/_/_/_/_/_/_/
-            final List<TypeDocMeta> nestTypeDocMetaList = actionPropertiesAnalyzer.analyzeProperties(resolvedClass, nestDepth);
+            final Type nestOwnerType = extractNestOwnerType(resolveFieldType(field)); // to bind its type variables
+            final List<TypeDocMeta> nestTypeDocMetaList = analyzeNestProperties(resolvedClass, nestOwnerType, nestDepth);
             meta.setNestTypeDocMetaList(nestTypeDocMetaList);
         } else if (isTargetSuffixFieldGeneric(field)) { // nested bean of generic type as top or inner class
             // _/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/
@@ -182,29 +234,37 @@ public class ActionPropertyFieldAnalyzer {
             //      }
             //  }
             // _/_/_/_/_/_/_/_/_/_/
-            final Type type = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+            final Type fieldGenericType = metaReflectionCache.findFieldGenericType(field);
+            final Type type = metaGenericTypeResolver.resolveType(((ParameterizedType) fieldGenericType).getActualTypeArguments()[0], typeBindings);
             if (type instanceof Class<?>) {
                 final Class<?> typeArgumentClass = (Class<?>) type;
-                final List<TypeDocMeta> nestTypeDocMetaList = actionPropertiesAnalyzer.analyzeProperties(typeArgumentClass, nestDepth);
+                final List<TypeDocMeta> nestTypeDocMetaList = analyzeNestProperties(typeArgumentClass, type, nestDepth);
                 meta.setNestTypeDocMetaList(nestTypeDocMetaList);
                 // overriding type names that are already set before
                 final String currentTypeName = meta.getTypeName();
                 meta.setTypeName(buildGenericTwoLayerTypeName(typeArgumentClass, currentTypeName));
                 meta.setSimpleTypeName(buildGenericTwoLayerSimpleTypeName(typeArgumentClass, currentTypeName));
-            } else if (type instanceof ParameterizedType) {
-                final Class<?> typeArgumentClass = (Class<?>) ((ParameterizedType) type).getActualTypeArguments()[0];
-                final List<TypeDocMeta> nestTypeDocMetaList = actionPropertiesAnalyzer.analyzeProperties(typeArgumentClass, nestDepth);
+            } else if (type instanceof ParameterizedType) { // e.g. List<List<SeaResult>>, List<PagingResult<SeaResult>>
+                final Type nestOwnerType = extractNestOwnerType(type); // any depth of nested list
+                final Class<?> typeArgumentClass = metaGenericTypeResolver.eraseType(nestOwnerType);
+                final List<TypeDocMeta> nestTypeDocMetaList = analyzeNestProperties(typeArgumentClass, nestOwnerType, nestDepth);
                 meta.setNestTypeDocMetaList(nestTypeDocMetaList);
                 // overriding type names that are already set before
                 final String currentTypeName = meta.getTypeName();
-                meta.setTypeName(buildGenericThreeLayerTypeName(type, typeArgumentClass, currentTypeName));
-                meta.setSimpleTypeName(buildGenericThreeLayerSimpleTypeName(type, typeArgumentClass, currentTypeName));
+                if (((ParameterizedType) type).getActualTypeArguments()[0] == typeArgumentClass) { // e.g. List<List<SeaResult>>
+                    meta.setTypeName(buildGenericThreeLayerTypeName(type, typeArgumentClass, currentTypeName));
+                    meta.setSimpleTypeName(buildGenericThreeLayerSimpleTypeName(type, typeArgumentClass, currentTypeName));
+                } else { // more nested or non-list wrapper
+                    meta.setTypeName(buildGenericNestedTypeName(type, currentTypeName));
+                    meta.setSimpleTypeName(buildGenericNestedSimpleTypeName(type, currentTypeName));
+                }
             }
         } else { // e.g. String, Integer, LocalDate, Sea<MysticResult>, List<Integer>, List<CDef.StageType>
             // #needs_fix p1us2er0 optimisation, generic handling in analyzePropertyField() (2017/09/26)
-            final Type fieldGenericType = field.getGenericType(); // not null (returning Integer if Integer)
-            if (fieldGenericType.getTypeName().matches(".*<(.*)>")) { // e.g. Sea<MysticResult>, List<Integer>, List<CDef.StageType>
-                final String genericTypeName = fieldGenericType.getTypeName().replaceAll(".*<(.*)>", "$1");
+            final Type fieldGenericType = metaReflectionCache.findFieldGenericType(field); // not null (returning Integer if Integer)
+            final MetaTypeName fieldTypeName = MetaTypeName.of(fieldGenericType); // parsed once per type
+            if (fieldTypeName.hasTypeArgument()) { // e.g. Sea<MysticResult>, List<Integer>, List<CDef.StageType>
+                final String genericTypeName = fieldTypeName.buildTypeArgumentsFullName(); // e.g. MysticResult
 
                 // generic item
                 try {
@@ -213,10 +273,11 @@ public class ActionPropertyFieldAnalyzer {
                     meta.setGenericType(Object.class); // unknown
                 }
 
-                final Type genericClass = genericParameterTypesMap.get(genericTypeName);
+                final Type genericClass = resolveGenericArgumentType(fieldGenericType, genericTypeName);
                 if (genericClass != null) { // e.g. Sea<MysticResult> (Sea<BEAN>)
-                    final List<TypeDocMeta> nestTypeDocMetaList =
-                            actionPropertiesAnalyzer.analyzeProperties((Class<?>) genericClass, nestDepth);
+                    final Type nestOwnerType = extractNestOwnerType(genericClass); // e.g. PagingResult<ItemPart> if BEAN is it
+                    final Class<?> nestOwnerClass = metaGenericTypeResolver.eraseType(nestOwnerType);
+                    final List<TypeDocMeta> nestTypeDocMetaList = analyzeNestProperties(nestOwnerClass, nestOwnerType, nestDepth);
                     meta.setNestTypeDocMetaList(nestTypeDocMetaList);
 
                     // overriding type names that are already set before
@@ -240,6 +301,21 @@ public class ActionPropertyFieldAnalyzer {
         }
     }
 
+    protected Type resolveGenericArgumentType(Type fieldGenericType, String genericTypeName) { // null allowed
+        final Type firstArgument = metaGenericTypeResolver.findFirstTypeArgument(fieldGenericType);
+        if (firstArgument instanceof TypeVariable<?>) { // e.g. Sea<BEAN>
+            final Type boundType = typeBindings.findBoundType((TypeVariable<?>) firstArgument);
+            if (boundType != null) {
+                return boundType;
+            }
+        }
+        return genericParameterTypesMap.get(genericTypeName); // by name for compatible
+    }
+
+    protected List<TypeDocMeta> analyzeNestProperties(Class<?> nestOwnerClass, Type nestOwnerType, int nestDepth) {
+        return actionPropertiesAnalyzer.analyzeNestProperties(nestOwnerClass, nestOwnerType, nestDepth);
+    }
+
     protected String buildGenericTwoLayerTypeName(Class<?> typeArgumentClass, String currentTypeName) {
         return adjustTypeName(currentTypeName) + "<" + adjustTypeName(typeArgumentClass) + ">";
     }
@@ -262,24 +338,20 @@ public class ActionPropertyFieldAnalyzer {
         return rootType + "<" + nestType + "<" + moreNestType + ">>";
     }
 
+    protected String buildGenericNestedTypeName(Type type, String currentTypeName) {
+        return adjustTypeName(currentTypeName) + "<" + adjustTypeName(type) + ">"; // whole nested arguments
+    }
+
+    protected String buildGenericNestedSimpleTypeName(Type type, String currentTypeName) {
+        return adjustSimpleTypeName(currentTypeName) + "<" + adjustSimpleTypeName(type) + ">";
+    }
+
     // ===================================================================================
     //                                                                         ENUM Values
     //                                                                         ===========
     protected String buildEnumValuesExp(Class<?> typeClass) {
-        final String valuesExp;
-        if (Classification.class.isAssignableFrom(typeClass)) {
-            @SuppressWarnings("unchecked")
-            final Class<Classification> clsType = ((Class<Classification>) typeClass);
-            valuesExp = Arrays.stream(clsType.getEnumConstants()).collect(Collectors.toMap(keyMapper -> {
-                return ((Classification) keyMapper).code(); // cannot be resolved by maven compiler, explicitly cast it
-            }, valueMapper -> {
-                return ((Classification) valueMapper).alias(); // me too
-            }, (u, v) -> v, LinkedHashMap::new)).toString(); // e.g. {FML = Formalized, PRV = Provisinal, ...}
-        } else {
-            final Enum<?>[] constants = (Enum<?>[]) typeClass.getEnumConstants();
-            valuesExp = Arrays.stream(constants).collect(Collectors.toList()).toString(); // e.g. [SEA, LAND, PIARI]
-        }
-        return valuesExp;
+        // e.g. {FML=Formalized, PRV=Provisinal, ...} if classification, [SEA, LAND, PIARI] if plain enum
+        return metaEnumRegistry.findEnumMeta(typeClass).getValuesExp(); // computed once per enum class
     }
 
     // ===================================================================================
@@ -294,7 +366,7 @@ public class ActionPropertyFieldAnalyzer {
     }
 
     protected boolean isTargetSuffixFieldGeneric(Field field) {
-        final Type genericType = field.getGenericType();
+        final Type genericType = metaReflectionCache.findFieldGenericType(field);
         final String genericTypeName = genericType.getTypeName(); // not null (same type if non generic)
         if (!genericTypeName.contains("<") || !genericTypeName.contains(">")) { // e.g. String, Integer
             return false; // non generic
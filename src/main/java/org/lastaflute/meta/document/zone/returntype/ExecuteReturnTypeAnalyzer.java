@@ -31,6 +31,8 @@ import org.dbflute.util.DfReflectionUtil;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
 import org.lastaflute.meta.document.parts.action.FormFieldNameAdjuster;
 import org.lastaflute.meta.document.parts.annotation.MetaAnnotationArranger;
+import org.lastaflute.meta.document.parts.type.MetaGenericTypeResolver;
+import org.lastaflute.meta.document.parts.type.MetaTypeBindings;
 import org.lastaflute.meta.document.parts.type.MetaTypeNameAdjuster;
 import org.lastaflute.meta.document.parts.type.NativeDataTypeProvider;
 import org.lastaflute.meta.document.zone.properties.ActionPropertiesAnalyzer;
@@ -72,6 +74,7 @@ public class ExecuteReturnTypeAnalyzer {
     protected final MetaTypeNameAdjuster metaTypeNameAdjuster;
     protected final NativeDataTypeProvider nativeDataTypeProvider;
     protected final FormFieldNameAdjuster formFieldNameAdjuster;
+    protected final MetaGenericTypeResolver metaGenericTypeResolver; // shared in analysis
 
     // ===================================================================================
     //                                                                         Constructor
@@ -79,6 +82,14 @@ public class ExecuteReturnTypeAnalyzer {
     public ExecuteReturnTypeAnalyzer(int depth, OptionalThing<SourceParserReflector> sourceParserReflector,
             MetaAnnotationArranger metaAnnotationArranger, MetaTypeNameAdjuster metaTypeNameAdjuster,
             NativeDataTypeProvider nativeDataTypeProvider, FormFieldNameAdjuster formFieldNameAdjuster) {
+        this(depth, sourceParserReflector, metaAnnotationArranger, metaTypeNameAdjuster, nativeDataTypeProvider, formFieldNameAdjuster,
+                new MetaGenericTypeResolver());
+    }
+
+    public ExecuteReturnTypeAnalyzer(int depth, OptionalThing<SourceParserReflector> sourceParserReflector,
+            MetaAnnotationArranger metaAnnotationArranger, MetaTypeNameAdjuster metaTypeNameAdjuster,
+            NativeDataTypeProvider nativeDataTypeProvider, FormFieldNameAdjuster formFieldNameAdjuster,
+            MetaGenericTypeResolver metaGenericTypeResolver) {
         this.depth = depth;
         this.sourceParserReflector = sourceParserReflector;
 
@@ -86,6 +97,7 @@ public class ExecuteReturnTypeAnalyzer {
         this.metaTypeNameAdjuster = metaTypeNameAdjuster;
         this.nativeDataTypeProvider = nativeDataTypeProvider;
         this.formFieldNameAdjuster = formFieldNameAdjuster;
+        this.metaGenericTypeResolver = metaGenericTypeResolver;
     }
 
     // ===================================================================================
@@ -116,13 +128,17 @@ public class ExecuteReturnTypeAnalyzer {
                 });
             });
 
-            if (Iterable.class.isAssignableFrom(returnClass)) { // e.g. List<String>, List<Sea<Land>>
+            final boolean iterableReturn = Iterable.class.isAssignableFrom(returnClass);
+            if (iterableReturn) { // e.g. List<String>, List<Sea<Land>>
                 returnClass = LaDocReflectionUtil.extractElementType(method.getGenericReturnType(), 1);
             }
+            final MetaTypeBindings typeBindings = resolveReturnTypeBindings(method, iterableReturn, returnClass);
+            genericParameterTypesMap.putAll(typeBindings.toNameMap()); // fully resolved types win
+
             final List<Class<? extends Object>> nativeClassList = nativeDataTypeProvider.provideNativeDataTypeList();
             if (returnClass != null && !nativeClassList.contains(returnClass)) {
                 final List<TypeDocMeta> propertyDocMetaList =
-                        analyzeProperties(Collections.unmodifiableMap(genericParameterTypesMap), returnClass);
+                        analyzeProperties(Collections.unmodifiableMap(genericParameterTypesMap), typeBindings, returnClass);
                 returnDocMeta.setNestTypeDocMetaList(propertyDocMetaList);
             }
 
@@ -137,17 +153,46 @@ public class ExecuteReturnTypeAnalyzer {
     protected void derivedManualReturnClass(Method method, TypeDocMeta returnDocMeta) {
     }
 
+    // -----------------------------------------------------
+    //                                         Type Bindings
+    //                                         -------------
+    // e.g. JsonResponse<ApiResult<PagingResult<ItemPart>>>
+    //  => T of ApiResult (and its super classes): PagingResult<ItemPart>
+    protected MetaTypeBindings resolveReturnTypeBindings(Method method, boolean iterableReturn, Class<?> returnClass) {
+        if (returnClass == null) {
+            return MetaTypeBindings.empty();
+        }
+        Type ownerType = metaGenericTypeResolver.findFirstTypeArgument(method.getGenericReturnType()); // e.g. ApiResult<...>
+        if (ownerType != null && iterableReturn) { // e.g. List<Sea<Land>>
+            ownerType = metaGenericTypeResolver.findFirstTypeArgument(ownerType); // e.g. Sea<Land>
+        }
+        if (ownerType == null || metaGenericTypeResolver.eraseType(ownerType) != returnClass) { // just in case
+            return metaGenericTypeResolver.resolveBindings(returnClass); // at least super classes
+        }
+        return metaGenericTypeResolver.resolveBindings(ownerType);
+    }
+
     // -----------------------------------------------------
     //                                    Analyze Properties
     //                                    ------------------
-    protected List<TypeDocMeta> analyzeProperties(Map<String, Type> genericParameterTypesMap, Class<?> propertyOwner) {
-        final ActionPropertiesAnalyzer propertiesAnalyzer = createActionPropertiesAnalyzer(genericParameterTypesMap);
+    protected List<TypeDocMeta> analyzeProperties(Map<String, Type> genericParameterTypesMap, Class<?> propertyOwner) { // for compatible
+        return analyzeProperties(genericParameterTypesMap, MetaTypeBindings.empty(), propertyOwner);
+    }
+
+    protected List<TypeDocMeta> analyzeProperties(Map<String, Type> genericParameterTypesMap, MetaTypeBindings typeBindings,
+            Class<?> propertyOwner) {
+        final ActionPropertiesAnalyzer propertiesAnalyzer = createActionPropertiesAnalyzer(genericParameterTypesMap, typeBindings);
         return propertiesAnalyzer.analyzeProperties(propertyOwner, depth);
     }
 
-    protected ActionPropertiesAnalyzer createActionPropertiesAnalyzer(Map<String, Type> genericParameterTypesMap) {
-        return new ActionPropertiesAnalyzer(sourceParserReflector, genericParameterTypesMap // basic
-                , metaAnnotationArranger, metaTypeNameAdjuster, formFieldNameAdjuster); // parts
+    protected ActionPropertiesAnalyzer createActionPropertiesAnalyzer(Map<String, Type> genericParameterTypesMap) { // for compatible
+        return createActionPropertiesAnalyzer(genericParameterTypesMap, MetaTypeBindings.empty());
+    }
+
+    protected ActionPropertiesAnalyzer createActionPropertiesAnalyzer(Map<String, Type> genericParameterTypesMap,
+            MetaTypeBindings typeBindings) {
+        return new ActionPropertiesAnalyzer(sourceParserReflector, genericParameterTypesMap, typeBindings // basic
+                , metaAnnotationArranger, metaTypeNameAdjuster, formFieldNameAdjuster, metaGenericTypeResolver); // parts
     }
 
     // ===================================================================================
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.infra.json;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.docmeta.JobDocMeta;
+import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * The streaming writers for document meta classes, instead of reflective field access. <br>
+ * Properties are written in the same order as field definition of the meta classes (except transient),
+ * so the output is the same as reflective serialization. (so keep it when you add fields to the meta) <br>
+ * Reading is delegated to the default adapter because meta JSON is not read as meta objects.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaDocTypeAdapterFactory implements TypeAdapterFactory {
+
+    // ===================================================================================
+    //                                                                             Factory
+    //                                                                             =======
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        final Class<? super T> rawType = type.getRawType();
+        if (TypeDocMeta.class.equals(rawType)) {
+            return (TypeAdapter<T>) new TypeDocMetaAdapter(gson.getDelegateAdapter(this, TypeToken.get(TypeDocMeta.class)));
+        } else if (ActionDocMeta.class.equals(rawType)) {
+            final TypeAdapter<TypeDocMeta> typeAdapter = gson.getAdapter(TypeDocMeta.class);
+            return (TypeAdapter<T>) new ActionDocMetaAdapter(gson.getDelegateAdapter(this, TypeToken.get(ActionDocMeta.class)),
+                    typeAdapter);
+        } else if (JobDocMeta.class.equals(rawType)) {
+            final TypeAdapter<TypeDocMeta> typeAdapter = gson.getAdapter(TypeDocMeta.class);
+            final TypeAdapter<Map<String, Object>> paramsAdapter = gson.getAdapter(new TypeToken<Map<String, Object>>() {
+            });
+            return (TypeAdapter<T>) new JobDocMetaAdapter(gson.getDelegateAdapter(this, TypeToken.get(JobDocMeta.class)), typeAdapter,
+                    paramsAdapter);
+        }
+        return null; // not meta class
+    }
+
+    // ===================================================================================
+    //                                                                           Type Meta
+    //                                                                           =========
+    protected static class TypeDocMetaAdapter extends TypeAdapter<TypeDocMeta> {
+
+        protected final TypeAdapter<TypeDocMeta> readingDelegate; // not null
+
+        public TypeDocMetaAdapter(TypeAdapter<TypeDocMeta> readingDelegate) {
+            this.readingDelegate = readingDelegate;
+        }
+
+        @Override
+        public void write(JsonWriter out, TypeDocMeta meta) throws IOException {
+            if (meta == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeString(out, "name", meta.getName());
+            writeString(out, "publicName", meta.getPublicName());
+            writeString(out, "typeName", meta.getTypeName());
+            writeString(out, "simpleTypeName", meta.getSimpleTypeName());
+            writeString(out, "value", meta.getValue());
+            writeString(out, "description", meta.getDescription());
+            writeString(out, "comment", meta.getComment());
+            writeStringList(out, "annotationList", meta.getAnnotationList());
+            writeMetaList(out, "nestTypeDocMetaList", meta.getNestTypeDocMetaList(), this);
+            out.endObject();
+        }
+
+        @Override
+        public TypeDocMeta read(JsonReader in) throws IOException {
+            return readingDelegate.read(in);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                         Action Meta
+    //                                                                         ===========
+    protected static class ActionDocMetaAdapter extends TypeAdapter<ActionDocMeta> {
+
+        protected final TypeAdapter<ActionDocMeta> readingDelegate; // not null
+        protected final TypeAdapter<TypeDocMeta> typeAdapter; // not null
+
+        public ActionDocMetaAdapter(TypeAdapter<ActionDocMeta> readingDelegate, TypeAdapter<TypeDocMeta> typeAdapter) {
+            this.readingDelegate = readingDelegate;
+            this.typeAdapter = typeAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, ActionDocMeta meta) throws IOException {
+            if (meta == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeString(out, "url", meta.getUrl());
+            writeString(out, "typeName", meta.getTypeName());
+            writeString(out, "simpleTypeName", meta.getSimpleTypeName());
+            writeString(out, "description", meta.getDescription());
+            writeString(out, "typeComment", meta.getTypeComment());
+            writeMetaList(out, "fieldTypeDocMetaList", meta.getFieldTypeDocMetaList(), typeAdapter);
+            writeString(out, "methodName", meta.getMethodName());
+            writeString(out, "methodComment", meta.getMethodComment());
+            writeStringList(out, "annotationList", meta.getAnnotationList());
+            writeMetaList(out, "parameterTypeDocMetaList", meta.getParameterTypeDocMetaList(), typeAdapter);
+            out.name("formTypeDocMeta");
+            typeAdapter.write(out, meta.getFormTypeDocMeta());
+            out.name("returnTypeDocMeta");
+            typeAdapter.write(out, meta.getReturnTypeDocMeta());
+            writeNumber(out, "fileLineCount", meta.getFileLineCount());
+            writeNumber(out, "methodLineCount", meta.getMethodLineCount());
+            out.endObject();
+        }
+
+        @Override
+        public ActionDocMeta read(JsonReader in) throws IOException {
+            return readingDelegate.read(in);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Job Meta
+    //                                                                            ========
+    protected static class JobDocMetaAdapter extends TypeAdapter<JobDocMeta> {
+
+        protected final TypeAdapter<JobDocMeta> readingDelegate; // not null
+        protected final TypeAdapter<TypeDocMeta> typeAdapter; // not null
+        protected final TypeAdapter<Map<String, Object>> paramsAdapter; // not null
+
+        public JobDocMetaAdapter(TypeAdapter<JobDocMeta> readingDelegate, TypeAdapter<TypeDocMeta> typeAdapter,
+                TypeAdapter<Map<String, Object>> paramsAdapter) {
+            this.readingDelegate = readingDelegate;
+            this.typeAdapter = typeAdapter;
+            this.paramsAdapter = paramsAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, JobDocMeta meta) throws IOException {
+            if (meta == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeString(out, "jobKey", meta.getJobKey());
+            writeString(out, "jobUnique", meta.getJobUnique());
+            writeString(out, "jobTitle", meta.getJobTitle());
+            writeString(out, "jobDescription", meta.getJobDescription());
+            writeString(out, "cronExp", meta.getCronExp());
+            writeString(out, "typeName", meta.getTypeName());
+            writeString(out, "simpleTypeName", meta.getSimpleTypeName());
+            writeString(out, "description", meta.getDescription());
+            writeString(out, "typeComment", meta.getTypeComment());
+            writeMetaList(out, "fieldTypeDocMetaList", meta.getFieldTypeDocMetaList(), typeAdapter);
+            writeString(out, "methodName", meta.getMethodName());
+            writeString(out, "methodComment", meta.getMethodComment());
+            out.name("params");
+            paramsAdapter.write(out, meta.getParams());
+            writeString(out, "noticeLogLevel", meta.getNoticeLogLevel());
+            writeString(out, "concurrentExec", meta.getConcurrentExec());
+            writeStringList(out, "triggeredJobKeyList", meta.getTriggeredJobKeyList());
+            writeNumber(out, "fileLineCount", meta.getFileLineCount());
+            writeNumber(out, "methodLineCount", meta.getMethodLineCount());
+            out.endObject();
+        }
+
+        @Override
+        public JobDocMeta read(JsonReader in) throws IOException {
+            return readingDelegate.read(in);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Writing Assist
+    //                                                                      ==============
+    // null value is written as null literal, which is skipped by the writer unless serializeNulls
+    protected static void writeString(JsonWriter out, String name, String value) throws IOException {
+        out.name(name);
+        out.value(value); // null allowed
+    }
+
+    protected static void writeNumber(JsonWriter out, String name, Number value) throws IOException {
+        out.name(name);
+        out.value(value); // null allowed
+    }
+
+    protected static void writeStringList(JsonWriter out, String name, List<String> valueList) throws IOException {
+        out.name(name);
+        if (valueList == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (String value : valueList) {
+            out.value(value);
+        }
+        out.endArray();
+    }
+
+    protected static void writeMetaList(JsonWriter out, String name, List<TypeDocMeta> metaList, TypeAdapter<TypeDocMeta> adapter)
+            throws IOException {
+        out.name(name);
+        if (metaList == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (TypeDocMeta meta : metaList) {
+            adapter.write(out, meta);
+        }
+        out.endArray();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.infra.json;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * The streaming writer for JSON tree as map, e.g. swagger spec tree, LastaDoc detail map. <br>
+ * Map, collection and string values are directly written without runtime type lookup,
+ * and other values (e.g. document meta) are written by the adapter of the runtime type. <br>
+ * The output is the same as default map serialization (key as String.valueOf()). <br>
+ * Reading is delegated to the default adapter.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaJsonTreeTypeAdapterFactory implements TypeAdapterFactory {
+
+    // ===================================================================================
+    //                                                                             Factory
+    //                                                                             =======
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (!Map.class.isAssignableFrom(type.getRawType())) {
+            return null; // not tree
+        }
+        return (TypeAdapter<T>) new JsonTreeAdapter(gson, (TypeAdapter<Object>) gson.getDelegateAdapter(this, type));
+    }
+
+    // ===================================================================================
+    //                                                                           JSON Tree
+    //                                                                           =========
+    protected static class JsonTreeAdapter extends TypeAdapter<Object> {
+
+        protected final Gson gson; // not null, for runtime type adapter
+        protected final TypeAdapter<Object> readingDelegate; // not null
+
+        public JsonTreeAdapter(Gson gson, TypeAdapter<Object> readingDelegate) {
+            this.gson = gson;
+            this.readingDelegate = readingDelegate;
+        }
+
+        @Override
+        public void write(JsonWriter out, Object value) throws IOException {
+            writeValue(out, value);
+        }
+
+        protected void writeValue(JsonWriter out, Object value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+            } else if (value instanceof String) { // mostly here
+                out.value((String) value);
+            } else if (value instanceof Map<?, ?>) {
+                out.beginObject();
+                for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    out.name(String.valueOf(entry.getKey()));
+                    writeValue(out, entry.getValue());
+                }
+                out.endObject();
+            } else if (value instanceof Collection<?>) {
+                out.beginArray();
+                for (Object element : (Collection<?>) value) {
+                    writeValue(out, element);
+                }
+                out.endArray();
+            } else if (value instanceof Boolean) {
+                out.value((Boolean) value);
+            } else {
+                writeByRuntimeType(out, value);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        protected void writeByRuntimeType(JsonWriter out, Object value) throws IOException {
+            // e.g. number, document meta, enum (adapters are cached in gson)
+            ((TypeAdapter<Object>) gson.getAdapter(value.getClass())).write(out, value);
+        }
+
+        @Override
+        public Object read(JsonReader in) throws IOException {
+            return readingDelegate.read(in);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.infra.json;
+
+/**
+ * The format of output JSON, e.g. analyzed-lastadoc.json, swagger.json.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public enum MetaOutputFormat {
+
+    /** Indented for human, e.g. committed files to see differences. (default) */
+    PRETTY,
+
+    /** No indentation and no line separator for machine consumers, smaller and faster. */
+    COMPACT
+}
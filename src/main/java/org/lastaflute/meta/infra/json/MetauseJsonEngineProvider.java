@@ -15,12 +15,17 @@
  */
 package org.lastaflute.meta.infra.json;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.lastaflute.core.json.JsonManager;
 import org.lastaflute.core.json.control.JsonControlMeta;
 import org.lastaflute.core.json.engine.GsonJsonEngine;
 import org.lastaflute.core.json.engine.RealJsonEngine;
 import org.lastaflute.core.util.ContainerUtil;
 
+import com.google.gson.GsonBuilder;
+
 /**
  * @author p1us2er0
  * @author jflute
@@ -28,18 +33,52 @@ import org.lastaflute.core.util.ContainerUtil;
  */
 public class MetauseJsonEngineProvider {
 
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    // engine is thread-safe and building it (gson and adapters) is not cheap so shared
+    // per provider class because sub-class may override e.g. newJsonEngine(), registerMetaTypeAdapter()
+    // (class value does not pin the class, e.g. sub-class in application class loader that is reloaded)
+    protected static final ClassValue<Map<MetaOutputFormat, RealJsonEngine>> sharedEngineMap =
+            new ClassValue<Map<MetaOutputFormat, RealJsonEngine>>() {
+                @Override
+                protected Map<MetaOutputFormat, RealJsonEngine> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>(); // per format
+                }
+            };
+
     // ===================================================================================
     //                                                                         JSON Engine
     //                                                                         ===========
-    public RealJsonEngine createJsonEngine() {
+    public RealJsonEngine createJsonEngine() { // returns shared instance
+        return createJsonEngine(MetaOutputFormat.PRETTY);
+    }
+
+    public RealJsonEngine createJsonEngine(MetaOutputFormat outputFormat) { // returns shared instance
+        if (outputFormat == null) {
+            throw new IllegalArgumentException("The argument 'outputFormat' should not be null.");
+        }
+        return sharedEngineMap.get(getClass()).computeIfAbsent(outputFormat, format -> newJsonEngine(format));
+    }
+
+    protected RealJsonEngine newJsonEngine(MetaOutputFormat outputFormat) {
         return new GsonJsonEngine(builder -> {
             // starndard option as possible because other-world parser may parse it
-            builder.serializeNulls().setPrettyPrinting();
+            builder.serializeNulls();
+            if (outputFormat == MetaOutputFormat.PRETTY) {
+                builder.setPrettyPrinting();
+            } // compact writer skips indentation and line separators at all
+            registerMetaTypeAdapter(builder);
         }, op -> {});
         // not to depend on application settings
         //return ContainerUtil.getComponent(JsonManager.class);
     }
 
+    protected void registerMetaTypeAdapter(GsonBuilder builder) { // streaming writers without reflection
+        builder.registerTypeAdapterFactory(new MetaDocTypeAdapterFactory());
+        builder.registerTypeAdapterFactory(new MetaJsonTreeTypeAdapterFactory());
+    }
+
     // ===================================================================================
     //                                                                        Control Meta
     //                                                                        ============
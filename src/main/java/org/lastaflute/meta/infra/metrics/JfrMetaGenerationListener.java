@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.infra.metrics;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.util.DfReflectionUtil;
+
+/**
+ * The listener to emit phases of meta generation as JFR events, for e.g. profiling in CI. <br>
+ * JFR API is used by reflection (dynamic event by EventFactory) so this library can be built and run on Java8.
+ * Check the availability before creating this because JFR API does not always exist in the runtime.
+ * <pre>
+ * if (JfrMetaGenerationListener.isAvailable()) {
+ *     generator.listenGeneration(new JfrMetaGenerationListener());
+ * }
+ * </pre>
+ * The events are recorded only when flight recording is running, e.g. -XX:StartFlightRecording.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class JfrMetaGenerationListener implements MetaGenerationListener {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String JFR_EVENT_FACTORY_CLASS_NAME = "jdk.jfr.EventFactory";
+    protected static final String JFR_PACKAGE_PREFIX = "jdk.jfr.";
+
+    // event definition (same as static event class)
+    protected static final String EVENT_NAME = "org.lastaflute.meta.GenerationPhase";
+    protected static final String EVENT_LABEL = "Meta Generation Phase";
+    protected static final String EVENT_DESCRIPTION = "The phase of lasta-meta generation, e.g. action analysis, spec building.";
+    protected static final String[] EVENT_CATEGORY = { "LastaFlute", "Meta" };
+    protected static final int PHASE_FIELD_INDEX = 0; // as value descriptor list
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    // phases are notified in generation thread, and same phase is not nested
+    protected final ThreadLocal<Map<MetaGenerationPhase, Object>> runningEventMap = // value is jdk.jfr.Event
+            ThreadLocal.withInitial(() -> new EnumMap<>(MetaGenerationPhase.class));
+
+    protected final Object eventFactory; // not null, jdk.jfr.EventFactory
+    protected final Method newEventMethod; // not null, EventFactory@newEvent()
+    protected final Method setMethod; // not null, Event@set(int, Object)
+    protected final Method beginMethod; // not null, Event@begin()
+    protected final Method endMethod; // not null, Event@end()
+    protected final Method commitMethod; // not null, Event@commit()
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * Create the listener with the event definition registered to JFR.
+     * @throws IllegalStateException When JFR API is not available in the runtime.
+     */
+    public JfrMetaGenerationListener() {
+        if (!isAvailable()) {
+            throw new IllegalStateException("Not found the JFR API in the runtime: " + JFR_EVENT_FACTORY_CLASS_NAME);
+        }
+        final Class<?> eventFactoryType = forJfrName("EventFactory");
+        final Class<?> eventType = forJfrName("Event");
+        this.eventFactory = createEventFactory(eventFactoryType);
+        this.newEventMethod = DfReflectionUtil.getPublicMethod(eventFactoryType, "newEvent", new Class<?>[] {});
+        this.setMethod = DfReflectionUtil.getPublicMethod(eventType, "set", new Class<?>[] { int.class, Object.class });
+        this.beginMethod = DfReflectionUtil.getPublicMethod(eventType, "begin", new Class<?>[] {});
+        this.endMethod = DfReflectionUtil.getPublicMethod(eventType, "end", new Class<?>[] {});
+        this.commitMethod = DfReflectionUtil.getPublicMethod(eventType, "commit", new Class<?>[] {});
+    }
+
+    protected Object createEventFactory(Class<?> eventFactoryType) { // EventFactory.create(annotations, fields)
+        final List<Object> annotationList = new ArrayList<>();
+        annotationList.add(newAnnotationElement("Name", EVENT_NAME));
+        annotationList.add(newAnnotationElement("Label", EVENT_LABEL));
+        annotationList.add(newAnnotationElement("Description", EVENT_DESCRIPTION));
+        annotationList.add(newAnnotationElement("Category", EVENT_CATEGORY));
+        final List<Object> fieldList = Arrays.asList(newValueDescriptor(String.class, "phase", "Phase")); // PHASE_FIELD_INDEX
+        final Method createMethod = DfReflectionUtil.getPublicMethod(eventFactoryType, "create", new Class<?>[] { List.class, List.class });
+        return DfReflectionUtil.invokeStatic(createMethod, new Object[] { annotationList, fieldList });
+    }
+
+    protected Object newAnnotationElement(String annotationName, Object value) { // jdk.jfr.AnnotationElement
+        final Class<?> elementType = forJfrName("AnnotationElement");
+        final Constructor<?> constructor = DfReflectionUtil.getConstructor(elementType, new Class<?>[] { Class.class, Object.class });
+        return DfReflectionUtil.newInstance(constructor, new Object[] { forJfrName(annotationName), value });
+    }
+
+    protected Object newValueDescriptor(Class<?> fieldType, String fieldName, String label) { // jdk.jfr.ValueDescriptor
+        final Class<?> descriptorType = forJfrName("ValueDescriptor");
+        final Constructor<?> constructor =
+                DfReflectionUtil.getConstructor(descriptorType, new Class<?>[] { Class.class, String.class, List.class });
+        final List<Object> annotationList = Collections.singletonList(newAnnotationElement("Label", label));
+        return DfReflectionUtil.newInstance(constructor, new Object[] { fieldType, fieldName, annotationList });
+    }
+
+    protected Class<?> forJfrName(String simpleName) {
+        return DfReflectionUtil.forName(JFR_PACKAGE_PREFIX + simpleName);
+    }
+
+    // ===================================================================================
+    //                                                                        Availability
+    //                                                                        ============
+    /**
+     * Is JFR available in the current runtime?
+     * @return The determination, true if JFR event API (with dynamic event) exists.
+     */
+    public static boolean isAvailable() {
+        try {
+            Class.forName(JFR_EVENT_FACTORY_CLASS_NAME, false, JfrMetaGenerationListener.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            return false;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                               Phase
+    //                                                                               =====
+    @Override
+    public void beginPhase(MetaGenerationPhase phase) {
+        final Object event = DfReflectionUtil.invoke(newEventMethod, eventFactory, new Object[] {});
+        DfReflectionUtil.invoke(setMethod, event, new Object[] { PHASE_FIELD_INDEX, phase.name() });
+        DfReflectionUtil.invoke(beginMethod, event, new Object[] {});
+        runningEventMap.get().put(phase, event);
+    }
+
+    @Override
+    public void endPhase(MetaGenerationPhase phase, long elapsedNanos) {
+        final Object event = runningEventMap.get().remove(phase);
+        if (event != null) { // basically true
+            DfReflectionUtil.invoke(endMethod, event, new Object[] {});
+            DfReflectionUtil.invoke(commitMethod, event, new Object[] {}); // no-op if not recording or disabled
+        }
+    }
+
+    @Override
+    public void finishGeneration(MetaGenerationSummary summary) {
+        runningEventMap.remove(); // not to leak in thread pool
+    }
+}
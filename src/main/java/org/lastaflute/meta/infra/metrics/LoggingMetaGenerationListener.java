@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.infra.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The listener to log summary table of meta generation. (INFO level)
+ * <pre>
+ * [Meta Generation] total=5432ms
+ *   ACTION_DISCOVERY      812ms  (x1)
+ *   ACTION_ANALYSIS      3921ms  (x1200)
+ *   SOURCE_PARSING       2104ms  (x340)  *nested
+ *   ...
+ *   ACTION_EXECUTE       1200
+ *   PROPERTY            18340
+ *   ...
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class LoggingMetaGenerationListener implements MetaGenerationListener {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(LoggingMetaGenerationListener.class);
+
+    // ===================================================================================
+    //                                                                              Finish
+    //                                                                              ======
+    @Override
+    public void finishGeneration(MetaGenerationSummary summary) {
+        if (logger.isInfoEnabled()) {
+            logger.info(buildSummaryTable(summary));
+        }
+    }
+
+    protected String buildSummaryTable(MetaGenerationSummary summary) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("[Meta Generation] total=").append(summary.getTotalMillis()).append("ms");
+        for (MetaGenerationPhase phase : MetaGenerationPhase.values()) {
+            if (!summary.isPhaseMeasured(phase)) { // e.g. no swagger in lastadoc
+                continue;
+            }
+            sb.append("\n  ").append(String.format("%-18s %8dms  (x%d)", phase.name(), summary.getPhaseMillis(phase),
+                    summary.getPhaseCount(phase)));
+            if (phase.isNested()) {
+                sb.append("  *nested");
+            }
+        }
+        for (MetaGenerationCounter counter : MetaGenerationCounter.values()) {
+            sb.append("\n  ").append(String.format("%-18s %10d", counter.name(), summary.getCount(counter)));
+        }
+        return sb.toString();
+    }
+}
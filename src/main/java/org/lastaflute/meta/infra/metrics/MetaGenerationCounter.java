@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.infra.metrics;
+
+/**
+ * The counter of meta generation.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public enum MetaGenerationCounter {
+
+    /** Action classes discovered in action discovery, before selection. */
+    DISCOVERED_ACTION,
+
+    /** Analyzed action executes, that is, count of action meta. */
+    ACTION_EXECUTE,
+
+    /** Analyzed properties of e.g. form, body, result (also nested). */
+    PROPERTY,
+
+    /** Source files actually parsed by source parser. */
+    PARSED_SOURCE_FILE,
+
+    /** Source files reused from parsed cache. */
+    SOURCE_CACHE_HIT,
+
+    /** Definitions created in swagger spec. (overridden definitions are not counted) */
+    SWAGGER_DEFINITION
+}
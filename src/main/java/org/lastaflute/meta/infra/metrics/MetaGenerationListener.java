@@ -0,0 +1,49 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.infra.metrics;
+
+/**
+ * The listener of meta generation, notified phase boundaries and summary. <br>
+ * Phases are notified in the generation thread, and it may be called many times. (e.g. source parsing per file)
+ * <pre>
+ * new DocumentGenerator().listenGeneration(new LoggingMetaGenerationListener()).saveLastaDocMeta();
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public interface MetaGenerationListener {
+
+    /**
+     * Notify the beginning of the phase.
+     * @param phase The phase to begin. (NotNull)
+     */
+    default void beginPhase(MetaGenerationPhase phase) {
+    }
+
+    /**
+     * Notify the end of the phase, also called when the phase fails.
+     * @param phase The phase to end. (NotNull)
+     * @param elapsedNanos The elapsed wall time of the phase in nanoseconds.
+     */
+    default void endPhase(MetaGenerationPhase phase, long elapsedNanos) {
+    }
+
+    /**
+     * Notify the finish of the generation with its summary, also called when the generation fails.
+     * @param summary The summary of phase times and counters. (NotNull)
+     */
+    void finishGeneration(MetaGenerationSummary summary);
+}
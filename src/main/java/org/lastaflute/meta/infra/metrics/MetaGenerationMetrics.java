@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.infra.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The metrics of one meta generation, measuring phase wall time and counters for listeners. <br>
+ * Analyzers call the static measure and count methods, which do nothing if no metrics is active in the current thread.
+ * <pre>
+ * List&lt;ActionDocMeta&gt; metaList = MetaGenerationMetrics.measureWithin(listenerList, () -&gt; {
+ *     return MetaGenerationMetrics.measurePhase(MetaGenerationPhase.ACTION_ANALYSIS, () -&gt; analyze());
+ * });
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaGenerationMetrics {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    /** The active metrics in current thread. (value is null allowed: no measuring) */
+    protected static final ThreadLocal<MetaGenerationMetrics> activeMetrics = new ThreadLocal<>();
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<MetaGenerationListener> listenerList; // not null, not empty
+    protected final Map<MetaGenerationPhase, Long> phaseNanosMap = new EnumMap<>(MetaGenerationPhase.class);
+    protected final Map<MetaGenerationPhase, Integer> phaseCountMap = new EnumMap<>(MetaGenerationPhase.class);
+    protected final Map<MetaGenerationCounter, Long> counterMap = new EnumMap<>(MetaGenerationCounter.class);
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public MetaGenerationMetrics(List<MetaGenerationListener> listenerList) {
+        this.listenerList = Collections.unmodifiableList(new ArrayList<>(listenerList));
+    }
+
+    // ===================================================================================
+    //                                                                      Measure Within
+    //                                                                      ==============
+    /**
+     * Measure the generation for the listeners. <br>
+     * If metrics is already active in current thread (e.g. swagger in saving), the generation joins it.
+     * @param <RESULT> The type of generation result.
+     * @param listenerList The list of listeners to be notified. (NotNull, EmptyAllowed: no measuring)
+     * @param generation The callback of generation in current thread. (NotNull)
+     * @return The result of the generation. (NullAllowed: when the generation returns null)
+     */
+    public static <RESULT> RESULT measureWithin(List<MetaGenerationListener> listenerList, Supplier<RESULT> generation) {
+        if (listenerList.isEmpty() || activeMetrics.get() != null) { // no listener or joined
+            return generation.get();
+        }
+        final MetaGenerationMetrics metrics = new MetaGenerationMetrics(listenerList);
+        activeMetrics.set(metrics);
+        final long before = System.nanoTime();
+        try {
+            return generation.get();
+        } finally {
+            activeMetrics.remove(); // not to leak in thread pool
+            metrics.finish(System.nanoTime() - before);
+        }
+    }
+
+    protected void finish(long totalNanos) {
+        final MetaGenerationSummary summary = new MetaGenerationSummary(totalNanos, phaseNanosMap, phaseCountMap, counterMap);
+        listenerList.forEach(listener -> listener.finishGeneration(summary));
+    }
+
+    // ===================================================================================
+    //                                                                      Static Measure
+    //                                                                      ==============
+    /**
+     * Measure the phase if measuring.
+     * @param <RESULT> The type of phase result.
+     * @param phase The phase of the process. (NotNull)
+     * @param process The callback of the process in current thread. (NotNull)
+     * @return The result of the process. (NullAllowed: when the process returns null)
+     */
+    public static <RESULT> RESULT measurePhase(MetaGenerationPhase phase, Supplier<RESULT> process) {
+        final MetaGenerationMetrics metrics = activeMetrics.get();
+        if (metrics == null) {
+            return process.get();
+        }
+        return metrics.doMeasurePhase(phase, process);
+    }
+
+    protected <RESULT> RESULT doMeasurePhase(MetaGenerationPhase phase, Supplier<RESULT> process) {
+        listenerList.forEach(listener -> listener.beginPhase(phase));
+        final long before = System.nanoTime();
+        try {
+            return process.get();
+        } finally {
+            final long elapsedNanos = System.nanoTime() - before;
+            phaseNanosMap.merge(phase, elapsedNanos, Long::sum);
+            phaseCountMap.merge(phase, 1, Integer::sum);
+            listenerList.forEach(listener -> listener.endPhase(phase, elapsedNanos));
+        }
+    }
+
+    /**
+     * Count up the counter if measuring.
+     * @param counter The counter to be added. (NotNull)
+     * @param amount The amount to add, basically one.
+     */
+    public static void countUp(MetaGenerationCounter counter, long amount) {
+        final MetaGenerationMetrics metrics = activeMetrics.get();
+        if (metrics != null) {
+            metrics.counterMap.merge(counter, amount, Long::sum);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public List<MetaGenerationListener> getListenerList() {
+        return listenerList;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.infra.metrics;
+
+/**
+ * The phase of meta generation measured by wall time. <br>
+ * SOURCE_PARSING is nested in ACTION_DISCOVERY and ACTION_ANALYSIS, so it is not added to total.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public enum MetaGenerationPhase {
+
+    /** Collecting action executes from DI container or compiled classes. */
+    ACTION_DISCOVERY(false),
+
+    /** Analyzing properties, parameters and return types of action executes. */
+    ACTION_ANALYSIS(false),
+
+    /** Parsing source files by source parser, e.g. java parser. (nested in other phases) */
+    SOURCE_PARSING(true),
+
+    /** Building swagger spec (paths, definitions) from action meta. */
+    SPEC_BUILDING(false),
+
+    /** Rendering JSON of output meta, e.g. swagger.json, analyzed-lastadoc.json. */
+    JSON_RENDERING(false);
+
+    private final boolean nested;
+
+    private MetaGenerationPhase(boolean nested) {
+        this.nested = nested;
+    }
+
+    public boolean isNested() {
+        return nested;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.infra.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The summary of meta generation, wall time per phase and counters. (read-only)
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaGenerationSummary {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final long totalNanos; // whole generation
+    protected final Map<MetaGenerationPhase, Long> phaseNanosMap; // not null, empty key means not measured
+    protected final Map<MetaGenerationPhase, Integer> phaseCountMap; // not null, same keys as nanos
+    protected final Map<MetaGenerationCounter, Long> counterMap; // not null, empty key means zero
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public MetaGenerationSummary(long totalNanos, Map<MetaGenerationPhase, Long> phaseNanosMap,
+            Map<MetaGenerationPhase, Integer> phaseCountMap, Map<MetaGenerationCounter, Long> counterMap) {
+        this.totalNanos = totalNanos;
+        this.phaseNanosMap = Collections.unmodifiableMap(copyMap(phaseNanosMap, MetaGenerationPhase.class));
+        this.phaseCountMap = Collections.unmodifiableMap(copyMap(phaseCountMap, MetaGenerationPhase.class));
+        this.counterMap = Collections.unmodifiableMap(copyMap(counterMap, MetaGenerationCounter.class));
+    }
+
+    protected <KEY extends Enum<KEY>, VALUE> Map<KEY, VALUE> copyMap(Map<KEY, VALUE> map, Class<KEY> keyType) {
+        final Map<KEY, VALUE> copied = new EnumMap<>(keyType);
+        copied.putAll(map);
+        return copied;
+    }
+
+    // ===================================================================================
+    //                                                                               Phase
+    //                                                                               =====
+    public long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+    }
+
+    public long getPhaseMillis(MetaGenerationPhase phase) { // zero if not measured
+        return TimeUnit.NANOSECONDS.toMillis(getPhaseNanos(phase));
+    }
+
+    public long getPhaseNanos(MetaGenerationPhase phase) {
+        final Long nanos = phaseNanosMap.get(phase);
+        return nanos != null ? nanos : 0L;
+    }
+
+    public int getPhaseCount(MetaGenerationPhase phase) { // how many times the phase is measured
+        final Integer count = phaseCountMap.get(phase);
+        return count != null ? count : 0;
+    }
+
+    public boolean isPhaseMeasured(MetaGenerationPhase phase) {
+        return phaseNanosMap.containsKey(phase);
+    }
+
+    // ===================================================================================
+    //                                                                             Counter
+    //                                                                             =======
+    public long getCount(MetaGenerationCounter counter) {
+        final Long count = counterMap.get(counter);
+        return count != null ? count : 0L;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("{total=").append(getTotalMillis()).append("ms");
+        phaseNanosMap.keySet().forEach(phase -> {
+            sb.append(", ").append(phase.name().toLowerCase()).append("=").append(getPhaseMillis(phase)).append("ms");
+        });
+        counterMap.forEach((counter, count) -> {
+            sb.append(", ").append(counter.name().toLowerCase()).append("=").append(count);
+        });
+        sb.append("}");
+        return sb.toString();
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public Map<MetaGenerationPhase, Long> getPhaseNanosMap() {
+        return phaseNanosMap;
+    }
+
+    public Map<MetaGenerationPhase, Integer> getPhaseCountMap() {
+        return phaseCountMap;
+    }
+
+    public Map<MetaGenerationCounter, Long> getCounterMap() {
+        return counterMap;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.infra.watch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.dbflute.helper.message.ExceptionMessageBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The watcher of java source files under source directories by WatchService. <br>
+ * It keeps names of changed top-level classes until they are drained.
+ * <pre>
+ * SourceChangeWatcher watcher = new SourceChangeWatcher(srcDirList).start(); // daemon thread
+ * ...
+ * Set&lt;String&gt; changedSet = watcher.drainChangedClassNameSet(); // e.g. org.docksidestage.app.web.SeaAction
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SourceChangeWatcher implements Closeable {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(SourceChangeWatcher.class);
+
+    protected static final String JAVA_EXTENSION = ".java";
+    protected static final long WATCHING_THREAD_JOIN_MILLIS = 3000L; // closed service finishes it soon
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<String> srcDirList; // not null
+    protected final Map<WatchKey, WatchedDirectory> watchedDirectoryMap = new ConcurrentHashMap<>(); // key is registered key
+    protected final Set<String> changedClassNameSet = ConcurrentHashMap.newKeySet(); // e.g. FQCN of top-level class
+    protected WatchService watchService; // null allowed before start
+    protected Thread watchingThread; // null allowed before start
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public SourceChangeWatcher(List<String> srcDirList) {
+        this.srcDirList = srcDirList;
+    }
+
+    // ===================================================================================
+    //                                                                               Start
+    //                                                                               =====
+    /**
+     * Start watching the source directories in daemon thread. (not found directories are ignored)
+     * @return this. (NotNull)
+     */
+    public synchronized SourceChangeWatcher start() {
+        if (watchService != null) {
+            throw new IllegalStateException("Already started the watcher: " + srcDirList);
+        }
+        try {
+            watchService = newWatchService();
+        } catch (IOException e) {
+            throwSourceWatchFailureException("(WatchService)", e);
+        }
+        srcDirList.stream().map(srcDir -> Paths.get(srcDir).toAbsolutePath().normalize()).filter(srcPath -> {
+            return Files.isDirectory(srcPath);
+        }).forEach(srcPath -> registerRecursively(srcPath, srcPath));
+        final WatchService service = watchService; // field is cleared when closing, maybe before the thread runs
+        watchingThread = new Thread(() -> watch(service), "lasta-meta-source-watcher");
+        watchingThread.setDaemon(true); // not to block application shutdown
+        watchingThread.start();
+        return this;
+    }
+
+    protected WatchService newWatchService() throws IOException {
+        return FileSystems.getDefault().newWatchService();
+    }
+
+    protected void registerRecursively(Path srcRoot, Path startDir) { // WatchService is not recursive
+        try {
+            Files.walkFileTree(startDir, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    try {
+                        watchedDirectoryMap.put(registerDirectory(dir), new WatchedDirectory(srcRoot, dir));
+                    } catch (NoSuchFileException ignored) { // e.g. temporary directory of IDE or git
+                        logger.debug("...Ignoring the vanished directory: {}", dir);
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                    if (exc instanceof NoSuchFileException) { // vanished while walking
+                        return FileVisitResult.CONTINUE;
+                    }
+                    throw exc;
+                }
+            });
+        } catch (NoSuchFileException ignored) { // vanished before walking
+            logger.debug("...Ignoring the vanished directory: {}", startDir);
+        } catch (IOException e) {
+            throwSourceWatchFailureException(startDir.toString(), e);
+        }
+    }
+
+    protected WatchKey registerDirectory(Path dir) throws IOException {
+        return dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
+    // ===================================================================================
+    //                                                                               Watch
+    //                                                                               =====
+    protected void watch(WatchService service) {
+        while (true) {
+            final WatchKey watchKey;
+            try {
+                watchKey = service.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return; // closed
+            }
+            final WatchedDirectory watchedDirectory = watchedDirectoryMap.get(watchKey);
+            if (watchedDirectory != null) {
+                for (WatchEvent<?> event : watchKey.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        logger.debug("...Overflowing the source watch events: {}", watchedDirectory.getDirectory());
+                        continue; // may lose changes but next modification of the files will be caught
+                    }
+                    final Path changedPath = watchedDirectory.getDirectory().resolve((Path) event.context());
+                    try {
+                        handleChangedPath(watchedDirectory.getSrcRoot(), changedPath, event.kind());
+                    } catch (RuntimeException e) { // not to finish watching silently, next events are handled
+                        logger.warn("Failed to handle the source change: {} {}", event.kind().name(), changedPath, e);
+                    }
+                }
+            }
+            if (!watchKey.reset()) { // e.g. directory deleted
+                watchedDirectoryMap.remove(watchKey);
+            }
+        }
+    }
+
+    protected void handleChangedPath(Path srcRoot, Path changedPath, WatchEvent.Kind<?> kind) {
+        if (kind == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changedPath)) { // e.g. new package
+            registerRecursively(srcRoot, changedPath);
+            handleCreatedDirectory(srcRoot, changedPath); // files may be created before registration
+            return;
+        }
+        final String fileName = changedPath.getFileName().toString();
+        if (fileName.endsWith(JAVA_EXTENSION)) {
+            final String className = toClassName(srcRoot, changedPath);
+            logger.debug("...Detecting the source change: {} {}", kind.name(), className);
+            changedClassNameSet.add(className);
+        }
+    }
+
+    protected void handleCreatedDirectory(Path srcRoot, Path createdDir) {
+        try (Stream<Path> stream = Files.walk(createdDir)) {
+            stream.filter(path -> path.getFileName().toString().endsWith(JAVA_EXTENSION)).forEach(javaPath -> {
+                changedClassNameSet.add(toClassName(srcRoot, javaPath));
+            });
+        } catch (NoSuchFileException ignored) { // vanished before walking, e.g. temporary directory
+            logger.debug("...Ignoring the vanished directory: {}", createdDir);
+        } catch (UncheckedIOException e) { // while walking
+            if (!(e.getCause() instanceof NoSuchFileException)) {
+                throwSourceWatchFailureException(createdDir.toString(), e.getCause());
+            }
+        } catch (IOException e) {
+            throwSourceWatchFailureException(createdDir.toString(), e);
+        }
+    }
+
+    protected String toClassName(Path srcRoot, Path javaPath) { // e.g. org.docksidestage.app.web.SeaAction
+        final String relativePath = srcRoot.relativize(javaPath).toString().replace('\\', '/');
+        return relativePath.substring(0, relativePath.length() - JAVA_EXTENSION.length()).replace('/', '.');
+    }
+
+    // ===================================================================================
+    //                                                                               Drain
+    //                                                                               =====
+    /**
+     * Drain the names of changed classes since previous draining.
+     * @return The set of FQCN of changed top-level classes, might be new or deleted. (NotNull, EmptyAllowed)
+     */
+    public Set<String> drainChangedClassNameSet() {
+        final Set<String> drainedSet = new LinkedHashSet<>();
+        for (String className : changedClassNameSet) { // weakly consistent, so remove one by one
+            if (changedClassNameSet.remove(className)) {
+                drainedSet.add(className);
+            }
+        }
+        return drainedSet;
+    }
+
+    // ===================================================================================
+    //                                                                               Close
+    //                                                                               =====
+    /**
+     * Close the WatchService and wait for the watching thread to finish. (no more change is detected) <br>
+     * Changes already detected can be drained after closing.
+     */
+    @Override
+    public synchronized void close() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close(); // also finishes the watching thread
+        } catch (IOException e) {
+            throwSourceWatchFailureException("(WatchService)", e);
+        } finally {
+            watchService = null;
+            awaitWatchingThread();
+            watchedDirectoryMap.clear();
+        }
+    }
+
+    protected void awaitWatchingThread() {
+        if (watchingThread == null || watchingThread == Thread.currentThread()) {
+            return;
+        }
+        try {
+            watchingThread.join(WATCHING_THREAD_JOIN_MILLIS); // basically soon after closing
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // keep status for caller
+        }
+        watchingThread = null;
+    }
+
+    // ===================================================================================
+    //                                                                        Small Helper
+    //                                                                        ============
+    protected void throwSourceWatchFailureException(String location, IOException cause) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("Failed to watch the source directory.");
+        br.addItem("Source Directories");
+        br.addElement(srcDirList);
+        br.addItem("Location");
+        br.addElement(location);
+        final String msg = br.buildExceptionMessage();
+        throw new IllegalStateException(msg, cause);
+    }
+
+    // ===================================================================================
+    //                                                                        Watched Path
+    //                                                                        ============
+    protected static class WatchedDirectory {
+
+        protected final Path srcRoot; // to derive class name
+        protected final Path directory; // registered to WatchService
+
+        public WatchedDirectory(Path srcRoot, Path directory) {
+            this.srcRoot = srcRoot;
+            this.directory = directory;
+        }
+
+        public Path getSrcRoot() {
+            return srcRoot;
+        }
+
+        public Path getDirectory() {
+            return directory;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public boolean isWatching() { // also false if the watching thread is finished by e.g. error
+        return watchService != null && watchingThread != null && watchingThread.isAlive();
+    }
+}
@@ -22,8 +22,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.util.DfCollectionUtil;
@@ -31,6 +29,7 @@ import org.dbflute.util.DfStringUtil;
 import org.lastaflute.meta.document.docmeta.ActionDocMeta;
 import org.lastaflute.meta.document.docmeta.JobDocMeta;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+import org.lastaflute.meta.document.parts.javadoc.MetaJavadoc;
 import org.lastaflute.meta.sourceparser.SourceParserReflector;
 import org.lastaflute.meta.sourceparser.javaparser.assist.JavaparserMethodIdentityDeterminer;
 import org.lastaflute.meta.sourceparser.javaparser.parsing.JavaparserSourceMethodHandler;
@@ -53,15 +52,6 @@ import com.github.javaparser.javadoc.Javadoc;
  */
 public class JavaparserSourceParserReflector implements SourceParserReflector {
 
-    // ===================================================================================
-    //                                                                          Definition
-    //                                                                          ==========
-    /** to pick up first line from javadoc comment of class and method. (NotNull) */
-    protected static final Pattern CLASS_METHOD_COMMENT_END_PATTERN = Pattern.compile("(.+)[.。]?.*(\r?\n)?");
-
-    /** to pick up first statement (line) from javadoc comment of field. (NotNull) */
-    protected static final Pattern FIELD_COMMENT_END_PATTERN = Pattern.compile("([^.。\\*]+).* ?\\*?");
-
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
@@ -165,15 +155,11 @@ public class JavaparserSourceParserReflector implements SourceParserReflector {
     protected List<String> extractDescriptionElementList(ActionDocMeta meta, Method method, CompilationUnit compilationUnit,
             Map<String, List<String>> returnMap) {
         final List<String> descriptionElementList = DfCollectionUtil.newArrayList();
-        final String typeComment = meta.getTypeComment(); // class javadoc, null allowed
-        final String methodComment = meta.getMethodComment(); // execute method javadoc, null allowed
-        Arrays.asList(typeComment, methodComment).forEach(comment -> {
-            if (DfStringUtil.is_NotNull_and_NotEmpty(comment)) {
-                final Matcher matcher = CLASS_METHOD_COMMENT_END_PATTERN.matcher(comment);
-                if (matcher.find()) {
-                    final String fisrtLine = matcher.group(1); // first line
-                    descriptionElementList.add(fisrtLine);
-                }
+        // class javadoc and execute method javadoc, parsed once per comment
+        Arrays.asList(meta.getTypeCommentJavadoc(), meta.getMethodCommentJavadoc()).forEach(javadoc -> {
+            final String fisrtLine = javadoc.getSummaryLine(); // null allowed
+            if (fisrtLine != null) {
+                descriptionElementList.add(fisrtLine);
             }
         });
         return descriptionElementList; // class javadoc first line + method javadoc first line
@@ -190,11 +176,9 @@ public class JavaparserSourceParserReflector implements SourceParserReflector {
             adapter.visit(compilationUnit, jobDocMeta);
             List<String> descriptionList = DfCollectionUtil.newArrayList();
             Arrays.asList(jobDocMeta.getTypeComment(), jobDocMeta.getMethodComment()).forEach(comment -> {
-                if (DfStringUtil.is_NotNull_and_NotEmpty(comment)) {
-                    Matcher matcher = CLASS_METHOD_COMMENT_END_PATTERN.matcher(comment);
-                    if (matcher.find()) {
-                        descriptionList.add(matcher.group(1));
-                    }
+                final String summaryLine = MetaJavadoc.parse(comment).getSummaryLine(); // null allowed
+                if (summaryLine != null) {
+                    descriptionList.add(summaryLine);
                 }
             });
             if (!descriptionList.isEmpty()) {
@@ -287,9 +271,9 @@ public class JavaparserSourceParserReflector implements SourceParserReflector {
                 final String comment = adjustComment(classOrInterfaceDeclaration);
                 if (DfStringUtil.is_NotNull_and_NotEmpty(comment)) {
                     typeDocMeta.setComment(comment);
-                    final Matcher matcher = CLASS_METHOD_COMMENT_END_PATTERN.matcher(comment);
-                    if (matcher.find()) {
-                        typeDocMeta.setDescription(matcher.group(1));
+                    final String summaryLine = typeDocMeta.getCommentJavadoc().getSummaryLine(); // null allowed
+                    if (summaryLine != null) {
+                        typeDocMeta.setDescription(summaryLine);
                     }
                 }
             }
@@ -311,23 +295,14 @@ public class JavaparserSourceParserReflector implements SourceParserReflector {
                         return typeDeclaration.getNameAsString().equals(clazz.getSimpleName());
                     }).orElse(false)) {
                         typeDocMeta.setComment(comment);
-                        Matcher matcher = FIELD_COMMENT_END_PATTERN.matcher(saveFieldCommentSpecialExp(comment));
-                        if (matcher.find()) {
-                            String description = matcher.group(1).trim();
-                            typeDocMeta.setDescription(restoreFieldCommentSpecialExp(description));
+                        final String firstStatement = typeDocMeta.getCommentJavadoc().getFirstStatement(); // null allowed
+                        if (firstStatement != null) {
+                            typeDocMeta.setDescription(firstStatement);
                         }
                     }
                 }
             }
         }
-
-        protected String saveFieldCommentSpecialExp(String comment) {
-            return comment.replace("e.g.", "$$edotgdot$$");
-        }
-
-        protected String restoreFieldCommentSpecialExp(String comment) {
-            return comment.replace("$$edotgdot$$", "e.g.");
-        }
     }
 
     // ===================================================================================
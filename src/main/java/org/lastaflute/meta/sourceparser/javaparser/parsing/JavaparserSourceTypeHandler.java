@@ -22,6 +22,10 @@ import java.util.Map;
 
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.util.DfCollectionUtil;
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyRecorder;
+import org.lastaflute.meta.infra.metrics.MetaGenerationCounter;
+import org.lastaflute.meta.infra.metrics.MetaGenerationMetrics;
+import org.lastaflute.meta.infra.metrics.MetaGenerationPhase;
 
 import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
@@ -66,10 +70,12 @@ public class JavaparserSourceTypeHandler {
                     continue;
                 }
             }
+            MetaDependencyRecorder.recordSourceFile(file); // consulted even if cached
             if (cachedCompilationUnitMap.containsKey(clazz.getName())) {
                 CachedCompilationUnit cachedCompilationUnit = cachedCompilationUnitMap.get(clazz.getName());
                 if (cachedCompilationUnit != null && cachedCompilationUnit.fileLastModified == file.lastModified()
                         && cachedCompilationUnit.fileLength == file.length()) {
+                    MetaGenerationMetrics.countUp(MetaGenerationCounter.SOURCE_CACHE_HIT, 1L);
                     return OptionalThing.of(cachedCompilationUnit.compilationUnit);
                 }
             }
@@ -77,14 +83,18 @@ public class JavaparserSourceTypeHandler {
             CachedCompilationUnit cachedCompilationUnit = new CachedCompilationUnit();
             cachedCompilationUnit.fileLastModified = file.lastModified();
             cachedCompilationUnit.fileLength = file.length();
-            try {
-                ParseResult<CompilationUnit> parse = javaParser.parse(file);
-                parse.getResult().ifPresent(compilationUnit -> {
-                    cachedCompilationUnit.compilationUnit = compilationUnit;
-                });
-            } catch (FileNotFoundException e) {
-                throw new IllegalStateException("Source file don't exist.");
-            }
+            final File sourceFile = file;
+            ParseResult<CompilationUnit> parse = MetaGenerationMetrics.measurePhase(MetaGenerationPhase.SOURCE_PARSING, () -> {
+                try {
+                    return javaParser.parse(sourceFile);
+                } catch (FileNotFoundException e) {
+                    throw new IllegalStateException("Source file don't exist.");
+                }
+            });
+            MetaGenerationMetrics.countUp(MetaGenerationCounter.PARSED_SOURCE_FILE, 1L);
+            parse.getResult().ifPresent(compilationUnit -> {
+                cachedCompilationUnit.compilationUnit = compilationUnit;
+            });
 
             cachedCompilationUnitMap.put(clazz.getName(), cachedCompilationUnit);
             return OptionalThing.of(cachedCompilationUnit.compilationUnit);
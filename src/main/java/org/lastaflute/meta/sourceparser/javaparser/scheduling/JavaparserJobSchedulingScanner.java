@@ -0,0 +1,346 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.sourceparser.javaparser.scheduling;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.dbflute.helper.message.ExceptionMessageBuilder;
+import org.lastaflute.meta.document.parts.job.ScannedJobRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+
+/**
+ * The scanner of job registrations in scheduler source (implementing LaJobScheduler) by java parser. <br>
+ * It reads e.g. cron.register("...", SeaJob.class, waitIfConcurrent(), op -&gt; op.uniqueBy("sea")) without scheduling.
+ * Only literal values are read so registrations built dynamically (e.g. loop, DB) cannot be scanned.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class JavaparserJobSchedulingScanner {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(JavaparserJobSchedulingScanner.class);
+
+    /** The simple name of scheduler interface in Lasta Job. */
+    protected static final String SCHEDULER_INTERFACE_NAME = "LaJobScheduler";
+
+    /** The method names of job registration in LaCron. */
+    protected static final Set<String> REGISTER_METHOD_SET = new HashSet<>(Arrays.asList("register", "registerNonCron"));
+
+    /** The method name of job trigger, e.g. seaJob.registerNext(landJob). */
+    protected static final String TRIGGER_METHOD_NAME = "registerNext";
+
+    /** The map of concurrent method name to JobConcurrentExec name. */
+    protected static final Map<String, String> CONCURRENT_EXEC_MAP;
+    static {
+        final Map<String, String> map = new LinkedHashMap<>();
+        map.put("waitIfConcurrent", "WAIT");
+        map.put("quitIfConcurrent", "QUIT");
+        map.put("errorIfConcurrent", "ERROR");
+        CONCURRENT_EXEC_MAP = Collections.unmodifiableMap(map);
+    }
+
+    /** The map of notice-log option method name to notice log level. (default is INFO) */
+    protected static final Map<String, String> NOTICE_LOG_LEVEL_MAP;
+    static {
+        final Map<String, String> map = new LinkedHashMap<>();
+        map.put("changeNoticeLogToDebug", "DEBUG");
+        map.put("changeNoticeLogToSuppressed", "SUPPRESSED");
+        NOTICE_LOG_LEVEL_MAP = Collections.unmodifiableMap(map);
+    }
+
+    /** The default notice log level of job. */
+    protected static final String DEFAULT_NOTICE_LOG_LEVEL = "INFO";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<String> srcDirList; // not null
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public JavaparserJobSchedulingScanner(List<String> srcDirList) {
+        this.srcDirList = srcDirList;
+    }
+
+    // ===================================================================================
+    //                                                                                Scan
+    //                                                                                ====
+    /**
+     * Scan job registrations in scheduler sources of the source directories.
+     * @return The list of job registrations in source order. (NotNull, EmptyAllowed: no scheduler)
+     */
+    public List<ScannedJobRegistration> scanJobRegistrationList() {
+        final List<ScannedJobRegistration> registrationList = new ArrayList<>();
+        for (Path schedulerSource : findSchedulerSourceList()) {
+            parseSource(schedulerSource).ifPresent(compilationUnit -> {
+                registrationList.addAll(scanCompilationUnit(compilationUnit));
+            });
+        }
+        logger.debug("...Scanning job registrations from scheduler source: {}", registrationList);
+        return registrationList;
+    }
+
+    protected List<Path> findSchedulerSourceList() {
+        final List<Path> sourceList = new ArrayList<>();
+        for (String srcDir : srcDirList) {
+            final Path srcPath = Paths.get(srcDir);
+            if (!Files.isDirectory(srcPath)) {
+                continue;
+            }
+            try (Stream<Path> stream = Files.walk(srcPath)) {
+                sourceList.addAll(stream.filter(path -> {
+                    return path.toString().endsWith(".java") && containsSchedulerInterface(path);
+                }).sorted().collect(Collectors.toList()));
+            } catch (IOException e) {
+                throwSchedulerSourceFindFailureException(srcPath, e);
+            }
+        }
+        return sourceList;
+    }
+
+    protected boolean containsSchedulerInterface(Path path) { // quick filter not to parse all sources
+        try {
+            return new String(Files.readAllBytes(path), StandardCharsets.UTF_8).contains(SCHEDULER_INTERFACE_NAME);
+        } catch (IOException ignored) { // e.g. deleted while walking
+            return false;
+        }
+    }
+
+    protected void throwSchedulerSourceFindFailureException(Path srcPath, IOException cause) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("Failed to find scheduler sources for job document.");
+        br.addItem("Source Directory");
+        br.addElement(srcPath);
+        final String msg = br.buildExceptionMessage();
+        throw new IllegalStateException(msg, cause);
+    }
+
+    protected Optional<CompilationUnit> parseSource(Path source) {
+        try {
+            final ParseResult<CompilationUnit> result = new JavaParser().parse(source);
+            return result.getResult();
+        } catch (IOException e) {
+            logger.debug("...Skipping unreadable scheduler source: {}", source, e);
+            return Optional.empty();
+        }
+    }
+
+    // ===================================================================================
+    //                                                                    Compilation Unit
+    //                                                                    ================
+    protected List<ScannedJobRegistration> scanCompilationUnit(CompilationUnit compilationUnit) {
+        final List<ScannedJobRegistration> registrationList = new ArrayList<>();
+        compilationUnit.findAll(ClassOrInterfaceDeclaration.class).stream().filter(declaration -> {
+            return isSchedulerClass(declaration);
+        }).forEach(declaration -> {
+            final String schedulerClassName = declaration.getFullyQualifiedName().orElse(declaration.getNameAsString());
+            final Map<String, ScannedJobRegistration> variableMap = new LinkedHashMap<>();
+            declaration.findAll(MethodCallExpr.class).forEach(callExpr -> {
+                if (REGISTER_METHOD_SET.contains(callExpr.getNameAsString())) {
+                    createRegistration(compilationUnit, schedulerClassName, callExpr).ifPresent(registration -> {
+                        registrationList.add(registration);
+                        if (registration.getVariableName() != null) {
+                            variableMap.put(registration.getVariableName(), registration);
+                        }
+                    });
+                }
+            });
+            declaration.findAll(MethodCallExpr.class).forEach(callExpr -> { // after registrations to resolve variables
+                if (TRIGGER_METHOD_NAME.equals(callExpr.getNameAsString())) {
+                    reflectTrigger(callExpr, variableMap);
+                }
+            });
+        });
+        return registrationList;
+    }
+
+    protected boolean isSchedulerClass(ClassOrInterfaceDeclaration declaration) {
+        return declaration.getImplementedTypes().stream().anyMatch(type -> {
+            return SCHEDULER_INTERFACE_NAME.equals(type.getNameAsString());
+        });
+    }
+
+    // ===================================================================================
+    //                                                                        Registration
+    //                                                                        ============
+    protected Optional<ScannedJobRegistration> createRegistration(CompilationUnit compilationUnit, String schedulerClassName,
+            MethodCallExpr registerExpr) {
+        final Optional<Expression> jobTypeExpr = registerExpr.getArguments().stream().filter(arg -> arg.isClassExpr()).findFirst();
+        if (!jobTypeExpr.isPresent()) { // not job registration e.g. other register() method
+            return Optional.empty();
+        }
+        final String jobTypeName = resolveTypeName(compilationUnit, jobTypeExpr.get().asClassExpr().getType().asString());
+        final ScannedJobRegistration registration = new ScannedJobRegistration(schedulerClassName, jobTypeName);
+        registration.setNoticeLogLevel(DEFAULT_NOTICE_LOG_LEVEL);
+        for (Expression arg : registerExpr.getArguments()) {
+            if (arg.isStringLiteralExpr()) { // only cron expression is string in arguments
+                registration.setCronExp(arg.asStringLiteralExpr().asString());
+            } else if (arg.isMethodCallExpr() && CONCURRENT_EXEC_MAP.containsKey(arg.asMethodCallExpr().getNameAsString())) {
+                registration.setConcurrentExec(CONCURRENT_EXEC_MAP.get(arg.asMethodCallExpr().getNameAsString()));
+            } else if (arg.isLambdaExpr()) { // option e.g. op -> op.uniqueBy("sea")
+                reflectOption(registration, arg);
+            }
+        }
+        findAssignedVariableName(registerExpr).ifPresent(variableName -> registration.setVariableName(variableName));
+        return Optional.of(registration);
+    }
+
+    protected void reflectOption(ScannedJobRegistration registration, Expression optionExpr) {
+        optionExpr.findAll(MethodCallExpr.class).forEach(callExpr -> {
+            final String methodName = callExpr.getNameAsString();
+            final Optional<String> firstLiteral = extractFirstStringLiteral(callExpr);
+            if ("uniqueBy".equals(methodName)) {
+                firstLiteral.ifPresent(unique -> registration.setJobUnique(unique));
+            } else if ("title".equals(methodName)) {
+                firstLiteral.ifPresent(title -> registration.setJobTitle(title));
+            } else if ("desc".equals(methodName)) {
+                firstLiteral.ifPresent(desc -> registration.setJobDescription(desc));
+            } else if ("params".equals(methodName)) {
+                registration.setParams(extractParams(callExpr));
+            } else if (NOTICE_LOG_LEVEL_MAP.containsKey(methodName)) {
+                registration.setNoticeLogLevel(NOTICE_LOG_LEVEL_MAP.get(methodName));
+            }
+        });
+    }
+
+    protected Optional<String> extractFirstStringLiteral(MethodCallExpr callExpr) {
+        if (callExpr.getArguments().isEmpty() || !callExpr.getArgument(0).isStringLiteralExpr()) {
+            return Optional.empty();
+        }
+        return Optional.of(callExpr.getArgument(0).asStringLiteralExpr().asString());
+    }
+
+    protected Map<String, Object> extractParams(MethodCallExpr paramsExpr) { // values are source text
+        // e.g. map.put("sea", "mystic"), DfCollectionUtil.newHashMap("sea", "mystic", "land", oneman)
+        final Map<String, Object> params = new LinkedHashMap<>();
+        paramsExpr.findAll(MethodCallExpr.class).forEach(callExpr -> {
+            if (callExpr == paramsExpr) {
+                return;
+            }
+            final List<Expression> argList = callExpr.getArguments();
+            if (argList.size() < 2 || argList.size() % 2 != 0) {
+                return;
+            }
+            for (int i = 0; i < argList.size(); i += 2) {
+                if (!argList.get(i).isStringLiteralExpr()) { // not key-value arguments
+                    return;
+                }
+            }
+            for (int i = 0; i < argList.size(); i += 2) {
+                params.put(argList.get(i).asStringLiteralExpr().asString(), argList.get(i + 1).toString());
+            }
+        });
+        return params.isEmpty() ? null : params;
+    }
+
+    protected Optional<String> findAssignedVariableName(MethodCallExpr registerExpr) {
+        final Optional<Node> parentNode = registerExpr.getParentNode();
+        if (!parentNode.isPresent()) {
+            return Optional.empty();
+        }
+        final Node parent = parentNode.get();
+        if (parent instanceof VariableDeclarator) { // e.g. RegisteredJob sea = cron.register(...)
+            return Optional.of(((VariableDeclarator) parent).getNameAsString());
+        }
+        if (parent instanceof AssignExpr) { // e.g. sea = cron.register(...)
+            final Expression target = ((AssignExpr) parent).getTarget();
+            if (target.isNameExpr()) {
+                return Optional.of(target.asNameExpr().getNameAsString());
+            }
+        }
+        return Optional.empty();
+    }
+
+    // ===================================================================================
+    //                                                                             Trigger
+    //                                                                             =======
+    protected void reflectTrigger(MethodCallExpr triggerExpr, Map<String, ScannedJobRegistration> variableMap) {
+        // e.g. sea.registerNext(land), sea.registerNext(land.getJobKey())
+        triggerExpr.getScope().filter(scope -> scope.isNameExpr()).map(scope -> {
+            return variableMap.get(scope.asNameExpr().getNameAsString());
+        }).ifPresent(triggering -> {
+            triggerExpr.getArguments().forEach(arg -> {
+                findTriggeredVariableName(arg).map(variableName -> variableMap.get(variableName)).ifPresent(triggered -> {
+                    triggering.getTriggeredRegistrationList().add(triggered);
+                });
+            });
+        });
+    }
+
+    protected Optional<String> findTriggeredVariableName(Expression arg) {
+        if (arg.isNameExpr()) {
+            return Optional.of(arg.asNameExpr().getNameAsString());
+        }
+        if (arg.isMethodCallExpr()) { // e.g. land.getJobKey()
+            return arg.asMethodCallExpr().getScope().filter(scope -> scope.isNameExpr()).map(scope -> {
+                return scope.asNameExpr().getNameAsString();
+            });
+        }
+        return Optional.empty();
+    }
+
+    // ===================================================================================
+    //                                                                        Type Resolve
+    //                                                                        ============
+    protected String resolveTypeName(CompilationUnit compilationUnit, String typeName) {
+        if (typeName.contains(".") && Character.isLowerCase(typeName.charAt(0))) { // already fully-qualified
+            return typeName;
+        }
+        final String topName = typeName.contains(".") ? typeName.substring(0, typeName.indexOf('.')) : typeName;
+        final String nestName = typeName.substring(topName.length()).replace('.', '$'); // e.g. $LandJob if Sea.LandJob
+        for (ImportDeclaration importDecl : compilationUnit.getImports()) {
+            if (importDecl.isStatic() || importDecl.isAsterisk()) {
+                continue;
+            }
+            final String importName = importDecl.getNameAsString();
+            if (importName.equals(topName) || importName.endsWith("." + topName)) {
+                return importName + nestName;
+            }
+        }
+        final String packagePrefix = compilationUnit.getPackageDeclaration().map(pkg -> pkg.getNameAsString() + ".").orElse("");
+        return packagePrefix + topName + nestName; // same package (or wildcard import, not supported)
+    }
+}
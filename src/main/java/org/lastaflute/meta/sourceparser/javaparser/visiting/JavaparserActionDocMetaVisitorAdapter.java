@@ -27,6 +27,7 @@ import org.dbflute.util.DfCollectionUtil;
 import org.dbflute.util.DfStringUtil;
 import org.lastaflute.meta.document.docmeta.ActionDocMeta;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+import org.lastaflute.meta.document.parts.javadoc.MetaJavadoc;
 import org.lastaflute.meta.sourceparser.javaparser.assist.JavaparserMethodIdentityDeterminer;
 
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
@@ -46,6 +47,7 @@ public class JavaparserActionDocMetaVisitorAdapter extends VoidVisitorAdapter<Ac
     //                                                                          Definition
     //                                                                          ==========
     protected static final Pattern RETURN_STMT_PATTERN = Pattern.compile("^[^)]+\\)");
+    protected static final Pattern PARAM_DESCRIPTION_END_PATTERN = Pattern.compile(" ([^\\p{Alnum}]|e\\.g\\. )+.*");
 
     // ===================================================================================
     //                                                                           Attribute
@@ -101,20 +103,17 @@ public class JavaparserActionDocMetaVisitorAdapter extends VoidVisitorAdapter<Ac
         if (DfStringUtil.is_NotNull_and_NotEmpty(comment)) {
             actionDocMeta.setMethodComment(comment);
         }
+        final MetaJavadoc methodJavadoc = actionDocMeta.getMethodCommentJavadoc(); // parsed once for all parameters
         IntStream.range(0, actionDocMeta.getParameterTypeDocMetaList().size()).forEach(parameterIndex -> {
             if (parameterIndex < methodDeclaration.getParameters().size()) {
                 TypeDocMeta typeDocMeta = actionDocMeta.getParameterTypeDocMetaList().get(parameterIndex);
                 com.github.javaparser.ast.body.Parameter parameter = methodDeclaration.getParameters().get(parameterIndex);
                 typeDocMeta.setName(parameter.getNameAsString());
                 typeDocMeta.setPublicName(parameter.getNameAsString());
-                if (DfStringUtil.is_NotNull_and_NotEmpty(comment)) {
-                    // parse parameter comment
-                    Pattern pattern = Pattern.compile(".*@param\\s?" + parameter.getNameAsString() + "\\s?(.*)\r?\n.*", Pattern.DOTALL);
-                    Matcher matcher = pattern.matcher(comment);
-                    if (matcher.matches()) {
-                        typeDocMeta.setComment(matcher.group(1).replaceAll("\r?\n.*", ""));
-                        typeDocMeta.setDescription(typeDocMeta.getComment().replaceAll(" ([^\\p{Alnum}]|e\\.g\\. )+.*", ""));
-                    }
+                final String paramComment = methodJavadoc.findParamComment(parameter.getNameAsString());
+                if (paramComment != null) {
+                    typeDocMeta.setComment(paramComment);
+                    typeDocMeta.setDescription(PARAM_DESCRIPTION_END_PATTERN.matcher(paramComment).replaceAll(""));
                 }
             }
         });
@@ -15,6 +15,7 @@
  */
 package org.lastaflute.meta.swagger.diff;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -24,6 +25,9 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -35,6 +39,11 @@ import org.dbflute.util.Srl;
 import org.lastaflute.meta.exception.LastaMetaIOException;
 import org.lastaflute.meta.swagger.diff.node.SwaggerDiffNodePathFilter;
 import org.lastaflute.meta.swagger.diff.node.SwaggerDiffNodeTargeting;
+import org.lastaflute.meta.swagger.diff.stream.SwaggerDiffStreamingComparator;
+import org.lastaflute.meta.swagger.diff.stream.SwaggerDiffStreamingIndex;
+import org.lastaflute.meta.swagger.diff.stream.SwaggerDiffStreamingIndexer;
+import org.lastaflute.meta.swagger.diff.stream.SwaggerDiffStreamingRender;
+import org.lastaflute.meta.swagger.diff.stream.SwaggerDiffStreamingResult;
 import org.openapitools.openapidiff.core.OpenApiCompare;
 import org.openapitools.openapidiff.core.model.ChangedOpenApi;
 
@@ -139,6 +148,105 @@ public class SwaggerDiff {
         return compareOpenAPILeftRight(leftOpenAPI, rightOpenAPI);
     }
 
+    // ===================================================================================
+    //                                                                      Streaming Diff
+    //                                                                      ==============
+    /**
+     * Diff the swagger files by streaming, for very large specifications. <br>
+     * Both files are indexed by Jackson streaming parser and compared entry by entry
+     * (e.g. path item, definition) in canonical key order, so memory is bounded by the largest entry. <br>
+     * The result is structural (new/deleted/changed entries), not semantic like openapi-diff.
+     * And content filters of option are unsupported because they need whole text.
+     * @param leftSwaggerLocation The location of left swagger.json. (NotNull)
+     * @param rightSwaggerLocation The location of right swagger.json. (NotNull)
+     * @return The rendered markdown of the diff result. (NotNull)
+     */
+    public String diffFromLocationsByStreaming(String leftSwaggerLocation, String rightSwaggerLocation) {
+        try {
+            final SwaggerDiffStreamingResult result = doDiffFromLocationsByStreaming(leftSwaggerLocation, rightSwaggerLocation);
+            return newSwaggerDiffStreamingRender().render(result);
+        } catch (RuntimeException e) {
+            final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+            br.addNotice("Failed to diff the swagger files by streaming.");
+            br.addItem("leftSwaggerLocation");
+            br.addElement(leftSwaggerLocation);
+            br.addItem("rightSwaggerLocation");
+            br.addElement(rightSwaggerLocation);
+            final String msg = br.buildExceptionMessage();
+            throw new IllegalStateException(msg, e);
+        }
+    }
+
+    protected SwaggerDiffStreamingRender newSwaggerDiffStreamingRender() {
+        return new SwaggerDiffStreamingRender();
+    }
+
+    protected SwaggerDiffStreamingResult doDiffFromLocationsByStreaming(String leftSwaggerLocation, String rightSwaggerLocation) {
+        if (swaggerDiffOption.getLeftContentFilter().isPresent() || swaggerDiffOption.getRightContentFilter().isPresent()) {
+            throw new IllegalStateException("Cannot use content filters in streaming diff because they need whole text.");
+        }
+        final List<File> tempFileList = new ArrayList<>();
+        try {
+            final File leftFile = prepareStreamingFile(leftSwaggerLocation, tempFileList);
+            final File rightFile = prepareStreamingFile(rightSwaggerLocation, tempFileList);
+            final ObjectMapper objectMapper = new ObjectMapper();
+            final SwaggerDiffNodePathFilter pathFilter = createNodePathFilter();
+            final SwaggerDiffStreamingIndexer indexer = newSwaggerDiffStreamingIndexer(objectMapper, pathFilter);
+            try (SwaggerDiffStreamingIndex leftIndex = indexer.index(leftFile);
+                    SwaggerDiffStreamingIndex rightIndex = indexer.index(rightFile)) {
+                return newSwaggerDiffStreamingComparator(objectMapper, pathFilter).compare(leftIndex, rightIndex);
+            }
+        } catch (IOException e) {
+            final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+            br.addNotice("Failed to read the swagger file by streaming.");
+            br.addItem("leftSwaggerLocation");
+            br.addElement(leftSwaggerLocation);
+            br.addItem("rightSwaggerLocation");
+            br.addElement(rightSwaggerLocation);
+            final String msg = br.buildExceptionMessage();
+            throw new LastaMetaIOException(msg, e);
+        } finally {
+            tempFileList.forEach(tempFile -> tempFile.delete());
+        }
+    }
+
+    protected SwaggerDiffStreamingIndexer newSwaggerDiffStreamingIndexer(ObjectMapper objectMapper, SwaggerDiffNodePathFilter pathFilter) {
+        return new SwaggerDiffStreamingIndexer(objectMapper, apiPath -> pathFilter.resolveApiPath(apiPath));
+    }
+
+    protected SwaggerDiffStreamingComparator newSwaggerDiffStreamingComparator(ObjectMapper objectMapper,
+            SwaggerDiffNodePathFilter pathFilter) {
+        final SwaggerDiffOption option = getSwaggerDiffOption();
+        final Charset charset = option.getSwaggerContentCharset();
+        return new SwaggerDiffStreamingComparator(objectMapper, charset, text -> {
+            try {
+                return decodeContent(text, charset.name());
+            } catch (UnsupportedEncodingException e) { // basically no way
+                throw new IllegalStateException("Failed to decode the swagger content: " + charset, e);
+            }
+        }, (entry, wrappedRootNode) -> {
+            // path filter only for path item because other entries may have 'paths' as property name
+            final SwaggerDiffNodePathFilter entryFilter = entry.isPathsEntry() ? pathFilter : null;
+            nodeTargeting.selectTargetNode(wrappedRootNode, option.getTargetNodeLambda(), entryFilter);
+        });
+    }
+
+    protected File prepareStreamingFile(String location, List<File> tempFileList) throws IOException {
+        if (!location.contains(":") && getClass().getResource(location) == null) { // same order as getInputStream()
+            final File file = new File(location);
+            if (file.isFile()) {
+                return file; // random access directly
+            }
+        }
+        // URL or class-path resource, copied to temporary file for random access
+        final File tempFile = File.createTempFile("lastameta-swaggerdiff-", ".json");
+        tempFileList.add(tempFile);
+        try (InputStream ins = getInputStream(location)) {
+            Files.copy(ins, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return tempFile;
+    }
+
     // ===================================================================================
     //                                                                      Parsed Content
     //                                                                      ==============
@@ -158,8 +266,7 @@ public class SwaggerDiff {
             final String decoded = decodeContent(swaggerContent, encoding);
             final ObjectMapper objectMapper = new ObjectMapper();
             final JsonNode rootNode = objectMapper.readTree(decoded);
-            filterPathIfNeeds(rootNode); // should be before selecting to use all nodes for determination
-            selectTargetNode(rootNode); // so here after filtering
+            filterAndSelectTargetNode(rootNode); // by one traversal
             return objectMapper.writeValueAsString(rootNode);
         } catch (IOException e) {
             throwSwaggerDiffContentReadIOException(swaggerContent, e);
@@ -184,7 +291,35 @@ public class SwaggerDiff {
         //}
     }
 
-    protected void filterPathIfNeeds(JsonNode rootNode) {
+    protected void filterAndSelectTargetNode(JsonNode rootNode) {
+        if (isNodeAdjustmentOverridden()) { // for compatible, old two steps in overridden methods
+            filterPathIfNeeds(rootNode); // should be before selecting to use all nodes for determination
+            selectTargetNode(rootNode); // so here after filtering
+            return;
+        }
+        // path filtering is executed before selecting to use all nodes for determination
+        final SwaggerDiffNodePathFilter pathFilter = createNodePathFilter();
+        nodeTargeting.selectTargetNode(rootNode, getSwaggerDiffOption().getTargetNodeLambda(), pathFilter);
+    }
+
+    protected boolean isNodeAdjustmentOverridden() { // overridden old step methods in sub-class
+        for (Class<?> type = getClass(); !SwaggerDiff.class.equals(type); type = type.getSuperclass()) {
+            for (String methodName : new String[] { "filterPathIfNeeds", "selectTargetNode" }) {
+                try {
+                    type.getDeclaredMethod(methodName, JsonNode.class);
+                    return true;
+                } catch (NoSuchMethodException ignored) { // not overridden in the class
+                }
+            }
+        }
+        return false;
+    }
+
+    protected void filterPathIfNeeds(JsonNode rootNode) { // for compatible, called only when overridden
+        createNodePathFilter().filterPathIfNeeds(rootNode);
+    }
+
+    protected SwaggerDiffNodePathFilter createNodePathFilter() {
         final SwaggerDiffOption option = getSwaggerDiffOption();
         final SwaggerDiffNodePathFilter filter = new SwaggerDiffNodePathFilter();
         if (option.isPathTrailingSlashIgnored()) {
@@ -198,10 +333,10 @@ public class SwaggerDiff {
         for (String contentType : exceptedPathResponseContentTypeList) {
             filter.exceptPathByResponseContentType(contentType);
         }
-        filter.filterPathIfNeeds(rootNode);
+        return filter;
     }
 
-    protected void selectTargetNode(JsonNode rootNode) {
+    protected void selectTargetNode(JsonNode rootNode) { // for compatible, called only when overridden
         nodeTargeting.prepareNodeTargeting(getSwaggerDiffOption().getTargetNodeLambda()).accept("", rootNode);
     }
 
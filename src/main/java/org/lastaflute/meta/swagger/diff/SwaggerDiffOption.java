@@ -20,8 +20,10 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.util.DfCollectionUtil;
@@ -35,6 +37,16 @@ import org.openapitools.openapidiff.core.output.Render;
  */
 public class SwaggerDiffOption {
 
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final Set<String> DEFAULT_EXCEPTED_NODE_NAME_SET; // compiled once for node traversal
+    static {
+        final Set<String> nameSet = DfCollectionUtil.newHashSet("summary", "description", "examples");
+        DEFAULT_EXCEPTED_NODE_NAME_SET = Collections.unmodifiableSet(nameSet);
+    }
+    protected static final Pattern DEFAULT_RESPONSES_CODE_PATH_PATTERN = Pattern.compile(".+\\.responses\\.[^.]+$");
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
@@ -68,10 +80,10 @@ public class SwaggerDiffOption {
     protected BiPredicate<String, String> prepareDefaultTargetItem() {
         // #hope jflute move to node handling logic (2021/07/08)
         return (path, name) -> {
-            if (DfCollectionUtil.newArrayList("summary", "description", "examples").contains(name)) {
+            if (DEFAULT_EXCEPTED_NODE_NAME_SET.contains(name)) {
                 return false;
             }
-            if (path.matches(".+\\.responses\\.[^.]+$")) {
+            if (DEFAULT_RESPONSES_CODE_PATH_PATTERN.matcher(path).matches()) {
                 return Srl.isNumberHarfAll(name) && name.startsWith("2") && name.length() == 3; // e.g. 200, 201, 204
             }
             return true;
@@ -16,16 +16,20 @@
 package org.lastaflute.meta.swagger.diff.node;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
+import org.dbflute.optional.OptionalThing;
 import org.dbflute.util.Srl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
@@ -46,6 +50,10 @@ public class SwaggerDiffNodePathFilter {
     protected final List<String> exceptedPathPrefixList = new ArrayList<>();
     protected final List<String> exceptedPathResponseContentTypeList = new ArrayList<>();
 
+    // compiled from the lists when option is added, to determine without linear scan
+    protected final SwaggerDiffPathPrefixTrie exceptedPathPrefixTrie = new SwaggerDiffPathPrefixTrie();
+    protected final Set<String> exceptedPathResponseContentTypeSet = new HashSet<>();
+
     // ===================================================================================
     //                                                                              Option
     //                                                                              ======
@@ -56,11 +64,13 @@ public class SwaggerDiffNodePathFilter {
 
     public SwaggerDiffNodePathFilter exceptPathByPrefix(String pathPrefix) {
         exceptedPathPrefixList.add(pathPrefix);
+        exceptedPathPrefixTrie.addPrefix(pathPrefix);
         return this;
     }
 
     public SwaggerDiffNodePathFilter exceptPathByResponseContentType(String contentType) {
         exceptedPathResponseContentTypeList.add(contentType);
+        exceptedPathResponseContentTypeSet.add(contentType);
         return this;
     }
 
@@ -79,116 +89,182 @@ public class SwaggerDiffNodePathFilter {
         if (!needsFiltering()) {
             return;
         }
-        final JsonNode foundNode = rootNode.findValue("paths");
-        if (foundNode == null || !foundNode.isObject()) {
-            logger.debug("Not found the 'paths' node so cannot remove HTML/Stream path: foundNode=" + foundNode);
+        final ObjectNode pathsNode = findPathsNode(rootNode);
+        if (pathsNode == null) {
             return;
         }
-        final ObjectNode pathsNode = (ObjectNode) foundNode;
-        if (pathsNode != null) {
-            if (pathTrailingSlashDeleted) {
-                removeTrailingSlash(pathsNode);
-            }
-            final List<String> apiPathList = extractApiPathList(pathsNode);
-            for (String apiPath : apiPathList) {
-                final JsonNode currentJsonNode = pathsNode.get(apiPath);
-                if (isExceptPath(apiPath)) {
-                    pathsNode.remove(apiPath);
-                } else {
-                    doFilterPath(pathsNode, apiPath, currentJsonNode);
-                }
-            }
+        filterPathsNode(pathsNode);
+    }
+
+    /**
+     * Find the 'paths' node from the root node.
+     * @param rootNode The root node of swagger.json. (NotNull)
+     * @return The found object node of 'paths'. (NullAllowed: when not found)
+     */
+    public ObjectNode findPathsNode(JsonNode rootNode) {
+        JsonNode foundNode = rootNode.get("paths"); // top level first (basically here)
+        if (foundNode == null) {
+            foundNode = rootNode.findValue("paths"); // deep search as before
         }
+        if (foundNode == null || !foundNode.isObject()) {
+            logger.debug("Not found the 'paths' node so cannot remove HTML/Stream path: foundNode=" + foundNode);
+            return null;
+        }
+        return (ObjectNode) foundNode;
     }
 
-    protected void doFilterPath(ObjectNode pathsNode, String apiPath, JsonNode currentJsonNode) {
-        if (!(currentJsonNode instanceof ObjectNode)) {
-            return;
+    /**
+     * Filter the API paths of the 'paths' node by one pass. <br>
+     * (trailing slash, path prefix and response content type are determined per path)
+     * @param pathsNode The object node of 'paths'. (NotNull)
+     */
+    public void filterPathsNode(ObjectNode pathsNode) {
+        final Map<String, JsonNode> filteredMap = new LinkedHashMap<>(pathsNode.size());
+        final Iterator<Entry<String, JsonNode>> fields = pathsNode.fields();
+        while (fields.hasNext()) {
+            final Entry<String, JsonNode> entry = fields.next();
+            final String apiPath = pathTrailingSlashDeleted ? removeTrailingSlash(entry.getKey()) : entry.getKey();
+            filteredMap.remove(apiPath); // later one wins and moves to the end as old removal/setting
+            filteredMap.put(apiPath, entry.getValue());
         }
-        final ObjectNode currentObjNode = (ObjectNode) currentJsonNode;
-        if (determineExceptedNode(currentObjNode)) {
-            pathsNode.remove(apiPath);
-        } else { // go to nest
-            final Iterator<Entry<String, JsonNode>> fields = currentObjNode.fields();
-            while (fields.hasNext()) {
-                final JsonNode nextNode = fields.next().getValue();
-                doFilterPath(pathsNode, apiPath, nextNode); // recursive
+        final Iterator<Entry<String, JsonNode>> filteredIte = filteredMap.entrySet().iterator();
+        while (filteredIte.hasNext()) {
+            final Entry<String, JsonNode> entry = filteredIte.next();
+            if (isExceptPath(entry.getKey()) || determineExceptedNode(entry.getValue())) {
+                filteredIte.remove();
             }
         }
+        pathsNode.removeAll();
+        pathsNode.setAll(filteredMap);
+    }
+
+    /**
+     * Resolve the API path by path-name filtering, e.g. for streaming that cannot see all paths at once. <br>
+     * (response content type is not determined here because it needs the path item)
+     * @param apiPath The API path as key of 'paths' node. (NotNull)
+     * @return The optional API path resolved, e.g. trailing slash deleted. (NotNull, EmptyAllowed: when excepted)
+     */
+    public OptionalThing<String> resolveApiPath(String apiPath) {
+        final String resolved = pathTrailingSlashDeleted ? removeTrailingSlash(apiPath) : apiPath;
+        if (isExceptPath(resolved)) {
+            return OptionalThing.empty();
+        }
+        return OptionalThing.of(resolved);
     }
 
     // ===================================================================================
     //                                                                      Trailing Slash
     //                                                                      ==============
-    protected void removeTrailingSlash(ObjectNode pathsNode) {
-        final List<String> apiPathList = extractApiPathList(pathsNode);
-        for (String apiPath : apiPathList) {
-            JsonNode currentNode = pathsNode.get(apiPath);
-            final String newPath = apiPath.endsWith("/") ? Srl.rtrim(apiPath, "/") : apiPath;
-            pathsNode.remove(apiPath); // by old path
-            pathsNode.set(newPath, currentNode); // by new path
-        }
+    protected String removeTrailingSlash(String apiPath) {
+        return apiPath.endsWith("/") ? Srl.rtrim(apiPath, "/") : apiPath;
     }
 
     // ===================================================================================
     //                                                                         Except Path
     //                                                                         ===========
     protected boolean isExceptPath(String apiPath) {
-        for (String pathPrefix : exceptedPathPrefixList) {
-            if (apiPath.startsWith(pathPrefix)) {
-                return true;
-            }
-        }
-        return false;
+        return exceptedPathPrefixTrie.matchesAnyPrefix(apiPath);
     }
 
     // ===================================================================================
     //                                                                      Except by Node
     //                                                                      ==============
-    protected boolean determineExceptedNode(ObjectNode currentObjNode) {
-        return hasExceptedResponsesContentType(currentObjNode) // e.g. OpenAPI 3.0
-                || hasExceptedProduces(currentObjNode); // e.g. swagger-2.0 (Lasta)
+    protected boolean determineExceptedNode(JsonNode pathItemNode) {
+        if (exceptedPathResponseContentTypeSet.isEmpty() || !pathItemNode.isObject()) {
+            return false;
+        }
+        return containsExceptedContentType(pathItemNode, /*underResponses*/false);
     }
 
-    protected boolean hasExceptedResponsesContentType(ObjectNode currentObjNode) { // null allowed
-        final JsonNode responsesJsonNode = currentObjNode.findValue("responses");
-        if (responsesJsonNode == null || !responsesJsonNode.isObject()) {
+    protected boolean containsExceptedContentType(JsonNode currentNode, boolean underResponses) { // recursive
+        if (currentNode.isArray()) {
+            for (JsonNode element : currentNode) {
+                if (containsExceptedContentType(element, underResponses)) {
+                    return true;
+                }
+            }
             return false;
         }
-        final ObjectNode responseObjNode = (ObjectNode) responsesJsonNode;
-        for (String contentType : exceptedPathResponseContentTypeList) {
-            final JsonNode exceptedNode = responseObjNode.findValue(contentType);
-            if (exceptedNode != null) {
+        if (!currentNode.isObject()) {
+            return false;
+        }
+        final Iterator<Entry<String, JsonNode>> fields = currentNode.fields();
+        while (fields.hasNext()) {
+            final Entry<String, JsonNode> entry = fields.next();
+            final String name = entry.getKey();
+            final JsonNode valueNode = entry.getValue();
+            if (underResponses && exceptedPathResponseContentTypeSet.contains(name)) { // e.g. OpenAPI 3.0
+                return true;
+            }
+            if ("produces".equals(name) && hasExceptedProduces(valueNode)) { // e.g. swagger-2.0 (Lasta)
+                return true;
+            }
+            final boolean nextUnderResponses = underResponses || ("responses".equals(name) && valueNode.isObject());
+            if (containsExceptedContentType(valueNode, nextUnderResponses)) {
                 return true;
             }
         }
         return false;
     }
 
-    protected boolean hasExceptedProduces(ObjectNode currentObjNode) {
+    protected boolean hasExceptedProduces(JsonNode producesNode) {
         // supposing lasta-presents swagger.json
-        final JsonNode produces = currentObjNode.findValue("produces");
-        if (produces != null && produces.isArray()) { // should be array
-            final ArrayNode arrayNode = (ArrayNode) produces;
-            final Iterator<JsonNode> elements = arrayNode.elements();
-            while (elements.hasNext()) {
-                final JsonNode jsonNode = elements.next();
-                for (String contentType : exceptedPathResponseContentTypeList) {
-                    if (contentType.equals(jsonNode.textValue())) { // found
-                        return true;
-                    }
-                }
+        if (!producesNode.isArray()) { // should be array
+            return false;
+        }
+        for (JsonNode element : producesNode) {
+            final String textValue = element.textValue();
+            if (textValue != null && exceptedPathResponseContentTypeSet.contains(textValue)) { // found
+                return true;
             }
         }
         return false;
     }
 
     // ===================================================================================
-    //                                                                        Assist Logic
-    //                                                                        ============
-    protected List<String> extractApiPathList(ObjectNode pathsNode) {
+    //                                                                          Compatible
+    //                                                                          ==========
+    // the methods before one-pass filtering, delegating to the current logic for subclass callers
+    // (filterPathsNode() does not call them so override determineExceptedNode(JsonNode) to customize)
+    protected List<String> extractApiPathList(ObjectNode pathsNode) { // for compatible
         final List<String> apiPathList = new ArrayList<>(); // to avoid concurrent modification
         pathsNode.fieldNames().forEachRemaining(name -> apiPathList.add(name));
         return apiPathList;
     }
+
+    protected void doFilterPath(ObjectNode pathsNode, String apiPath, JsonNode currentJsonNode) { // for compatible
+        if (currentJsonNode != null && determineExceptedNode(currentJsonNode)) { // nested nodes are also determined
+            pathsNode.remove(apiPath);
+        }
+    }
+
+    protected void removeTrailingSlash(ObjectNode pathsNode) { // for compatible
+        for (String apiPath : extractApiPathList(pathsNode)) {
+            final JsonNode currentNode = pathsNode.get(apiPath);
+            pathsNode.remove(apiPath); // by old path
+            pathsNode.set(removeTrailingSlash(apiPath), currentNode); // by new path
+        }
+    }
+
+    protected boolean determineExceptedNode(ObjectNode currentObjNode) { // for compatible
+        return determineExceptedNode((JsonNode) currentObjNode);
+    }
+
+    protected boolean hasExceptedResponsesContentType(ObjectNode currentObjNode) { // for compatible
+        final JsonNode responsesJsonNode = currentObjNode.findValue("responses");
+        if (responsesJsonNode == null || !responsesJsonNode.isObject()) {
+            return false;
+        }
+        for (String contentType : exceptedPathResponseContentTypeSet) {
+            if (responsesJsonNode.findValue(contentType) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean hasExceptedProduces(ObjectNode currentObjNode) { // for compatible
+        final JsonNode producesNode = currentObjNode.findValue("produces");
+        return producesNode != null && hasExceptedProduces(producesNode);
+    }
 }
@@ -15,16 +15,10 @@
  */
 package org.lastaflute.meta.swagger.diff.node;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
-import java.util.stream.IntStream;
-
-import org.dbflute.util.DfStringUtil;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * @author p1us2er0
@@ -38,22 +32,22 @@ public class SwaggerDiffNodeTargeting {
     //                                                                           =========
     public BiConsumer<String, JsonNode> prepareNodeTargeting(BiPredicate<String, String> targetNodeLambda) {
         return (fieldName, node) -> {
-            if (node.isArray()) {
-                IntStream.range(0, node.size()).forEach(index -> {
-                    prepareNodeTargeting(targetNodeLambda).accept(fieldName, node.get(index));
-                });
-            } else if (node.isObject()) {
-                final List<String> fieldNameList = new ArrayList<String>();
-                node.fieldNames().forEachRemaining(fieldNameList::add);
-                fieldNameList.forEach(name -> {
-                    final String path = DfStringUtil.isEmpty(fieldName) ? name : fieldName + "." + name;
-                    if (targetNodeLambda.test(path, name)) {
-                        prepareNodeTargeting(targetNodeLambda).accept(path, node.get(name));
-                    } else {
-                        ((ObjectNode) node).remove(name);
-                    }
-                });
-            }
+            newSwaggerDiffNodeTraversal(targetNodeLambda, null).traverse(fieldName, node);
         };
     }
+
+    /**
+     * Filter API paths and select target nodes by one traversal.
+     * @param rootNode The root node of swagger.json, which is modified. (NotNull)
+     * @param targetNodeLambda The determination of target node by path and name. (NotNull)
+     * @param pathFilter The filter of API paths applied to 'paths' node before selecting. (NullAllowed: no filtering)
+     */
+    public void selectTargetNode(JsonNode rootNode, BiPredicate<String, String> targetNodeLambda, SwaggerDiffNodePathFilter pathFilter) {
+        newSwaggerDiffNodeTraversal(targetNodeLambda, pathFilter).traverse("", rootNode);
+    }
+
+    protected SwaggerDiffNodeTraversal newSwaggerDiffNodeTraversal(BiPredicate<String, String> targetNodeLambda,
+            SwaggerDiffNodePathFilter pathFilter) {
+        return new SwaggerDiffNodeTraversal(targetNodeLambda, pathFilter);
+    }
 }
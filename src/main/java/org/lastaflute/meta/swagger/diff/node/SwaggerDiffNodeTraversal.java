@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.swagger.diff.node;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.function.BiPredicate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The one-pass traversal of swagger JSON nodes, which filters API paths and selects target nodes. <br>
+ * The path builder is reused while walking so new instance is needed per traversal. (not thread-safe)
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerDiffNodeTraversal {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final BiPredicate<String, String> targetNodeLambda; // not null
+    protected final SwaggerDiffNodePathFilter pathFilter; // null allowed: no filtering
+    protected final StringBuilder pathBuilder = new StringBuilder(); // reused to avoid string concatenation per node
+    protected ObjectNode pathsNode; // null allowed: not found or no filtering, set when traversal begins
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public SwaggerDiffNodeTraversal(BiPredicate<String, String> targetNodeLambda, SwaggerDiffNodePathFilter pathFilter) {
+        this.targetNodeLambda = targetNodeLambda;
+        this.pathFilter = pathFilter;
+    }
+
+    // ===================================================================================
+    //                                                                            Traverse
+    //                                                                            ========
+    /**
+     * @param basePath The base path of the node, e.g. "" for root. (NotNull, EmptyAllowed)
+     * @param rootNode The JSON node to be traversed, modified by filtering and targeting. (NotNull)
+     */
+    public void traverse(String basePath, JsonNode rootNode) {
+        if (pathFilter != null && pathFilter.needsFiltering()) {
+            pathsNode = pathFilter.findPathsNode(rootNode);
+        }
+        pathBuilder.setLength(0);
+        pathBuilder.append(basePath);
+        doTraverse(rootNode);
+    }
+
+    protected void doTraverse(JsonNode node) { // recursive
+        if (node.isArray()) {
+            for (JsonNode element : node) { // same path as array node
+                doTraverse(element);
+            }
+        } else if (node.isObject()) {
+            if (node == pathsNode) { // should be before selecting to use all nodes for determination
+                pathFilter.filterPathsNode(pathsNode);
+            }
+            final int parentLength = pathBuilder.length();
+            final Iterator<Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Entry<String, JsonNode> entry = fields.next();
+                final String name = entry.getKey();
+                if (parentLength > 0) {
+                    pathBuilder.append('.');
+                }
+                pathBuilder.append(name);
+                if (targetNodeLambda.test(pathBuilder.toString(), name)) {
+                    doTraverse(entry.getValue());
+                } else {
+                    fields.remove();
+                }
+                pathBuilder.setLength(parentLength);
+            }
+        }
+    }
+}
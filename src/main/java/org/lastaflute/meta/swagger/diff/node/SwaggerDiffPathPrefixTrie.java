@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.swagger.diff.node;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The prefix tree of API paths to determine prefix matching without linear scan.
+ * <pre>
+ * e.g. prefixes: /sea/, /sea/dockside/, /land/
+ *  (root)
+ *   |-/sea/ (terminal)
+ *   |   |-dockside/ (terminal)
+ *   |-/land/ (terminal)
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerDiffPathPrefixTrie {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final PrefixNode rootNode = new PrefixNode();
+    protected boolean empty = true;
+
+    // ===================================================================================
+    //                                                                            Register
+    //                                                                            ========
+    public void addPrefix(String pathPrefix) {
+        if (pathPrefix == null) {
+            throw new IllegalArgumentException("The argument 'pathPrefix' should not be null.");
+        }
+        PrefixNode currentNode = rootNode;
+        for (int i = 0; i < pathPrefix.length(); i++) {
+            currentNode = currentNode.prepareChild(pathPrefix.charAt(i));
+        }
+        currentNode.terminal = true; // e.g. empty prefix makes root terminal (matches all like startsWith(""))
+        empty = false;
+    }
+
+    // ===================================================================================
+    //                                                                           Determine
+    //                                                                           =========
+    public boolean matchesAnyPrefix(String apiPath) {
+        if (empty) {
+            return false;
+        }
+        PrefixNode currentNode = rootNode;
+        if (currentNode.terminal) {
+            return true;
+        }
+        for (int i = 0; i < apiPath.length(); i++) {
+            currentNode = currentNode.findChild(apiPath.charAt(i));
+            if (currentNode == null) { // no prefix continues
+                return false;
+            }
+            if (currentNode.terminal) { // shortest prefix is enough
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    // ===================================================================================
+    //                                                                         Prefix Node
+    //                                                                         ===========
+    protected static class PrefixNode {
+
+        protected Map<Character, PrefixNode> childMap; // null allowed: lazy-loaded
+        protected boolean terminal; // true if a prefix ends here
+
+        public PrefixNode prepareChild(char ch) {
+            if (childMap == null) {
+                childMap = new HashMap<>();
+            }
+            return childMap.computeIfAbsent(ch, key -> new PrefixNode());
+        }
+
+        public PrefixNode findChild(char ch) { // null allowed: not found
+            return childMap != null ? childMap.get(ch) : null;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.swagger.diff.stream;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The comparator of two streaming indexes, merging entries in canonical order. <br>
+ * Only one pair of entries is in memory at a time, so memory is bounded by the largest entry.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerDiffStreamingComparator {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final ObjectMapper objectMapper; // not null
+    protected final Charset charset; // not null, of swagger file
+    protected final Function<String, String> contentDecoder; // not null, applied to entry text
+    protected final BiConsumer<SwaggerDiffStreamingEntry, JsonNode> nodeAdjuster; // not null, filtering and targeting
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param objectMapper The mapper of Jackson to read entry values. (NotNull)
+     * @param charset The charset of swagger files. (NotNull)
+     * @param contentDecoder The decoder of entry text before parsing. (NotNull)
+     * @param nodeAdjuster The adjuster of entry node wrapped by its parent nodes from root. (NotNull)
+     */
+    public SwaggerDiffStreamingComparator(ObjectMapper objectMapper, Charset charset, Function<String, String> contentDecoder,
+            BiConsumer<SwaggerDiffStreamingEntry, JsonNode> nodeAdjuster) {
+        this.objectMapper = objectMapper;
+        this.charset = charset;
+        this.contentDecoder = contentDecoder;
+        this.nodeAdjuster = nodeAdjuster;
+    }
+
+    // ===================================================================================
+    //                                                                             Compare
+    //                                                                             =======
+    public SwaggerDiffStreamingResult compare(SwaggerDiffStreamingIndex leftIndex, SwaggerDiffStreamingIndex rightIndex)
+            throws IOException {
+        final SwaggerDiffStreamingResult result = newSwaggerDiffStreamingResult();
+        final Iterator<Entry<String, SwaggerDiffStreamingEntry>> leftIte = leftIndex.getEntryMap().entrySet().iterator();
+        final Iterator<Entry<String, SwaggerDiffStreamingEntry>> rightIte = rightIndex.getEntryMap().entrySet().iterator();
+        Entry<String, SwaggerDiffStreamingEntry> left = leftIte.hasNext() ? leftIte.next() : null;
+        Entry<String, SwaggerDiffStreamingEntry> right = rightIte.hasNext() ? rightIte.next() : null;
+        while (left != null || right != null) { // merge join by sorted keys
+            final int order = left == null ? 1 : right == null ? -1 : left.getKey().compareTo(right.getKey());
+            if (order < 0) { // only in left
+                if (readAdjustedNode(leftIndex, left.getValue()) != null) {
+                    result.addDeletedEntry(left.getKey());
+                }
+                left = leftIte.hasNext() ? leftIte.next() : null;
+            } else if (order > 0) { // only in right
+                if (readAdjustedNode(rightIndex, right.getValue()) != null) {
+                    result.addNewEntry(right.getKey());
+                }
+                right = rightIte.hasNext() ? rightIte.next() : null;
+            } else { // in both
+                compareEntry(result, left.getKey(), readAdjustedNode(leftIndex, left.getValue()),
+                        readAdjustedNode(rightIndex, right.getValue()));
+                left = leftIte.hasNext() ? leftIte.next() : null;
+                right = rightIte.hasNext() ? rightIte.next() : null;
+            }
+        }
+        return result;
+    }
+
+    protected SwaggerDiffStreamingResult newSwaggerDiffStreamingResult() {
+        return new SwaggerDiffStreamingResult();
+    }
+
+    protected void compareEntry(SwaggerDiffStreamingResult result, String entryKey, JsonNode leftNode, JsonNode rightNode) {
+        if (leftNode == null && rightNode == null) { // both filtered
+            return;
+        }
+        if (leftNode == null) {
+            result.addNewEntry(entryKey);
+        } else if (rightNode == null) {
+            result.addDeletedEntry(entryKey);
+        } else if (!leftNode.equals(rightNode)) { // object equality does not depend on key order
+            final List<String> differenceList = new ArrayList<>();
+            extractDifference(differenceList, "", leftNode, rightNode);
+            result.addChangedEntry(entryKey, differenceList);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                          Entry Node
+    //                                                                          ==========
+    /**
+     * @param index The index that has the entry. (NotNull)
+     * @param entry The entry to be read. (NotNull)
+     * @return The adjusted value node of the entry. (NullAllowed: when filtered)
+     * @throws IOException When it fails to read the file.
+     */
+    protected JsonNode readAdjustedNode(SwaggerDiffStreamingIndex index, SwaggerDiffStreamingEntry entry) throws IOException {
+        final JsonNode valueNode;
+        if (entry.isInline()) {
+            valueNode = entry.getInlineNode().deepCopy(); // to avoid modification of index
+        } else {
+            final String text = new String(index.readEntryBytes(entry), charset);
+            valueNode = objectMapper.readTree(contentDecoder.apply(text));
+        }
+        // wrap by parent nodes to adjust it by the same paths as whole document
+        final ObjectNode rootNode = objectMapper.createObjectNode();
+        final List<String> nodeNameList = entry.getNodeNameList();
+        ObjectNode parentNode = rootNode;
+        for (int i = 0; i < nodeNameList.size() - 1; i++) {
+            parentNode = parentNode.putObject(nodeNameList.get(i));
+        }
+        final String valueName = nodeNameList.get(nodeNameList.size() - 1);
+        parentNode.set(valueName, valueNode);
+        nodeAdjuster.accept(entry, rootNode);
+        return parentNode.get(valueName); // null if filtered
+    }
+
+    // ===================================================================================
+    //                                                                          Difference
+    //                                                                          ==========
+    protected void extractDifference(List<String> differenceList, String path, JsonNode leftNode, JsonNode rightNode) { // recursive
+        if (leftNode.isObject() && rightNode.isObject()) {
+            final TreeSet<String> nameSet = new TreeSet<>(); // canonical order
+            leftNode.fieldNames().forEachRemaining(nameSet::add);
+            rightNode.fieldNames().forEachRemaining(nameSet::add);
+            for (String name : nameSet) {
+                final String nextPath = path.isEmpty() ? name : path + "." + name;
+                final JsonNode leftValue = leftNode.get(name);
+                final JsonNode rightValue = rightNode.get(name);
+                if (leftValue == null) {
+                    differenceList.add("+ " + nextPath);
+                } else if (rightValue == null) {
+                    differenceList.add("- " + nextPath);
+                } else if (!leftValue.equals(rightValue)) {
+                    extractDifference(differenceList, nextPath, leftValue, rightValue);
+                }
+            }
+        } else if (leftNode.isArray() && rightNode.isArray() && leftNode.size() == rightNode.size()) {
+            for (int i = 0; i < leftNode.size(); i++) {
+                final JsonNode leftElement = leftNode.get(i);
+                final JsonNode rightElement = rightNode.get(i);
+                if (!leftElement.equals(rightElement)) {
+                    extractDifference(differenceList, path + "[" + i + "]", leftElement, rightElement);
+                }
+            }
+        } else if (leftNode.isContainerNode() || rightNode.isContainerNode()) { // e.g. array size changed
+            differenceList.add("~ " + path);
+        } else {
+            differenceList.add("~ " + path + ": " + leftNode.asText() + " -> " + rightNode.asText());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.swagger.diff.stream;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The indexed entry of swagger.json for streaming diff, e.g. one path item of 'paths'. <br>
+ * Container value keeps only its byte range in the file, and scalar value keeps the small node itself.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerDiffStreamingEntry {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<String> nodeNameList; // not null, e.g. [paths, /sea/land], [components, schemas, SeaBean]
+    protected final long byteOffset; // -1 if inline
+    protected final int byteLength; // -1 if inline
+    protected final JsonNode inlineNode; // null allowed: when container value
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public SwaggerDiffStreamingEntry(List<String> nodeNameList, long byteOffset, int byteLength) {
+        this.nodeNameList = Collections.unmodifiableList(nodeNameList);
+        this.byteOffset = byteOffset;
+        this.byteLength = byteLength;
+        this.inlineNode = null;
+    }
+
+    public SwaggerDiffStreamingEntry(List<String> nodeNameList, JsonNode inlineNode) {
+        this.nodeNameList = Collections.unmodifiableList(nodeNameList);
+        this.byteOffset = -1;
+        this.byteLength = -1;
+        this.inlineNode = inlineNode;
+    }
+
+    // ===================================================================================
+    //                                                                           Entry Key
+    //                                                                           =========
+    public String buildEntryKey() { // used as canonical order
+        return String.join(" ", nodeNameList);
+    }
+
+    public boolean isPathsEntry() {
+        return nodeNameList.size() == 2 && "paths".equals(nodeNameList.get(0));
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "entry:{" + nodeNameList + ", " + (inlineNode != null ? "inline" : byteOffset + "+" + byteLength) + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public List<String> getNodeNameList() {
+        return nodeNameList;
+    }
+
+    public long getByteOffset() {
+        return byteOffset;
+    }
+
+    public int getByteLength() {
+        return byteLength;
+    }
+
+    public boolean isInline() {
+        return inlineNode != null;
+    }
+
+    public JsonNode getInlineNode() {
+        return inlineNode;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.swagger.diff.stream;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The index of swagger.json entries for streaming diff, sorted by entry key as canonical order. <br>
+ * Only entry keys and byte ranges are in memory, and entry content is read from the file when needed.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerDiffStreamingIndex implements Closeable {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final File swaggerFile; // not null
+    protected final Map<String, SwaggerDiffStreamingEntry> entryMap = new TreeMap<>(); // sorted by entry key
+    protected RandomAccessFile randomAccessFile; // null allowed: lazy-loaded
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public SwaggerDiffStreamingIndex(File swaggerFile) {
+        this.swaggerFile = swaggerFile;
+    }
+
+    // ===================================================================================
+    //                                                                               Entry
+    //                                                                               =====
+    public void registerEntry(String entryKey, SwaggerDiffStreamingEntry entry) {
+        entryMap.remove(entryKey); // later one wins e.g. '/sea/' and '/sea' when trailing slash ignored
+        entryMap.put(entryKey, entry);
+    }
+
+    /**
+     * Read the bytes of the entry value from the file. (random access)
+     * @param entry The indexed entry that is not inline. (NotNull)
+     * @return The bytes of the JSON value, e.g. {"get": {...}}. (NotNull)
+     * @throws IOException When it fails to read the file.
+     */
+    public byte[] readEntryBytes(SwaggerDiffStreamingEntry entry) throws IOException {
+        if (entry.isInline()) {
+            throw new IllegalArgumentException("The inline entry does not have bytes: " + entry);
+        }
+        if (randomAccessFile == null) {
+            randomAccessFile = new RandomAccessFile(swaggerFile, "r");
+        }
+        final byte[] bytes = new byte[entry.getByteLength()];
+        randomAccessFile.seek(entry.getByteOffset());
+        randomAccessFile.readFully(bytes);
+        return bytes;
+    }
+
+    // ===================================================================================
+    //                                                                               Close
+    //                                                                               =====
+    @Override
+    public void close() throws IOException {
+        if (randomAccessFile != null) {
+            randomAccessFile.close();
+            randomAccessFile = null;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "index:{" + swaggerFile + ", entries=" + entryMap.size() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public File getSwaggerFile() {
+        return swaggerFile;
+    }
+
+    public Map<String, SwaggerDiffStreamingEntry> getEntryMap() { // read-only use
+        return entryMap;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.swagger.diff.stream;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.dbflute.helper.message.ExceptionMessageBuilder;
+import org.dbflute.optional.OptionalThing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The indexer of swagger.json by Jackson streaming parser. <br>
+ * The file is read once from head to tail and only byte ranges of entries are kept.
+ * <pre>
+ * e.g. entries
+ *  paths /sea/land      : byte range of the path item
+ *  definitions SeaBean  : byte range of the schema (swagger-2.0)
+ *  components schemas SeaBean : byte range of the schema (OpenAPI 3.0)
+ *  info                 : byte range of the whole top-level node
+ *  swagger              : inline scalar node
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerDiffStreamingIndexer {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final ObjectMapper objectMapper; // not null, for inline scalar
+    protected final Function<String, OptionalThing<String>> apiPathResolver; // not null, empty if excepted
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param objectMapper The mapper of Jackson to read scalar values. (NotNull)
+     * @param apiPathResolver The resolver of API path e.g. deleting trailing slash, returns empty if excepted. (NotNull)
+     */
+    public SwaggerDiffStreamingIndexer(ObjectMapper objectMapper, Function<String, OptionalThing<String>> apiPathResolver) {
+        this.objectMapper = objectMapper;
+        this.apiPathResolver = apiPathResolver;
+    }
+
+    // ===================================================================================
+    //                                                                               Index
+    //                                                                               =====
+    public SwaggerDiffStreamingIndex index(File swaggerFile) throws IOException {
+        final SwaggerDiffStreamingIndex index = newSwaggerDiffStreamingIndex(swaggerFile);
+        final JsonFactory factory = objectMapper.getFactory();
+        try (JsonParser parser = factory.createParser(swaggerFile)) { // byte-based for byte offset
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throwSwaggerDiffStreamingRootNotObjectException(swaggerFile, parser.currentToken());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String topName = parser.getCurrentName();
+                final JsonToken valueToken = parser.nextToken();
+                if (valueToken == JsonToken.START_OBJECT && isEntryGroupNode(topName)) { // e.g. paths, definitions
+                    indexChildEntries(index, parser, newNodeNameList(topName));
+                } else if (valueToken == JsonToken.START_OBJECT && isEntryGroupParentNode(topName)) { // e.g. components
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        final String groupName = parser.getCurrentName();
+                        final JsonToken groupToken = parser.nextToken();
+                        final List<String> groupNameList = newNodeNameList(topName, groupName);
+                        if (groupToken == JsonToken.START_OBJECT) {
+                            indexChildEntries(index, parser, groupNameList);
+                        } else {
+                            indexEntryValue(index, parser, groupNameList);
+                        }
+                    }
+                } else {
+                    indexEntryValue(index, parser, newNodeNameList(topName));
+                }
+            }
+        }
+        return index;
+    }
+
+    protected SwaggerDiffStreamingIndex newSwaggerDiffStreamingIndex(File swaggerFile) {
+        return new SwaggerDiffStreamingIndex(swaggerFile);
+    }
+
+    protected boolean isEntryGroupNode(String topName) {
+        return "paths".equals(topName) || "definitions".equals(topName);
+    }
+
+    protected boolean isEntryGroupParentNode(String topName) {
+        return "components".equals(topName);
+    }
+
+    protected void indexChildEntries(SwaggerDiffStreamingIndex index, JsonParser parser, List<String> parentNameList)
+            throws IOException {
+        final boolean paths = parentNameList.size() == 1 && "paths".equals(parentNameList.get(0));
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.getCurrentName();
+            parser.nextToken(); // to value
+            if (paths) {
+                final OptionalThing<String> optApiPath = apiPathResolver.apply(name);
+                if (!optApiPath.isPresent()) { // excepted path
+                    parser.skipChildren();
+                    continue;
+                }
+                indexEntryValue(index, parser, newNodeNameList(parentNameList, optApiPath.get()));
+            } else {
+                indexEntryValue(index, parser, newNodeNameList(parentNameList, name));
+            }
+        }
+    }
+
+    protected void indexEntryValue(SwaggerDiffStreamingIndex index, JsonParser parser, List<String> nodeNameList) throws IOException {
+        final SwaggerDiffStreamingEntry entry;
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            final long byteOffset = parser.getTokenLocation().getByteOffset();
+            parser.skipChildren(); // current token becomes the end of container
+            final long endOffset = parser.getTokenLocation().getByteOffset(); // of '}' or ']'
+            entry = new SwaggerDiffStreamingEntry(nodeNameList, byteOffset, (int) (endOffset - byteOffset + 1));
+        } else { // scalar is small
+            final JsonNode inlineNode = objectMapper.readTree(parser);
+            entry = new SwaggerDiffStreamingEntry(nodeNameList, inlineNode);
+        }
+        index.registerEntry(entry.buildEntryKey(), entry);
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    protected List<String> newNodeNameList(String... names) {
+        final List<String> nameList = new ArrayList<>(names.length);
+        for (String name : names) {
+            nameList.add(name);
+        }
+        return nameList;
+    }
+
+    protected List<String> newNodeNameList(List<String> parentNameList, String name) {
+        final List<String> nameList = new ArrayList<>(parentNameList.size() + 1);
+        nameList.addAll(parentNameList);
+        nameList.add(name);
+        return nameList;
+    }
+
+    protected void throwSwaggerDiffStreamingRootNotObjectException(File swaggerFile, JsonToken firstToken) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("The root of the swagger file should be JSON object.");
+        br.addItem("Swagger File");
+        br.addElement(swaggerFile);
+        br.addItem("First Token");
+        br.addElement(firstToken);
+        final String msg = br.buildExceptionMessage();
+        throw new IllegalStateException(msg);
+    }
+}
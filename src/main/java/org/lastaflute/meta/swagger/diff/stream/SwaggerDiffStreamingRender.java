@@ -0,0 +1,70 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.swagger.diff.stream;
+
+import java.util.List;
+
+import org.lastaflute.meta.swagger.diff.stream.SwaggerDiffStreamingResult.ChangedEntry;
+
+/**
+ * The render of streaming diff result as markdown.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerDiffStreamingRender {
+
+    // ===================================================================================
+    //                                                                              Render
+    //                                                                              ======
+    public String render(SwaggerDiffStreamingResult result) {
+        final StringBuilder sb = new StringBuilder();
+        if (!result.isDifferent()) {
+            sb.append(sectionTitle("No differences. Specifications are equivalents"));
+            return sb.toString();
+        }
+        final List<String> newEntryKeyList = result.getNewEntryKeyList();
+        if (!newEntryKeyList.isEmpty()) {
+            sb.append(sectionTitle("What's New"));
+            newEntryKeyList.forEach(entryKey -> sb.append(itemEntry(entryKey)));
+        }
+        final List<String> deletedEntryKeyList = result.getDeletedEntryKeyList();
+        if (!deletedEntryKeyList.isEmpty()) {
+            sb.append(sectionTitle("What's Deleted"));
+            deletedEntryKeyList.forEach(entryKey -> sb.append(itemEntry(entryKey)));
+        }
+        final List<ChangedEntry> changedEntryList = result.getChangedEntryList();
+        if (!changedEntryList.isEmpty()) {
+            sb.append(sectionTitle("What's Changed"));
+            for (ChangedEntry changedEntry : changedEntryList) {
+                sb.append(itemEntry(changedEntry.getEntryKey()));
+                changedEntry.getDifferenceList().forEach(difference -> sb.append(itemDifference(difference)));
+            }
+        }
+        return sb.toString();
+    }
+
+    protected String sectionTitle(String title) {
+        return "### " + title + "\n---\n\n";
+    }
+
+    protected String itemEntry(String entryKey) {
+        return "* `" + entryKey + "`\n";
+    }
+
+    protected String itemDifference(String difference) {
+        return "    * " + difference + "\n";
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.swagger.diff.stream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of streaming diff, which has entry keys in canonical order.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerDiffStreamingResult {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<String> newEntryKeyList = new ArrayList<>(); // only in right
+    protected final List<String> deletedEntryKeyList = new ArrayList<>(); // only in left
+    protected final List<ChangedEntry> changedEntryList = new ArrayList<>(); // in both but different
+
+    // ===================================================================================
+    //                                                                            Register
+    //                                                                            ========
+    public void addNewEntry(String entryKey) {
+        newEntryKeyList.add(entryKey);
+    }
+
+    public void addDeletedEntry(String entryKey) {
+        deletedEntryKeyList.add(entryKey);
+    }
+
+    public void addChangedEntry(String entryKey, List<String> differenceList) {
+        changedEntryList.add(new ChangedEntry(entryKey, differenceList));
+    }
+
+    // ===================================================================================
+    //                                                                       Changed Entry
+    //                                                                       =============
+    public static class ChangedEntry {
+
+        protected final String entryKey; // not null
+        protected final List<String> differenceList; // not null, e.g. "~ get.parameters[0].type: string -> integer"
+
+        public ChangedEntry(String entryKey, List<String> differenceList) {
+            this.entryKey = entryKey;
+            this.differenceList = Collections.unmodifiableList(differenceList);
+        }
+
+        @Override
+        public String toString() {
+            return "changed:{" + entryKey + ", " + differenceList + "}";
+        }
+
+        public String getEntryKey() {
+            return entryKey;
+        }
+
+        public List<String> getDifferenceList() {
+            return differenceList;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                           Determine
+    //                                                                           =========
+    public boolean isDifferent() {
+        return !newEntryKeyList.isEmpty() || !deletedEntryKeyList.isEmpty() || !changedEntryList.isEmpty();
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "streamingDiff:{new=" + newEntryKeyList + ", deleted=" + deletedEntryKeyList + ", changed=" + changedEntryList + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public List<String> getNewEntryKeyList() {
+        return Collections.unmodifiableList(newEntryKeyList);
+    }
+
+    public List<String> getDeletedEntryKeyList() {
+        return Collections.unmodifiableList(deletedEntryKeyList);
+    }
+
+    public List<ChangedEntry> getChangedEntryList() {
+        return Collections.unmodifiableList(changedEntryList);
+    }
+}
@@ -24,7 +24,6 @@ import java.util.stream.IntStream;
 import org.dbflute.helper.message.ExceptionMessageBuilder;
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.util.DfCollectionUtil;
-import org.dbflute.util.DfStringUtil;
 import org.dbflute.util.Srl;
 import org.lastaflute.core.json.control.JsonControlMeta;
 import org.lastaflute.core.json.engine.RealJsonEngine;
@@ -44,6 +43,7 @@ import org.lastaflute.meta.swagger.spec.parts.enumtype.SwaggerSpecEnumHandler;
 import org.lastaflute.meta.swagger.spec.parts.httpmethod.SwaggerSpecHttpMethodHandler;
 import org.lastaflute.meta.swagger.spec.parts.produces.SwaggerSpecProducesHandler;
 import org.lastaflute.meta.swagger.spec.parts.property.SwaggerSpecPropertyHandler;
+import org.lastaflute.meta.swagger.spec.parts.tag.SwaggerSpecTagHandler;
 import org.lastaflute.meta.swagger.spec.zone.form.SwaggerSpecFormSetupper;
 import org.lastaflute.meta.swagger.spec.zone.jsonbody.SwaggerSpecJsonBodySetupper;
 import org.lastaflute.meta.swagger.spec.zone.parameter.SwaggerSpecParameterSetupper;
@@ -88,6 +88,7 @@ public class SwaggerSpecPathsSetupper {
     protected final SwaggerSpecDefinitionHandler definitionHandler;
     protected final SwaggerSpecEncodingHandler encodingHandler;
     protected final SwaggerSpecProducesHandler producesHandler;
+    protected final SwaggerSpecTagHandler tagHandler;
 
     // ===================================================================================
     //                                                                         Constructor
@@ -114,6 +115,7 @@ public class SwaggerSpecPathsSetupper {
         this.definitionHandler = newSwaggerSpecDefinitionHandler();
         this.encodingHandler = newSwaggerSpecEncodingHandler();
         this.producesHandler = newSwaggerSpecProducesHandler(dataTypeHandler);
+        this.tagHandler = newSwaggerSpecTagHandler();
     }
 
     protected SwaggerSpecAnnotationHandler newSwaggerSpecAnnotationHandler() {
@@ -153,6 +155,10 @@ public class SwaggerSpecPathsSetupper {
         return new SwaggerSpecProducesHandler(dataTypeHandler);
     }
 
+    protected SwaggerSpecTagHandler newSwaggerSpecTagHandler() {
+        return new SwaggerSpecTagHandler();
+    }
+
     // ===================================================================================
     //                                                                         Set up Path 
     //                                                                         ===========
@@ -268,10 +274,12 @@ public class SwaggerSpecPathsSetupper {
         br.addElement("And look at the next exception messages.");
         br.addItem("actionDocMeta");
         br.addElement(actionDocMeta);
-        br.addItem("Action Class");
-        br.addElement(actionDocMeta.getActionExecute().getActionType());
-        br.addItem("Execute Method");
-        br.addElement(actionDocMeta.getActionExecute().toSimpleMethodExp());
+        if (actionDocMeta.getActionExecute() != null) { // null if e.g. container-free discovery
+            br.addItem("Action Class");
+            br.addElement(actionDocMeta.getActionExecute().getActionType());
+            br.addItem("Execute Method");
+            br.addElement(actionDocMeta.getActionExecute().toSimpleMethodExp());
+        }
         return br.buildExceptionMessage();
     }
 
@@ -471,11 +479,7 @@ public class SwaggerSpecPathsSetupper {
     //                                                 Tags
     //                                                ------
     protected String deriveActionTag(ActionDocMeta actionDocMeta) {
-        if ("RootAction".equals(actionDocMeta.getType().getSimpleName())) {
-            return "root"; // fixedly
-        }
-        final String actionUrl = actionDocMeta.getUrl();
-        return DfStringUtil.substringFirstFront(actionUrl.replaceAll("^/", ""), "/"); // first element
+        return tagHandler.deriveActionTag(actionDocMeta.getType(), actionDocMeta.getUrl());
     }
 
     protected boolean isNewTag(String tag) {
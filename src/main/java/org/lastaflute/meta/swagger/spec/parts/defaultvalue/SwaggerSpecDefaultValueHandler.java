@@ -15,12 +15,9 @@
  */
 package org.lastaflute.meta.swagger.spec.parts.defaultvalue;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.dbflute.helper.dfmap.DfMapStyle;
@@ -30,6 +27,8 @@ import org.dbflute.util.DfCollectionUtil;
 import org.dbflute.util.DfStringUtil;
 import org.dbflute.util.Srl;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+import org.lastaflute.meta.document.parts.javadoc.MetaJavadoc;
+import org.lastaflute.meta.document.parts.type.MetaTypeName;
 import org.lastaflute.meta.exception.SwaggerDefaultValueParseFailureException;
 import org.lastaflute.meta.exception.SwaggerDefaultValueTypeConversionFailureException;
 import org.lastaflute.meta.swagger.spec.parts.datatype.SwaggerSpecDataType;
@@ -150,7 +149,7 @@ public class SwaggerSpecDefaultValueHandler {
     protected OptionalThing<Object> doDeriveScalarDefalutValue(TypeDocMeta typeDocMeta,
             Map<Class<?>, SwaggerSpecDataType> swaggerDataTypeMap) {
         final SwaggerSpecDataType swaggerType = swaggerDataTypeMap.get(typeDocMeta.getType());
-        final Object extracted = extractDefaultValueFromComment(typeDocMeta.getComment());
+        final Object extracted = extractDefaultValueFromComment(typeDocMeta);
         final Object defaultValue = swaggerType.defaultValueFunction.apply(typeDocMeta, extracted);
         return OptionalThing.ofNullable(defaultValue, () -> {
             throw new IllegalStateException("Not found the default value: " + typeDocMeta);
@@ -166,7 +165,7 @@ public class SwaggerSpecDefaultValueHandler {
 
     protected OptionalThing<Object> doDeriveListDefalutValue(TypeDocMeta typeDocMeta,
             Map<Class<?>, SwaggerSpecDataType> swaggerDataTypeMap) {
-        final Object defaultValue = extractDefaultValueFromComment(typeDocMeta.getComment());
+        final Object defaultValue = extractDefaultValueFromComment(typeDocMeta);
         if (!(defaultValue instanceof List)) {
             return OptionalThing.empty();
         }
@@ -229,8 +228,11 @@ public class SwaggerSpecDefaultValueHandler {
         if (typeName == null || !typeName.contains("<")) { // e.g. java.util.Map (non generic)
             return null;
         }
-        final String genericPart = Srl.substringFirstFront(Srl.substringFirstRear(typeName, "<"), ">");
-        return genericPart.split(","); // e.g. <java.lang.String, java.lang.Integer> to [java.lang.String, java.lang.Integer]
+        // e.g. <java.lang.String, java.lang.Integer> to [java.lang.String, java.lang.Integer]
+        // nested argument is kept as one element e.g. <java.lang.String, java.util.List<java.lang.Integer>>
+        return MetaTypeName.parse(typeName).getTypeArgumentList().stream().map(argument -> {
+            return argument.getFullName();
+        }).toArray(String[]::new);
     }
 
     protected Object deriveMapDefaultValueByComment(String comment, String keyTypeName, String valueTypeName) {
@@ -299,7 +301,7 @@ public class SwaggerSpecDefaultValueHandler {
     //                                                                              ======
     protected OptionalThing<Object> doDeriveEnumDefaultValue(TypeDocMeta typeDocMeta,
             Map<Class<?>, SwaggerSpecDataType> swaggerDataTypeMap) {
-        final Object defaultValue = extractDefaultValueFromComment(typeDocMeta.getComment());
+        final Object defaultValue = extractDefaultValueFromComment(typeDocMeta);
         if (defaultValue != null) {
             return OptionalThing.of(defaultValue);
         }
@@ -316,44 +318,26 @@ public class SwaggerSpecDefaultValueHandler {
     // ===================================================================================
     //                                                                   Extract egDefault
     //                                                                   =================
+    /**
+     * Extract default value from comment plainly in spite of property type. 
+     * @param typeDocMeta The meta of property whose JavaDoc may contain default value. (NotNull)
+     * @return The extracted default value from the comment simply. (NullAllowed: null comment or "null")
+     */
+    protected Object extractDefaultValueFromComment(TypeDocMeta typeDocMeta) { // except map type
+        // attention: maybe javaparser behavior
+        // if both javadoc and line comment exist, null comment here
+        // e.g.
+        //  /** javadoc comment e.g. ... */
+        //  public String sea; // line comment
+        return typeDocMeta.getCommentJavadoc().getExampleValue(); // parsed once per comment
+    }
+
     /**
      * Extract default value from comment plainly in spite of property type. 
      * @param comment The plain comment on property JavaDoc, may contain default value. (NullAllowed)
      * @return The extracted default value from the comment simply. (NullAllowed: null comment or "null")
      */
     protected Object extractDefaultValueFromComment(String comment) { // except map type
-        if (DfStringUtil.is_Null_or_Empty(comment)) {
-            // attention: maybe javaparser behavior
-            // if both javadoc and line comment exist, null comment here
-            // e.g.
-            //  /** javadoc comment e.g. ... */
-            //  public String sea; // line comment
-            return null;
-        }
-        String parsedComment = comment.replaceAll("\r?\n", " ").trim();
-
-        // adjust mark rear space (but simple support)
-        parsedComment = Srl.replace(parsedComment, "e.g.  ", "e.g.").trim(); // allowed e.g.  "sea"
-        parsedComment = Srl.replace(parsedComment, "e.g. ", "e.g.").trim(); // allowed e.g."sea"
-
-        if (parsedComment.contains("e.g.\"")) {
-            return Srl.substringFirstFront(Srl.substringFirstRear(parsedComment, "e.g.\""), "\"").trim();
-        }
-        if (parsedComment.contains("e.g.[")) {
-            final String defaultValue = Srl.substringFirstFront(Srl.substringFirstRear(parsedComment, "e.g.["), "]").trim();
-            return Arrays.stream(defaultValue.split(", *")).map(value -> value.trim()).map(value -> {
-                if (value.startsWith("\"") && value.endsWith("\"")) {
-                    return value.substring(1, value.length() - 1);
-                }
-                return "null".equals(value) ? null : value;
-            }).collect(Collectors.toList());
-        }
-        final Pattern pattern = Pattern.compile("e\\.g\\.([^ ]+)");
-        final Matcher matcher = pattern.matcher(parsedComment);
-        if (matcher.find()) {
-            final String value = matcher.group(1);
-            return "null".equals(value) ? null : value;
-        }
-        return null;
+        return MetaJavadoc.parse(comment).getExampleValue();
     }
 }
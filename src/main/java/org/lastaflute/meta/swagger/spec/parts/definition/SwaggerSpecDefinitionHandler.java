@@ -15,6 +15,7 @@
  */
 package org.lastaflute.meta.swagger.spec.parts.definition;
 
+import org.dbflute.util.Srl;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
 
 /**
@@ -25,9 +26,13 @@ import org.lastaflute.meta.document.docmeta.TypeDocMeta;
 public class SwaggerSpecDefinitionHandler {
 
     public String deriveDefinitionName(TypeDocMeta typeDocMeta) {
-        if (typeDocMeta.getTypeName().matches("^[^<]+<(.+)>$")) {
-            return typeDocMeta.getTypeName().replaceAll("^[^<]+<(.+)>$", "$1").replaceAll(" ", "");
+        final String typeName = typeDocMeta.getTypeName();
+        if (typeName.indexOf('<') > 0 && typeName.endsWith(">")) { // e.g. Sea<Land> to Land, Sea<Land>[] as it is
+            final String typeArgumentExp = typeName.substring(typeName.indexOf('<') + 1, typeName.lastIndexOf('>'));
+            if (!typeArgumentExp.isEmpty()) { // e.g. Sea<Map<String, Land>> to Map<String,Land>
+                return Srl.replace(typeArgumentExp, " ", "");
+            }
         }
-        return typeDocMeta.getTypeName().replaceAll(" ", "");
+        return Srl.replace(typeName, " ", "");
     }
 }
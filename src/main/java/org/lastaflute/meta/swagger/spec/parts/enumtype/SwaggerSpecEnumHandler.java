@@ -15,13 +15,14 @@
  */
 package org.lastaflute.meta.swagger.spec.parts.enumtype;
 
-import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.dbflute.jdbc.Classification;
-import org.dbflute.util.DfCollectionUtil;
+import org.lastaflute.meta.document.parts.enumtype.MetaEnumDescriptionBuilder;
+import org.lastaflute.meta.document.parts.enumtype.MetaEnumMeta;
+import org.lastaflute.meta.document.parts.enumtype.MetaEnumRegistry;
 
 /**
  * @author p1us2er0
@@ -30,19 +31,59 @@ import org.dbflute.util.DfCollectionUtil;
  */
 public class SwaggerSpecEnumHandler {
 
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final MetaEnumRegistry metaEnumRegistry = newMetaEnumRegistry(); // shared with LastaDoc by ClassValue
+
+    protected MetaEnumRegistry newMetaEnumRegistry() {
+        return new MetaEnumRegistry();
+    }
+
+    protected final MetaEnumDescriptionBuilder metaEnumDescriptionBuilder = newMetaEnumDescriptionBuilder();
+
+    protected MetaEnumDescriptionBuilder newMetaEnumDescriptionBuilder() {
+        return new MetaEnumDescriptionBuilder();
+    }
+
+    // ===================================================================================
+    //                                                                           Enum Meta
+    //                                                                           =========
+    public MetaEnumMeta findEnumMeta(Class<? extends Enum<?>> typeClass) {
+        return metaEnumRegistry.findEnumMeta(typeClass);
+    }
+
+    // ===================================================================================
+    //                                                                       Enum Map List
+    //                                                                       =============
+    /**
+     * @param typeClass The type of enum. (NotNull)
+     * @return The new-created list of enum map that has name, code, alias. (NotNull, Modifiable: copied from cached meta)
+     */
     public List<Map<String, String>> buildEnumMapList(Class<? extends Enum<?>> typeClass) {
-        // cannot resolve type by maven compiler, explicitly cast it
-        final List<Map<String, String>> enumMapList = Arrays.stream(typeClass.getEnumConstants()).map(enumConstant -> {
-            final Map<String, String> map = DfCollectionUtil.newLinkedHashMap("name", enumConstant.name());
-            if (enumConstant instanceof Classification) {
-                map.put("code", ((Classification) enumConstant).code());
-                map.put("alias", ((Classification) enumConstant).alias());
-            } else {
-                map.put("code", enumConstant.name());
-                map.put("alias", "");
-            }
-            return map;
+        // enum constants are not walked again, and the cached meta is not exposed
+        return findEnumMeta(typeClass).getEnumMapList().stream().map(enumMap -> {
+            return new LinkedHashMap<>(enumMap); // keeping order of name, code, alias
         }).collect(Collectors.toList());
-        return enumMapList;
+    }
+
+    // ===================================================================================
+    //                                                                    Enum Description
+    //                                                                    ================
+    /**
+     * @param typeClass The type of enum. (NotNull)
+     * @param enumMapList The list of enum map, built one or customized one. (NotNull)
+     * @param description The description of the property. (NullAllowed: then only enum list)
+     * @return The description of the enum property with markdown list of codes. (NotNull)
+     */
+    public String buildEnumDescription(Class<? extends Enum<?>> typeClass, List<Map<String, String>> enumMapList, String description) {
+        final MetaEnumMeta enumMeta = findEnumMeta(typeClass);
+        final String markdownListExp;
+        if (enumMapList.equals(enumMeta.getEnumMapList())) { // mainly here, not customized so use cached expression
+            markdownListExp = enumMeta.getMarkdownListExp();
+        } else {
+            markdownListExp = metaEnumDescriptionBuilder.buildMarkdownListExp(enumMapList);
+        }
+        return metaEnumDescriptionBuilder.buildEnumDescription(description, markdownListExp, typeClass);
     }
 }
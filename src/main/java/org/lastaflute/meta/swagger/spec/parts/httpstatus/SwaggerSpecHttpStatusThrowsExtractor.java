@@ -20,6 +20,8 @@ import java.util.Map;
 
 import org.dbflute.util.DfCollectionUtil;
 import org.dbflute.util.Srl;
+import org.lastaflute.meta.document.parts.javadoc.MetaJavadoc;
+import org.lastaflute.meta.document.parts.javadoc.MetaJavadoc.ThrowsTag;
 
 /**
  * @author jflute
@@ -34,52 +36,29 @@ public class SwaggerSpecHttpStatusThrowsExtractor {
         if (Srl.is_Null_or_TrimmedEmpty(methodComment)) {
             throw new IllegalArgumentException("The argument 'methodComment' should not be null.");
         }
-        final Map<String, List<Map<String, String>>> statusThrowsMap = DfCollectionUtil.newLinkedHashMap();
-        final List<String> splitList = Srl.splitListTrimmed(methodComment, "\n");
-        for (String line : splitList) {
-            final String throwsPrefix = "@throws";
-            if (!line.startsWith(throwsPrefix)) {
-                continue; // not throws line
-            }
-            final String[] spaces = new String[] { " ", "\t", "\u3000" };
-            if (!Srl.startsWith(Srl.substringFirstRear(line, throwsPrefix), spaces)) {
-                continue; // throws mock line e.g. @throwWhen...
-            }
-            // @throws line here
-            if (!line.contains("(") || !line.endsWith(")")) {
-                continue; // not having () line
-            }
-            // having rear () here
-            final String statusExp = Srl.substringLastFront(Srl.substringLastRear(line, "("), ")").trim();
-            // cannot use scope last for the case e.g. ...When the (^^sea is not found (400)
-            //final ScopeInfo statusScope = Srl.extractScopeLast(line, "(", ")");
-            if (!Srl.isNumberHarfAll(statusExp)) { // strict for now
-                continue; // e.g. (A04)
-            }
+        return extractStatusThrowsMapByJavadoc(MetaJavadoc.parse(methodComment));
+    }
 
-            final String exceptionRear = Srl.substringFirstRear(line, throwsPrefix).trim();
-            if (!Srl.containsAny(exceptionRear, spaces)) { // e.g. ...ExceptionWhen...(400)
-                continue; // broken throws?
+    public Map<String, List<Map<String, String>>> extractStatusThrowsMapByJavadoc(MetaJavadoc methodJavadoc) {
+        if (methodJavadoc == null) {
+            throw new IllegalArgumentException("The argument 'methodJavadoc' should not be null.");
+        }
+        final Map<String, List<Map<String, String>>> statusThrowsMap = DfCollectionUtil.newLinkedHashMap();
+        for (ThrowsTag throwsTag : methodJavadoc.getThrowsTagList()) { // already parsed as throws line
+            final String statusExp = throwsTag.getStatusExp();
+            if (statusExp == null) { // e.g. no (), (A04), broken ()
+                continue;
             }
-            final String exception = Srl.substringFirstFront(exceptionRear, spaces).trim();
-            final String descriptionRear = Srl.substringFirstRear(exceptionRear, spaces).trim();
-            final String description = trimAlsoFullWidthSpace(Srl.substringLastFront(descriptionRear, "("));
-
             List<Map<String, String>> throwsList = statusThrowsMap.get(statusExp);
             if (throwsList == null) {
                 throwsList = DfCollectionUtil.newArrayList();
                 statusThrowsMap.put(statusExp, throwsList);
             }
             final Map<String, String> throwsMap = DfCollectionUtil.newLinkedHashMap();
-            throwsMap.put(THROWS_MAP_KEY_EXCEPTION, exception);
-            throwsMap.put(THROWS_MAP_KEY_DESCRIPTION, description);
+            throwsMap.put(THROWS_MAP_KEY_EXCEPTION, throwsTag.getException());
+            throwsMap.put(THROWS_MAP_KEY_DESCRIPTION, throwsTag.getDescription());
             throwsList.add(throwsMap);
         }
         return statusThrowsMap;
     }
-
-    protected String trimAlsoFullWidthSpace(String targetStr) {
-        // #for_now jflute not perfect, nested spaces cannot be trimmed, but almost no problem (2024/02/23)
-        return Srl.removeSuffix(Srl.removePrefix(targetStr.trim(), "\u3000"), "\u3000").trim();
-    }
 }
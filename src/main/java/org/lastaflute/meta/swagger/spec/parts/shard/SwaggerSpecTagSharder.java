@@ -0,0 +1,332 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.swagger.spec.parts.shard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import org.dbflute.optional.OptionalThing;
+import org.lastaflute.meta.swagger.spec.parts.encoding.SwaggerSpecEncodingHandler;
+
+/**
+ * The sharder of swagger spec by tag, each shard is self-contained spec with only definitions that it reaches.
+ * <pre>
+ * e.g. swagger.json (tags: product, member)
+ *  swagger-shard/product.json : paths of product, definitions reached from them
+ *  swagger-shard/member.json  : paths of member, definitions reached from them
+ *  swagger-index.json         : list of shards
+ * </pre>
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerSpecTagSharder {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String DEFINITION_REF_PREFIX = "#/definitions/";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final SwaggerSpecEncodingHandler encodingHandler = newSwaggerSpecEncodingHandler();
+
+    protected SwaggerSpecEncodingHandler newSwaggerSpecEncodingHandler() {
+        return new SwaggerSpecEncodingHandler();
+    }
+
+    // ===================================================================================
+    //                                                                        Shard by Tag
+    //                                                                        ============
+    /**
+     * @param swaggerMap The map of whole swagger spec. (NotNull)
+     * @return The map of shard spec, keyed by tag, ordered as top-level tags. (NotNull, EmptyAllowed)
+     */
+    public Map<String, Map<String, Object>> shardByTag(Map<String, Object> swaggerMap) {
+        if (swaggerMap == null) {
+            throw new IllegalArgumentException("The argument 'swaggerMap' should not be null.");
+        }
+        final Map<String, Map<String, Map<String, Object>>> tagPathsMap = groupPathsByTag(swaggerMap); // one pass
+        final DefinitionReacher reacher = new DefinitionReacher(extractTopMap(swaggerMap, "definitions"));
+        final Map<String, Map<String, Object>> shardMap = new LinkedHashMap<>();
+        for (Entry<String, Map<String, Map<String, Object>>> entry : tagPathsMap.entrySet()) {
+            final String tag = entry.getKey();
+            shardMap.put(tag, buildShardSpec(swaggerMap, Collections.singletonList(tag), entry.getValue(), reacher));
+        }
+        return shardMap;
+    }
+
+    /**
+     * @param swaggerMap The map of whole swagger spec. (NotNull)
+     * @param tag The tag of the shard, e.g. product. (NotNull)
+     * @return The optional shard spec of the tag. (NotNull, EmptyAllowed: no path of the tag)
+     */
+    public OptionalThing<Map<String, Object>> extractTagShard(Map<String, Object> swaggerMap, String tag) {
+        if (swaggerMap == null) {
+            throw new IllegalArgumentException("The argument 'swaggerMap' should not be null.");
+        }
+        if (tag == null) {
+            throw new IllegalArgumentException("The argument 'tag' should not be null.");
+        }
+        final Map<String, Map<String, Object>> pathsMap = groupPathsByTag(swaggerMap).get(tag);
+        final Map<String, Object> shardSpec;
+        if (pathsMap != null) {
+            final DefinitionReacher reacher = new DefinitionReacher(extractTopMap(swaggerMap, "definitions"));
+            shardSpec = buildShardSpec(swaggerMap, Collections.singletonList(tag), pathsMap, reacher);
+        } else {
+            shardSpec = null;
+        }
+        return OptionalThing.ofNullable(shardSpec, () -> {
+            throw new IllegalStateException("Not found the tag in the swagger paths: " + tag);
+        });
+    }
+
+    /**
+     * Extract the spec of only the selected operations, e.g. for existing swagger.json with on-demand selection.
+     * @param swaggerMap The map of whole swagger spec. (NotNull)
+     * @param operationSelector The selector of operation by path and tag, e.g. (/product/list/, product) (NotNull)
+     * @return The map of spec that has only selected operations and their definitions. (NotNull)
+     */
+    public Map<String, Object> extractSelectedShard(Map<String, Object> swaggerMap, BiPredicate<String, String> operationSelector) {
+        if (swaggerMap == null) {
+            throw new IllegalArgumentException("The argument 'swaggerMap' should not be null.");
+        }
+        if (operationSelector == null) {
+            throw new IllegalArgumentException("The argument 'operationSelector' should not be null.");
+        }
+        final Set<String> selectedTagSet = new LinkedHashSet<>();
+        final Map<String, Map<String, Object>> selectedPathsMap = new LinkedHashMap<>();
+        for (Entry<String, Map<String, Map<String, Object>>> tagEntry : groupPathsByTag(swaggerMap).entrySet()) {
+            final String tag = tagEntry.getKey();
+            for (Entry<String, Map<String, Object>> pathEntry : tagEntry.getValue().entrySet()) {
+                final String path = pathEntry.getKey();
+                if (operationSelector.test(path, tag)) {
+                    selectedTagSet.add(tag);
+                    selectedPathsMap.computeIfAbsent(path, key -> new LinkedHashMap<>()).putAll(pathEntry.getValue());
+                }
+            }
+        }
+        final DefinitionReacher reacher = new DefinitionReacher(extractTopMap(swaggerMap, "definitions"));
+        return buildShardSpec(swaggerMap, selectedTagSet, selectedPathsMap, reacher);
+    }
+
+    // -----------------------------------------------------
+    //                                            Group Path
+    //                                            ----------
+    protected Map<String, Map<String, Map<String, Object>>> groupPathsByTag(Map<String, Object> swaggerMap) {
+        final Map<String, Map<String, Map<String, Object>>> tagPathsMap = new LinkedHashMap<>(); // tag: path: method
+        for (Map<String, Object> tagMap : extractTopTagsList(swaggerMap)) { // to keep order of top-level tags
+            final Object tagName = tagMap.get("name");
+            if (tagName != null) {
+                tagPathsMap.put(tagName.toString(), new LinkedHashMap<>());
+            }
+        }
+        for (Entry<String, Object> pathEntry : extractTopMap(swaggerMap, "paths").entrySet()) {
+            final String path = pathEntry.getKey(); // e.g. /product/list/{pageNumber}
+            if (!(pathEntry.getValue() instanceof Map<?, ?>)) {
+                continue; // no way
+            }
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> pathItemMap = (Map<String, Object>) pathEntry.getValue();
+            for (Entry<String, Object> itemEntry : pathItemMap.entrySet()) {
+                for (String tag : extractOperationTagList(itemEntry.getValue())) { // empty if not operation
+                    final Map<String, Map<String, Object>> pathsMap = tagPathsMap.computeIfAbsent(tag, key -> new LinkedHashMap<>());
+                    final Map<String, Object> shardItemMap = pathsMap.computeIfAbsent(path, key -> newShardPathItemMap(pathItemMap));
+                    shardItemMap.put(itemEntry.getKey(), itemEntry.getValue()); // e.g. get: {...}
+                }
+            }
+        }
+        tagPathsMap.values().removeIf(pathsMap -> pathsMap.isEmpty()); // e.g. tag without path
+        return tagPathsMap;
+    }
+
+    protected List<String> extractOperationTagList(Object itemValue) { // empty if not operation
+        final List<String> tagList = new ArrayList<>(1);
+        if (itemValue instanceof Map<?, ?>) { // e.g. get: {tags: [...], ...}
+            final Object tags = ((Map<?, ?>) itemValue).get("tags");
+            if (tags instanceof Collection<?>) {
+                for (Object tag : (Collection<?>) tags) {
+                    tagList.add(tag.toString());
+                }
+            }
+        }
+        return tagList;
+    }
+
+    protected Map<String, Object> newShardPathItemMap(Map<String, Object> pathItemMap) {
+        final Map<String, Object> shardItemMap = new LinkedHashMap<>();
+        for (Entry<String, Object> itemEntry : pathItemMap.entrySet()) {
+            if (extractOperationTagList(itemEntry.getValue()).isEmpty()) { // e.g. path-level parameters
+                shardItemMap.put(itemEntry.getKey(), itemEntry.getValue());
+            }
+        }
+        return shardItemMap;
+    }
+
+    // -----------------------------------------------------
+    //                                            Shard Spec
+    //                                            ----------
+    protected Map<String, Object> buildShardSpec(Map<String, Object> swaggerMap, Collection<String> tags,
+            Map<String, Map<String, Object>> pathsMap, DefinitionReacher reacher) {
+        final Map<String, Object> shardSpec = new LinkedHashMap<>(); // same order as whole spec
+        for (Entry<String, Object> entry : swaggerMap.entrySet()) {
+            final String key = entry.getKey();
+            if ("paths".equals(key)) {
+                shardSpec.put(key, pathsMap);
+            } else if ("definitions".equals(key)) {
+                shardSpec.put(key, reacher.collectReachedDefinitions(pathsMap));
+            } else if ("tags".equals(key)) {
+                final List<Map<String, Object>> shardTagsList = new ArrayList<>(1);
+                for (Map<String, Object> tagMap : extractTopTagsList(swaggerMap)) {
+                    if (tags.contains(tagMap.get("name"))) {
+                        shardTagsList.add(tagMap);
+                    }
+                }
+                shardSpec.put(key, shardTagsList);
+            } else { // e.g. swagger, info, host, basePath, securityDefinitions
+                shardSpec.put(key, entry.getValue()); // shared (not copied) because read-only
+            }
+        }
+        return shardSpec;
+    }
+
+    // ===================================================================================
+    //                                                                    Reach Definition
+    //                                                                    ================
+    protected class DefinitionReacher { // per whole spec
+
+        protected final Map<String, Object> definitionsMap; // not null, whole definitions
+        protected final Map<String, String> refDefinitionNameMap = new LinkedHashMap<>(); // key is encoded name in $ref
+        protected final Map<String, Set<String>> directRefNameSetMap = new LinkedHashMap<>(); // cache of definition refs
+
+        public DefinitionReacher(Map<String, Object> definitionsMap) {
+            this.definitionsMap = definitionsMap;
+            for (String definitionName : definitionsMap.keySet()) {
+                refDefinitionNameMap.put(encodingHandler.encode(definitionName), definitionName);
+            }
+        }
+
+        public Map<String, Object> collectReachedDefinitions(Map<String, Map<String, Object>> pathsMap) {
+            final Set<String> reachedNameSet = new LinkedHashSet<>();
+            final List<String> pendingNameList = new ArrayList<>(findRefNameSet(pathsMap));
+            while (!pendingNameList.isEmpty()) { // traced until no pending, also safe for recursive definitions
+                final String definitionName = pendingNameList.remove(pendingNameList.size() - 1);
+                if (reachedNameSet.add(definitionName)) {
+                    final Set<String> directNameSet = directRefNameSetMap.computeIfAbsent(definitionName, name -> {
+                        return findRefNameSet(definitionsMap.get(name));
+                    });
+                    pendingNameList.addAll(directNameSet);
+                }
+            }
+            final Map<String, Object> reachedMap = new LinkedHashMap<>();
+            for (Entry<String, Object> entry : definitionsMap.entrySet()) { // same order as whole definitions
+                if (reachedNameSet.contains(entry.getKey())) {
+                    reachedMap.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return reachedMap;
+        }
+
+        protected Set<String> findRefNameSet(Object node) { // definition names
+            final Set<String> nameSet = new LinkedHashSet<>();
+            collectRefName(node, nameSet);
+            return nameSet;
+        }
+
+        protected void collectRefName(Object node, Set<String> nameSet) {
+            if (node instanceof Map<?, ?>) {
+                for (Entry<?, ?> entry : ((Map<?, ?>) node).entrySet()) {
+                    final Object value = entry.getValue();
+                    if ("$ref".equals(entry.getKey()) && value instanceof String && ((String) value).startsWith(DEFINITION_REF_PREFIX)) {
+                        final String refName = ((String) value).substring(DEFINITION_REF_PREFIX.length());
+                        final String definitionName = refDefinitionNameMap.get(refName);
+                        if (definitionName != null) { // basically here
+                            nameSet.add(definitionName);
+                        } else if (definitionsMap.containsKey(refName)) { // e.g. not encoded by other tools
+                            nameSet.add(refName);
+                        }
+                    } else {
+                        collectRefName(value, nameSet);
+                    }
+                }
+            } else if (node instanceof Collection<?>) {
+                for (Object element : (Collection<?>) node) {
+                    collectRefName(element, nameSet);
+                }
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Index Document
+    //                                                                      ==============
+    /**
+     * @param swaggerMap The map of whole swagger spec. (NotNull)
+     * @param shardMap The map of shard spec, keyed by tag. (NotNull)
+     * @param locationProvider The provider of shard location from tag, e.g. swagger-shard/product.json. (NotNull)
+     * @return The map of index document that lists the shards. (NotNull)
+     */
+    public Map<String, Object> buildIndexMap(Map<String, Object> swaggerMap, Map<String, Map<String, Object>> shardMap,
+            Function<String, String> locationProvider) {
+        final Map<String, Object> indexMap = new LinkedHashMap<>();
+        indexMap.put("swagger", swaggerMap.get("swagger"));
+        indexMap.put("info", swaggerMap.get("info"));
+        final List<Map<String, Object>> shardList = new ArrayList<>(shardMap.size());
+        for (Entry<String, Map<String, Object>> entry : shardMap.entrySet()) {
+            final Map<String, Object> shardSpec = entry.getValue();
+            final Map<String, Object> shardIndexMap = new LinkedHashMap<>();
+            shardIndexMap.put("tag", entry.getKey());
+            shardIndexMap.put("location", locationProvider.apply(entry.getKey()));
+            shardIndexMap.put("pathCount", extractTopMap(shardSpec, "paths").size());
+            shardIndexMap.put("definitionCount", extractTopMap(shardSpec, "definitions").size());
+            shardList.add(shardIndexMap);
+        }
+        indexMap.put("shards", shardList);
+        return indexMap;
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> extractTopMap(Map<String, Object> swaggerMap, String key) {
+        final Object value = swaggerMap.get(key);
+        return value instanceof Map<?, ?> ? (Map<String, Object>) value : new LinkedHashMap<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<Map<String, Object>> extractTopTagsList(Map<String, Object> swaggerMap) {
+        final Object tags = swaggerMap.get("tags");
+        final List<Map<String, Object>> tagsList = new ArrayList<>();
+        if (tags instanceof Collection<?>) {
+            for (Object tag : (Collection<?>) tags) {
+                if (tag instanceof Map<?, ?>) {
+                    tagsList.add((Map<String, Object>) tag);
+                }
+            }
+        }
+        return tagsList;
+    }
+}
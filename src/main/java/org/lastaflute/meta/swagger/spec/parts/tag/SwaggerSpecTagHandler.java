@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.swagger.spec.parts.tag;
+
+import org.dbflute.util.DfStringUtil;
+
+/**
+ * The handler of swagger tag, shared by paths setup and action selection before analysis.
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerSpecTagHandler {
+
+    /**
+     * @param actionType The type of action that declares execute method. (NotNull)
+     * @param actionUrl The URL of the action execute, e.g. /product/list/ (NotNull)
+     * @return The tag of the action, which is first element of URL or root. (NotNull)
+     */
+    public String deriveActionTag(Class<?> actionType, String actionUrl) {
+        if ("RootAction".equals(actionType.getSimpleName())) {
+            return "root"; // fixedly
+        }
+        return DfStringUtil.substringFirstFront(actionUrl.replaceAll("^/", ""), "/"); // first element
+    }
+}
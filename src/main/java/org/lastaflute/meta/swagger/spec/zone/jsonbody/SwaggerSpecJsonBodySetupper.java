@@ -25,6 +25,8 @@ import java.util.stream.Collectors;
 import org.dbflute.util.DfCollectionUtil;
 import org.lastaflute.meta.document.docmeta.ActionDocMeta;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+import org.lastaflute.meta.infra.metrics.MetaGenerationCounter;
+import org.lastaflute.meta.infra.metrics.MetaGenerationMetrics;
 import org.lastaflute.meta.swagger.spec.parts.annotation.SwaggerSpecAnnotationHandler;
 import org.lastaflute.meta.swagger.spec.parts.definition.SwaggerSpecDefinitionHandler;
 import org.lastaflute.meta.swagger.spec.parts.encoding.SwaggerSpecEncodingHandler;
@@ -113,7 +115,9 @@ public class SwaggerSpecJsonBodySetupper {
     protected void registerSchemaToDefinitionsMap(ActionDocMeta actionDocMeta, Map<String, Map<String, Object>> definitionsMap,
             Map<String, Object> schema) {
         final String definitionName = definitionHandler.deriveDefinitionName(actionDocMeta.getFormTypeDocMeta());
-        definitionsMap.put(definitionName, schema);
+        if (definitionsMap.put(definitionName, schema) == null) { // new definition
+            MetaGenerationMetrics.countUp(MetaGenerationCounter.SWAGGER_DEFINITION, 1L);
+        }
     }
 
     protected String prepareSwaggerMapRefDefinitions(ActionDocMeta actiondocMeta) {
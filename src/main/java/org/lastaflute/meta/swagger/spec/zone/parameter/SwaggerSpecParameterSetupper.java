@@ -35,9 +35,12 @@ import javax.validation.constraints.Size;
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.util.DfCollectionUtil;
 import org.dbflute.util.DfStringUtil;
-import org.dbflute.util.DfTypeUtil;
 import org.hibernate.validator.constraints.Length;
 import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+import org.lastaflute.meta.document.parts.enumtype.MetaEnumMeta;
+import org.lastaflute.meta.document.parts.type.MetaTypeName;
+import org.lastaflute.meta.infra.metrics.MetaGenerationCounter;
+import org.lastaflute.meta.infra.metrics.MetaGenerationMetrics;
 import org.lastaflute.meta.swagger.spec.parts.datatype.SwaggerSpecDataType;
 import org.lastaflute.meta.swagger.spec.parts.datatype.SwaggerSpecDataTypeHandler;
 import org.lastaflute.meta.swagger.spec.parts.defaultvalue.SwaggerSpecDefaultValueHandler;
@@ -95,54 +98,58 @@ public class SwaggerSpecParameterSetupper {
     public Map<String, Object> toParameterMap(TypeDocMeta typeDocMeta, Map<String, Map<String, Object>> definitionsMap) {
         // #hope jflute should be cached? because of many calls (2021/06/23)
         final Map<Class<?>, SwaggerSpecDataType> typeMap = dataTypeHandler.createSwaggerDataTypeMap();
-        final Class<?> keepType = typeDocMeta.getType();
-        if (typeDocMeta.getGenericType() != null && (ActionResponse.class.isAssignableFrom(typeDocMeta.getType())
-                || OptionalThing.class.isAssignableFrom(typeDocMeta.getType()))) {
-            typeDocMeta.setType(typeDocMeta.getGenericType());
-        }
+        final TypeDocMeta effectiveMeta = prepareEffectiveTypeDocMeta(typeDocMeta); // not to modify (maybe shared) meta
 
         final Map<String, Object> parameterMap = DfCollectionUtil.newLinkedHashMap();
-        parameterMap.put("name", typeDocMeta.getPublicName());
-        if (DfStringUtil.is_NotNull_and_NotEmpty(typeDocMeta.getDescription())) {
-            parameterMap.put("description", typeDocMeta.getDescription());
+        parameterMap.put("name", effectiveMeta.getPublicName());
+        if (DfStringUtil.is_NotNull_and_NotEmpty(effectiveMeta.getDescription())) {
+            parameterMap.put("description", effectiveMeta.getDescription());
         }
-        if (typeMap.containsKey(typeDocMeta.getType())) {
-            final SwaggerSpecDataType swaggerType = typeMap.get(typeDocMeta.getType());
+        if (typeMap.containsKey(effectiveMeta.getType())) {
+            final SwaggerSpecDataType swaggerType = typeMap.get(effectiveMeta.getType());
             parameterMap.put("type", swaggerType.type);
             final String format = swaggerType.format;
             if (DfStringUtil.is_NotNull_and_NotEmpty(format)) {
                 parameterMap.put("format", format);
             }
-        } else if (typeDocMeta.getAnnotationTypeList().stream().anyMatch(annotationType -> {
+        } else if (effectiveMeta.getAnnotationTypeList().stream().anyMatch(annotationType -> {
             return JsonParameter.class.isAssignableFrom(annotationType.getClass());
         })) {
             parameterMap.put("type", "string");
             // #needs_fix p1us2er0 set description and example. (2018/09/30)
-        } else if (Iterable.class.isAssignableFrom(typeDocMeta.getType())) {
-            setupArrayAttribute(parameterMap, typeDocMeta, definitionsMap, typeMap);
-        } else if (typeDocMeta.getType().equals(Object.class) || Map.class.isAssignableFrom(typeDocMeta.getType())) {
+        } else if (Iterable.class.isAssignableFrom(effectiveMeta.getType())) {
+            setupArrayAttribute(parameterMap, effectiveMeta, definitionsMap, typeMap);
+        } else if (effectiveMeta.getType().equals(Object.class) || Map.class.isAssignableFrom(effectiveMeta.getType())) {
             parameterMap.put("type", "object");
-        } else if (Enum.class.isAssignableFrom(typeDocMeta.getType())) {
+        } else if (Enum.class.isAssignableFrom(effectiveMeta.getType())) {
             // e.g. public AppCDef.PublicProductStatus productStatus;
             @SuppressWarnings("unchecked")
-            final Class<? extends Enum<?>> enumType = (Class<? extends Enum<?>>) typeDocMeta.getType();
-            setupEnumAttribute(parameterMap, enumType, typeDocMeta);
-        } else if (!nativeDataTypeList.contains(typeDocMeta.getType())) {
-            final String definition = putDefinitionAttribute(typeDocMeta, definitionsMap);
+            final Class<? extends Enum<?>> enumType = (Class<? extends Enum<?>>) effectiveMeta.getType();
+            setupEnumAttribute(parameterMap, enumType, effectiveMeta);
+        } else if (!nativeDataTypeList.contains(effectiveMeta.getType())) {
+            final String definition = putDefinitionAttribute(effectiveMeta, definitionsMap);
             parameterMap.clear();
-            parameterMap.put("name", typeDocMeta.getPublicName());
+            parameterMap.put("name", effectiveMeta.getPublicName());
             parameterMap.put("$ref", definition);
         } else {
             parameterMap.put("type", "object");
         }
 
-        setupValidationAttribute(typeDocMeta, parameterMap);
-        setupExampleAttribute(typeDocMeta, parameterMap);
+        setupValidationAttribute(effectiveMeta, parameterMap);
+        setupExampleAttribute(effectiveMeta, parameterMap);
 
-        typeDocMeta.setType(keepType);
         return parameterMap;
     }
 
+    protected TypeDocMeta prepareEffectiveTypeDocMeta(TypeDocMeta typeDocMeta) {
+        final Class<?> genericType = typeDocMeta.getGenericType();
+        if (genericType != null && (ActionResponse.class.isAssignableFrom(typeDocMeta.getType())
+                || OptionalThing.class.isAssignableFrom(typeDocMeta.getType()))) {
+            return typeDocMeta.copyWithType(genericType); // e.g. OptionalThing<String> as String
+        }
+        return typeDocMeta;
+    }
+
     // ===================================================================================
     //                                                                     Array Attribute
     //                                                                     ===============
@@ -177,11 +184,19 @@ public class SwaggerSpecParameterSetupper {
             }
             schemaMap.put("items", itemsMap);
         }
-        if (typeDocMeta.getSimpleTypeName().matches(".*List<.*List<.*")) {
+        if (isNestedListType(MetaTypeName.parse(typeDocMeta.getSimpleTypeName()))) { // e.g. List<List<String>>
             schemaMap.put("items", DfCollectionUtil.newLinkedHashMap("type", "array", "items", schemaMap.get("items")));
         }
     }
 
+    protected boolean isNestedListType(MetaTypeName typeName) { // e.g. List<List<String>>
+        if (!typeName.getRawName().endsWith("List") || !typeName.hasTypeArgument()) {
+            return false;
+        }
+        final MetaTypeName elementTypeName = typeName.getTypeArgumentList().get(0);
+        return elementTypeName.getRawName().endsWith("List") && elementTypeName.hasTypeArgument();
+    }
+
     // ===================================================================================
     //                                                                      Enum Attribute
     //                                                                      ==============
@@ -191,7 +206,7 @@ public class SwaggerSpecParameterSetupper {
         // #for_now jflute typeDocMeta.value (enum expression for LastaDoc) is not used here (2021/08/06)
         // directly extract it from Enum type, ...small dependency so enough?
         final List<Map<String, String>> enumMapList = prepareEnumMapList(enumType);
-        attrMap.put("enum", buildEnumCodeList(enumMapList));
+        attrMap.put("enum", buildEnumCodeList(enumType, enumMapList));
         attrMap.put("description", buildEnumDescription(enumType, enumMapList, typeDocMeta));
     }
 
@@ -199,33 +214,22 @@ public class SwaggerSpecParameterSetupper {
         return enumHandler.buildEnumMapList(enumType);
     }
 
+    protected List<String> buildEnumCodeList(Class<? extends Enum<?>> enumType, List<Map<String, String>> enumMapList) {
+        final MetaEnumMeta enumMeta = enumHandler.findEnumMeta(enumType); // computed once per enum class
+        if (enumMapList.equals(enumMeta.getEnumMapList())) { // mainly here, not customized so use cached codes
+            return new ArrayList<>(enumMeta.getCodeList()); // copied because output map may be post-processed
+        }
+        return buildEnumCodeList(enumMapList);
+    }
+
     protected List<String> buildEnumCodeList(List<Map<String, String>> enumMapList) {
         return enumMapList.stream().map(em -> em.get("code")).collect(Collectors.toList());
     }
 
     protected String buildEnumDescription(Class<? extends Enum<?>> enumType, List<Map<String, String>> enumMapList,
             TypeDocMeta typeDocMeta) {
-        final StringBuilder sb = new StringBuilder();
-        final String description = typeDocMeta.getDescription();
-        if (DfStringUtil.is_NotNull_and_NotTrimmedEmpty(description)) {
-            sb.append(description).append(":");
-        }
-        final String contentExp = enumMapList.stream().map(enumMap -> {
-            final String code = enumMap.get("code");
-            final String name = enumMap.get("name");
-            final String alias = enumMap.get("alias");
-            final String formatted;
-            if (name != null && alias != null && name.equals(alias)) {
-                formatted = String.format(" * `%s` - %s.", code, name);
-            } else {
-                formatted = String.format(" * `%s` - %s, %s.", code, name, alias);
-            }
-            return formatted;
-        }).collect(Collectors.joining());
-        sb.append(contentExp);
-        final String enumTitle = DfTypeUtil.toClassTitle(enumType); // e.g. AppCDef.PublicProductStatus
-        sb.append(" :: fromCls(").append(enumTitle).append(")"); // for server reference
-        return sb.toString();
+        // same builder for both shared metadata and customized list
+        return enumHandler.buildEnumDescription(enumType, enumMapList, typeDocMeta.getDescription());
     }
 
     // ===================================================================================
@@ -367,7 +371,9 @@ public class SwaggerSpecParameterSetupper {
                 return property;
             }, (u, v) -> v, LinkedHashMap::new)));
 
-            definitionsMap.put(derivedDefinitionName, schema);
+            if (definitionsMap.put(derivedDefinitionName, schema) == null) { // new definition
+                MetaGenerationMetrics.countUp(MetaGenerationCounter.SWAGGER_DEFINITION, 1L);
+            }
         }
         return "#/definitions/" + encodingHandler.encode(derivedDefinitionName);
     }
@@ -35,6 +35,7 @@ import org.lastaflute.meta.swagger.spec.parts.produces.SwaggerSpecProducesHandle
 import org.lastaflute.web.response.ApiResponse;
 import org.lastaflute.web.response.HtmlResponse;
 import org.lastaflute.web.response.StreamResponse;
+import org.lastaflute.web.ruts.config.ActionExecute;
 
 /**
  * @author p1us2er0
@@ -101,14 +102,22 @@ public class SwaggerSpecResponsesSetupper {
         return swaggerOption.getSuccessHttpStatusLambda().map(callback -> {
             return callback.apply(actionDocMeta); // null allowed
         }).orElseGet(() -> {
-            return actionDocMeta.getActionExecute().getSuccessHttpStatus().map(specified -> {
+            final ActionExecute execute = actionDocMeta.getActionExecute();
+            if (execute == null) { // e.g. container-free discovery
+                return 200; // as default
+            }
+            return execute.getSuccessHttpStatus().map(specified -> {
                 return specified.getStatusValue();
             }).orElse(200); // as default
         });
     }
 
     protected String findDescription(ActionDocMeta actionDocMeta) {
-        return actionDocMeta.getActionExecute().getSuccessHttpStatus().map(specified -> {
+        final ActionExecute execute = actionDocMeta.getActionExecute();
+        if (execute == null) { // e.g. container-free discovery
+            return "success"; // as default
+        }
+        return execute.getSuccessHttpStatus().map(specified -> {
             final String specifiedDesc = specified.getDescription();
             return Srl.is_NotNull_and_NotTrimmedEmpty(specifiedDesc) ? specifiedDesc : null;
         }).orElse("success"); // as default
@@ -203,7 +212,7 @@ public class SwaggerSpecResponsesSetupper {
         if (Srl.is_Null_or_TrimmedEmpty(methodComment)) {
             return;
         }
-        final Map<String, List<Map<String, String>>> statusExceptionMap = extractStatusExceptionMap(methodComment);
+        final Map<String, List<Map<String, String>>> statusExceptionMap = extractStatusExceptionMap(actionDocMeta);
         for (Entry<String, List<Map<String, String>>> entry : statusExceptionMap.entrySet()) {
             final String statusExp = entry.getKey();
             final List<Map<String, String>> throwsList = entry.getValue();
@@ -218,9 +227,9 @@ public class SwaggerSpecResponsesSetupper {
         }
     }
 
-    protected Map<String, List<Map<String, String>>> extractStatusExceptionMap(String methodComment) {
+    protected Map<String, List<Map<String, String>>> extractStatusExceptionMap(ActionDocMeta actionDocMeta) {
         final SwaggerSpecHttpStatusThrowsExtractor extractor = newSwaggerSpecHttpStatusThrowsExtractor();
-        return extractor.extractStatusThrowsMap(methodComment);
+        return extractor.extractStatusThrowsMapByJavadoc(actionDocMeta.getMethodCommentJavadoc()); // parsed once
     }
 
     protected SwaggerSpecHttpStatusThrowsExtractor newSwaggerSpecHttpStatusThrowsExtractor() {
@@ -0,0 +1,119 @@
+package org.lastaflute.meta;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.document.DocumentAnalyzerFactory;
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyGraph;
+import org.lastaflute.meta.document.parts.intern.TypeDocMetaInterner;
+import org.lastaflute.meta.document.parts.session.MetaAnalysisSession;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class DocumentGeneratorTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                        Analysis Key
+    //                                                                        ============
+    public void test_buildAnalysisKey_sameCondition() throws Exception {
+        // ## Arrange ##
+        List<String> srcDirList = createSrcDirList();
+
+        // ## Act ##
+        String firstKey = new DocumentGenerator(srcDirList).buildAnalysisKey();
+        String secondKey = new DocumentGenerator(srcDirList).buildAnalysisKey();
+
+        // ## Assert ##
+        log("firstKey: {}", firstKey);
+        assertEquals(firstKey, secondKey);
+    }
+
+    public void test_buildAnalysisKey_customized() throws Exception {
+        // ## Arrange ##
+        List<String> srcDirList = createSrcDirList();
+        String plainKey = new DocumentGenerator(srcDirList).buildAnalysisKey();
+
+        // ## Act ##
+        String markedKey = new DocumentGenerator(srcDirList).markAnalysisCustomized("sea").buildAnalysisKey();
+        String subClassKey = new DocumentGenerator(srcDirList) {
+        }.buildAnalysisKey();
+        String factoryKey = new DocumentGenerator(srcDirList) {
+            @Override
+            protected DocumentAnalyzerFactory newDocumentGeneratorFactory() {
+                return new DocumentAnalyzerFactory() {
+                };
+            }
+        }.buildAnalysisKey();
+
+        // ## Assert ##
+        assertFalse(plainKey.equals(markedKey));
+        assertFalse(markedKey.equals(new DocumentGenerator(srcDirList).markAnalysisCustomized("land").buildAnalysisKey()));
+        assertFalse(plainKey.equals(subClassKey));
+        assertFalse(plainKey.equals(factoryKey));
+        assertFalse(subClassKey.equals(factoryKey));
+    }
+
+    // ===================================================================================
+    //                                                                     Analysis Session
+    //                                                                     ================
+    public void test_analyzeActionDocMetaList_sessionNotInterned() throws Exception {
+        // ## Arrange ##
+        List<String> srcDirList = createSrcDirList();
+        MetaAnalysisSession session = new MetaAnalysisSession();
+        List<TypeDocMetaInterner> recordedList = new ArrayList<>();
+        DocumentGenerator lastaDocGenerator = new RecordingDocumentGenerator(srcDirList, recordedList).useAnalysisSession(session);
+        DocumentGenerator swaggerGenerator = new RecordingDocumentGenerator(srcDirList, recordedList).useAnalysisSession(session);
+
+        // ## Act ##
+        List<ActionDocMeta> lastaDocList = lastaDocGenerator.analyzeActionDocMetaList(new TypeDocMetaInterner()); // as LastaDoc
+        List<ActionDocMeta> swaggerList = swaggerGenerator.analyzeActionDocMetaList(); // as swagger
+
+        // ## Assert ##
+        assertSame(lastaDocList, swaggerList); // shared
+        assertEquals(1, recordedList.size());
+        assertNull(recordedList.get(0)); // interned list does not reach swagger
+    }
+
+    public void test_analyzeActionDocMetaList_noSessionInterned() throws Exception {
+        // ## Arrange ##
+        List<TypeDocMetaInterner> recordedList = new ArrayList<>();
+        DocumentGenerator generator = new RecordingDocumentGenerator(createSrcDirList(), recordedList);
+        TypeDocMetaInterner interner = new TypeDocMetaInterner();
+
+        // ## Act ##
+        generator.analyzeActionDocMetaList(interner);
+
+        // ## Assert ##
+        assertEquals(1, recordedList.size());
+        assertSame(interner, recordedList.get(0));
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    private List<String> createSrcDirList() throws Exception {
+        return Collections.singletonList(Files.createTempDirectory("lastameta-generator").toString());
+    }
+
+    private static class RecordingDocumentGenerator extends DocumentGenerator {
+
+        private final List<TypeDocMetaInterner> recordedList;
+
+        public RecordingDocumentGenerator(List<String> srcDirList, List<TypeDocMetaInterner> recordedList) {
+            super(srcDirList);
+            this.recordedList = recordedList;
+        }
+
+        @Override
+        protected List<ActionDocMeta> doAnalyzeActionDocMetaList(TypeDocMetaInterner typeDocMetaInterner, MetaDependencyGraph graph) {
+            recordedList.add(typeDocMetaInterner); // null allowed
+            return new ArrayList<>(Collections.singletonList(new ActionDocMeta()));
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package org.lastaflute.meta;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.document.ActionDocumentAnalyzer;
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.parts.dependency.MetaDependencyGraph;
+import org.lastaflute.meta.document.parts.incremental.IncrementalActionDocMetaHolder;
+import org.lastaflute.meta.document.parts.intern.TypeDocMetaInterner;
+import org.lastaflute.meta.document.parts.session.MetaAnalysisSession;
+import org.lastaflute.meta.infra.watch.SourceChangeWatcher;
+import org.lastaflute.meta.unit.mock.web.RootAction;
+import org.lastaflute.meta.unit.mock.web.SeaAction;
+import org.lastaflute.meta.unit.mock.web.sea.SeaLandAction;
+import org.lastaflute.meta.unit.mock.web.sea.land.SeaLandPiariAction;
+import org.lastaflute.web.ruts.config.ActionExecute;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerGeneratorTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                  Incremental Holder
+    //                                                                  ==================
+    public void test_prepareIncrementalHolder_sharedPerAnalysisKey() throws Exception {
+        // ## Arrange ##
+        DocumentGenerator seaGenerator = new DocumentGenerator(Collections.singletonList(createSrcDir("sea")));
+        DocumentGenerator landGenerator = new DocumentGenerator(Collections.singletonList(createSrcDir("land")));
+        try {
+            // ## Act ##
+            IncrementalActionDocMetaHolder seaHolder = new SwaggerGenerator().prepareIncrementalHolder(seaGenerator);
+            IncrementalActionDocMetaHolder landHolder = new SwaggerGenerator().prepareIncrementalHolder(landGenerator);
+
+            // ## Assert ##
+            assertNotSame(seaHolder, landHolder); // not built from the first generator's source directories
+            assertSame(seaHolder, new SwaggerGenerator().prepareIncrementalHolder(seaGenerator)); // shared between requests
+            assertEquals(2, SwaggerGenerator.sharedIncrementalHolderMap.size());
+        } finally {
+            SwaggerGenerator.closeSharedIncrementalHolder();
+        }
+        assertTrue(SwaggerGenerator.sharedIncrementalHolderMap.isEmpty());
+    }
+
+    public void test_prepareIncrementalHolder_ownedByApplication() throws Exception {
+        // ## Arrange ##
+        String srcDir = createSrcDir("sea");
+        DocumentGenerator documentGenerator = new DocumentGenerator(Collections.singletonList(srcDir));
+        SourceChangeWatcher watcher = new SourceChangeWatcher(Collections.singletonList(srcDir)).start();
+        try (IncrementalActionDocMetaHolder ownHolder = new IncrementalActionDocMetaHolder(watcher)) {
+            // ## Act ##
+            SwaggerGenerator swaggerGenerator = new SwaggerGenerator().useIncrementalHolder(ownHolder);
+            IncrementalActionDocMetaHolder holder = swaggerGenerator.prepareIncrementalHolder(documentGenerator);
+
+            // ## Assert ##
+            assertSame(ownHolder, holder);
+            assertTrue(SwaggerGenerator.sharedIncrementalHolderMap.isEmpty());
+        }
+        assertFalse(watcher.isWatching()); // closed by application
+    }
+
+    // ===================================================================================
+    //                                                                    Action Selection
+    //                                                                    ================
+    public void test_isSelectedAction_tag() {
+        // ## Arrange ##
+        SwaggerOption swaggerOption = new SwaggerOption();
+        swaggerOption.selectTag("sea");
+        SwaggerGenerator generator = new SwaggerGenerator();
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(swaggerOption.isActionSelected());
+        assertTrue(generator.isSelectedAction(SeaAction.class, "/sea/", swaggerOption));
+        assertTrue(generator.isSelectedAction(SeaLandAction.class, "/sea/land/mystic/{}/{}", swaggerOption));
+        assertFalse(generator.isSelectedAction(SeaAction.class, "/land/", swaggerOption)); // tag is from URL
+        assertFalse(generator.isSelectedAction(RootAction.class, "/", swaggerOption));
+    }
+
+    public void test_isSelectedAction_urlPrefix() {
+        // ## Arrange ##
+        SwaggerOption swaggerOption = new SwaggerOption();
+        swaggerOption.selectUrlPrefix("sea/land/"); // slash is completed
+        SwaggerGenerator generator = new SwaggerGenerator();
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(generator.isSelectedAction(SeaLandAction.class, "/sea/land/", swaggerOption));
+        assertTrue(generator.isSelectedAction(SeaLandPiariAction.class, "/sea/land/piari/{}", swaggerOption));
+        assertFalse(generator.isSelectedAction(SeaAction.class, "/sea/{}", swaggerOption));
+        assertFalse(generator.isSelectedAction(RootAction.class, "/", swaggerOption));
+    }
+
+    public void test_isSelectedAction_tagAndUrlPrefix() {
+        // ## Arrange ##
+        SwaggerOption swaggerOption = new SwaggerOption();
+        swaggerOption.selectTag("sea");
+        swaggerOption.selectUrlPrefix("/sea/land/");
+        SwaggerOption otherTagOption = new SwaggerOption();
+        otherTagOption.selectTag("land");
+        otherTagOption.selectUrlPrefix("/sea/land/");
+        SwaggerGenerator generator = new SwaggerGenerator();
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(generator.isSelectedAction(SeaLandAction.class, "/sea/land/", swaggerOption)); // both matched
+        assertFalse(generator.isSelectedAction(SeaAction.class, "/sea/", swaggerOption)); // tag only
+        assertFalse(generator.isSelectedAction(SeaLandAction.class, "/sea/land/", otherTagOption)); // prefix only
+    }
+
+    public void test_isSelectedAction_rootAction() {
+        // ## Arrange ##
+        SwaggerOption swaggerOption = new SwaggerOption();
+        swaggerOption.selectTag("root");
+        SwaggerGenerator generator = new SwaggerGenerator();
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(generator.isSelectedAction(RootAction.class, "/", swaggerOption));
+        assertTrue(generator.isSelectedAction(RootAction.class, "/{}", swaggerOption)); // not first element of URL
+        assertFalse(generator.isSelectedAction(SeaAction.class, "/sea/", swaggerOption));
+    }
+
+    public void test_isSelectedAction_notSelected() {
+        SwaggerOption swaggerOption = new SwaggerOption();
+        assertFalse(swaggerOption.isActionSelected());
+        assertTrue(new SwaggerGenerator().isSelectedAction(SeaAction.class, "/sea/", swaggerOption));
+    }
+
+    public void test_filterSelectedSwaggerMap_tagAndUrlPrefix() {
+        // ## Arrange ##
+        Map<String, Object> swaggerMap = new LinkedHashMap<>();
+        swaggerMap.put("swagger", "2.0");
+        swaggerMap.put("tags", Arrays.asList(createTagMap("root"), createTagMap("sea")));
+        Map<String, Object> pathsMap = new LinkedHashMap<>();
+        pathsMap.put("/", createPathItemMap("root"));
+        pathsMap.put("/sea/", createPathItemMap("sea"));
+        pathsMap.put("/sea/land/", createPathItemMap("sea"));
+        swaggerMap.put("paths", pathsMap);
+        swaggerMap.put("definitions", new LinkedHashMap<>());
+        SwaggerOption swaggerOption = new SwaggerOption();
+        swaggerOption.selectTag("sea");
+        swaggerOption.selectUrlPrefix("/sea/land/");
+
+        // ## Act ##
+        Map<String, Object> selectedMap = new SwaggerGenerator().filterSelectedSwaggerMap(swaggerMap, swaggerOption);
+
+        // ## Assert ##
+        log("selectedMap: {}", selectedMap);
+        assertEquals(Arrays.asList("/sea/land/"), new ArrayList<>(((Map<?, ?>) selectedMap.get("paths")).keySet()));
+        assertEquals(1, ((List<?>) selectedMap.get("tags")).size());
+    }
+
+    // ===================================================================================
+    //                                                                             Warm-up
+    //                                                                             =======
+    public void test_warmUpInBackground_waitedAndReleased() throws Exception {
+        // ## Arrange ##
+        MockAnalysis analysis = new MockAnalysis(createSrcDir("warmup"), /*blocked*/true);
+        try {
+            new MockSwaggerGenerator(analysis).warmUpInBackground(op -> {});
+            assertNotNull(SwaggerGenerator.warmUpSessionRef.get());
+            assertTrue(analysis.startedLatch.await(3, TimeUnit.SECONDS)); // analyzing in warm-up thread
+            List<ActionDocMeta> requestedList = new CopyOnWriteArrayList<>();
+            Thread requestThread = new Thread(() -> {
+                requestedList.addAll(new MockSwaggerGenerator(analysis).generateActionDocMetaList(new SwaggerOption()));
+            });
+
+            // ## Act ##
+            requestThread.start();
+            requestThread.join(300L);
+
+            // ## Assert ##
+            assertTrue(requestThread.isAlive()); // waits for in-flight analysis
+            analysis.blockingLatch.countDown();
+            requestThread.join(3000L);
+            assertFalse(requestThread.isAlive());
+            assertTrue(analysis.finishedLatch.await(3, TimeUnit.SECONDS));
+            assertEquals(1, analysis.analyzedCount.get()); // reused
+            assertEquals(1, requestedList.size());
+            assertNull(SwaggerGenerator.warmUpSessionRef.get()); // released after first generation
+            new MockSwaggerGenerator(analysis).generateActionDocMetaList(new SwaggerOption());
+            assertEquals(2, analysis.analyzedCount.get()); // later requests analyze latest sources
+        } finally {
+            SwaggerGenerator.warmUpSessionRef.set(null);
+        }
+    }
+
+    public void test_generateActionDocMetaList_keptBySelected() throws Exception {
+        // ## Arrange ##
+        MockAnalysis analysis = new MockAnalysis(createSrcDir("warmup"), /*blocked*/false);
+        try {
+            new MockSwaggerGenerator(analysis).warmUpInBackground(op -> {});
+            assertTrue(analysis.finishedLatch.await(3, TimeUnit.SECONDS));
+            assertNotNull(SwaggerGenerator.warmUpSessionRef.get());
+            SwaggerOption swaggerOption = new SwaggerOption();
+            swaggerOption.selectTag("sea");
+
+            // ## Act ##
+            List<ActionDocMeta> selectedList = new MockSwaggerGenerator(analysis).generateActionDocMetaList(swaggerOption);
+
+            // ## Assert ##
+            assertEquals(1, selectedList.size());
+            assertEquals(1, analysis.selectedCount.get());
+            assertNotNull(SwaggerGenerator.warmUpSessionRef.get()); // on-demand generation does not read it
+            assertWarmUpSessionReusedAndReleased(analysis);
+        } finally {
+            SwaggerGenerator.warmUpSessionRef.set(null);
+        }
+    }
+
+    public void test_generateActionDocMetaList_keptByWatched() throws Exception {
+        // ## Arrange ##
+        String srcDir = createSrcDir("warmup");
+        MockAnalysis analysis = new MockAnalysis(srcDir, /*blocked*/false);
+        SourceChangeWatcher watcher = new SourceChangeWatcher(Collections.singletonList(srcDir)).start();
+        try (IncrementalActionDocMetaHolder holder = new IncrementalActionDocMetaHolder(watcher) {
+            @Override
+            public synchronized List<ActionDocMeta> prepareActionDocMetaList(Supplier<ActionDocumentAnalyzer> analyzerSupplier) {
+                return Collections.singletonList(new ActionDocMeta());
+            }
+        }) {
+            new MockSwaggerGenerator(analysis).warmUpInBackground(op -> {});
+            assertTrue(analysis.finishedLatch.await(3, TimeUnit.SECONDS));
+            assertNotNull(SwaggerGenerator.warmUpSessionRef.get());
+            SwaggerOption swaggerOption = new SwaggerOption();
+            swaggerOption.watchSourceChange();
+
+            // ## Act ##
+            new MockSwaggerGenerator(analysis).useIncrementalHolder(holder).generateActionDocMetaList(swaggerOption);
+
+            // ## Assert ##
+            assertNotNull(SwaggerGenerator.warmUpSessionRef.get()); // incremental generation does not read it
+            assertWarmUpSessionReusedAndReleased(analysis);
+        } finally {
+            SwaggerGenerator.warmUpSessionRef.set(null);
+        }
+    }
+
+    protected void assertWarmUpSessionReusedAndReleased(MockAnalysis analysis) {
+        List<ActionDocMeta> wholeList = new MockSwaggerGenerator(analysis).generateActionDocMetaList(new SwaggerOption());
+        assertEquals(1, wholeList.size());
+        assertEquals(1, analysis.analyzedCount.get()); // reused
+        assertNull(SwaggerGenerator.warmUpSessionRef.get()); // released after whole generation
+    }
+
+    // ===================================================================================
+    //                                                                       Customization
+    //                                                                       =============
+    public void test_isActionDocumentGeneratorCustomized_basic() {
+        assertFalse(new SwaggerGenerator().isActionDocumentGeneratorCustomized());
+        assertFalse(new SwaggerGenerator() {
+        }.isActionDocumentGeneratorCustomized()); // sub-class but not customized
+        assertTrue(new CustomizedSwaggerGenerator().isActionDocumentGeneratorCustomized());
+        assertTrue(new CustomizedSwaggerGenerator() {
+        }.isActionDocumentGeneratorCustomized()); // customized in super class
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    private String createSrcDir(String title) throws Exception {
+        Path srcDir = Files.createTempDirectory("lastameta-swagger-" + title);
+        return srcDir.toString();
+    }
+
+    private Map<String, Object> createTagMap(String tag) {
+        Map<String, Object> tagMap = new LinkedHashMap<>();
+        tagMap.put("name", tag);
+        return tagMap;
+    }
+
+    private Map<String, Object> createPathItemMap(String tag) {
+        Map<String, Object> operationMap = new LinkedHashMap<>();
+        operationMap.put("tags", Arrays.asList(tag));
+        Map<String, Object> pathItemMap = new LinkedHashMap<>();
+        pathItemMap.put("get", operationMap);
+        return pathItemMap;
+    }
+
+    private static class CustomizedSwaggerGenerator extends SwaggerGenerator {
+
+        @Override
+        protected void customizeActionDocumentGenerator(DocumentGenerator documentGenerator) {
+            documentGenerator.addSrcDir("customized");
+        }
+    }
+
+    private static class MockAnalysis { // shared by generators of warm-up and requests
+
+        private final String srcDir;
+        private final AtomicInteger analyzedCount = new AtomicInteger();
+        private final AtomicInteger selectedCount = new AtomicInteger();
+        private final CountDownLatch startedLatch = new CountDownLatch(1);
+        private final CountDownLatch blockingLatch;
+        private final CountDownLatch finishedLatch = new CountDownLatch(1); // warm-up
+
+        public MockAnalysis(String srcDir, boolean blocked) {
+            this.srcDir = srcDir;
+            this.blockingLatch = new CountDownLatch(blocked ? 1 : 0);
+        }
+    }
+
+    private static class MockSwaggerGenerator extends SwaggerGenerator {
+
+        private final MockAnalysis analysis;
+
+        public MockSwaggerGenerator(MockAnalysis analysis) {
+            this.analysis = analysis;
+        }
+
+        @Override
+        protected DocumentGenerator newDocumentGenerator() {
+            return new DocumentGenerator(new ArrayList<>(Collections.singletonList(analysis.srcDir))) {
+                @Override
+                protected List<ActionDocMeta> doAnalyzeActionDocMetaList(TypeDocMetaInterner interner, MetaDependencyGraph graph) {
+                    analysis.analyzedCount.incrementAndGet();
+                    analysis.startedLatch.countDown();
+                    try {
+                        analysis.blockingLatch.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException("Interrupted the analysis.", e);
+                    }
+                    return new ArrayList<>(Collections.singletonList(new ActionDocMeta()));
+                }
+
+                @Override
+                public ActionDocumentAnalyzer createActionDocumentAnalyzer() {
+                    return new ActionDocumentAnalyzer(getSrcDirList(), 4, OptionalThing.empty()) {
+                        @Override
+                        public List<ActionDocMeta> analyzeSelectedExecute(Predicate<ActionExecute> executeSelector) {
+                            analysis.selectedCount.incrementAndGet();
+                            return Collections.singletonList(new ActionDocMeta());
+                        }
+                    };
+                }
+            };
+        }
+
+        @Override
+        protected void doWarmUp(SwaggerOption swaggerOption, MetaAnalysisSession warmUpSession) {
+            try {
+                super.doWarmUp(swaggerOption, warmUpSession);
+            } finally {
+                analysis.finishedLatch.countDown();
+            }
+        }
+    }
+}
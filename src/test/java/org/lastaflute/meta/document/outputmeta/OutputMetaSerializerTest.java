@@ -0,0 +1,112 @@
+package org.lastaflute.meta.document.outputmeta;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class OutputMetaSerializerTest extends PlainTestCase {
+
+    public void test_saveSwaggerMetaIfChanged_skipUnchanged() throws Exception {
+        // ## Arrange ##
+        Path projectRoot = Files.createTempDirectory("lastameta-output");
+        OutputMetaSerializer serializer = new OutputMetaSerializer().baseOnProjectRoot(projectRoot);
+        Path swaggerJsonPath = new OutputMetaPhysical().baseOnProjectRoot(projectRoot).getSwaggerJsonPath();
+
+        // ## Act ##
+        boolean first = serializer.saveSwaggerMetaIfChanged("{\"swagger\":\"2.0\"}");
+        FileTime oldTime = FileTime.fromMillis(System.currentTimeMillis() - 60000L); // to detect touch
+        Files.setLastModifiedTime(swaggerJsonPath, oldTime);
+        boolean same = serializer.saveSwaggerMetaIfChanged("{\"swagger\":\"2.0\"}");
+        FileTime sameTime = Files.getLastModifiedTime(swaggerJsonPath);
+        boolean changed = serializer.saveSwaggerMetaIfChanged("{\"swagger\":\"3.0\"}");
+
+        // ## Assert ##
+        log("swaggerJsonPath: {}", swaggerJsonPath);
+        assertTrue(first);
+        assertFalse(same);
+        assertEquals(oldTime, sameTime); // not touched
+        assertTrue(changed);
+        assertEquals("{\"swagger\":\"3.0\"}", new String(Files.readAllBytes(swaggerJsonPath), "UTF-8"));
+        assertEquals(Arrays.asList("swagger.json"), listFileNames(swaggerJsonPath.getParent())); // temporary file is moved
+    }
+
+    public void test_saveSwaggerMeta_concurrent() throws Exception {
+        // ## Arrange ##
+        Path projectRoot = Files.createTempDirectory("lastameta-output");
+        Path swaggerJsonPath = new OutputMetaPhysical().baseOnProjectRoot(projectRoot).getSwaggerJsonPath();
+        Files.createDirectories(swaggerJsonPath.getParent());
+        Files.write(swaggerJsonPath.resolveSibling("swagger.json.tmp"), "broken".getBytes("UTF-8")); // e.g. old version
+        List<String> jsonList = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            jsonList.add("{\"swagger\":\"2." + i + "\"}");
+        }
+
+        // ## Act ##
+        jsonList.parallelStream().forEach(json -> { // each saving has own temporary file
+            new OutputMetaSerializer().baseOnProjectRoot(projectRoot).saveSwaggerMeta(json);
+        });
+
+        // ## Assert ##
+        String saved = new String(Files.readAllBytes(swaggerJsonPath), "UTF-8");
+        log("saved: {}", saved);
+        assertTrue(jsonList.contains(saved)); // not mixed
+        assertEquals(Arrays.asList("swagger.json", "swagger.json.tmp"), listFileNames(swaggerJsonPath.getParent())); // not touched
+    }
+
+    public void test_saveSwaggerMeta_permissions() throws Exception {
+        // ## Arrange ##
+        Path projectRoot = Files.createTempDirectory("lastameta-output");
+        if (!Files.getFileStore(projectRoot).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            return; // e.g. Windows
+        }
+        OutputMetaPhysical physical = new OutputMetaPhysical().baseOnProjectRoot(projectRoot);
+        Path plainPath = projectRoot.resolve("plain.json");
+        Files.write(plainPath, "{}".getBytes("UTF-8")); // umask applied
+
+        // ## Act ##
+        new OutputMetaSerializer().baseOnProjectRoot(projectRoot).saveSwaggerMeta("{}");
+
+        // ## Assert ##
+        Set<PosixFilePermission> permissionSet = Files.getPosixFilePermissions(physical.getSwaggerJsonPath());
+        log("permissionSet: {}", permissionSet);
+        assertEquals(Files.getPosixFilePermissions(plainPath), permissionSet); // not owner-only
+    }
+
+    public void test_deleteStaleSwaggerShardMeta_basic() throws Exception {
+        // ## Arrange ##
+        Path projectRoot = Files.createTempDirectory("lastameta-output");
+        OutputMetaSerializer serializer = new OutputMetaSerializer().baseOnProjectRoot(projectRoot);
+        serializer.saveSwaggerShardMetaIfChanged("sea", "{}");
+        serializer.saveSwaggerShardMetaIfChanged("land", "{}");
+        OutputMetaPhysical physical = new OutputMetaPhysical().baseOnProjectRoot(projectRoot);
+
+        // ## Act ##
+        boolean deleted = serializer.deleteStaleSwaggerShardMeta(Arrays.asList("sea"));
+
+        // ## Assert ##
+        assertTrue(deleted);
+        assertTrue(Files.exists(physical.getSwaggerShardJsonPath("sea")));
+        assertFalse(Files.exists(physical.getSwaggerShardJsonPath("land")));
+        assertFalse(serializer.deleteStaleSwaggerShardMeta(Arrays.asList("sea")));
+    }
+
+    private List<String> listFileNames(Path dir) throws Exception {
+        try (Stream<Path> stream = Files.list(dir)) {
+            return stream.map(path -> path.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.lastaflute.meta.document.parts.action;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.unit.mock.web.SeaAction;
+import org.lastaflute.meta.unit.mock.web.SeaForm;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class ActionClassFileScannerTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                         Scan Action
+    //                                                                         ===========
+    public void test_scanActionClassNameList_directory() throws Exception {
+        // ## Arrange ##
+        Path classesDir = Paths.get(SeaAction.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        ActionClassFileScanner scanner = new ActionClassFileScanner(Collections.singletonList(classesDir));
+
+        // ## Act ##
+        List<String> classNameList = scanner.scanActionClassNameList();
+
+        // ## Assert ##
+        log("classNameList: {}", classNameList);
+        assertTrue(classNameList.contains(SeaAction.class.getName()));
+        assertFalse(classNameList.contains(SeaForm.class.getName()));
+    }
+
+    public void test_scanActionClassNameList_notFound() {
+        ActionClassFileScanner scanner = new ActionClassFileScanner(Collections.singletonList(Paths.get("no-such-dir")));
+        assertTrue(scanner.scanActionClassNameList().isEmpty()); // ignored as classpath does
+    }
+
+    // ===================================================================================
+    //                                                                      Concrete Check
+    //                                                                      ==============
+    public void test_isConcreteExecuteClass() throws Exception {
+        ActionClassFileScanner scanner = new ActionClassFileScanner(Collections.emptyList());
+        assertTrue(isConcreteExecuteClass(scanner, SeaAction.class));
+        assertFalse(isConcreteExecuteClass(scanner, SeaForm.class)); // no @Execute
+        assertFalse(isConcreteExecuteClass(scanner, AbstractLandAction.class)); // abstract
+    }
+
+    protected boolean isConcreteExecuteClass(ActionClassFileScanner scanner, Class<?> clazz) throws Exception {
+        try (InputStream ins = clazz.getResourceAsStream("/" + clazz.getName().replace('.', '/') + ".class")) {
+            return scanner.isConcreteExecuteClass(ins);
+        }
+    }
+
+    protected static abstract class AbstractLandAction {
+
+        @org.lastaflute.web.Execute
+        public void index() {
+        }
+    }
+}
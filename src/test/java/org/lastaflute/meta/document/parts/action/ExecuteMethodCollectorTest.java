@@ -0,0 +1,120 @@
+package org.lastaflute.meta.document.parts.action;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.di.core.ComponentDef;
+import org.lastaflute.di.core.LaContainer;
+import org.lastaflute.meta.unit.mock.web.RootAction;
+import org.lastaflute.meta.unit.mock.web.SeaAction;
+import org.lastaflute.meta.unit.mock.web.sea.SeaLandAction;
+import org.lastaflute.meta.unit.mock.web.sea.land.SeaLandPiariAction;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class ExecuteMethodCollectorTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                       Source Action
+    //                                                                       =============
+    public void test_findSourceActionClassList_stableOrder() throws Exception {
+        // ## Arrange ##
+        Path srcDir = prepareSourceDir(SeaLandPiariAction.class, SeaAction.class, RootAction.class, SeaLandAction.class);
+        ExecuteMethodCollector collector = createCollector(srcDir, Collections.emptyList());
+
+        // ## Act ##
+        // loaded by parallel Class.forName() so repeated to check the order
+        List<Class<?>> firstList = collector.findSourceActionClassList();
+        List<Class<?>> secondList = collector.findSourceActionClassList();
+
+        // ## Assert ##
+        log("firstList: {}", firstList);
+        assertEquals(Arrays.asList(RootAction.class, SeaAction.class, SeaLandAction.class, SeaLandPiariAction.class), firstList);
+        assertEquals(firstList, secondList);
+    }
+
+    // ===================================================================================
+    //                                                                      Component Name
+    //                                                                      ==============
+    public void test_findActionComponentNameList_duplicateRemoved() throws Exception {
+        // ## Arrange ##
+        Path srcDir = prepareSourceDir(SeaLandAction.class, SeaAction.class);
+        List<String> containerNameList = Arrays.asList("seaLogic", "sea_seaLandAction", "jarAction", null, "seaAction", "hangarAction");
+        ExecuteMethodCollector collector = createCollector(srcDir, containerNameList);
+
+        // ## Act ##
+        List<String> componentNameList = collector.findActionComponentNameList();
+
+        // ## Assert ##
+        log("componentNameList: {}", componentNameList);
+        // source actions first (ordered by class name), and container only actions as container order
+        assertEquals(Arrays.asList("seaAction", "sea_seaLandAction", "jarAction", "hangarAction"), componentNameList);
+        ActionDiscoveryStats stats = collector.getDiscoveryStats();
+        log("stats: {}", stats);
+        assertEquals(2, stats.getSourceActionCount());
+        assertEquals(2, stats.getContainerOnlyActionCount());
+        assertEquals(4, stats.getActionCount());
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    private Path prepareSourceDir(Class<?>... actionClasses) throws Exception {
+        Path srcDir = Files.createTempDirectory("lastameta-collector-");
+        for (Class<?> actionClass : actionClasses) { // only file names are used
+            Path sourcePath = srcDir.resolve(actionClass.getName().replace('.', '/') + ".java");
+            Files.createDirectories(sourcePath.getParent());
+            Files.write(sourcePath, new byte[0]);
+            sourcePath.toFile().deleteOnExit();
+        }
+        return srcDir;
+    }
+
+    private ExecuteMethodCollector createCollector(Path srcDir, List<String> containerNameList) {
+        LaContainer container = createMockContainer(containerNameList);
+        return new ExecuteMethodCollector(Collections.singletonList(srcDir.toString()), OptionalThing.empty(), ex -> false) {
+            @Override
+            protected LaContainer getRootContainer() {
+                return container;
+            }
+        };
+    }
+
+    private LaContainer createMockContainer(List<String> containerNameList) { // only for component names
+        Class<?>[] interfaces = new Class<?>[] { LaContainer.class };
+        return (LaContainer) Proxy.newProxyInstance(getClass().getClassLoader(), interfaces, (proxy, method, args) -> {
+            if (method.getName().equals("getComponentDefSize")) {
+                return containerNameList.size();
+            } else if (method.getName().equals("getComponentDef")) {
+                if (args[0] instanceof Integer) {
+                    return createMockComponentDef(containerNameList.get((Integer) args[0]));
+                } else { // by class, e.g. sea.SeaLandAction to sea_seaLandAction
+                    Class<?> actionClass = (Class<?>) args[0];
+                    String packageRear = actionClass.getPackage().getName().replaceFirst(".*\\.web\\.?", "");
+                    String simpleName = actionClass.getSimpleName();
+                    String componentName = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+                    return createMockComponentDef(packageRear.isEmpty() ? componentName : packageRear + "_" + componentName);
+                }
+            }
+            throw new UnsupportedOperationException("Unused in the test: " + method);
+        });
+    }
+
+    private ComponentDef createMockComponentDef(String componentName) {
+        Class<?>[] interfaces = new Class<?>[] { ComponentDef.class };
+        return (ComponentDef) Proxy.newProxyInstance(getClass().getClassLoader(), interfaces, (proxy, method, args) -> {
+            if (method.getName().equals("getComponentName")) {
+                return componentName;
+            }
+            throw new UnsupportedOperationException("Unused in the test: " + method);
+        });
+    }
+}
@@ -0,0 +1,169 @@
+package org.lastaflute.meta.document.parts.action;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.di.naming.StyledNamingConvention;
+import org.lastaflute.meta.document.ActionDocumentAnalyzer;
+import org.lastaflute.meta.unit.mock.web.RootAction;
+import org.lastaflute.meta.unit.mock.web.SeaAction;
+import org.lastaflute.meta.unit.mock.web.SeaForm;
+import org.lastaflute.meta.unit.mock.web.sea.SeaLandAction;
+import org.lastaflute.meta.unit.mock.web.sea.land.SeaLandPiariAction;
+import org.lastaflute.web.Execute;
+import org.lastaflute.web.UrlChain;
+import org.lastaflute.web.path.ActionAdjustmentProvider;
+import org.lastaflute.web.path.ActionPathResolver;
+import org.lastaflute.web.ruts.config.analyzer.MethodNameAnalyzer;
+import org.lastaflute.web.ruts.config.analyzer.UrlPatternAnalyzer;
+import org.lastaflute.web.ruts.config.specifed.SpecifiedUrlPattern;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class ScannedExecuteMethodCollectorTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                          Action URL
+    //                                                                          ==========
+    public void test_createScannedActionExecute_rootAction() throws Exception {
+        assertActionUrl("/", RootAction.class.getMethod("index"));
+        assertActionUrl("/{}", RootAction.class.getMethod("index", int.class));
+    }
+
+    public void test_createScannedActionExecute_basic() throws Exception {
+        assertActionUrl("/sea/land/", SeaLandAction.class.getMethod("index"));
+        assertActionUrl("/sea/land/mystic/{}/{}", SeaLandAction.class.getMethod("mystic", int.class, String.class));
+    }
+
+    public void test_createScannedActionExecute_nestedPackage() throws Exception {
+        assertActionUrl("/sea/land/piari/{}", SeaLandPiariAction.class.getMethod("index", int.class));
+    }
+
+    public void test_createScannedActionExecute_urlPattern() throws Exception {
+        assertActionUrl("/sea/land/dockside/{}/dockside", SeaLandAction.class.getMethod("dockside", int.class));
+    }
+
+    public void test_createScannedActionExecute_optionalPathParameter() throws Exception {
+        assertActionUrl("/sea/land/bonvo/{}", SeaLandAction.class.getMethod("bonvo", OptionalThing.class));
+        assertActionUrl("/sea/{}", SeaAction.class.getMethod("index", OptionalThing.class, SeaForm.class)); // without form
+    }
+
+    public void test_createScannedActionExecute_restful() throws Exception {
+        assertActionUrl("/sea/land/{}", SeaLandAction.class.getMethod("get$index", int.class));
+        assertActionUrl("/sea/land/hangar/{}", SeaLandAction.class.getMethod("post$hangar", int.class, SeaForm.class));
+    }
+
+    // ===================================================================================
+    //                                                                        Class Loader
+    //                                                                        ============
+    public void test_close_classLoader() throws Exception {
+        // ## Arrange ##
+        Path classesDir = prepareClassesDir();
+        ScannedExecuteMethodCollector collector = new ScannedExecuteMethodCollector(Collections.singletonList(classesDir),
+                OptionalThing.empty(), ex -> false);
+        assertTrue(collector.collectScannedExecuteList().isEmpty());
+        URLClassLoader classLoader = collector.scanningClassLoader;
+        assertNotNull(classLoader.getResource("sea.txt"));
+
+        // ## Act ##
+        collector.close();
+
+        // ## Assert ##
+        assertNull(collector.scanningClassLoader);
+        assertNull(classLoader.getResource("sea.txt")); // closed
+        collector.close(); // no exception
+    }
+
+    public void test_close_afterAnalysis() throws Exception {
+        // ## Arrange ##
+        Path classesDir = prepareClassesDir();
+        List<ScannedExecuteMethodCollector> collectorList = new ArrayList<>();
+        ActionDocumentAnalyzer analyzer = new ActionDocumentAnalyzer(Collections.emptyList(), 1, OptionalThing.empty()) {
+            @Override
+            protected ScannedExecuteMethodCollector createScannedExecuteMethodCollector(List<Path> classpathEntryList) {
+                ScannedExecuteMethodCollector collector = super.createScannedExecuteMethodCollector(classpathEntryList);
+                collectorList.add(collector);
+                return collector;
+            }
+        };
+
+        // ## Act ##
+        analyzer.analyzeActionWithoutContainer(Collections.singletonList(classesDir));
+
+        // ## Assert ##
+        assertEquals(1, collectorList.size());
+        assertNull(collectorList.get(0).scanningClassLoader); // closed by the analyzer
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    private void assertActionUrl(String expectedUrl, Method executeMethod) throws Exception {
+        // ## Arrange ##
+        ScannedExecuteMethodCollector collector = new ScannedExecuteMethodCollector(Collections.emptyList(), OptionalThing.empty(), ex -> {
+            return false;
+        });
+        Class<?> actionClass = executeMethod.getDeclaringClass();
+
+        // ## Act ##
+        ScannedActionExecute execute = collector.createScannedActionExecute(actionClass, executeMethod);
+
+        // ## Assert ##
+        String containerUrl = deriveContainerUrl(execute);
+        assertEquals(expectedUrl, execute.getActionUrl());
+        assertEquals(containerUrl, execute.getActionUrl());
+    }
+
+    private Path prepareClassesDir() throws Exception {
+        Path classesDir = Files.createTempDirectory("lastameta-scanned");
+        Files.write(classesDir.resolve("sea.txt"), "mystic".getBytes("UTF-8"));
+        classesDir.toFile().deleteOnExit();
+        classesDir.resolve("sea.txt").toFile().deleteOnExit();
+        return classesDir;
+    }
+
+    // same way as ActionExecute and ActionDocumentAnalyzer@prepareUrlChain() in container
+    private String deriveContainerUrl(ScannedActionExecute execute) throws Exception {
+        Method executeMethod = execute.getExecuteMethod();
+        List<Class<?>> pathParamTypeList = Arrays.stream(executeMethod.getParameters()).filter(param -> {
+            return !execute.isFormParameter(param);
+        }).map(param -> param.getType()).collect(Collectors.toList());
+        String mappingMethodName = new MethodNameAnalyzer().analyzeMappingMethodName(executeMethod);
+        OptionalThing<SpecifiedUrlPattern> specified = SpecifiedUrlPattern.create(executeMethod.getAnnotation(Execute.class).urlPattern());
+        String urlPattern = new UrlPatternAnalyzer().choose(executeMethod, mappingMethodName, specified, pathParamTypeList)
+                .getResolvedUrlPattern();
+        Class<?> actionClass = execute.getActionClass();
+        UrlChain urlChain = new UrlChain(actionClass);
+        if (!"index".equals(urlPattern)) {
+            urlChain.moreUrl(urlPattern);
+        }
+        return createActionPathResolver().toActionUrl(actionClass, urlChain);
+    }
+
+    private ActionPathResolver createActionPathResolver() throws Exception {
+        ActionPathResolver resolver = new ActionPathResolver() {
+            {
+                actionAdjustmentProvider = new ActionAdjustmentProvider() {
+                };
+            }
+        };
+        StyledNamingConvention namingConvention = new StyledNamingConvention();
+        namingConvention.addRootPackageName("org.lastaflute.meta.unit.mock");
+        Field field = ActionPathResolver.class.getDeclaredField("namingConvention"); // injected by container
+        field.setAccessible(true);
+        field.set(resolver, namingConvention);
+        return resolver;
+    }
+}
@@ -0,0 +1,124 @@
+package org.lastaflute.meta.document.parts.dependency;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.unit.mock.dbflute.MockCDef;
+import org.lastaflute.meta.unit.mock.web.SeaAction;
+import org.lastaflute.meta.unit.mock.web.SeaForm;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaDependencyGraphTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                            Recorder
+    //                                                                            ========
+    public void test_recordWithin_basic() {
+        // ## Arrange ##
+        MetaDependencyRecorder recorder = new MetaDependencyRecorder();
+
+        // ## Act ##
+        String result = recorder.recordWithin(() -> {
+            MetaDependencyRecorder.recordType(LandResult.PiariPart.class); // nested and super
+            MetaDependencyRecorder.recordType(String.class); // JDK
+            MetaDependencyRecorder.recordType(MockCDef.Flg.class);
+            MetaDependencyRecorder.recordSourceFile(new File("src/main/java/org/docksidestage/SeaAction.java"));
+            MetaDependencyRecorder.recordGlobalInput("JsonControlMeta");
+            return "sea";
+        });
+        MetaDependencyRecorder.recordType(SeaForm.class); // not recording here
+
+        // ## Assert ##
+        log("types: {}", recorder.getTypeNameSet());
+        assertEquals("sea", result);
+        Set<String> typeNameSet = recorder.getTypeNameSet();
+        assertTrue(typeNameSet.contains(MetaDependencyGraphTest.class.getName())); // top-level of nested
+        assertTrue(typeNameSet.contains(MockCDef.class.getName()));
+        assertFalse(typeNameSet.contains(String.class.getName()));
+        assertFalse(typeNameSet.contains(SeaForm.class.getName()));
+        assertEquals(Collections.singleton("src/main/java/org/docksidestage/SeaAction.java"), recorder.getSourceFileSet());
+        assertEquals(Collections.singleton("JsonControlMeta"), recorder.getGlobalInputSet());
+    }
+
+    // ===================================================================================
+    //                                                                            Affected
+    //                                                                            ========
+    public void test_findAffected_basic() {
+        // ## Arrange ##
+        MetaDependencyGraph graph = new MetaDependencyGraph();
+        graph.register(prepareActionDocMeta("index", "/sea/"), prepareRecorder(SeaForm.class));
+        graph.register(prepareActionDocMeta("land", "/sea/land/"), prepareRecorder(MockCDef.Flg.class));
+
+        // ## Act ##
+        Set<String> formAffectedSet = graph.findAffectedExecuteKeySet(Collections.singleton(SeaForm.class.getName()));
+        Set<String> cdefAffectedSet = graph.findAffectedActionClassNameSet(Collections.singleton(MockCDef.class.getName()));
+
+        // ## Assert ##
+        log("formAffected: {}, cdefAffected: {}", formAffectedSet, cdefAffectedSet);
+        assertEquals(Collections.singleton(SeaAction.class.getName() + "@index()"), formAffectedSet);
+        assertEquals(Collections.singleton(SeaAction.class.getName()), cdefAffectedSet);
+        assertEquals(2, graph.findGlobalInputDependentExecuteKeySet("JsonControlMeta").size());
+
+        graph.removeAction(SeaAction.class.getName());
+        assertTrue(graph.getDependencyList().isEmpty());
+    }
+
+    // ===================================================================================
+    //                                                                              Export
+    //                                                                              ======
+    @SuppressWarnings("unchecked")
+    public void test_toExportMap_basic() {
+        // ## Arrange ##
+        MetaDependencyGraph graph = new MetaDependencyGraph();
+        graph.register(prepareActionDocMeta("index", "/sea/"), prepareRecorder(SeaForm.class));
+
+        // ## Act ##
+        Map<String, Object> exportMap = graph.toExportMap();
+
+        // ## Assert ##
+        log("exportMap: {}", exportMap);
+        List<Map<String, Object>> dependencyList = (List<Map<String, Object>>) exportMap.get(MetaDependencyGraph.ACTION_DEPENDENCY_LIST_KEY);
+        assertEquals(1, dependencyList.size());
+        assertEquals("/sea/", dependencyList.get(0).get("url"));
+        assertTrue(((List<String>) dependencyList.get(0).get("typeNameList")).contains(SeaAction.class.getName()));
+        Map<String, Object> sourceFileMap = (Map<String, Object>) exportMap.get(MetaDependencyGraph.SOURCE_FILE_MAP_KEY);
+        assertEquals(0L, sourceFileMap.get("no/such/SeaAction.java")); // not found
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    protected ActionDocMeta prepareActionDocMeta(String methodName, String url) {
+        ActionDocMeta actionDocMeta = new ActionDocMeta();
+        actionDocMeta.setType(SeaAction.class);
+        actionDocMeta.setMethodName(methodName);
+        actionDocMeta.setUrl(url);
+        return actionDocMeta;
+    }
+
+    protected MetaDependencyRecorder prepareRecorder(Class<?> dependencyType) {
+        MetaDependencyRecorder recorder = new MetaDependencyRecorder();
+        recorder.recordWithin(() -> {
+            MetaDependencyRecorder.recordType(SeaAction.class);
+            MetaDependencyRecorder.recordType(dependencyType);
+            MetaDependencyRecorder.recordSourceFile(new File("no/such/SeaAction.java"));
+            MetaDependencyRecorder.recordGlobalInput("JsonControlMeta");
+            return null;
+        });
+        return recorder;
+    }
+
+    protected static class LandResult {
+
+        public static class PiariPart extends LandResult {
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.lastaflute.meta.document.parts.enumtype;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.unit.mock.dbflute.MockCDef;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaEnumRegistryTest extends PlainTestCase {
+
+    public void test_findEnumMeta_classification() {
+        // ## Arrange ##
+        MetaEnumRegistry registry = new MetaEnumRegistry();
+
+        // ## Act ##
+        MetaEnumMeta enumMeta = registry.findEnumMeta(MockCDef.Flg.class);
+
+        // ## Assert ##
+        log("enumMeta: {}", enumMeta);
+        assertTrue(enumMeta.isClassification());
+        assertEquals("{1=Checked, 0=Unchecked}", enumMeta.getValuesExp());
+        assertEquals(" * `1` - True, Checked. * `0` - False, Unchecked.", enumMeta.getMarkdownListExp());
+        assertEquals("0", enumMeta.getEnumMapList().get(1).get("code"));
+        assertEquals("MockCDef$Flg", enumMeta.getEnumTitle()); // same as swagger fromCls() before
+        assertSame(enumMeta, registry.findEnumMeta(MockCDef.Flg.class)); // computed once
+    }
+
+    public void test_findEnumMeta_plainEnum() {
+        // ## Arrange ##
+        MetaEnumRegistry registry = new MetaEnumRegistry();
+
+        // ## Act ##
+        MetaEnumMeta enumMeta = registry.findEnumMeta(LandType.class);
+
+        // ## Assert ##
+        assertFalse(enumMeta.isClassification());
+        assertEquals("[SEA, LAND]", enumMeta.getValuesExp());
+        assertEquals("", enumMeta.getAliasList().get(0));
+        assertEquals(" * `SEA` - SEA, . * `LAND` - LAND, .", enumMeta.getMarkdownListExp());
+    }
+
+    // ===================================================================================
+    //                                                                        Test Helper
+    //                                                                        ===========
+    public static enum LandType {
+        SEA, LAND
+    }
+}
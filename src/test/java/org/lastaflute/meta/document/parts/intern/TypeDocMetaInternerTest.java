@@ -0,0 +1,161 @@
+package org.lastaflute.meta.document.parts.intern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.docmeta.JobDocMeta;
+import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class TypeDocMetaInternerTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                              Intern
+    //                                                                              ======
+    public void test_intern_sameSubtree() {
+        // ## Arrange ##
+        TypeDocMetaInterner interner = new TypeDocMetaInterner();
+        TypeDocMeta seaItems = prepareItemsMeta();
+        TypeDocMeta landItems = prepareItemsMeta();
+
+        // ## Act ##
+        TypeDocMeta internedSea = interner.intern(seaItems);
+        TypeDocMeta internedLand = interner.intern(landItems);
+
+        // ## Assert ##
+        log("visited: {}, canonical: {}", interner.getVisitedCount(), interner.getCanonicalCount());
+        assertSame(internedSea, internedLand);
+        assertSame(seaItems, internedSea); // first one is canonical
+        assertEquals(2, interner.getCanonicalCount()); // items and its nested name
+        assertSame(interner.intern(seaItems), internedSea); // already canonical
+    }
+
+    public void test_intern_differentSubtree() {
+        // ## Arrange ##
+        TypeDocMetaInterner interner = new TypeDocMetaInterner();
+        TypeDocMeta seaItems = prepareItemsMeta();
+        TypeDocMeta landItems = prepareItemsMeta();
+        landItems.getNestTypeDocMetaList().get(0).setDescription("land name");
+
+        // ## Act ##
+        TypeDocMeta internedSea = interner.intern(seaItems);
+        TypeDocMeta internedLand = interner.intern(landItems);
+
+        // ## Assert ##
+        assertNotSame(internedSea, internedLand);
+        assertEquals(4, interner.getCanonicalCount());
+    }
+
+    public void test_intern_frozen() {
+        // ## Arrange ##
+        TypeDocMetaInterner interner = new TypeDocMetaInterner();
+        TypeDocMeta seaItems = prepareItemsMeta();
+        seaItems.getAnnotationList().add("NotNull");
+
+        // ## Act ##
+        TypeDocMeta interned = interner.intern(seaItems);
+
+        // ## Assert ##
+        assertTrue(interned.isFrozen());
+        assertTrue(interned.getNestTypeDocMetaList().get(0).isFrozen());
+        assertException(IllegalStateException.class, () -> interned.setDescription("changed"));
+        assertException(UnsupportedOperationException.class, () -> interned.getNestTypeDocMetaList().add(new TypeDocMeta()));
+        assertException(UnsupportedOperationException.class, () -> interned.getAnnotationList().add("Required"));
+        TypeDocMeta copied = interned.copyWithType(String.class); // to handle as other type
+        assertFalse(copied.isFrozen());
+        copied.setDescription("changed");
+        assertNull(interned.getDescription());
+    }
+
+    public void test_intern_notChangedViaOriginalList() {
+        // ## Arrange ##
+        TypeDocMetaInterner interner = new TypeDocMetaInterner();
+        TypeDocMeta seaItems = prepareItemsMeta();
+        List<String> originalList = seaItems.getAnnotationList();
+        originalList.add("NotNull");
+
+        // ## Act ##
+        TypeDocMeta interned = interner.intern(seaItems);
+        originalList.add("Required"); // e.g. held by analyzer
+
+        // ## Assert ##
+        assertEquals(Arrays.asList("NotNull"), interned.getAnnotationList());
+        TypeDocMeta landItems = prepareItemsMeta();
+        landItems.getAnnotationList().add("NotNull");
+        assertSame(interned, interner.intern(landItems)); // canonical key is not broken
+    }
+
+    public void test_internJobDocMeta_frozen() {
+        // ## Arrange ##
+        TypeDocMetaInterner interner = new TypeDocMetaInterner();
+        JobDocMeta seaJob = new JobDocMeta();
+        seaJob.setFieldTypeDocMetaList(new ArrayList<>(Arrays.asList(prepareItemsMeta())));
+        JobDocMeta landJob = new JobDocMeta();
+        landJob.setFieldTypeDocMetaList(new ArrayList<>(Arrays.asList(prepareItemsMeta())));
+
+        // ## Act ##
+        interner.internJobDocMeta(seaJob);
+        interner.internJobDocMeta(landJob);
+
+        // ## Assert ##
+        assertSame(seaJob.getFieldTypeDocMetaList(), landJob.getFieldTypeDocMetaList());
+        assertTrue(seaJob.getFieldTypeDocMetaList().get(0).isFrozen());
+        assertException(UnsupportedOperationException.class, () -> landJob.getFieldTypeDocMetaList().clear());
+    }
+
+    // ===================================================================================
+    //                                                                         Table Layout
+    //                                                                         ============
+    public void test_buildTableLayoutMap_sharedType() {
+        // ## Arrange ##
+        TypeDocMetaInterner interner = new TypeDocMetaInterner();
+        ActionDocMeta seaAction = new ActionDocMeta();
+        seaAction.setUrl("/sea/");
+        seaAction.setReturnTypeDocMeta(prepareItemsMeta());
+        ActionDocMeta landAction = new ActionDocMeta();
+        landAction.setUrl("/land/");
+        landAction.setReturnTypeDocMeta(prepareItemsMeta());
+        interner.internActionDocMeta(seaAction);
+        interner.internActionDocMeta(landAction);
+
+        // ## Act ##
+        TypeDocMetaTableBuilder builder = new TypeDocMetaTableBuilder();
+        Map<String, Object> layoutMap = builder.buildTableLayoutMap(Arrays.asList(seaAction, landAction));
+
+        // ## Assert ##
+        log("layoutMap: {}", layoutMap);
+        assertEquals(2, builder.getTypeCount()); // emitted once
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> actionMapList = (List<Map<String, Object>>) layoutMap.get(TypeDocMetaTableBuilder.ACTION_LIST_KEY);
+        assertEquals(1, actionMapList.get(0).get("returnTypeDocMetaId"));
+        assertEquals(1, actionMapList.get(1).get("returnTypeDocMetaId"));
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> typeTableList = (List<Map<String, Object>>) layoutMap.get(TypeDocMetaTableBuilder.TABLE_KEY);
+        assertEquals(Arrays.asList(0), typeTableList.get(1).get("nestTypeDocMetaIdList"));
+    }
+
+    // ===================================================================================
+    //                                                                        Test Helper
+    //                                                                        ===========
+    protected TypeDocMeta prepareItemsMeta() {
+        TypeDocMeta nameMeta = new TypeDocMeta();
+        nameMeta.setName("name");
+        nameMeta.setType(String.class);
+        nameMeta.setTypeName("java.lang.String");
+        nameMeta.setSimpleTypeName("String");
+        TypeDocMeta itemsMeta = new TypeDocMeta();
+        itemsMeta.setName("items");
+        itemsMeta.setType(List.class);
+        itemsMeta.setTypeName("java.util.List<ItemPart>");
+        itemsMeta.setSimpleTypeName("List<ItemPart>");
+        itemsMeta.getNestTypeDocMetaList().add(nameMeta);
+        return itemsMeta;
+    }
+}
@@ -0,0 +1,98 @@
+package org.lastaflute.meta.document.parts.javadoc;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.document.parts.javadoc.MetaJavadoc.ThrowsTag;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaJavadocTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                        Method Style
+    //                                                                        ============
+    public void test_parse_method_basic() {
+        // ## Arrange ##
+        StringBuilder sb = new StringBuilder();
+        sb.append("Sea List").append("\n");
+        sb.append("with land and piari.").append("\n");
+        sb.append("@param pageNumber The number of page. (NotNull)").append("\n");
+        sb.append("@param form The form for search. (NotNull)").append("\n");
+        sb.append("@return The JSON result. (NotNull)").append("\n");
+        sb.append("@throws EntityAlreadyDeletedException When the resource is not found (404)").append("\n");
+        sb.append("@throws IllegalStateException When the state is broken.");
+
+        // ## Act ##
+        MetaJavadoc javadoc = MetaJavadoc.parse(sb.toString());
+
+        // ## Assert ##
+        log("javadoc: {}", javadoc);
+        assertFalse(javadoc.isEmpty());
+        assertEquals("Sea List", javadoc.getSummaryLine());
+        assertEquals("Sea List\nwith land and piari.", javadoc.getBodyText());
+        assertEquals(Arrays.asList("pageNumber", "form"), Arrays.asList(javadoc.getParamCommentMap().keySet().toArray()));
+        assertEquals("The number of page. (NotNull)", javadoc.findParamComment("pageNumber"));
+        assertEquals("The form for search. (NotNull)", javadoc.findParamComment("form")); // last line is also target
+        assertNull(javadoc.findParamComment("page"));
+        List<ThrowsTag> throwsTagList = javadoc.getThrowsTagList();
+        assertEquals(2, throwsTagList.size());
+        assertEquals("EntityAlreadyDeletedException", throwsTagList.get(0).getException());
+        assertEquals("When the resource is not found", throwsTagList.get(0).getDescription());
+        assertEquals("404", throwsTagList.get(0).getStatusExp());
+        assertEquals("IllegalStateException", throwsTagList.get(1).getException());
+        assertEquals("When the state is broken.", throwsTagList.get(1).getDescription());
+        assertNull(throwsTagList.get(1).getStatusExp());
+        assertNull(javadoc.getExampleValue());
+    }
+
+    public void test_parse_method_paramPrefix() {
+        // ## Arrange ##
+        StringBuilder sb = new StringBuilder();
+        sb.append("Sea List").append("\n");
+        sb.append("@param sea The sea name.").append("\n");
+        sb.append("@param seaMap The map of sea.").append("\n");
+        sb.append("@paramland broken tag");
+
+        // ## Act ##
+        MetaJavadoc javadoc = MetaJavadoc.parse(sb.toString());
+
+        // ## Assert ##
+        assertEquals("The sea name.", javadoc.findParamComment("sea"));
+        assertEquals("The map of sea.", javadoc.findParamComment("seaMap"));
+        assertNull(javadoc.findParamComment("land"));
+        assertEquals(2, javadoc.getParamCommentMap().size());
+    }
+
+    // ===================================================================================
+    //                                                                      Property Style
+    //                                                                      ==============
+    public void test_parse_property_example() {
+        assertEquals("dockside", MetaJavadoc.parse("The name of sea. (NotNull) e.g. \"dockside\"").getExampleValue());
+        assertEquals("dockside", MetaJavadoc.parse("The name of sea. e.g. dockside (NullAllowed)").getExampleValue());
+        assertEquals(Arrays.asList("dockside", null, "hangar"),
+                MetaJavadoc.parse("Sea List e.g. [dockside, null, \"hangar\"]").getExampleValue());
+        assertNull(MetaJavadoc.parse("The name of sea. e.g. null").getExampleValue());
+        assertNull(MetaJavadoc.parse("The name of sea.").getExampleValue());
+    }
+
+    public void test_parse_property_firstStatement() {
+        assertEquals("The name of sea", MetaJavadoc.parse("The name of sea. (NotNull)").getFirstStatement());
+        assertEquals("Sea Name e.g. dockside", MetaJavadoc.parse("Sea Name e.g. dockside").getFirstStatement()); // not end
+        assertEquals("The name of sea\nand land", MetaJavadoc.parse("The name of sea\nand land. (NotNull)").getFirstStatement());
+    }
+
+    // ===================================================================================
+    //                                                                               Empty
+    //                                                                               =====
+    public void test_parse_empty() {
+        assertTrue(MetaJavadoc.parse(null).isEmpty());
+        assertTrue(MetaJavadoc.parse("").isEmpty());
+        assertNull(MetaJavadoc.parse(null).getSummaryLine());
+        assertTrue(MetaJavadoc.parse(null).getParamCommentMap().isEmpty());
+        assertTrue(MetaJavadoc.parse(null).getThrowsTagList().isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+package org.lastaflute.meta.document.parts.reflection;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaReflectionCacheTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                               Field
+    //                                                                               =====
+    public void test_findClassReflection_fieldList() {
+        // ## Arrange ##
+        MetaReflectionCache cache = new MetaReflectionCache();
+
+        // ## Act ##
+        MetaClassReflection reflection = cache.findClassReflection(LandBean.class);
+
+        // ## Assert ##
+        log("reflection: {}", reflection);
+        List<String> declaredNameList = toNameList(reflection.getDeclaredFieldList());
+        assertEquals(2, declaredNameList.size());
+        assertTrue(declaredNameList.contains("oneman"));
+        assertTrue(declaredNameList.contains("CONSTANT"));
+        List<String> wholeNameList = toNameList(reflection.getWholeFieldList());
+        assertEquals(4, wholeNameList.size());
+        assertTrue(wholeNameList.contains("dockside"));
+        List<String> propertyNameList = toNameList(reflection.getPropertyFieldList());
+        assertEquals(2, propertyNameList.size());
+        assertEquals("oneman", propertyNameList.get(0)); // own fields first
+        assertEquals("dockside", propertyNameList.get(1));
+        assertSame(reflection, cache.findClassReflection(LandBean.class)); // cached
+        assertSame(reflection, new MetaReflectionCache().findClassReflection(LandBean.class)); // shared
+    }
+
+    public void test_findFieldReflection_genericType() throws Exception {
+        // ## Arrange ##
+        MetaReflectionCache cache = new MetaReflectionCache();
+        Field field = SeaBean.class.getDeclaredField("dockside");
+
+        // ## Act ##
+        MetaFieldReflection reflection = cache.findFieldReflection(field);
+
+        // ## Assert ##
+        log("reflection: {}", reflection);
+        assertEquals("java.util.List<java.lang.String>", reflection.getGenericType().getTypeName());
+        assertTrue(reflection.getAnnotationList().isEmpty());
+    }
+
+    public void test_findClassReflection_interface() {
+        // ## Arrange ##
+        MetaReflectionCache cache = new MetaReflectionCache();
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(cache.findWholeFieldList(Runnable.class).isEmpty());
+        assertTrue(cache.findWholeFieldList(Object.class).isEmpty());
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    protected List<String> toNameList(List<Field> fieldList) {
+        return fieldList.stream().map(field -> field.getName()).collect(Collectors.toList());
+    }
+
+    public static class SeaBean {
+
+        public static final String HANGAR = "hangar";
+        public List<String> dockside;
+    }
+
+    public static class LandBean extends SeaBean {
+
+        public static final String CONSTANT = "constant";
+        public Integer oneman;
+    }
+}
@@ -0,0 +1,101 @@
+package org.lastaflute.meta.document.parts.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaAnalysisSessionTest extends PlainTestCase {
+
+    public void test_prepareAnalysisResult_reused() {
+        // ## Arrange ##
+        MetaAnalysisSession session = new MetaAnalysisSession();
+        AtomicInteger analyzedCount = new AtomicInteger();
+
+        // ## Act ##
+        MetaAnalysisResult first = session.prepareAnalysisResult("sea", false, graph -> {
+            analyzedCount.incrementAndGet();
+            return createMetaList();
+        });
+        MetaAnalysisResult second = session.prepareAnalysisResult("sea", false, graph -> {
+            analyzedCount.incrementAndGet();
+            return createMetaList();
+        });
+        MetaAnalysisResult other = session.prepareAnalysisResult("land", false, graph -> {
+            analyzedCount.incrementAndGet();
+            return createMetaList();
+        });
+
+        // ## Assert ##
+        log("session: {}", session);
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(2, analyzedCount.get());
+        assertNull(first.getDependencyGraph());
+        try {
+            first.getActionDocMetaList().add(new ActionDocMeta());
+            fail();
+        } catch (UnsupportedOperationException e) { // read-only
+            log(e.getClass());
+        }
+    }
+
+    public void test_prepareAnalysisResult_dependencyRequired() {
+        // ## Arrange ##
+        MetaAnalysisSession session = new MetaAnalysisSession();
+        AtomicInteger analyzedCount = new AtomicInteger();
+        session.prepareAnalysisResult("sea", false, graph -> {
+            assertNull(graph);
+            analyzedCount.incrementAndGet();
+            return createMetaList();
+        });
+
+        // ## Act ##
+        MetaAnalysisResult recorded = session.prepareAnalysisResult("sea", true, graph -> {
+            assertNotNull(graph);
+            analyzedCount.incrementAndGet();
+            return createMetaList();
+        });
+        MetaAnalysisResult reused = session.prepareAnalysisResult("sea", false, graph -> {
+            analyzedCount.incrementAndGet();
+            return createMetaList();
+        });
+
+        // ## Assert ##
+        assertEquals(2, analyzedCount.get()); // without graph result is not enough
+        assertNotNull(recorded.getDependencyGraph());
+        assertSame(recorded, reused); // with graph result is enough
+    }
+
+    public void test_shareWithin_basic() {
+        // ## Arrange ##
+        MetaAnalysisSession session = new MetaAnalysisSession();
+        MetaAnalysisSession nested = new MetaAnalysisSession();
+        assertNull(MetaAnalysisSession.findActiveSession());
+
+        // ## Act ##
+        // ## Assert ##
+        session.shareWithin(() -> {
+            assertSame(session, MetaAnalysisSession.findActiveSession());
+            nested.shareWithin(() -> {
+                assertSame(nested, MetaAnalysisSession.findActiveSession());
+                return null;
+            });
+            assertSame(session, MetaAnalysisSession.findActiveSession()); // restored
+            return null;
+        });
+        assertNull(MetaAnalysisSession.findActiveSession());
+    }
+
+    private List<ActionDocMeta> createMetaList() {
+        List<ActionDocMeta> metaList = new ArrayList<>();
+        metaList.add(new ActionDocMeta());
+        return metaList;
+    }
+}
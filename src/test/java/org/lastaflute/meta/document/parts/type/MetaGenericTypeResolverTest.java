@@ -0,0 +1,82 @@
+package org.lastaflute.meta.document.parts.type;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaGenericTypeResolverTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                            Bindings
+    //                                                                            ========
+    public void test_resolveBindings_nestedWrapper() throws Exception {
+        // ## Arrange ##
+        MetaGenericTypeResolver resolver = new MetaGenericTypeResolver();
+        Type returnType = getClass().getDeclaredMethod("index").getGenericReturnType();
+        Type ownerType = resolver.findFirstTypeArgument(returnType); // ApiResult<PagingResult<List<ItemPart>>>
+
+        // ## Act ##
+        MetaTypeBindings bindings = resolver.resolveBindings(ownerType);
+
+        // ## Assert ##
+        log("bindings: {}", bindings);
+        Type mainType = resolver.resolveType(ApiResult.class.getField("main").getGenericType(), bindings);
+        assertEquals(getClass().getName() + "$PagingResult<java.util.List<" + ItemPart.class.getName() + ">>", mainType.getTypeName());
+        Type dataType = resolver.resolveType(BaseResult.class.getField("data").getGenericType(), bindings); // super class
+        assertEquals(List.class, resolver.eraseType(dataType));
+        assertEquals(mainType, resolver.findFirstTypeArgument(dataType));
+        assertSame(bindings, resolver.resolveBindings(ownerType)); // cached
+
+        // nested owner
+        MetaTypeBindings nestBindings = resolver.resolveBindings(mainType);
+        Type itemsType = resolver.resolveType(PagingResult.class.getField("items").getGenericType(), nestBindings);
+        assertEquals(getClass().getDeclaredField("expectedItems").getGenericType(), itemsType); // compatible with JDK
+        assertEquals(ItemPart.class, resolver.findInnermostElementType(itemsType));
+    }
+
+    public void test_resolveType_unbound() throws Exception {
+        // ## Arrange ##
+        MetaGenericTypeResolver resolver = new MetaGenericTypeResolver();
+        Type itemsType = PagingResult.class.getField("items").getGenericType();
+
+        // ## Act ##
+        Type resolved = resolver.resolveType(itemsType, MetaTypeBindings.empty());
+
+        // ## Assert ##
+        assertSame(itemsType, resolved);
+        assertEquals(Object.class, resolver.eraseType(resolver.findFirstTypeArgument(resolved)));
+    }
+
+    // ===================================================================================
+    //                                                                        Test Helper
+    //                                                                        ===========
+    public static class ItemPart {
+        public String name;
+    }
+
+    public static class PagingResult<E> {
+        public List<E> items;
+    }
+
+    public static class BaseResult<X> {
+        public X data;
+    }
+
+    public static class ApiResult<T> extends BaseResult<List<T>> {
+        public T main;
+    }
+
+    public static class JsonResponse<R> {
+    }
+
+    protected JsonResponse<ApiResult<PagingResult<List<ItemPart>>>> index() {
+        return null;
+    }
+
+    protected List<List<ItemPart>> expectedItems;
+}
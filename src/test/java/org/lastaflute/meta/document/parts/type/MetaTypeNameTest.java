@@ -0,0 +1,70 @@
+package org.lastaflute.meta.document.parts.type;
+
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaTypeNameTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                               Parse
+    //                                                                               =====
+    public void test_parse_nested() {
+        // ## Arrange ##
+        String typeName = "java.util.Map<java.lang.String, java.util.List<java.util.List<org.docksidestage.SeaBean>>>";
+
+        // ## Act ##
+        MetaTypeName parsed = MetaTypeName.parse(typeName);
+
+        // ## Assert ##
+        log("parsed: {}", parsed);
+        assertEquals("java.util.Map", parsed.getRawName());
+        assertEquals(typeName, parsed.getFullName());
+        assertEquals("Map<String, List<List<SeaBean>>>", parsed.getSimpleName());
+        List<MetaTypeName> argumentList = parsed.getTypeArgumentList();
+        assertEquals(2, argumentList.size());
+        assertEquals("java.lang.String", argumentList.get(0).getFullName());
+        MetaTypeName listName = argumentList.get(1);
+        assertEquals("java.util.List", listName.getRawName());
+        assertEquals("org.docksidestage.SeaBean", listName.getTypeArgumentList().get(0).getTypeArgumentList().get(0).getRawName());
+        assertEquals("java.lang.String, java.util.List<java.util.List<org.docksidestage.SeaBean>>", parsed.buildTypeArgumentsFullName());
+        assertSame(parsed, MetaTypeName.parse(typeName)); // cached
+    }
+
+    public void test_parse_plain() {
+        assertFalse(MetaTypeName.parse("java.lang.String").hasTypeArgument());
+        assertEquals("List<String>[]", MetaTypeName.parse("java.util.List<java.lang.String>[]").getSimpleName());
+        assertEquals("? extends Number", MetaTypeName.parse("? extends java.lang.Number").getSimpleName());
+        assertEquals("sea.Land<Piari", MetaTypeName.parse("sea.Land<Piari").getFullName()); // broken as plain
+        assertFalse(MetaTypeName.parse("sea.Land<Piari").hasTypeArgument());
+    }
+
+    public void test_of_type() throws Exception {
+        // ## Arrange ##
+        java.lang.reflect.Type type = getClass().getDeclaredField("mapField").getGenericType();
+
+        // ## Act ##
+        MetaTypeName typeName = MetaTypeName.of(type);
+
+        // ## Assert ##
+        assertEquals("Map<String, List<Integer>>", typeName.getSimpleName());
+        assertSame(MetaTypeName.of(String.class), MetaTypeName.of(String.class));
+    }
+
+    protected Map<String, List<Integer>> mapField;
+
+    // ===================================================================================
+    //                                                                         Simple Name
+    //                                                                         ===========
+    public void test_toSimpleName_sameAsRegex() {
+        String[] typeNames = { "org.docksidestage.Sea", "org.docksidestage.CDef$StageType", "CDef.Flg", "x1.y2.Z<? super a.B>" };
+        for (String typeName : typeNames) {
+            assertEquals(typeName.replaceAll("[a-z0-9]+\\.", ""), MetaTypeName.toSimpleName(typeName));
+        }
+    }
+}
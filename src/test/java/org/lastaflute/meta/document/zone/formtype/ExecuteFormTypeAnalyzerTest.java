@@ -0,0 +1,109 @@
+package org.lastaflute.meta.document.zone.formtype;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+import org.lastaflute.meta.document.parts.action.FormFieldNameAdjuster;
+import org.lastaflute.meta.document.parts.action.ScannedActionExecute;
+import org.lastaflute.meta.document.parts.action.ScannedExecuteMethodCollector;
+import org.lastaflute.meta.document.parts.annotation.MetaAnnotationArranger;
+import org.lastaflute.meta.document.parts.type.MetaTypeNameAdjuster;
+import org.lastaflute.meta.infra.json.MetauseJsonEngineProvider;
+import org.lastaflute.meta.unit.mock.web.SeaForm;
+import org.lastaflute.meta.unit.mock.web.sea.SeaLandAction;
+import org.lastaflute.web.Execute;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class ExecuteFormTypeAnalyzerTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                        Analyze Form
+    //                                                                        ============
+    public void test_analyzeFormType_form() throws Exception {
+        // ## Arrange ##
+        Method executeMethod = SeaLandAction.class.getMethod("post$hangar", int.class, SeaForm.class);
+        ScannedActionExecute execute = scanExecute(SeaLandAction.class, executeMethod);
+
+        // ## Act ##
+        TypeDocMeta formMeta = analyzeFormType(execute);
+
+        // ## Assert ##
+        log("formMeta: {}", formMeta);
+        assertEquals(SeaForm.class, formMeta.getType());
+        assertEquals(SeaForm.class.getName(), formMeta.getTypeName());
+        assertEquals(SeaForm.class.getSimpleName(), formMeta.getSimpleTypeName());
+        assertEquals(newHashSet("stageId", "stageName", "hangar"), extractNameSet(formMeta.getNestTypeDocMetaList()));
+        TypeDocMeta hangarMeta = findProperty(formMeta, "hangar");
+        assertEquals(newHashSet("showName"), extractNameSet(hangarMeta.getNestTypeDocMetaList()));
+    }
+
+    public void test_analyzeFormType_listBody() throws Exception {
+        // ## Arrange ##
+        ScannedActionExecute execute = scanExecute(LandAction.class, LandAction.class.getMethod("index", List.class));
+
+        // ## Act ##
+        TypeDocMeta formMeta = analyzeFormType(execute);
+
+        // ## Assert ##
+        log("formMeta: {}", formMeta);
+        assertEquals(List.class, formMeta.getType());
+        assertEquals("java.util.List<" + LandBody.class.getName() + ">", formMeta.getTypeName());
+        assertEquals(newHashSet("landName"), extractNameSet(formMeta.getNestTypeDocMetaList())); // element properties
+    }
+
+    public void test_analyzeFormType_noForm() throws Exception {
+        Method executeMethod = SeaLandAction.class.getMethod("mystic", int.class, String.class);
+        ScannedActionExecute execute = scanExecute(SeaLandAction.class, executeMethod);
+        assertFalse(execute.getSymbolFormType().isPresent());
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    private ScannedActionExecute scanExecute(Class<?> actionClass, Method executeMethod) {
+        return new ScannedExecuteMethodCollector(Collections.emptyList(), OptionalThing.empty(), ex -> false) {
+            public ScannedActionExecute scan() {
+                return createScannedActionExecute(actionClass, executeMethod);
+            }
+        }.scan();
+    }
+
+    private TypeDocMeta analyzeFormType(ScannedActionExecute execute) {
+        MetaTypeNameAdjuster metaTypeNameAdjuster = new MetaTypeNameAdjuster();
+        FormFieldNameAdjuster formFieldNameAdjuster = new FormFieldNameAdjuster(new MetauseJsonEngineProvider());
+        MetaAnnotationArranger metaAnnotationArranger = new MetaAnnotationArranger(metaTypeNameAdjuster);
+        ExecuteFormTypeAnalyzer analyzer = new ExecuteFormTypeAnalyzer(/*depth*/4, OptionalThing.empty(), metaAnnotationArranger,
+                metaTypeNameAdjuster, formFieldNameAdjuster);
+        Class<?> symbolFormType = execute.getSymbolFormType().get(); // same as ActionDocumentAnalyzer
+        return analyzer.analyzeFormType(symbolFormType, execute.getListFormParameterizedType(), execute.getFormType().get());
+    }
+
+    private Set<String> extractNameSet(List<TypeDocMeta> metaList) {
+        return metaList.stream().map(meta -> meta.getName()).collect(Collectors.toSet());
+    }
+
+    private TypeDocMeta findProperty(TypeDocMeta ownerMeta, String name) {
+        return ownerMeta.getNestTypeDocMetaList().stream().filter(meta -> meta.getName().equals(name)).findFirst().get();
+    }
+
+    public static class LandAction {
+
+        @Execute
+        public void index(List<LandBody> bodyList) {
+        }
+    }
+
+    public static class LandBody {
+
+        public String landName;
+    }
+}
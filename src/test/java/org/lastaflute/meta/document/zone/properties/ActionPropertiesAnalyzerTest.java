@@ -0,0 +1,84 @@
+package org.lastaflute.meta.document.zone.properties;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+import org.lastaflute.meta.document.parts.action.FormFieldNameAdjuster;
+import org.lastaflute.meta.document.parts.annotation.MetaAnnotationArranger;
+import org.lastaflute.meta.document.parts.type.MetaGenericTypeResolver;
+import org.lastaflute.meta.document.parts.type.MetaTypeBindings;
+import org.lastaflute.meta.document.parts.type.MetaTypeNameAdjuster;
+import org.lastaflute.meta.infra.json.MetauseJsonEngineProvider;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class ActionPropertiesAnalyzerTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                             Analyze Nest Properties
+    //                                                             =======================
+    public void test_analyzeNestProperties_bindingsCachedPerResolver() throws Exception {
+        // ## Arrange ##
+        CountingResolver resolver = new CountingResolver();
+        Type ownerType = getClass().getDeclaredField("seaResult").getGenericType(); // SeaResult<LandPart>
+
+        // ## Act ##
+        List<TypeDocMeta> propertyList = createAnalyzer(resolver).analyzeNestProperties(SeaResult.class, ownerType, 1);
+        createAnalyzer(resolver).analyzeNestProperties(SeaResult.class, ownerType, 1); // other analyzer in same analysis
+
+        // ## Assert ##
+        log("propertyList: {}", propertyList);
+        TypeDocMeta mainMeta = propertyList.stream().filter(meta -> meta.getName().equals("main")).findFirst().get();
+        assertEquals(LandPart.class.getName(), mainMeta.getTypeName());
+        assertEquals("name", mainMeta.getNestTypeDocMetaList().get(0).getName());
+        TypeDocMeta itemsMeta = propertyList.stream().filter(meta -> meta.getName().equals("items")).findFirst().get();
+        assertEquals("List<" + LandPart.class.getSimpleName() + ">", itemsMeta.getSimpleTypeName());
+        assertEquals(2, resolver.resolvedCount); // SeaResult<LandPart> and LandPart, cached in the resolver
+
+        // other analysis (e.g. next generation) does not use the cache
+        CountingResolver nextResolver = new CountingResolver();
+        createAnalyzer(nextResolver).analyzeNestProperties(SeaResult.class, ownerType, 1);
+        assertEquals(2, nextResolver.resolvedCount);
+        assertEquals(2, resolver.resolvedCount);
+    }
+
+    // ===================================================================================
+    //                                                                        Test Helper
+    //                                                                        ===========
+    private ActionPropertiesAnalyzer createAnalyzer(MetaGenericTypeResolver resolver) {
+        MetaTypeNameAdjuster metaTypeNameAdjuster = new MetaTypeNameAdjuster();
+        MetauseJsonEngineProvider metauseJsonEngineProvider = new MetauseJsonEngineProvider();
+        FormFieldNameAdjuster formFieldNameAdjuster = new FormFieldNameAdjuster(metauseJsonEngineProvider);
+        MetaAnnotationArranger metaAnnotationArranger = new MetaAnnotationArranger(metaTypeNameAdjuster);
+        return new ActionPropertiesAnalyzer(OptionalThing.empty(), Collections.emptyMap(), MetaTypeBindings.empty(), metaAnnotationArranger,
+                metaTypeNameAdjuster, formFieldNameAdjuster, resolver);
+    }
+
+    private static class CountingResolver extends MetaGenericTypeResolver {
+
+        private int resolvedCount;
+
+        @Override
+        protected MetaTypeBindings doResolveBindings(Type ownerType) {
+            ++resolvedCount;
+            return super.doResolveBindings(ownerType);
+        }
+    }
+
+    public static class SeaResult<E> {
+        public E main;
+        public List<E> items;
+    }
+
+    public static class LandPart {
+        public String name;
+    }
+
+    protected SeaResult<LandPart> seaResult;
+}
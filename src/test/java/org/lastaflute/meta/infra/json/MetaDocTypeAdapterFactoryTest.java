@@ -0,0 +1,124 @@
+package org.lastaflute.meta.infra.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.document.docmeta.ActionDocMeta;
+import org.lastaflute.meta.document.docmeta.JobDocMeta;
+import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaDocTypeAdapterFactoryTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                            Doc Meta
+    //                                                                            ========
+    public void test_actionDocMeta_sameAsReflective() {
+        // ## Arrange ##
+        ActionDocMeta meta = new ActionDocMeta();
+        meta.setUrl("/product/list/{pageNumber}");
+        meta.setTypeName("org.docksidestage.app.web.product.ProductListAction");
+        meta.setSimpleTypeName("ProductListAction");
+        meta.setDescription("Product List");
+        meta.setMethodName("index");
+        meta.setAnnotationList(Arrays.asList("Execute"));
+        meta.setFieldTypeDocMetaList(new ArrayList<>());
+        meta.setParameterTypeDocMetaList(Arrays.asList(prepareTypeDocMeta("pageNumber", null)));
+        meta.setFormTypeDocMeta(prepareTypeDocMeta("form", prepareTypeDocMeta("productName", null)));
+        meta.setFileLineCount(120);
+        meta.setMethodLineCount(8);
+
+        // ## Act ##
+        String streaming = createStreamingGson().toJson(meta);
+
+        // ## Assert ##
+        log("streaming: {}", streaming);
+        assertEquals(createReflectiveGson().toJson(meta), streaming);
+    }
+
+    public void test_jobDocMeta_sameAsReflective() {
+        // ## Arrange ##
+        JobDocMeta meta = new JobDocMeta();
+        meta.setJobKey("SeaJob");
+        meta.setCronExp("10 * * * *");
+        meta.setTypeName("org.docksidestage.app.job.SeaJob");
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("land", "piari");
+        params.put("count", 3);
+        meta.setParams(params);
+        meta.setTriggeredJobKeyList(Arrays.asList("LandJob"));
+        meta.setFieldTypeDocMetaList(Arrays.asList(prepareTypeDocMeta("dockside", null)));
+
+        // ## Act ##
+        String streaming = createStreamingGson().toJson(meta);
+
+        // ## Assert ##
+        log("streaming: {}", streaming);
+        assertEquals(createReflectiveGson().toJson(meta), streaming);
+    }
+
+    // ===================================================================================
+    //                                                                           JSON Tree
+    //                                                                           =========
+    public void test_jsonTree_sameAsReflective() {
+        // ## Arrange ##
+        Map<String, Object> tree = new LinkedHashMap<>();
+        tree.put("swagger", "2.0");
+        tree.put("nullValue", null);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("description", "success");
+        response.put("required", true);
+        response.put("maxLength", 10);
+        response.put("example", 1.5d);
+        tree.put("responses", response);
+        List<Object> actionList = new ArrayList<>();
+        actionList.add(prepareTypeDocMeta("sea", null));
+        actionList.add(Arrays.asList("land", "piari"));
+        tree.put("actionList", actionList);
+
+        // ## Act ##
+        String streaming = createStreamingGson().toJson(tree);
+
+        // ## Assert ##
+        log("streaming: {}", streaming);
+        assertEquals(createReflectiveGson().toJson(tree), streaming);
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private TypeDocMeta prepareTypeDocMeta(String name, TypeDocMeta nestMeta) {
+        TypeDocMeta meta = new TypeDocMeta();
+        meta.setName(name);
+        meta.setPublicName(name);
+        meta.setTypeName("java.lang.String");
+        meta.setSimpleTypeName("String");
+        meta.setComment("the comment of " + name);
+        meta.setType(String.class); // transient
+        if (nestMeta != null) {
+            meta.setNestTypeDocMetaList(Arrays.asList(nestMeta));
+        }
+        return meta;
+    }
+
+    private Gson createStreamingGson() {
+        GsonBuilder builder = new GsonBuilder().serializeNulls().setPrettyPrinting();
+        builder.registerTypeAdapterFactory(new MetaDocTypeAdapterFactory());
+        builder.registerTypeAdapterFactory(new MetaJsonTreeTypeAdapterFactory());
+        return builder.create();
+    }
+
+    private Gson createReflectiveGson() {
+        return new GsonBuilder().serializeNulls().setPrettyPrinting().create();
+    }
+}
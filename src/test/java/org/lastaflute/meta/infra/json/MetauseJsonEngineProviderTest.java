@@ -0,0 +1,142 @@
+package org.lastaflute.meta.infra.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.core.json.engine.RealJsonEngine;
+
+import com.google.gson.GsonBuilder;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetauseJsonEngineProviderTest extends PlainTestCase {
+
+    public void test_createJsonEngine_outputFormat() {
+        // ## Arrange ##
+        MetauseJsonEngineProvider provider = new MetauseJsonEngineProvider();
+        Map<String, Object> swaggerMap = new LinkedHashMap<>();
+        swaggerMap.put("swagger", "2.0");
+        swaggerMap.put("basePath", null);
+        swaggerMap.put("tags", Arrays.asList("sea", "land"));
+
+        // ## Act ##
+        String pretty = provider.createJsonEngine(MetaOutputFormat.PRETTY).toJson(swaggerMap);
+        String compact = provider.createJsonEngine(MetaOutputFormat.COMPACT).toJson(swaggerMap);
+
+        // ## Assert ##
+        log("pretty: {}", pretty);
+        log("compact: {}", compact);
+        assertTrue(pretty.contains("\n"));
+        assertEquals("{\"swagger\":\"2.0\",\"basePath\":null,\"tags\":[\"sea\",\"land\"]}", compact);
+        assertEquals(compact, pretty.replaceAll("\n *", "").replace("\": ", "\":"));
+    }
+
+    public void test_createJsonEngine_shared() {
+        // ## Arrange ##
+        MetauseJsonEngineProvider provider = new MetauseJsonEngineProvider();
+
+        // ## Act ##
+        RealJsonEngine first = provider.createJsonEngine(MetaOutputFormat.COMPACT);
+        RealJsonEngine second = new MetauseJsonEngineProvider().createJsonEngine(MetaOutputFormat.COMPACT);
+
+        // ## Assert ##
+        assertSame(first, second);
+        assertSame(provider.createJsonEngine(), provider.createJsonEngine(MetaOutputFormat.PRETTY));
+        assertNotSame(first, provider.createJsonEngine());
+    }
+
+    public void test_createJsonEngine_sharedPerProviderClass() {
+        // ## Arrange ##
+        MetauseJsonEngineProvider provider = new MetauseJsonEngineProvider();
+        MetauseJsonEngineProvider subProvider = new MetauseJsonEngineProvider() {
+            @Override
+            protected void registerMetaTypeAdapter(GsonBuilder builder) { // e.g. application adapters
+                super.registerMetaTypeAdapter(builder);
+            }
+        };
+
+        // ## Act ##
+        RealJsonEngine engine = provider.createJsonEngine(MetaOutputFormat.COMPACT);
+        RealJsonEngine subEngine = subProvider.createJsonEngine(MetaOutputFormat.COMPACT);
+
+        // ## Assert ##
+        assertNotSame(engine, subEngine); // sub-class customization is not lost
+        assertSame(subEngine, subProvider.createJsonEngine(MetaOutputFormat.COMPACT));
+    }
+
+    public void test_createJsonEngine_notPinProviderClass() throws Exception {
+        // ## Arrange ##
+        WeakReference<ClassLoader> loaderRef = useReloadedProvider(); // e.g. application class loader of hot deploy
+
+        // ## Act ##
+        for (int i = 0; i < 20 && loaderRef.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+
+        // ## Assert ##
+        assertNull(loaderRef.get()); // shared engine does not keep the sub-class
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    private WeakReference<ClassLoader> useReloadedProvider() throws Exception {
+        ClassLoader reloadingLoader = new ReloadingClassLoader(getClass().getClassLoader(), ReloadedProvider.class.getName());
+        Class<?> providerType = reloadingLoader.loadClass(ReloadedProvider.class.getName());
+        assertNotSame(ReloadedProvider.class, providerType);
+        MetauseJsonEngineProvider provider = (MetauseJsonEngineProvider) providerType.getDeclaredConstructor().newInstance();
+        RealJsonEngine engine = provider.createJsonEngine(MetaOutputFormat.COMPACT);
+        assertSame(engine, provider.createJsonEngine(MetaOutputFormat.COMPACT)); // shared while living
+        return new WeakReference<>(reloadingLoader);
+    }
+
+    public static class ReloadedProvider extends MetauseJsonEngineProvider {
+    }
+
+    private static class ReloadingClassLoader extends ClassLoader {
+
+        private final String reloadedName;
+
+        public ReloadingClassLoader(ClassLoader parent, String reloadedName) {
+            super(parent);
+            this.reloadedName = reloadedName;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!reloadedName.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    byte[] bytes = readClassBytes(name);
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                }
+                return loaded;
+            }
+        }
+
+        private byte[] readClassBytes(String name) throws ClassNotFoundException {
+            try (InputStream ins = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                ByteArrayOutputStream ous = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int length;
+                while ((length = ins.read(buffer)) >= 0) {
+                    ous.write(buffer, 0, length);
+                }
+                return ous.toByteArray();
+            } catch (Exception e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
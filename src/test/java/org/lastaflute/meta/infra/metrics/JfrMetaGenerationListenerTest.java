@@ -0,0 +1,33 @@
+package org.lastaflute.meta.infra.metrics;
+
+import java.util.Collections;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class JfrMetaGenerationListenerTest extends PlainTestCase {
+
+    public void test_measureWithin_emitEvent() {
+        if (!JfrMetaGenerationListener.isAvailable()) { // e.g. old Java8 runtime
+            log("...Skipping the test because JFR is not available");
+            return;
+        }
+        // ## Arrange ##
+        JfrMetaGenerationListener listener = new JfrMetaGenerationListener(); // dynamic event by reflection
+
+        // ## Act ##
+        String result = MetaGenerationMetrics.measureWithin(Collections.singletonList(listener), () -> {
+            return MetaGenerationMetrics.measurePhase(MetaGenerationPhase.ACTION_ANALYSIS, () -> {
+                assertEquals(1, listener.runningEventMap.get().size()); // began
+                return "generated";
+            });
+        });
+
+        // ## Assert ##
+        assertEquals("generated", result);
+        assertTrue(listener.runningEventMap.get().isEmpty()); // committed and removed
+    }
+}
@@ -0,0 +1,149 @@
+package org.lastaflute.meta.infra.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class MetaGenerationMetricsTest extends PlainTestCase {
+
+    public void test_measureWithin_basic() {
+        // ## Arrange ##
+        MockListener listener = new MockListener();
+
+        // ## Act ##
+        String result = MetaGenerationMetrics.measureWithin(Collections.singletonList(listener), () -> {
+            MetaGenerationMetrics.measurePhase(MetaGenerationPhase.ACTION_ANALYSIS, () -> {
+                MetaGenerationMetrics.countUp(MetaGenerationCounter.ACTION_EXECUTE, 1L);
+                return MetaGenerationMetrics.measurePhase(MetaGenerationPhase.SOURCE_PARSING, () -> "parsed");
+            });
+            MetaGenerationMetrics.measurePhase(MetaGenerationPhase.ACTION_ANALYSIS, () -> {
+                MetaGenerationMetrics.countUp(MetaGenerationCounter.ACTION_EXECUTE, 1L);
+                MetaGenerationMetrics.countUp(MetaGenerationCounter.PROPERTY, 3L);
+                return null;
+            });
+            return "generated";
+        });
+
+        // ## Assert ##
+        assertEquals("generated", result);
+        log("phaseLogList: {}", listener.phaseLogList);
+        assertEquals(Arrays.asList("begin:ACTION_ANALYSIS", "begin:SOURCE_PARSING", "end:SOURCE_PARSING", "end:ACTION_ANALYSIS",
+                "begin:ACTION_ANALYSIS", "end:ACTION_ANALYSIS"), listener.phaseLogList);
+        MetaGenerationSummary summary = listener.summary;
+        log("summary: {}", summary);
+        assertNotNull(summary);
+        assertEquals(2, summary.getPhaseCount(MetaGenerationPhase.ACTION_ANALYSIS));
+        assertEquals(1, summary.getPhaseCount(MetaGenerationPhase.SOURCE_PARSING));
+        assertFalse(summary.isPhaseMeasured(MetaGenerationPhase.SPEC_BUILDING));
+        assertEquals(2L, summary.getCount(MetaGenerationCounter.ACTION_EXECUTE));
+        assertEquals(3L, summary.getCount(MetaGenerationCounter.PROPERTY));
+        assertEquals(0L, summary.getCount(MetaGenerationCounter.SWAGGER_DEFINITION));
+        assertTrue(summary.getTotalNanos() >= summary.getPhaseNanos(MetaGenerationPhase.ACTION_ANALYSIS));
+    }
+
+    public void test_measureWithin_joined() {
+        // ## Arrange ##
+        MockListener outerListener = new MockListener();
+        MockListener innerListener = new MockListener();
+
+        // ## Act ##
+        MetaGenerationMetrics.measureWithin(Collections.singletonList(outerListener), () -> {
+            return MetaGenerationMetrics.measureWithin(Collections.singletonList(innerListener), () -> {
+                MetaGenerationMetrics.countUp(MetaGenerationCounter.PARSED_SOURCE_FILE, 1L);
+                return null;
+            });
+        });
+
+        // ## Assert ##
+        assertNotNull(outerListener.summary);
+        assertEquals(1L, outerListener.summary.getCount(MetaGenerationCounter.PARSED_SOURCE_FILE));
+        assertNull(innerListener.summary); // joined to outer
+    }
+
+    public void test_measureWithin_noListener() {
+        // ## Arrange ##
+        // ## Act ##
+        String result = MetaGenerationMetrics.measureWithin(Collections.emptyList(), () -> {
+            MetaGenerationMetrics.countUp(MetaGenerationCounter.PROPERTY, 1L); // no exception
+            return MetaGenerationMetrics.measurePhase(MetaGenerationPhase.SPEC_BUILDING, () -> "built");
+        });
+
+        // ## Assert ##
+        assertEquals("built", result);
+    }
+
+    public void test_measureWithin_failure() {
+        // ## Arrange ##
+        MockListener listener = new MockListener();
+
+        // ## Act ##
+        try {
+            MetaGenerationMetrics.measureWithin(Collections.singletonList(listener), () -> {
+                return MetaGenerationMetrics.measurePhase(MetaGenerationPhase.ACTION_DISCOVERY, () -> {
+                    throw new IllegalStateException("mystic");
+                });
+            });
+            // ## Assert ##
+            fail();
+        } catch (IllegalStateException e) {
+            log(e.getMessage());
+        }
+        assertEquals(Arrays.asList("begin:ACTION_DISCOVERY", "end:ACTION_DISCOVERY"), listener.phaseLogList);
+        assertNotNull(listener.summary);
+        assertEquals(1, listener.summary.getPhaseCount(MetaGenerationPhase.ACTION_DISCOVERY));
+
+        // not active after failure
+        String result = MetaGenerationMetrics.measurePhase(MetaGenerationPhase.ACTION_DISCOVERY, () -> "plain");
+        assertEquals("plain", result);
+        assertEquals(2, listener.phaseLogList.size());
+    }
+
+    public void test_LoggingMetaGenerationListener_buildSummaryTable() {
+        // ## Arrange ##
+        MockListener listener = new MockListener();
+        MetaGenerationMetrics.measureWithin(Collections.singletonList(listener), () -> {
+            MetaGenerationMetrics.countUp(MetaGenerationCounter.ACTION_EXECUTE, 12L);
+            return MetaGenerationMetrics.measurePhase(MetaGenerationPhase.SOURCE_PARSING, () -> null);
+        });
+
+        // ## Act ##
+        String table = new LoggingMetaGenerationListener().buildSummaryTable(listener.summary);
+
+        // ## Assert ##
+        log(table);
+        assertTrue(table.startsWith("[Meta Generation] total="));
+        assertTrue(table.contains("SOURCE_PARSING"));
+        assertTrue(table.contains("*nested"));
+        assertFalse(table.contains("SPEC_BUILDING")); // not measured
+        assertTrue(table.contains("ACTION_EXECUTE"));
+        assertTrue(table.contains("12"));
+    }
+
+    private static class MockListener implements MetaGenerationListener {
+
+        private final List<String> phaseLogList = new ArrayList<>();
+        private MetaGenerationSummary summary;
+
+        @Override
+        public void beginPhase(MetaGenerationPhase phase) {
+            phaseLogList.add("begin:" + phase);
+        }
+
+        @Override
+        public void endPhase(MetaGenerationPhase phase, long elapsedNanos) {
+            phaseLogList.add("end:" + phase);
+        }
+
+        @Override
+        public void finishGeneration(MetaGenerationSummary summary) {
+            this.summary = summary;
+        }
+    }
+}
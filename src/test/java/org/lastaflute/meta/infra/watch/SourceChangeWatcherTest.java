@@ -0,0 +1,309 @@
+package org.lastaflute.meta.infra.watch;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.Watchable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SourceChangeWatcherTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                               Drain
+    //                                                                               =====
+    public void test_drainChangedClassNameSet_basic() throws Exception {
+        // ## Arrange ##
+        Path srcDir = Files.createTempDirectory("lastameta-watch");
+        Path packageDir = Files.createDirectories(srcDir.resolve("org/docksidestage/app/web/sea"));
+        Files.write(packageDir.resolve("SeaAction.java"), "class SeaAction {}".getBytes());
+        MockSourceChangeWatcher watcher = new MockSourceChangeWatcher(srcDir);
+        watcher.start();
+        assertTrue(watcher.isWatching());
+        assertTrue(watcher.drainChangedClassNameSet().isEmpty());
+
+        // ## Act ##
+        watcher.signal(packageDir, StandardWatchEventKinds.ENTRY_MODIFY, "SeaAction.java");
+        watcher.signal(packageDir, StandardWatchEventKinds.ENTRY_CREATE, "SeaResult.java");
+        watcher.signal(packageDir, StandardWatchEventKinds.ENTRY_CREATE, "memo.txt");
+        watcher.close(); // waits for the watching thread so signaled events are handled
+
+        // ## Assert ##
+        assertFalse(watcher.isWatching());
+        Set<String> changedSet = watcher.drainChangedClassNameSet();
+        log("changedSet: {}", changedSet);
+        assertTrue(changedSet.contains("org.docksidestage.app.web.sea.SeaAction"));
+        assertTrue(changedSet.contains("org.docksidestage.app.web.sea.SeaResult"));
+        assertEquals(2, changedSet.size());
+        assertTrue(watcher.drainChangedClassNameSet().isEmpty()); // drained
+    }
+
+    public void test_drainChangedClassNameSet_newPackage() throws Exception {
+        // ## Arrange ##
+        Path srcDir = Files.createTempDirectory("lastameta-watch");
+        MockSourceChangeWatcher watcher = new MockSourceChangeWatcher(srcDir);
+        watcher.start();
+        Path packageDir = Files.createDirectories(srcDir.resolve("org/docksidestage/app/web/land"));
+        Files.write(packageDir.resolve("LandAction.java"), "class LandAction {}".getBytes());
+
+        // ## Act ##
+        watcher.signal(srcDir, StandardWatchEventKinds.ENTRY_CREATE, "org"); // files created before registration
+        watcher.close();
+
+        // ## Assert ##
+        Set<String> changedSet = watcher.drainChangedClassNameSet();
+        log("changedSet: {}", changedSet);
+        assertTrue(changedSet.contains("org.docksidestage.app.web.land.LandAction"));
+        assertTrue(watcher.registeredKeyMap.containsKey(packageDir.toAbsolutePath().normalize())); // also watched
+    }
+
+    public void test_drainChangedClassNameSet_vanishedDirectory() throws Exception {
+        // ## Arrange ##
+        Path srcDir = Files.createTempDirectory("lastameta-watch");
+        Path packageDir = Files.createDirectories(srcDir.resolve("org/docksidestage/app/web/sea"));
+        MockSourceChangeWatcher watcher = new MockSourceChangeWatcher(srcDir);
+        watcher.start();
+        Path vanishedDir = Files.createDirectories(packageDir.resolve("vanished"));
+        watcher.vanishingDir = vanishedDir; // deleted when registering, e.g. temporary directory of IDE
+
+        // ## Act ##
+        watcher.signal(packageDir, StandardWatchEventKinds.ENTRY_CREATE, "vanished");
+        watcher.signal(packageDir, StandardWatchEventKinds.ENTRY_MODIFY, "SeaAction.java");
+        Thread.sleep(200L); // for the watching thread
+        boolean watching = watcher.isWatching();
+        watcher.close();
+
+        // ## Assert ##
+        assertTrue(watching); // not finished by the vanished directory
+        assertFalse(Files.exists(vanishedDir));
+        Set<String> changedSet = watcher.drainChangedClassNameSet();
+        log("changedSet: {}", changedSet);
+        assertEquals(1, changedSet.size());
+        assertTrue(changedSet.contains("org.docksidestage.app.web.sea.SeaAction")); // next event is handled
+    }
+
+    public void test_drainChangedClassNameSet_handlingFailure() throws Exception {
+        // ## Arrange ##
+        Path srcDir = Files.createTempDirectory("lastameta-watch");
+        Path packageDir = Files.createDirectories(srcDir.resolve("org/docksidestage/app/web/sea"));
+        MockSourceChangeWatcher watcher = new MockSourceChangeWatcher(srcDir) {
+            @Override
+            protected void handleChangedPath(Path srcRoot, Path changedPath, WatchEvent.Kind<?> kind) {
+                if (changedPath.getFileName().toString().startsWith("Broken")) {
+                    throw new IllegalStateException("Failed to handle by the test: " + changedPath);
+                }
+                super.handleChangedPath(srcRoot, changedPath, kind);
+            }
+        };
+        watcher.start();
+
+        // ## Act ##
+        watcher.signal(packageDir, StandardWatchEventKinds.ENTRY_MODIFY, "BrokenAction.java");
+        watcher.signal(packageDir, StandardWatchEventKinds.ENTRY_MODIFY, "SeaAction.java");
+        Thread.sleep(200L);
+        boolean watching = watcher.isWatching();
+        watcher.close();
+
+        // ## Assert ##
+        assertTrue(watching); // continued after the failure (logged)
+        assertEquals(newHashSet("org.docksidestage.app.web.sea.SeaAction"), watcher.drainChangedClassNameSet());
+    }
+
+    public void test_drainChangedClassNameSet_realCreatedAndDeletedDirectory() throws Exception {
+        // ## Arrange ##
+        Path srcDir = Files.createTempDirectory("lastameta-watch");
+        Path packageDir = Files.createDirectories(srcDir.resolve("org/docksidestage/app/web/land"));
+        SourceChangeWatcher watcher = new SourceChangeWatcher(Collections.singletonList(srcDir.toString())).start(); // real
+        try {
+            // ## Act ##
+            for (int i = 0; i < 20; i++) { // e.g. temporary directories of git
+                Path tempDir = Files.createDirectories(packageDir.resolve("tmp" + i + "/nested"));
+                Files.delete(tempDir);
+                Files.delete(tempDir.getParent());
+            }
+            Files.write(packageDir.resolve("LandAction.java"), "class LandAction {}".getBytes());
+
+            // ## Assert ##
+            Set<String> changedSet = new LinkedHashSet<>();
+            long limit = System.currentTimeMillis() + 5000L; // detected asynchronously
+            while (!changedSet.contains("org.docksidestage.app.web.land.LandAction") && System.currentTimeMillis() < limit) {
+                Thread.sleep(50L);
+                changedSet.addAll(watcher.drainChangedClassNameSet());
+            }
+            log("changedSet: {}", changedSet);
+            assertTrue(changedSet.contains("org.docksidestage.app.web.land.LandAction"));
+            assertTrue(watcher.isWatching());
+        } finally {
+            watcher.close();
+        }
+    }
+
+    // ===================================================================================
+    //                                                                               Close
+    //                                                                               =====
+    public void test_close_watchingThreadFinished() throws Exception {
+        // ## Arrange ##
+        Path srcDir = Files.createTempDirectory("lastameta-watch");
+        SourceChangeWatcher watcher = new SourceChangeWatcher(Collections.singletonList(srcDir.toString())).start(); // real
+        Thread watchingThread = watcher.watchingThread;
+        assertTrue(watchingThread.isAlive());
+
+        // ## Act ##
+        watcher.close();
+
+        // ## Assert ##
+        assertFalse(watcher.isWatching());
+        assertFalse(watchingThread.isAlive());
+        watcher.close(); // no exception
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    private static class MockSourceChangeWatcher extends SourceChangeWatcher {
+
+        private final MockWatchService mockWatchService = new MockWatchService();
+        private final Map<Path, MockWatchKey> registeredKeyMap = new ConcurrentHashMap<>();
+        private volatile Path vanishingDir; // null allowed
+
+        public MockSourceChangeWatcher(Path srcDir) {
+            super(Collections.singletonList(srcDir.toString()));
+        }
+
+        @Override
+        protected WatchService newWatchService() {
+            return mockWatchService;
+        }
+
+        @Override
+        protected WatchKey registerDirectory(Path dir) throws IOException {
+            if (dir.equals(vanishingDir)) {
+                Files.delete(dir); // deleted just before registration
+                throw new NoSuchFileException(dir.toString());
+            }
+            MockWatchKey watchKey = new MockWatchKey(dir);
+            registeredKeyMap.put(dir, watchKey);
+            return watchKey;
+        }
+
+        public void signal(Path dir, WatchEvent.Kind<Path> kind, String fileName) {
+            MockWatchKey watchKey = registeredKeyMap.get(dir.toAbsolutePath().normalize());
+            watchKey.eventList.add(new MockWatchEvent(kind, dir.getFileSystem().getPath(fileName)));
+            mockWatchService.keyQueue.add(watchKey);
+        }
+    }
+
+    private static class MockWatchService implements WatchService { // signaled keys are taken in order
+
+        private static final WatchKey CLOSED_MARK = new MockWatchKey(null);
+        private final BlockingQueue<WatchKey> keyQueue = new LinkedBlockingQueue<>();
+
+        @Override
+        public void close() {
+            keyQueue.add(CLOSED_MARK); // after signaled keys
+        }
+
+        @Override
+        public WatchKey poll() {
+            throw new UnsupportedOperationException("Unused in the test");
+        }
+
+        @Override
+        public WatchKey poll(long timeout, TimeUnit unit) {
+            throw new UnsupportedOperationException("Unused in the test");
+        }
+
+        @Override
+        public WatchKey take() throws InterruptedException {
+            WatchKey watchKey = keyQueue.take();
+            if (watchKey == CLOSED_MARK) {
+                throw new ClosedWatchServiceException();
+            }
+            return watchKey;
+        }
+    }
+
+    private static class MockWatchKey implements WatchKey {
+
+        private final Path dir;
+        private final List<WatchEvent<?>> eventList = Collections.synchronizedList(new ArrayList<>());
+
+        public MockWatchKey(Path dir) {
+            this.dir = dir;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public List<WatchEvent<?>> pollEvents() {
+            synchronized (eventList) {
+                List<WatchEvent<?>> polledList = new ArrayList<>(eventList);
+                eventList.clear();
+                return polledList;
+            }
+        }
+
+        @Override
+        public boolean reset() {
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public Watchable watchable() {
+            return dir;
+        }
+    }
+
+    private static class MockWatchEvent implements WatchEvent<Path> {
+
+        private final Kind<Path> kind;
+        private final Path context;
+
+        public MockWatchEvent(Kind<Path> kind, Path context) {
+            this.kind = kind;
+            this.context = context;
+        }
+
+        @Override
+        public Kind<Path> kind() {
+            return kind;
+        }
+
+        @Override
+        public int count() {
+            return 1;
+        }
+
+        @Override
+        public Path context() {
+            return context;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.lastaflute.meta.sourceparser.javaparser.scheduling;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.document.parts.job.ScannedJobRegistration;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class JavaparserJobSchedulingScannerTest extends PlainTestCase {
+
+    public void test_scanJobRegistrationList_basic() throws Exception {
+        // ## Arrange ##
+        Path srcDir = Files.createTempDirectory("lastameta-job");
+        Path packageDir = Files.createDirectories(srcDir.resolve("org/docksidestage/app/job"));
+        String source = "package org.docksidestage.app.job;\n" //
+                + "import org.docksidestage.app.job.land.LandJob;\n" //
+                + "public class AllJobScheduler implements LaJobScheduler {\n" //
+                + "    public void schedule(LaCron cron) {\n" //
+                + "        RegisteredJob sea = cron.register(\"0 2 * * *\", SeaJob.class, waitIfConcurrent(), op -> op.uniqueBy(\"sea\")\n" //
+                + "                .params(() -> DfCollectionUtil.newHashMap(\"mystic\", 1, \"oneman\", bonvo())));\n" //
+                + "        RegisteredJob land = cron.registerNonCron(LandJob.class, quitIfConcurrent(), op -> op.changeNoticeLogToDebug());\n" //
+                + "        sea.registerNext(land.getJobKey());\n" //
+                + "    }\n" //
+                + "}\n";
+        Files.write(packageDir.resolve("AllJobScheduler.java"), source.getBytes("UTF-8"));
+        Files.write(packageDir.resolve("SeaJob.java"), "package org.docksidestage.app.job;\nclass SeaJob {}".getBytes("UTF-8"));
+        JavaparserJobSchedulingScanner scanner = new JavaparserJobSchedulingScanner(Collections.singletonList(srcDir.toString()));
+
+        // ## Act ##
+        List<ScannedJobRegistration> registrationList = scanner.scanJobRegistrationList();
+
+        // ## Assert ##
+        log("registrationList: {}", registrationList);
+        assertEquals(2, registrationList.size());
+        ScannedJobRegistration sea = registrationList.get(0);
+        assertEquals("org.docksidestage.app.job.AllJobScheduler", sea.getSchedulerClassName());
+        assertEquals("org.docksidestage.app.job.SeaJob", sea.getJobTypeName());
+        assertEquals("0 2 * * *", sea.getCronExp());
+        assertEquals("WAIT", sea.getConcurrentExec());
+        assertEquals("sea", sea.getJobUnique());
+        assertEquals("INFO", sea.getNoticeLogLevel());
+        assertEquals("1", sea.getParams().get("mystic"));
+        assertEquals("bonvo()", sea.getParams().get("oneman")); // source text
+        assertEquals("sea", sea.getVariableName());
+
+        ScannedJobRegistration land = registrationList.get(1);
+        assertEquals("org.docksidestage.app.job.land.LandJob", land.getJobTypeName());
+        assertNull(land.getCronExp());
+        assertEquals("QUIT", land.getConcurrentExec());
+        assertNull(land.getJobUnique());
+        assertEquals("DEBUG", land.getNoticeLogLevel());
+        assertNull(land.getParams());
+
+        assertEquals(1, sea.getTriggeredRegistrationList().size());
+        assertSame(land, sea.getTriggeredRegistrationList().get(0));
+        assertTrue(land.getTriggeredRegistrationList().isEmpty());
+    }
+
+    public void test_scanJobRegistrationList_noScheduler() throws Exception {
+        // ## Arrange ##
+        Path srcDir = Files.createTempDirectory("lastameta-job");
+        Files.write(srcDir.resolve("SeaJob.java"), "class SeaJob {}".getBytes("UTF-8"));
+        JavaparserJobSchedulingScanner scanner = new JavaparserJobSchedulingScanner(Collections.singletonList(srcDir.toString()));
+
+        // ## Act ##
+        List<ScannedJobRegistration> registrationList = scanner.scanJobRegistrationList();
+
+        // ## Assert ##
+        assertTrue(registrationList.isEmpty());
+    }
+}
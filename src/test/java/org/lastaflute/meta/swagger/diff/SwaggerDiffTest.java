@@ -0,0 +1,239 @@
+package org.lastaflute.meta.swagger.diff;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.swagger.diff.stream.SwaggerDiffStreamingResult;
+import org.openapitools.openapidiff.core.model.ChangedOpenApi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerDiffTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                      Streaming Diff
+    //                                                                      ==============
+    public void test_diffByStreaming_sameAsTree_basic() throws Exception {
+        // ## Arrange ##
+        StringBuilder leftSb = new StringBuilder();
+        leftSb.append(" \"/sea/\": ").append(operation("sea", "string", "application/json"));
+        leftSb.append(",\"/land\": ").append(operation("land", "string", "application/json"));
+        leftSb.append(",\"/piari\": ").append(operation("piari", "string", "application/json"));
+        leftSb.append(",\"/dstore/\": ").append(operation("dstore", "string", "text/html"));
+        leftSb.append(",\"/amba/over\": ").append(operation("amba", "string", "application/json"));
+        leftSb.append(",\"/hangar\": ").append(operation("hangar", "string", "application/json"));
+        StringBuilder rightSb = new StringBuilder();
+        rightSb.append(" \"/sea\": ").append(operation("sea", "string", "application/json")); // trailing slash only
+        rightSb.append(",\"/land\": ").append(operation("land", "integer", "application/json")); // changed
+        rightSb.append(",\"/bonvo\": ").append(operation("bonvo", "string", "application/json")); // new
+        rightSb.append(",\"/dstore/\": ").append(operation("dstore", "integer", "text/html")); // excepted by content type
+        rightSb.append(",\"/amba/over\": ").append(operation("amba", "integer", "application/json")); // excepted by prefix
+        rightSb.append(",\"/hangar\": ").append(operation("hangar", "string", "text/html")); // excepted only in right
+        Path leftPath = writeSwagger("left", leftSb.toString());
+        Path rightPath = writeSwagger("right", rightSb.toString());
+        SwaggerDiff swaggerDiff = new SwaggerDiff(op -> {
+            op.ignorePathTrailingSlash().exceptPathByPrefix("/amba/").exceptPathResponseContentType("text/html");
+        });
+
+        // ## Act ##
+        Map<String, Set<String>> treeMap = extractTreeDiffMap(swaggerDiff, leftPath, rightPath);
+        Map<String, Set<String>> streamingMap = extractStreamingDiffMap(swaggerDiff, leftPath, rightPath);
+
+        // ## Assert ##
+        log("treeMap: {}", treeMap);
+        log("streamingMap: {}", streamingMap);
+        assertEquals(treeMap, streamingMap);
+        assertEquals(newHashSet("/bonvo"), streamingMap.get("new"));
+        assertEquals(newHashSet("/hangar", "/piari"), streamingMap.get("deleted"));
+        assertEquals(newHashSet("/land"), streamingMap.get("changed"));
+    }
+
+    public void test_diffByStreaming_sameAsTree_noDifference() throws Exception {
+        // ## Arrange ##
+        StringBuilder leftSb = new StringBuilder();
+        leftSb.append(" \"/sea/\": ").append(operation("sea", "string", "application/json"));
+        leftSb.append(",\"/dstore\": ").append(operation("dstore", "string", "text/html"));
+        leftSb.append(",\"/amba/over\": ").append(operation("amba", "string", "application/json"));
+        StringBuilder rightSb = new StringBuilder();
+        rightSb.append(" \"/sea\": ").append(operation("sea", "string", "application/json"));
+        rightSb.append(",\"/amba/hangar\": ").append(operation("amba", "string", "application/json"));
+        Path leftPath = writeSwagger("left", leftSb.toString());
+        Path rightPath = writeSwagger("right", rightSb.toString());
+        SwaggerDiff swaggerDiff = new SwaggerDiff(op -> {
+            op.ignorePathTrailingSlash().exceptPathByPrefix("/amba/").exceptPathResponseContentType("text/html");
+        });
+
+        // ## Act ##
+        Map<String, Set<String>> treeMap = extractTreeDiffMap(swaggerDiff, leftPath, rightPath);
+        Map<String, Set<String>> streamingMap = extractStreamingDiffMap(swaggerDiff, leftPath, rightPath);
+
+        // ## Assert ##
+        log("treeMap: {}", treeMap);
+        log("streamingMap: {}", streamingMap);
+        assertEquals(treeMap, streamingMap);
+        assertTrue(streamingMap.values().stream().allMatch(pathSet -> pathSet.isEmpty()));
+    }
+
+    public void test_diffByStreaming_sameAsTree_withoutOption() throws Exception {
+        // ## Arrange ##
+        StringBuilder leftSb = new StringBuilder();
+        leftSb.append(" \"/sea/\": ").append(operation("sea", "string", "application/json"));
+        leftSb.append(",\"/dstore\": ").append(operation("dstore", "string", "text/html"));
+        StringBuilder rightSb = new StringBuilder();
+        rightSb.append(" \"/sea\": ").append(operation("sea", "string", "application/json"));
+        rightSb.append(",\"/dstore\": ").append(operation("dstore", "integer", "text/html"));
+        Path leftPath = writeSwagger("left", leftSb.toString());
+        Path rightPath = writeSwagger("right", rightSb.toString());
+        SwaggerDiff swaggerDiff = new SwaggerDiff();
+
+        // ## Act ##
+        Map<String, Set<String>> treeMap = extractTreeDiffMap(swaggerDiff, leftPath, rightPath);
+        Map<String, Set<String>> streamingMap = extractStreamingDiffMap(swaggerDiff, leftPath, rightPath);
+
+        // ## Assert ##
+        log("treeMap: {}", treeMap);
+        log("streamingMap: {}", streamingMap);
+        assertEquals(treeMap, streamingMap);
+        assertEquals(newHashSet("/sea"), streamingMap.get("new"));
+        assertEquals(newHashSet("/sea/"), streamingMap.get("deleted"));
+        assertEquals(newHashSet("/dstore"), streamingMap.get("changed"));
+    }
+
+    // ===================================================================================
+    //                                                                     Node Adjustment
+    //                                                                     ===============
+    public void test_resolveSwaggerContentNode_overriddenFilter() throws Exception {
+        // ## Arrange ##
+        String swaggerContent = readSwagger(writeSwagger("overridden", buildAdjustedPaths()));
+        List<String> calledList = new ArrayList<>();
+        SwaggerDiff plainDiff = createAdjustingDiff();
+        SwaggerDiff overriddenDiff = new SwaggerDiff(op -> {
+            op.ignorePathTrailingSlash().exceptPathByPrefix("/amba/").exceptPathResponseContentType("text/html");
+        }) {
+            @Override
+            protected void filterPathIfNeeds(JsonNode rootNode) {
+                calledList.add("filter");
+                super.filterPathIfNeeds(rootNode);
+            }
+        };
+
+        // ## Act ##
+        String plainResolved = plainDiff.resolveSwaggerContentNode(swaggerContent);
+        String overriddenResolved = overriddenDiff.resolveSwaggerContentNode(swaggerContent);
+
+        // ## Assert ##
+        log("overriddenResolved: {}", overriddenResolved);
+        assertEquals(Arrays.asList("filter"), calledList); // routed through the overridden method
+        assertEquals(plainResolved, overriddenResolved); // same result as one traversal
+        assertContains(overriddenResolved, "\"/sea\"");
+        assertNotContains(overriddenResolved, "/amba/over");
+        assertNotContains(overriddenResolved, "/dstore");
+        assertFalse(plainDiff.isNodeAdjustmentOverridden());
+    }
+
+    public void test_resolveSwaggerContentNode_overriddenSelect() throws Exception {
+        // ## Arrange ##
+        String swaggerContent = readSwagger(writeSwagger("overridden", buildAdjustedPaths()));
+        List<String> calledList = new ArrayList<>();
+        SwaggerDiff plainDiff = createAdjustingDiff();
+        SwaggerDiff overriddenDiff = new SwaggerDiff(op -> {
+            op.ignorePathTrailingSlash().exceptPathByPrefix("/amba/").exceptPathResponseContentType("text/html");
+        }) {
+            @Override
+            protected void selectTargetNode(JsonNode rootNode) {
+                calledList.add("select");
+                super.selectTargetNode(rootNode);
+            }
+        };
+
+        // ## Act ##
+        String plainResolved = plainDiff.resolveSwaggerContentNode(swaggerContent);
+        String overriddenResolved = overriddenDiff.resolveSwaggerContentNode(swaggerContent);
+
+        // ## Assert ##
+        assertEquals(Arrays.asList("select"), calledList);
+        assertEquals(plainResolved, overriddenResolved);
+    }
+
+    protected String buildAdjustedPaths() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(" \"/sea/\": ").append(operation("sea", "string", "application/json"));
+        sb.append(",\"/dstore\": ").append(operation("dstore", "string", "text/html"));
+        sb.append(",\"/amba/over\": ").append(operation("amba", "string", "application/json"));
+        return sb.toString();
+    }
+
+    protected SwaggerDiff createAdjustingDiff() {
+        return new SwaggerDiff(op -> {
+            op.ignorePathTrailingSlash().exceptPathByPrefix("/amba/").exceptPathResponseContentType("text/html");
+        });
+    }
+
+    protected String readSwagger(Path swaggerPath) throws Exception {
+        return new String(Files.readAllBytes(swaggerPath), StandardCharsets.UTF_8);
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    protected String operation(String paramName, String paramType, String produces) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"get\": {\"produces\": [\"").append(produces).append("\"]");
+        sb.append(", \"parameters\": [{\"name\": \"").append(paramName);
+        sb.append("\", \"in\": \"query\", \"type\": \"").append(paramType).append("\"}]");
+        sb.append(", \"responses\": {\"200\": {\"description\": \"success\"}}}}");
+        return sb.toString();
+    }
+
+    protected Path writeSwagger(String side, String pathsContent) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"swagger\": \"2.0\", \"info\": {\"title\": \"maihama\", \"version\": \"1.0\"}");
+        sb.append(", \"paths\": {").append(pathsContent).append("}}");
+        Path swaggerPath = Files.createTempFile("lastameta-swaggerdiff-" + side + "-", ".json");
+        Files.write(swaggerPath, sb.toString().getBytes(StandardCharsets.UTF_8));
+        swaggerPath.toFile().deleteOnExit();
+        return swaggerPath;
+    }
+
+    protected Map<String, Set<String>> extractTreeDiffMap(SwaggerDiff swaggerDiff, Path leftPath, Path rightPath) {
+        ChangedOpenApi changedOpenApi = swaggerDiff.doDiffFromLocationsInChangedOpenApi(leftPath.toString(), rightPath.toString());
+        Map<String, Set<String>> diffMap = newLinkedHashMap();
+        diffMap.put("new", changedOpenApi.getNewEndpoints().stream().map(ep -> ep.getPathUrl()).collect(toTreeSet()));
+        diffMap.put("deleted", changedOpenApi.getMissingEndpoints().stream().map(ep -> ep.getPathUrl()).collect(toTreeSet()));
+        diffMap.put("changed", changedOpenApi.getChangedOperations().stream().map(op -> op.getPathUrl()).collect(toTreeSet()));
+        return diffMap;
+    }
+
+    protected Map<String, Set<String>> extractStreamingDiffMap(SwaggerDiff swaggerDiff, Path leftPath, Path rightPath) {
+        SwaggerDiffStreamingResult result = swaggerDiff.doDiffFromLocationsByStreaming(leftPath.toString(), rightPath.toString());
+        Map<String, Set<String>> diffMap = newLinkedHashMap();
+        diffMap.put("new", toApiPathSet(result.getNewEntryKeyList()));
+        diffMap.put("deleted", toApiPathSet(result.getDeletedEntryKeyList()));
+        diffMap.put("changed", toApiPathSet(result.getChangedEntryList().stream().map(en -> en.getEntryKey()).collect(toTreeSet())));
+        return diffMap;
+    }
+
+    protected Set<String> toApiPathSet(Collection<String> entryKeySet) { // e.g. "paths /sea" to "/sea"
+        final String prefix = "paths ";
+        return entryKeySet.stream().filter(key -> key.startsWith(prefix)).map(key -> key.substring(prefix.length())).collect(toTreeSet());
+    }
+
+    protected Collector<String, ?, TreeSet<String>> toTreeSet() {
+        return Collectors.toCollection(TreeSet::new);
+    }
+}
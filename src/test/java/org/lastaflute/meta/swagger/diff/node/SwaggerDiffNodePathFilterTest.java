@@ -0,0 +1,80 @@
+package org.lastaflute.meta.swagger.diff.node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerDiffNodePathFilterTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                         Filter Path
+    //                                                                         ===========
+    public void test_filterPathIfNeeds_basic() throws Exception {
+        // ## Arrange ##
+        SwaggerDiffNodePathFilter filter = new SwaggerDiffNodePathFilter();
+        filter.deletePathTrailingSlash();
+        filter.exceptPathByPrefix("/land/");
+        filter.exceptPathByResponseContentType("text/html");
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"paths\": {");
+        sb.append(" \"/sea/\": {\"get\": {\"responses\": {\"200\": {\"content\": {\"application/json\": {}}}}}}");
+        sb.append(",\"/land/oneman\": {\"get\": {}}");
+        sb.append(",\"/piari/\": {\"get\": {\"responses\": {\"404\": {\"content\": {\"text/html\": {}}}}}}");
+        sb.append(",\"/bonvo\": {\"get\": {\"produces\": [\"application/json\", \"text/html\"]}}");
+        sb.append(",\"/dstore/\": {\"get\": {\"description\": \"text/html\"}}");
+        sb.append("}}");
+        JsonNode rootNode = new ObjectMapper().readTree(sb.toString());
+
+        // ## Act ##
+        filter.filterPathIfNeeds(rootNode);
+
+        // ## Assert ##
+        List<String> pathList = new ArrayList<>();
+        rootNode.get("paths").fieldNames().forEachRemaining(pathList::add);
+        log("pathList: {}", pathList);
+        assertEquals(2, pathList.size());
+        assertEquals("/sea", pathList.get(0));
+        assertEquals("/dstore", pathList.get(1));
+    }
+
+    // ===================================================================================
+    //                                                                         Prefix Trie
+    //                                                                         ===========
+    public void test_matchesAnyPrefix_basic() {
+        // ## Arrange ##
+        SwaggerDiffPathPrefixTrie trie = new SwaggerDiffPathPrefixTrie();
+        assertFalse(trie.matchesAnyPrefix("/sea/"));
+        trie.addPrefix("/sea/dockside/");
+        trie.addPrefix("/sea/");
+        trie.addPrefix("/land/");
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(trie.matchesAnyPrefix("/sea/"));
+        assertTrue(trie.matchesAnyPrefix("/sea/hangar"));
+        assertTrue(trie.matchesAnyPrefix("/sea/dockside/over"));
+        assertTrue(trie.matchesAnyPrefix("/land/oneman"));
+        assertFalse(trie.matchesAnyPrefix("/sea"));
+        assertFalse(trie.matchesAnyPrefix("/piari/"));
+        assertFalse(trie.matchesAnyPrefix(""));
+    }
+
+    public void test_matchesAnyPrefix_emptyPrefix() {
+        // ## Arrange ##
+        SwaggerDiffPathPrefixTrie trie = new SwaggerDiffPathPrefixTrie();
+        trie.addPrefix("");
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(trie.matchesAnyPrefix(""));
+        assertTrue(trie.matchesAnyPrefix("/sea/"));
+    }
+}
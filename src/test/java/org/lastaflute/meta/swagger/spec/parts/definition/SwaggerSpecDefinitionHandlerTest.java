@@ -0,0 +1,38 @@
+package org.lastaflute.meta.swagger.spec.parts.definition;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerSpecDefinitionHandlerTest extends PlainTestCase {
+
+    public void test_deriveDefinitionName_basic() {
+        assertEquals("org.docksidestage.SeaBean", derive("org.docksidestage.SeaBean"));
+        assertEquals("org.docksidestage.LandBean", derive("org.docksidestage.SeaResult<org.docksidestage.LandBean>"));
+        assertEquals("SeaBean", derive("Sea Bean"));
+    }
+
+    public void test_deriveDefinitionName_nested() {
+        assertEquals("java.util.List<org.docksidestage.LandBean>",
+                derive("org.docksidestage.SeaResult<java.util.List<org.docksidestage.LandBean>>"));
+        assertEquals("java.util.Map<java.lang.String,org.docksidestage.LandBean>",
+                derive("org.docksidestage.SeaResult<java.util.Map<java.lang.String, org.docksidestage.LandBean>>"));
+        assertEquals("Land,Piari<Bonvo,Dstore>", derive("Sea<Land, Piari<Bonvo, Dstore>>"));
+    }
+
+    public void test_deriveDefinitionName_array() {
+        assertEquals("Sea<Land>[]", derive("Sea<Land>[]"));
+        assertEquals("Sea<Land,Piari>[]", derive("Sea<Land, Piari>[]"));
+        assertEquals("Land[]", derive("Sea<Land[]>"));
+        assertEquals("SeaBean[]", derive("SeaBean[]"));
+    }
+
+    protected String derive(String typeName) {
+        TypeDocMeta typeDocMeta = new TypeDocMeta();
+        typeDocMeta.setTypeName(typeName);
+        return new SwaggerSpecDefinitionHandler().deriveDefinitionName(typeDocMeta);
+    }
+}
@@ -0,0 +1,71 @@
+package org.lastaflute.meta.swagger.spec.parts.enumtype;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.meta.unit.mock.dbflute.MockCDef;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerSpecEnumHandlerTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                       Enum Map List
+    //                                                                       =============
+    public void test_buildEnumMapList_copied() {
+        // ## Arrange ##
+        SwaggerSpecEnumHandler handler = new SwaggerSpecEnumHandler();
+
+        // ## Act ##
+        List<Map<String, String>> firstList = handler.buildEnumMapList(MockCDef.Flg.class);
+        firstList.get(0).put("code", "9"); // modifiable
+        firstList.remove(1);
+        List<Map<String, String>> secondList = handler.buildEnumMapList(MockCDef.Flg.class);
+
+        // ## Assert ##
+        log("secondList: {}", secondList);
+        assertEquals(2, secondList.size()); // not changed by the first modification
+        assertEquals("1", secondList.get(0).get("code"));
+        assertEquals(Arrays.asList("name", "code", "alias"), new ArrayList<>(secondList.get(0).keySet()));
+    }
+
+    // ===================================================================================
+    //                                                                    Enum Description
+    //                                                                    ================
+    public void test_buildEnumDescription_basic() {
+        // ## Arrange ##
+        SwaggerSpecEnumHandler handler = new SwaggerSpecEnumHandler();
+        List<Map<String, String>> enumMapList = handler.buildEnumMapList(MockCDef.Flg.class);
+
+        // ## Act ##
+        String description = handler.buildEnumDescription(MockCDef.Flg.class, enumMapList, "Sea Flag");
+
+        // ## Assert ##
+        log("description: {}", description);
+        assertEquals("Sea Flag: * `1` - True, Checked. * `0` - False, Unchecked. :: fromCls(MockCDef$Flg)", description);
+        assertEquals(" * `1` - True, Checked. * `0` - False, Unchecked. :: fromCls(MockCDef$Flg)",
+                handler.buildEnumDescription(MockCDef.Flg.class, enumMapList, null));
+    }
+
+    public void test_buildEnumDescription_customized() {
+        // ## Arrange ##
+        SwaggerSpecEnumHandler handler = new SwaggerSpecEnumHandler();
+        List<Map<String, String>> builtList = handler.buildEnumMapList(MockCDef.Flg.class);
+        List<Map<String, String>> copiedList = new ArrayList<>(builtList); // same content as customized
+
+        // ## Act ##
+        String builtDescription = handler.buildEnumDescription(MockCDef.Flg.class, builtList, "Sea Flag");
+        String copiedDescription = handler.buildEnumDescription(MockCDef.Flg.class, copiedList, "Sea Flag");
+        String customizedDescription = handler.buildEnumDescription(MockCDef.Flg.class, copiedList.subList(0, 1), "Sea Flag");
+
+        // ## Assert ##
+        log("customizedDescription: {}", customizedDescription);
+        assertEquals(builtDescription, copiedDescription); // same builder
+        assertEquals("Sea Flag: * `1` - True, Checked. :: fromCls(MockCDef$Flg)", customizedDescription);
+    }
+}
@@ -0,0 +1,152 @@
+package org.lastaflute.meta.swagger.spec.parts.shard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author jflute
+ */
+public class SwaggerSpecTagSharderTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                        Shard by Tag
+    //                                                                        ============
+    public void test_shardByTag_basic() {
+        // ## Arrange ##
+        SwaggerSpecTagSharder sharder = new SwaggerSpecTagSharder();
+        Map<String, Object> swaggerMap = prepareSwaggerMap();
+
+        // ## Act ##
+        Map<String, Map<String, Object>> shardMap = sharder.shardByTag(swaggerMap);
+
+        // ## Assert ##
+        log("shardMap: {}", shardMap);
+        assertEquals(Arrays.asList("product", "member", "root"), new ArrayList<>(shardMap.keySet())); // unknown tag at last
+        {
+            Map<String, Object> shardSpec = shardMap.get("product");
+            assertEquals(Arrays.asList("swagger", "info", "tags", "paths", "definitions"), new ArrayList<>(shardSpec.keySet()));
+            assertEquals(swaggerMap.get("info"), shardSpec.get("info"));
+            assertEquals(Arrays.asList("/product/list/", "/product/detail/"), new ArrayList<>(asMap(shardSpec.get("paths")).keySet()));
+            // nested reference: ProductRowResult -> ProductStatusPart -> ProductStatusPart (recursive)
+            assertEquals(Arrays.asList("ProductSearchBody", "ProductRowResult", "ProductStatusPart"),
+                    new ArrayList<>(asMap(shardSpec.get("definitions")).keySet()));
+            assertEquals(1, ((List<?>) shardSpec.get("tags")).size());
+        }
+        {
+            Map<String, Object> shardSpec = shardMap.get("member");
+            assertEquals(Arrays.asList("/member/edit/"), new ArrayList<>(asMap(shardSpec.get("paths")).keySet()));
+            Map<String, Object> pathItemMap = asMap(asMap(shardSpec.get("paths")).get("/member/edit/"));
+            assertEquals(Arrays.asList("parameters", "post"), new ArrayList<>(pathItemMap.keySet())); // get is other tag
+            assertEquals(Arrays.asList("MemberEditBody"), new ArrayList<>(asMap(shardSpec.get("definitions")).keySet()));
+        }
+    }
+
+    public void test_extractTagShard_basic() {
+        // ## Arrange ##
+        SwaggerSpecTagSharder sharder = new SwaggerSpecTagSharder();
+        Map<String, Object> swaggerMap = prepareSwaggerMap();
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(sharder.extractTagShard(swaggerMap, "member").isPresent());
+        assertFalse(sharder.extractTagShard(swaggerMap, "purchase").isPresent());
+    }
+
+    public void test_extractSelectedShard_urlPrefix() {
+        // ## Arrange ##
+        SwaggerSpecTagSharder sharder = new SwaggerSpecTagSharder();
+        Map<String, Object> swaggerMap = prepareSwaggerMap();
+
+        // ## Act ##
+        Map<String, Object> shardSpec = sharder.extractSelectedShard(swaggerMap, (path, tag) -> path.startsWith("/product/detail/"));
+
+        // ## Assert ##
+        log("shardSpec: {}", shardSpec);
+        assertEquals(Arrays.asList("/product/detail/"), new ArrayList<>(asMap(shardSpec.get("paths")).keySet()));
+        assertEquals(Arrays.asList("ProductRowResult", "ProductStatusPart"), new ArrayList<>(asMap(shardSpec.get("definitions")).keySet()));
+        assertEquals(1, ((List<?>) shardSpec.get("tags")).size());
+    }
+
+    // ===================================================================================
+    //                                                                      Index Document
+    //                                                                      ==============
+    public void test_buildIndexMap_basic() {
+        // ## Arrange ##
+        SwaggerSpecTagSharder sharder = new SwaggerSpecTagSharder();
+        Map<String, Object> swaggerMap = prepareSwaggerMap();
+        Map<String, Map<String, Object>> shardMap = sharder.shardByTag(swaggerMap);
+
+        // ## Act ##
+        Map<String, Object> indexMap = sharder.buildIndexMap(swaggerMap, shardMap, tag -> "swagger-shard/" + tag + ".json");
+
+        // ## Assert ##
+        log("indexMap: {}", indexMap);
+        assertEquals("2.0", indexMap.get("swagger"));
+        List<?> shardList = (List<?>) indexMap.get("shards");
+        assertEquals(3, shardList.size());
+        Map<String, Object> productIndexMap = asMap(shardList.get(0));
+        assertEquals("product", productIndexMap.get("tag"));
+        assertEquals("swagger-shard/product.json", productIndexMap.get("location"));
+        assertEquals(2, productIndexMap.get("pathCount"));
+        assertEquals(3, productIndexMap.get("definitionCount"));
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private Map<String, Object> prepareSwaggerMap() {
+        Map<String, Object> swaggerMap = new LinkedHashMap<>();
+        swaggerMap.put("swagger", "2.0");
+        swaggerMap.put("info", newMap("title", "maihama"));
+        swaggerMap.put("tags", Arrays.asList(newMap("name", "product"), newMap("name", "member")));
+        Map<String, Object> pathsMap = new LinkedHashMap<>();
+        pathsMap.put("/product/list/", newMap("post", newOperation("product", "ProductSearchBody", "ProductRowResult")));
+        pathsMap.put("/product/detail/", newMap("get", newOperation("product", null, "ProductRowResult")));
+        Map<String, Object> memberItemMap = new LinkedHashMap<>();
+        memberItemMap.put("parameters", Arrays.asList(newMap("name", "memberId")));
+        memberItemMap.put("get", newOperation("root", null, null));
+        memberItemMap.put("post", newOperation("member", "MemberEditBody", null));
+        pathsMap.put("/member/edit/", memberItemMap);
+        swaggerMap.put("paths", pathsMap);
+        Map<String, Object> definitionsMap = new LinkedHashMap<>();
+        definitionsMap.put("ProductSearchBody", newMap("type", "object"));
+        definitionsMap.put("ProductRowResult", newMap("properties", newMap("status", newRef("ProductStatusPart"))));
+        definitionsMap.put("ProductStatusPart", newMap("properties", newMap("parent", newRef("ProductStatusPart"))));
+        definitionsMap.put("MemberEditBody", newMap("type", "object"));
+        definitionsMap.put("UnusedPart", newMap("type", "object"));
+        swaggerMap.put("definitions", definitionsMap);
+        return swaggerMap;
+    }
+
+    private Map<String, Object> newOperation(String tag, String bodyName, String resultName) {
+        Map<String, Object> operationMap = new LinkedHashMap<>();
+        operationMap.put("tags", Arrays.asList(tag));
+        if (bodyName != null) {
+            operationMap.put("parameters", Arrays.asList(newMap("schema", newRef(bodyName))));
+        }
+        if (resultName != null) {
+            operationMap.put("responses", newMap("200", newMap("schema", newRef(resultName))));
+        }
+        return operationMap;
+    }
+
+    private Map<String, Object> newRef(String definitionName) {
+        return newMap("$ref", "#/definitions/" + definitionName);
+    }
+
+    private Map<String, Object> newMap(String key, Object value) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put(key, value);
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> asMap(Object obj) {
+        return (Map<String, Object>) obj;
+    }
+}
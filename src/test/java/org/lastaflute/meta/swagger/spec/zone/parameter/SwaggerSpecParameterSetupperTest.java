@@ -0,0 +1,123 @@
+package org.lastaflute.meta.swagger.spec.zone.parameter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.core.json.control.JsonControlMeta;
+import org.lastaflute.meta.document.docmeta.TypeDocMeta;
+import org.lastaflute.meta.swagger.spec.parts.annotation.SwaggerSpecAnnotationHandler;
+import org.lastaflute.meta.swagger.spec.parts.datatype.SwaggerSpecDataTypeHandler;
+import org.lastaflute.meta.swagger.spec.parts.defaultvalue.SwaggerSpecDefaultValueHandler;
+import org.lastaflute.meta.swagger.spec.parts.definition.SwaggerSpecDefinitionHandler;
+import org.lastaflute.meta.swagger.spec.parts.encoding.SwaggerSpecEncodingHandler;
+import org.lastaflute.meta.swagger.spec.parts.enumtype.SwaggerSpecEnumHandler;
+import org.lastaflute.meta.swagger.spec.parts.property.SwaggerSpecPropertyHandler;
+import org.lastaflute.meta.unit.mock.dbflute.MockCDef;
+
+/**
+ * @author jflute
+ * @since 0.6.3 (2026/10/18 Sunday)
+ */
+public class SwaggerSpecParameterSetupperTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                       Parameter Map
+    //                                                                       =============
+    public void test_toParameterMap_optional_notModifyMeta() {
+        // ## Arrange ##
+        SwaggerSpecParameterSetupper setupper = createSetupper();
+        TypeDocMeta typeDocMeta = new TypeDocMeta();
+        typeDocMeta.setName("seaCount");
+        typeDocMeta.setPublicName("seaCount");
+        typeDocMeta.setType(OptionalThing.class);
+        typeDocMeta.setTypeName("org.dbflute.optional.OptionalThing<java.lang.Integer>");
+        typeDocMeta.setGenericType(Integer.class);
+        typeDocMeta.setDescription("count of sea");
+        typeDocMeta.setAnnotationTypeList(Collections.emptyList());
+        Map<String, Map<String, Object>> definitionsMap = new LinkedHashMap<>();
+
+        // ## Act ##
+        Map<String, Object> parameterMap = setupper.toParameterMap(typeDocMeta, definitionsMap);
+
+        // ## Assert ##
+        log("parameterMap: {}", parameterMap);
+        assertEquals("integer", parameterMap.get("type"));
+        assertEquals("int32", parameterMap.get("format"));
+        assertEquals(OptionalThing.class, typeDocMeta.getType()); // not modified, may be shared
+        assertEquals(parameterMap, setupper.toParameterMap(typeDocMeta, definitionsMap)); // same result again
+    }
+
+    // ===================================================================================
+    //                                                                      Enum Attribute
+    //                                                                      ==============
+    public void test_setupEnumAttribute_notShared() {
+        // ## Arrange ##
+        SwaggerSpecParameterSetupper setupper = createSetupper();
+        TypeDocMeta typeDocMeta = new TypeDocMeta();
+        typeDocMeta.setDescription("Sea Flag");
+        Map<String, Object> firstMap = new LinkedHashMap<>();
+        Map<String, Object> secondMap = new LinkedHashMap<>();
+
+        // ## Act ##
+        setupper.setupEnumAttribute(firstMap, MockCDef.Flg.class, typeDocMeta);
+        setupper.setupEnumAttribute(secondMap, MockCDef.Flg.class, typeDocMeta);
+
+        // ## Assert ##
+        log("firstMap: {}", firstMap);
+        assertEquals(Arrays.asList("1", "0"), firstMap.get("enum"));
+        assertNotSame(firstMap.get("enum"), secondMap.get("enum"));
+        @SuppressWarnings("unchecked")
+        List<String> codeList = (List<String>) firstMap.get("enum");
+        codeList.add("2"); // e.g. post-processing of output map
+        assertEquals(Arrays.asList("1", "0"), secondMap.get("enum")); // not changed
+        Map<String, Object> thirdMap = new LinkedHashMap<>();
+        setupper.setupEnumAttribute(thirdMap, MockCDef.Flg.class, typeDocMeta);
+        assertEquals(Arrays.asList("1", "0"), thirdMap.get("enum"));
+    }
+
+    public void test_setupEnumAttribute_customizedBySubClass() {
+        // ## Arrange ##
+        SwaggerSpecParameterSetupper setupper = new SwaggerSpecParameterSetupper(Arrays.asList(String.class), new SwaggerSpecEnumHandler(),
+                null, null, null, null, null) {
+            @Override
+            protected List<Map<String, String>> prepareEnumMapList(Class<? extends Enum<?>> enumType) {
+                List<Map<String, String>> enumMapList = super.prepareEnumMapList(enumType);
+                enumMapList.remove(1); // modifiable
+                enumMapList.get(0).put("alias", "Sea"); // also element map
+                return enumMapList;
+            }
+        };
+        TypeDocMeta typeDocMeta = new TypeDocMeta();
+        typeDocMeta.setDescription("Sea Flag");
+        Map<String, Object> attrMap = new LinkedHashMap<>();
+
+        // ## Act ##
+        setupper.setupEnumAttribute(attrMap, MockCDef.Flg.class, typeDocMeta);
+
+        // ## Assert ##
+        log("attrMap: {}", attrMap);
+        assertEquals(Arrays.asList("1"), attrMap.get("enum"));
+        assertEquals("Sea Flag: * `1` - True, Sea. :: fromCls(MockCDef$Flg)", attrMap.get("description"));
+        Map<String, Object> plainMap = new LinkedHashMap<>();
+        createSetupper().setupEnumAttribute(plainMap, MockCDef.Flg.class, typeDocMeta);
+        assertEquals(Arrays.asList("1", "0"), plainMap.get("enum")); // cached meta is not changed
+    }
+
+    // ===================================================================================
+    //                                                                        Test Helper
+    //                                                                        ===========
+    private SwaggerSpecParameterSetupper createSetupper() {
+        JsonControlMeta appJsonControlMeta = new JsonControlMeta(OptionalThing.empty(), OptionalThing.empty());
+        SwaggerSpecDataTypeHandler dataTypeHandler = new SwaggerSpecDataTypeHandler(appJsonControlMeta);
+        SwaggerSpecEnumHandler enumHandler = new SwaggerSpecEnumHandler();
+        SwaggerSpecDefaultValueHandler defaultValueHandler = new SwaggerSpecDefaultValueHandler(dataTypeHandler, enumHandler);
+        SwaggerSpecPropertyHandler propertyHandler = new SwaggerSpecPropertyHandler(new SwaggerSpecAnnotationHandler());
+        return new SwaggerSpecParameterSetupper(Arrays.asList(String.class, Integer.class), enumHandler, dataTypeHandler,
+                defaultValueHandler, propertyHandler, new SwaggerSpecDefinitionHandler(), new SwaggerSpecEncodingHandler());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.meta.unit.mock.web.sea;
+
+import org.dbflute.optional.OptionalThing;
+import org.lastaflute.meta.unit.mock.web.SeaForm;
+import org.lastaflute.web.Execute;
+import org.lastaflute.web.response.JsonResponse;
+
+/**
+ * @author jflute
+ */
+public class SeaLandAction {
+
+    @Execute
+    public JsonResponse<String> index() {
+        return JsonResponse.asEmptyBody();
+    }
+
+    @Execute
+    public JsonResponse<String> mystic(int stageId, String stageName) {
+        return JsonResponse.asEmptyBody();
+    }
+
+    @Execute
+    public JsonResponse<String> get$index(int stageId) {
+        return JsonResponse.asEmptyBody();
+    }
+
+    @Execute
+    public JsonResponse<String> post$hangar(int stageId, SeaForm form) {
+        return JsonResponse.asEmptyBody();
+    }
+
+    @Execute(urlPattern = "{}/dockside")
+    public JsonResponse<String> dockside(int stageId) {
+        return JsonResponse.asEmptyBody();
+    }
+
+    @Execute
+    public JsonResponse<String> bonvo(OptionalThing<String> keyword) {
+        return JsonResponse.asEmptyBody();
+    }
+}